@@ -0,0 +1,25 @@
+package com.bristotartur.gerenciadordepartidas.configs;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita o cache em memória dos resultados de serviços anotados com {@code @Cacheable}. Cada cache utilizado
+ * pela aplicação é declarado aqui, sendo responsabilidade dos serviços descartar as entradas que se tornarem
+ * desatualizadas.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String LEADERBOARDS = "leaderboards";
+
+    @Bean
+    public CacheManager cacheManager() {
+        return new ConcurrentMapCacheManager(LEADERBOARDS);
+    }
+
+}
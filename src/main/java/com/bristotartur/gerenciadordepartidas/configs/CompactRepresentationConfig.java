@@ -0,0 +1,98 @@
+package com.bristotartur.gerenciadordepartidas.configs;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * <p>Configura a representação compacta dos recursos da API, solicitada através do cabeçalho
+ * {@code Accept: application/vnd.gincana.compact+json}. Nesta representação os DTOs são serializados
+ * apenas com seus próprios campos, sem os links HATEOAS, reduzindo o tamanho das respostas e o custo
+ * de gerá-las.</p>
+ *
+ * <p>O conversor registrado só é utilizado quando o tipo compacto é solicitado explicitamente, de forma
+ * que requisições com {@code Accept: *}{@code /*} ou {@code application/json} continuam recebendo a
+ * representação completa.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CompactRepresentationConfig implements WebMvcConfigurer {
+
+    public static final String COMPACT_JSON_VALUE = "application/vnd.gincana.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    /**
+     * Verifica se a requisição fornecida solicita a representação compacta através do cabeçalho {@code Accept}.
+     *
+     * @param request Requisição HTTP.
+     * @return true caso a representação compacta tenha sido solicitada explicitamente, false caso contrário.
+     */
+    public static boolean isCompactRequest(HttpServletRequest request) {
+
+        var accept = request.getHeader(HttpHeaders.ACCEPT);
+
+        if (accept == null || accept.isBlank()) return false;
+
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(COMPACT_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+
+        var objectMapper = objectMapperBuilder.build()
+                .addMixIn(RepresentationModel.class, IgnoreLinksMixin.class);
+
+        converters.add(0, new CompactJsonHttpMessageConverter(objectMapper));
+    }
+
+    /**
+     * Mixin que remove os links HATEOAS da serialização de qualquer {@link RepresentationModel}.
+     */
+    @JsonIgnoreProperties("links")
+    public abstract static class IgnoreLinksMixin {
+    }
+
+    /**
+     * Conversor que atende apenas requisições que solicitam explicitamente a representação compacta,
+     * não sendo considerado durante a negociação de conteúdo de requisições genéricas.
+     */
+    private static class CompactJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        CompactJsonHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            this.setSupportedMediaTypes(List.of(COMPACT_JSON));
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return mediaType != null && !mediaType.isWildcardType() && !mediaType.isWildcardSubtype()
+                    && super.canWrite(clazz, mediaType);
+        }
+
+    }
+
+}
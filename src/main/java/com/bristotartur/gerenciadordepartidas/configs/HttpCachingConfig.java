@@ -0,0 +1,32 @@
+package com.bristotartur.gerenciadordepartidas.configs;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * <p>Configura a validação de cache das respostas da API através do cabeçalho {@code ETag}. O ETag é
+ * calculado a partir do corpo de cada resposta, permitindo que clientes que enviem o cabeçalho
+ * {@code If-None-Match} recebam um {@code 304 Not Modified} sem corpo quando o recurso não tiver mudado.
+ * O ETag gerado é fraco, já que o Tomcat não comprime respostas que possuam um ETag forte.</p>
+ *
+ * <p>O tempo pelo qual cada recurso pode ser mantido em cache é definido em
+ * {@link com.bristotartur.gerenciadordepartidas.controllers.assemblers.CachePolicy}.</p>
+ */
+@Configuration
+public class HttpCachingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+
+        var filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/gerenciador-de-partidas/api/*");
+
+        return registration;
+    }
+
+}
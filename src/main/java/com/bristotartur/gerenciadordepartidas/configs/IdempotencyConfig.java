@@ -0,0 +1,45 @@
+package com.bristotartur.gerenciadordepartidas.configs;
+
+import com.bristotartur.gerenciadordepartidas.filters.IdempotencyFilter;
+import com.bristotartur.gerenciadordepartidas.filters.IdempotencyFilter.StoredRequest;
+import com.bristotartur.gerenciadordepartidas.utils.ExpiringCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * <p>Configura o suporte ao cabeçalho {@code Idempotency-Key} nas requisições {@code POST} e {@code PUT} da
+ * API através do {@link IdempotencyFilter}. As respostas armazenadas são limitadas pela quantidade máxima de
+ * chaves e pelo tempo de expiração definidos em {@code gerenciador.idempotency}. As requisições que ainda estão
+ * sendo processadas nunca são descartadas, já que a sua remoção permitiria que uma repetição fosse processada
+ * novamente.</p>
+ *
+ * <p>Os erros gerados pelo filtro são tratados pelo mesmo {@link HandlerExceptionResolver} utilizado pelos
+ * controladores, de forma que sigam o formato das demais respostas de erro da API.</p>
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public ExpiringCache<String, StoredRequest> idempotencyStore(@Value("${gerenciador.idempotency.max-entries:10000}") int maxEntries,
+                                                                 @Value("${gerenciador.idempotency.time-to-live:24h}") Duration timeToLive) {
+        return new ExpiringCache<>(maxEntries, timeToLive, Clock.systemUTC(), storedRequest -> storedRequest.response() != null);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(ExpiringCache<String, StoredRequest> idempotencyStore,
+                                                                       @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+
+        var registration = new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, exceptionResolver));
+        registration.addUrlPatterns("/gerenciador-de-partidas/api/*");
+
+        return registration;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.bristotartur.gerenciadordepartidas.configs;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseEditionDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseSportEventDto;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.utils.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * <p>Declara os {@link SingleFlight} que agrupam as buscas concorrentes por uma mesma partida, evento esportivo
+ * ou edição. Durante o início das partidas, diversos clientes solicitam o mesmo recurso em um intervalo de poucos
+ * milissegundos, e cada requisição agrupada deixa de realizar a sua própria consulta e conversão para DTO.</p>
+ *
+ * <p>O agrupamento é feito sobre a resposta já convertida, e não sobre a entidade retornada pelos serviços, já
+ * que as entidades estão atreladas ao contexto de persistência da requisição que as carregou e não podem ser
+ * compartilhadas entre threads. Como a resposta depende da representação solicitada e do endereço base usado
+ * nos links, as chamadas são agrupadas por {@link ReadKey}, e não apenas pelo ID do recurso.</p>
+ *
+ * <p>Cada {@link SingleFlight} acompanha as últimas {@code gerenciador.read-coalescing.tracked-keys} chaves
+ * solicitadas, e a proporção de chamadas agrupadas é registrada no log a cada
+ * {@code gerenciador.read-coalescing.report-interval}, tanto no total quanto para as
+ * {@code gerenciador.read-coalescing.reported-keys} chaves com mais chamadas.</p>
+ */
+@Configuration
+@Slf4j
+public class ReadCoalescingConfig {
+
+    @Value("${gerenciador.read-coalescing.tracked-keys:1000}")
+    private int trackedKeys;
+
+    @Value("${gerenciador.read-coalescing.reported-keys:5}")
+    private int reportedKeys;
+
+    /**
+     * Representa a chave de uma busca agrupada.
+     *
+     * @param id Identificador único do recurso buscado.
+     * @param variant Representação e endereço base da resposta.
+     */
+    public record ReadKey(Long id, ResponseCache.Variant variant) {
+
+        /**
+         * Cria a chave de uma busca pelo recurso fornecido na requisição atual.
+         *
+         * @param id Identificador único do recurso buscado.
+         * @return A chave da busca.
+         */
+        public static ReadKey of(Long id) {
+            return new ReadKey(id, ResponseCache.Variant.current());
+        }
+    }
+
+    @Bean
+    public SingleFlight<ReadKey, ResponseEntity<ResponseMatchDto>> matchReads() {
+        return new SingleFlight<>(trackedKeys);
+    }
+
+    @Bean
+    public SingleFlight<ReadKey, ResponseEntity<ResponseSportEventDto>> sportEventReads() {
+        return new SingleFlight<>(trackedKeys);
+    }
+
+    @Bean
+    public SingleFlight<ReadKey, ResponseEntity<ResponseEditionDto>> editionReads() {
+        return new SingleFlight<>(trackedKeys);
+    }
+
+    @Scheduled(fixedRateString = "${gerenciador.read-coalescing.report-interval:PT5M}",
+            initialDelayString = "${gerenciador.read-coalescing.report-interval:PT5M}")
+    void reportMergeRatios() {
+
+        this.report("Match", this.matchReads());
+        this.report("SportEvent", this.sportEventReads());
+        this.report("Edition", this.editionReads());
+    }
+
+    private void report(String resource, SingleFlight<ReadKey, ?> reads) {
+
+        var stats = reads.totalStats();
+
+        if (stats.requests() == 0) return;
+
+        log.info("'{}' of '{}' {} reads were coalesced, with merge ratio of '{}'.",
+                stats.requests() - stats.executions(), stats.requests(), resource, String.format("%.3f", stats.mergeRatio()));
+
+        reads.mostRequested(reportedKeys).forEach((key, keyStats) ->
+                log.info("'{}' of '{}' reads of {} '{}' were coalesced, with merge ratio of '{}'.",
+                        keyStats.requests() - keyStats.executions(), keyStats.requests(), resource, key.id(),
+                        String.format("%.3f", keyStats.mergeRatio())));
+    }
+
+}
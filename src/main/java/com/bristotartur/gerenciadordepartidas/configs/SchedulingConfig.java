@@ -0,0 +1,13 @@
+package com.bristotartur.gerenciadordepartidas.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de tarefas periódicas anotadas com {@code @Scheduled}, como a reconstrução dos resumos
+ * utilizados nas análises de desempenho das equipes.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,8 @@
 package com.bristotartur.gerenciadordepartidas.controllers;
 
+import com.bristotartur.gerenciadordepartidas.configs.ReadCoalescingConfig.ReadKey;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.CachePolicy;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
 import com.bristotartur.gerenciadordepartidas.docs.EditionOperations;
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseEditionDto;
@@ -7,17 +10,26 @@ import com.bristotartur.gerenciadordepartidas.dtos.request.RequestEditionDto;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.mappers.EditionMapper;
 import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshotService;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.bristotartur.gerenciadordepartidas.utils.SingleFlight;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -32,29 +44,71 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class EditionController {
 
     private final EditionService editionService;
+    private final EditionSnapshotService editionSnapshotService;
     private final EditionMapper editionMapper;
+    private final PageAssembler pageAssembler;
+    private final SingleFlight<ReadKey, ResponseEntity<ResponseEditionDto>> editionReads;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
 
     @EditionOperations.ListAllEditionsOperation
     @GetMapping
-    public ResponseEntity<Page<ResponseEditionDto>> listAllEditions(Pageable pageable) {
+    public ResponseEntity<Slice<ResponseEditionDto>> listAllEditions(@RequestParam(defaultValue = "true") boolean count,
+                                                                     Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
 
         log.info("Request to get Edition page of number '{}' and size '{}' was made.", number, size);
 
-        var dtoPage = this.createExposingDtoPage(editionService.findAllEditions(pageable));
-        return ResponseEntity.ok().body(dtoPage);
+        var editions = editionService.findAllEditions(pageable, count);
+        return pageAssembler.toResponse(editions, editionMapper::toNewExposingEditionDto, this::addSingleEditionLink);
     }
 
     @EditionOperations.FindEditionByIdOperation
     @GetMapping(path = "/{id}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<ResponseEditionDto> findEditionById(@PathVariable Long id) {
 
         log.info("Request to find Edition '{}' was made.", id);
 
-        var dto = this.createSingleExposingDto(editionService.findEditionById(id));
-        return ResponseEntity.ok().body(dto);
+        return editionReads.execute(ReadKey.of(id), () -> readTransaction.execute(status -> {
+            var archivedEdition = editionSnapshotService.findEdition(id);
+
+            if (archivedEdition.isPresent()) {
+                var dto = this.addSingleExposingLinks(archivedEdition.get());
+                return CachePolicy.toResponse(dto, Status.ENDED, null);
+            }
+            var edition = editionService.findEditionById(id);
+            var dto = this.createSingleExposingDto(edition);
+
+            return CachePolicy.toResponse(dto, edition.getEditionStatus(), edition.getLastModified());
+        }));
+    }
+
+    @EditionOperations.FindEditionArchiveOperation
+    @GetMapping(path = "/{id}/archive")
+    public ResponseEntity<Resource> findEditionArchive(@PathVariable Long id) {
+
+        log.info("Request to find the archive of Edition '{}' was made.", id);
+
+        var archive = editionSnapshotService.findOrCreateArchive(id);
+        var content = archive.content();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(content.remaining())
+                .cacheControl(CachePolicy.of(Status.ENDED))
+                .lastModified(archive.lastModified())
+                .body(new InputStreamResource(new ByteBufferBackedInputStream(content)));
     }
 
     @EditionOperations.SaveEditionOperation
@@ -99,36 +153,26 @@ public class EditionController {
     }
 
     private ResponseEditionDto createSingleExposingDto(Edition edition) {
-
-        var dto = editionMapper.toNewExposingEditionDto(edition);
-        var id = edition.getId();
-        var pageable = PageRequest.of(0, 12);
-
-        dto.add(linkTo(methodOn(this.getClass()).listAllEditions(pageable)).withRel("editions"));
-        dto.add(linkTo(methodOn(SportEventController.class).listSportEventsFromEdition(id, pageable)).withRel("sportEvents"));
-        return dto;
+        return this.addSingleExposingLinks(editionMapper.toNewExposingEditionDto(edition));
     }
 
-    private Page<ResponseEditionDto> createExposingDtoPage(Page<Edition> editionsPage) {
-
-        var editions = editionsPage.getContent();
+    private ResponseEditionDto addSingleExposingLinks(ResponseEditionDto dto) {
 
-        var dtos = editions.stream()
-                .map(this::addSingleEditionLink)
-                .toList();
+        var id = dto.getEditionId();
+        var pageable = PageRequest.of(0, 12);
 
-        return new PageImpl<>(dtos, editionsPage.getPageable(), editions.size());
+        dto.add(linkTo(methodOn(this.getClass()).listAllEditions(true, pageable)).withRel("editions"));
+        dto.add(linkTo(methodOn(SportEventController.class).listSportEventsFromEdition(id, true, pageable)).withRel("sportEvents"));
+        return dto;
     }
 
-    private ResponseEditionDto addSingleEditionLink(Edition edition) {
+    private void addSingleEditionLink(Edition edition, ResponseEditionDto dto) {
 
         var id = edition.getId();
-        var dto = editionMapper.toNewExposingEditionDto(edition);
         var pageable = PageRequest.of(0, 12);
 
         dto.add(linkTo(methodOn(this.getClass()).findEditionById(id)).withSelfRel());
-        dto.add(linkTo(methodOn(SportEventController.class).listSportEventsFromEdition(edition.getId(), pageable)).withRel("sportEvents"));
-        return dto;
+        dto.add(linkTo(methodOn(SportEventController.class).listSportEventsFromEdition(edition.getId(), true, pageable)).withRel("sportEvents"));
     }
 
 }
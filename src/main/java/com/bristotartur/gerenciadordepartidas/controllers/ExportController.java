@@ -0,0 +1,101 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.enums.ExportDataset;
+import com.bristotartur.gerenciadordepartidas.enums.ExportFormat;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.services.events.ExportService;
+import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/gerenciador-de-partidas/api/exports")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Exports")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final EditionService editionService;
+    private final SportEventService sportEventService;
+
+    @GetMapping(path = "/editions/{id}/{dataset}")
+    public ResponseEntity<StreamingResponseBody> exportEditionData(@PathVariable Long id,
+                                                                   @PathVariable("dataset") String datasetName,
+                                                                   @RequestParam(defaultValue = "csv") String format,
+                                                                   HttpServletRequest request) {
+
+        var dataset = ExportDataset.findDatasetLike(datasetName);
+        var exportFormat = ExportFormat.findFormatLike(format);
+        log.info("Request to export '{}' from Edition '{}' as '{}' was made.", dataset, id, exportFormat);
+
+        editionService.findEditionById(id);
+
+        return this.createResponse("edition-" + id, dataset, exportFormat, request,
+                outputStream -> exportService.exportEditionData(id, dataset, exportFormat, outputStream));
+    }
+
+    @GetMapping(path = "/sport-events/{id}/{dataset}")
+    public ResponseEntity<StreamingResponseBody> exportSportEventData(@PathVariable Long id,
+                                                                      @PathVariable("dataset") String datasetName,
+                                                                      @RequestParam(defaultValue = "csv") String format,
+                                                                      HttpServletRequest request) {
+
+        var dataset = ExportDataset.findDatasetLike(datasetName);
+        var exportFormat = ExportFormat.findFormatLike(format);
+        log.info("Request to export '{}' from SportEvent '{}' as '{}' was made.", dataset, id, exportFormat);
+
+        sportEventService.findEventById(id);
+
+        return this.createResponse("sport-event-" + id, dataset, exportFormat, request,
+                outputStream -> exportService.exportEventData(id, dataset, exportFormat, outputStream));
+    }
+
+    @GetMapping(path = "/sports/{sport}/{dataset}")
+    public ResponseEntity<StreamingResponseBody> exportSportData(@PathVariable("sport") String sportType,
+                                                                 @PathVariable("dataset") String datasetName,
+                                                                 @RequestParam(defaultValue = "csv") String format,
+                                                                 HttpServletRequest request) {
+
+        var sport = Sports.findSportLike(sportType);
+        var dataset = ExportDataset.findDatasetLike(datasetName);
+        var exportFormat = ExportFormat.findFormatLike(format);
+        log.info("Request to export '{}' from sport '{}' as '{}' was made.", dataset, sport, exportFormat);
+
+        return this.createResponse(sport.name().toLowerCase(), dataset, exportFormat, request,
+                outputStream -> exportService.exportSportData(sport, dataset, exportFormat, outputStream));
+    }
+
+    /**
+     * Gera a resposta de uma exportação como um anexo. O corpo é escrito diretamente na resposta à medida que
+     * as linhas são lidas, portanto o cálculo do ETag, que exigiria manter todo o corpo em memória, é desativado.
+     */
+    private ResponseEntity<StreamingResponseBody> createResponse(String prefix,
+                                                                 ExportDataset dataset,
+                                                                 ExportFormat format,
+                                                                 HttpServletRequest request,
+                                                                 StreamingResponseBody body) {
+
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+
+        var fileName = "%s-%s.%s".formatted(prefix, dataset.name().toLowerCase().replace('_', '-'), format.extension);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(format.mediaType), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+}
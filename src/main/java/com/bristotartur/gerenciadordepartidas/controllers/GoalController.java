@@ -1,25 +1,31 @@
 package com.bristotartur.gerenciadordepartidas.controllers;
 
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.LinkTemplate;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
 import com.bristotartur.gerenciadordepartidas.docs.GoalOperations;
 import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestGoalDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseGoalDto;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.mappers.GoalMapper;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
 import com.bristotartur.gerenciadordepartidas.services.actions.GoalService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
@@ -31,35 +37,58 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Tag(name = "Goal")
 public class GoalController {
 
+    private static final LinkTemplate GOAL = LinkTemplate.of(GoalController.class, "findGoalById");
+    private static final LinkTemplate PARTICIPANT = LinkTemplate.of(ParticipantController.class, "findParticipantById");
+    private static final LinkTemplate MATCH = LinkTemplate.of(MatchController.class, "findMatchById");
+
     private final GoalService goalService;
     private final GoalMapper goalMapper;
+    private final PageAssembler pageAssembler;
+    private final ResponseCache responseCache;
 
     @GoalOperations.ListAllGoalsOperation
     @GetMapping
-    public ResponseEntity<Page<ResponseGoalDto>> listAllGoals(Pageable pageable) {
+    public ResponseEntity<Slice<ResponseGoalDto>> listAllGoals(@RequestParam(defaultValue = "true") boolean count,
+                                                               Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
 
         log.info("Request to get Goal page of number '{}' and size '{}' was made.", number, size);
 
-        var dtoPage = this.createExposingDtoPage(goalService.findAllGoals(pageable));
+        return responseCache.get("goals", List.of(pageable, count), Set.of(ResponseCache.GOALS), () -> {
+            var goals = goalService.findAllGoals(pageable, count);
+            return pageAssembler.toResponse(goals, goalMapper::toNewExposingGoalDto, this::addSingleGoalLink);
+        });
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPage<ResponseGoalDto>> scrollAllGoals(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "false") boolean count,
+                                                                      Pageable pageable) {
+        var size = pageable.getPageSize();
+        log.info("Request to get Goal page of size '{}' after cursor '{}' was made.", size, cursor);
+
+        var dtoPage = goalService.scrollGoals(cursor, size, count).map(pageAssembler.converter(goalMapper::toNewExposingGoalDto, this::addSingleGoalLink));
         return ResponseEntity.ok().body(dtoPage);
     }
 
     @GoalOperations.ListGoalsFromMatchOperation
     @GetMapping(path = "/from")
-    public ResponseEntity<Page<ResponseGoalDto>> listGoalsFromMatch(@RequestParam("match") Long matchId,
-                                                                    @RequestParam("type") String sportType,
-                                                                    Pageable pageable) {
+    public ResponseEntity<Slice<ResponseGoalDto>> listGoalsFromMatch(@RequestParam("match") Long matchId,
+                                                                     @RequestParam("type") String sportType,
+                                                                     @RequestParam(defaultValue = "true") boolean count,
+                                                                     Pageable pageable) {
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Goal page of number '{}' and size '{}' from Match '{}' was made.", number, size, matchId);
 
         var sport = Sports.findSportLike(sportType);
-        var dtoPage = this.createExposingDtoPage(goalService.findGoalsFromMatch(matchId, sport, pageable));
 
-        return ResponseEntity.ok().body(dtoPage);
+        return responseCache.get("goals/from", List.of(matchId, sport, pageable, count), Set.of(ResponseCache.match(matchId)), () -> {
+            var goals = goalService.findGoalsFromMatch(matchId, sport, pageable, count);
+            return pageAssembler.toResponse(goals, goalMapper::toNewExposingGoalDto, this::addSingleGoalLink);
+        });
     }
 
     @GoalOperations.FindGoalByIdOperation
@@ -68,8 +97,10 @@ public class GoalController {
 
         log.info("Request to find Goal '{}' was made.", id);
 
-        var dto = this.createSingleExposingDto(goalService.findGoalById(id));
-        return ResponseEntity.ok().body(dto);
+        return responseCache.get("goals/{id}", List.of(id), Set.of(ResponseCache.goal(id)), () -> {
+            var dto = this.createSingleExposingDto(goalService.findGoalById(id));
+            return ResponseEntity.ok().body(dto);
+        });
     }
 
     @GoalOperations.SaveGoalOperation
@@ -110,35 +141,25 @@ public class GoalController {
         var dto = goalMapper.toNewExposingGoalDto(goal);
         var pageable = PageRequest.of(0, 12);
 
-        dto.add(linkTo(methodOn(this.getClass()).listAllGoals(pageable)).withRel("goals"));
+        ResponseCache.dependsOn(ResponseCache.participant(playerId));
+
+        dto.add(linkTo(methodOn(this.getClass()).listAllGoals(true, pageable)).withRel("goals"));
         dto.add(linkTo(methodOn(ParticipantController.class).findParticipantById(playerId)).withRel("player"));
         dto.add(linkTo(methodOn(MatchController.class).findMatchById(matchId)).withRel("match"));
 
         return dto;
     }
 
-    private Page<ResponseGoalDto> createExposingDtoPage(Page<Goal> goalPage) {
-
-        var goals = goalPage.getContent();
-        var dtos = goals.stream()
-                .map(this::addSingleGoalLink)
-                .toList();
-
-        return new PageImpl<>(dtos, goalPage.getPageable(), goalPage.getSize());
-    }
-
-    private ResponseGoalDto addSingleGoalLink(Goal goal) {
+    private void addSingleGoalLink(Goal goal, ResponseGoalDto dto) {
 
         var id = goal.getId();
         var playerId = goal.getPlayer().getId();
         var matchId = goal.getMatch().getId();
-        var dto = goalMapper.toNewExposingGoalDto(goal);
 
-        dto.add(linkTo(methodOn(this.getClass()).findGoalById(id)).withSelfRel());
-        dto.add(linkTo(methodOn(ParticipantController.class).findParticipantById(playerId)).withRel("player"));
-        dto.add(linkTo(methodOn(MatchController.class).findMatchById(matchId)).withRel("match"));
-
-        return dto;
+        ResponseCache.dependsOn(ResponseCache.participant(playerId));
+        dto.add(GOAL.toSelfLink(id));
+        dto.add(PARTICIPANT.toLink("player", playerId));
+        dto.add(MATCH.toLink("match", matchId));
     }
 
 }
@@ -1,26 +1,48 @@
 package com.bristotartur.gerenciadordepartidas.controllers;
 
+import com.bristotartur.gerenciadordepartidas.configs.ReadCoalescingConfig.ReadKey;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.CachePolicy;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.LinkTemplate;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestBracketDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchActionsDto;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestResultSheetDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestScheduleDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseParticipantDto;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.mappers.ParticipantMapper;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.actions.MatchActionService;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshotService;
+import com.bristotartur.gerenciadordepartidas.services.matches.BracketService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchResultService;
 import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.services.matches.ScheduleService;
+import com.bristotartur.gerenciadordepartidas.utils.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
@@ -31,22 +53,62 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Slf4j
 public class MatchController {
 
+    private static final LinkTemplate MATCH = LinkTemplate.of(MatchController.class, "findMatchById");
+    private static final LinkTemplate MATCH_PLAYERS = LinkTemplate.of(MatchController.class, "listMatchPlayers", "?" + LinkTemplate.FIRST_PAGE_QUERY);
+    private static final LinkTemplate MATCHES_BY_SPORT = LinkTemplate.of(MatchController.class, "listMatchesBySport", "?sportType={sport}&" + LinkTemplate.FIRST_PAGE_QUERY);
+    private static final LinkTemplate MATCH_GOALS = LinkTemplate.of(GoalController.class, "listGoalsFromMatch", "?match={matchId}&type={sport}&" + LinkTemplate.FIRST_PAGE_QUERY);
+    private static final LinkTemplate PARTICIPANT = LinkTemplate.of(ParticipantController.class, "findParticipantById");
+
     private final MatchService matchService;
+    private final BracketService bracketService;
+    private final MatchResultService matchResultService;
+    private final MatchActionService matchActionService;
+    private final ScheduleService scheduleService;
+    private final EditionSnapshotService editionSnapshotService;
     private final ParticipantMapper participantMapper;
+    private final PageAssembler pageAssembler;
+    private final SingleFlight<ReadKey, ResponseEntity<ResponseMatchDto>> matchReads;
+    private final ResponseCache responseCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
 
     @GetMapping
-    public ResponseEntity<Page<ResponseMatchDto>> listAllMatches(Pageable pageable) {
+    public ResponseEntity<Slice<ResponseMatchDto>> listAllMatches(@RequestParam(defaultValue = "true") boolean count,
+                                                                  Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Match page of number '{}' and size '{}' was made.", number, size);
 
-        var dtos = this.createExposingDtoPage(matchService.findAllMatches(pageable));
+        return responseCache.get("matches", List.of(pageable, count), Set.of(ResponseCache.MATCHES), () -> {
+            var matches = matchService.findAllMatches(pageable, count);
+            return pageAssembler.toResponse(matches, matchService::createExposingMatchDto, this::addSingleMatchLink);
+        });
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPage<ResponseMatchDto>> scrollAllMatches(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "false") boolean count,
+                                                                         Pageable pageable) {
+        var size = pageable.getPageSize();
+        log.info("Request to get Match page of size '{}' after cursor '{}' was made.", size, cursor);
+
+        var dtos = matchService.scrollMatches(cursor, size, count).map(pageAssembler.converter(matchService::createExposingMatchDto, this::addSingleMatchLink));
         return ResponseEntity.ok().body(dtos);
     }
 
     @GetMapping(path = "/list")
-    public ResponseEntity<Page<ResponseMatchDto>> listMatchesBySport(@RequestParam String sportType, Pageable pageable) {
+    public ResponseEntity<Slice<ResponseMatchDto>> listMatchesBySport(@RequestParam String sportType,
+                                                                      @RequestParam(defaultValue = "true") boolean count,
+                                                                      Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
@@ -54,44 +116,65 @@ public class MatchController {
 
         log.info("Request to get Match page of number '{}' and size '{}' with type '{}' was made.", number, size, sport);
 
-        var dtos = this.createExposingDtoPage(matchService.findMatchesBySport(sport, pageable));
-        return ResponseEntity.ok().body(dtos);
+        return responseCache.get("matches/list", List.of(sport, pageable, count), Set.of(ResponseCache.MATCHES), () -> {
+            var matches = matchService.findMatchesBySport(sport, pageable, count);
+            return pageAssembler.toResponse(matches, matchService::createExposingMatchDto, this::addSingleMatchLink);
+        });
     }
 
     @GetMapping(path = "/from")
-    public ResponseEntity<Page<ResponseMatchDto>> listMatchesFromSportEvent(@RequestParam("sport-event") Long sportEventId,
-                                                                            Pageable pageable) {
+    public ResponseEntity<Slice<ResponseMatchDto>> listMatchesFromSportEvent(@RequestParam("sport-event") Long sportEventId,
+                                                                             @RequestParam(defaultValue = "true") boolean count,
+                                                                             Pageable pageable) {
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Match page of number '{}' and size '{}' from SportEvent '{}' was made.", number, size, sportEventId);
 
-        var dtos = this.createExposingDtoPage(matchService.findMatchesBySportEvent(sportEventId, pageable));
-        return ResponseEntity.ok().body(dtos);
+        return responseCache.get("matches/from", List.of(sportEventId, pageable, count), Set.of(ResponseCache.MATCHES), () -> {
+            var archivedMatches = editionSnapshotService.findSportEventMatches(sportEventId, pageable);
+
+            if (archivedMatches.isPresent()) {
+                return pageAssembler.toResponse(archivedMatches.get().map(this::addSingleMatchLink));
+            }
+            var matches = matchService.findMatchesBySportEvent(sportEventId, pageable, count);
+            return pageAssembler.toResponse(matches, matchService::createExposingMatchDto, this::addSingleMatchLink);
+        });
     }
 
     @GetMapping(path = "/{id}/players")
-    public ResponseEntity<Page<ResponseParticipantDto>> listMatchPlayers(@PathVariable Long id, Pageable pageable) {
+    public ResponseEntity<Slice<ResponseParticipantDto>> listMatchPlayers(@PathVariable Long id,
+                                                                          @RequestParam(defaultValue = "true") boolean count,
+                                                                          Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Player page of number '{}' and size '{}' from Match '{}' was made.", number, size, id);
 
-        var players = matchService.findAllMatchPlayers(id, pageable);
-        var dtos = players.getContent().stream()
-                .map(player -> this.addPlayerLink(player, id))
-                .toList();
-
-        var dtoPage = new PageImpl<>(dtos, pageable, dtos.size());
-        return ResponseEntity.ok().body(dtoPage);
+        return responseCache.get("matches/{id}/players", List.of(id, pageable, count), Set.of(ResponseCache.match(id)), () -> {
+            var players = matchService.findAllMatchPlayers(id, pageable, count);
+            return pageAssembler.toResponse(players, participantMapper::toNewExposingParticipantDto, (player, dto) -> this.addPlayerLink(player, dto, id));
+        });
     }
 
     @GetMapping(path = "/{id}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<ResponseMatchDto> findMatchById(@PathVariable Long id) {
 
         log.info("Request to find Match '{}' was made.", id);
 
-        var dto = this.createSingleExposingDto(matchService.findMatchById(id));
-        return ResponseEntity.ok().body(dto);
+        return matchReads.execute(ReadKey.of(id), () -> responseCache.get("matches/{id}", List.of(id), Set.of(ResponseCache.match(id)), () -> readTransaction.execute(status -> {
+            var archivedMatch = editionSnapshotService.findMatch(id);
+
+            if (archivedMatch.isPresent()) {
+                var dto = this.addSingleExposingLinks(archivedMatch.get());
+                return CachePolicy.toResponse(dto, Status.ENDED, null);
+            }
+            var match = matchService.findMatchById(id);
+            var dto = this.createSingleExposingDto(match);
+
+            ResponseCache.dependsOn(ResponseCache.event(match.getEvent().getId()));
+            return CachePolicy.toResponse(dto, match.getMatchStatus(), match.getLastModified());
+        })));
     }
 
     @PostMapping
@@ -103,6 +186,54 @@ public class MatchController {
         return ResponseEntity.status(HttpStatus.CREATED).body(dto);
     }
 
+    @PostMapping(path = "/bracket")
+    public ResponseEntity<List<ResponseMatchDto>> generateBracket(@RequestParam("event") Long eventId,
+                                                                  @RequestBody @Valid RequestBracketDto requestBracketDto) {
+
+        log.info("Request to generate the bracket of SportEvent '{}' was made.", eventId);
+
+        var dtos = bracketService.generateBracket(eventId, requestBracketDto).stream()
+                .map(this::createSingleExposingDto)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(dtos);
+    }
+
+    @PostMapping(path = "/{id}/actions")
+    public ResponseEntity<ResponseMatchDto> saveMatchActions(@PathVariable Long id,
+                                                             @RequestBody @Valid RequestMatchActionsDto requestMatchActionsDto) {
+
+        log.info("Request to register '{}' actions in Match '{}' was made.", requestMatchActionsDto.actions().size(), id);
+
+        var dto = this.createSingleExposingDto(matchActionService.saveMatchActions(id, requestMatchActionsDto));
+        return ResponseEntity.ok().body(dto);
+    }
+
+    @PostMapping(path = "/results")
+    public ResponseEntity<List<ResponseMatchDto>> saveMatchResults(@RequestBody @Valid RequestResultSheetDto requestResultSheetDto) {
+
+        log.info("Request to register '{}' Match results was made.", requestResultSheetDto.results().size());
+
+        var dtos = matchResultService.saveResultSheet(requestResultSheetDto).stream()
+                .map(this::createSingleExposingDto)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(dtos);
+    }
+
+    @PutMapping(path = "/schedule")
+    public ResponseEntity<List<ResponseMatchDto>> scheduleEditionMatches(@RequestParam("edition") Long editionId,
+                                                                         @RequestBody @Valid RequestScheduleDto requestScheduleDto) {
+
+        log.info("Request to schedule the Matches of Edition '{}' was made.", editionId);
+
+        var dtos = scheduleService.scheduleEdition(editionId, requestScheduleDto).stream()
+                .map(this::createSingleExposingDto)
+                .toList();
+
+        return ResponseEntity.ok().body(dtos);
+    }
+
     @DeleteMapping(path = "/{id}")
     public ResponseEntity<Void> deleteMatch(@PathVariable Long id) {
 
@@ -134,63 +265,55 @@ public class MatchController {
     }
 
     private ResponseMatchDto createSingleExposingDto(Match match) {
+        return this.addSingleExposingLinks(matchService.createExposingMatchDto(match));
+    }
 
-        var id = match.getId();
+    private ResponseMatchDto addSingleExposingLinks(ResponseMatchDto dto) {
 
-        var dto = matchService.createExposingMatchDto(match);
+        var id = dto.getMatchId();
         var sport = dto.getSport().value;
         var pageable = PageRequest.of(0, 12);
 
-        dto.add(linkTo(methodOn(this.getClass()).listAllMatches(pageable)).withRel("matches"));
-        dto.add(linkTo(methodOn(this.getClass()).listMatchPlayers(id, pageable)).withRel("matchPlayers"));
-        dto.add(linkTo(methodOn(this.getClass()).listMatchesBySport(sport, pageable)).withRel("matchesOfSameTpe"));
-        this.addExtraLinks(dto, match.getId(), pageable);
+        dto.add(linkTo(methodOn(this.getClass()).listAllMatches(true, pageable)).withRel("matches"));
+        dto.add(linkTo(methodOn(this.getClass()).listMatchPlayers(id, true, pageable)).withRel("matchPlayers"));
+        dto.add(linkTo(methodOn(this.getClass()).listMatchesBySport(sport, true, pageable)).withRel("matchesOfSameTpe"));
+        this.addExtraLinks(dto, id);
 
         return dto;
     }
 
-    public Page<ResponseMatchDto> createExposingDtoPage(Page<? extends Match> matchPage) {
-
-        var matches = matchPage.getContent();
-        var dtos = matches.stream()
-                .map(this::addSingleMatchLink)
-                .toList();
-
-        return new PageImpl<>(dtos, matchPage.getPageable(), matchPage.getSize());
+    public Slice<ResponseMatchDto> createExposingDtoPage(Slice<? extends Match> matchSlice) {
+        return pageAssembler.toDtoSlice(matchSlice, matchService::createExposingMatchDto, this::addSingleMatchLink);
     }
 
-    private ResponseMatchDto addSingleMatchLink(Match match) {
-
-        var id = match.getId();
+    private void addSingleMatchLink(Match match, ResponseMatchDto dto) {
+        this.addSingleMatchLink(dto);
+    }
 
-        var dto = matchService.createExposingMatchDto(match);
-        var pageable = PageRequest.of(0, 12);
+    private ResponseMatchDto addSingleMatchLink(ResponseMatchDto dto) {
 
-        dto.add(linkTo(methodOn(this.getClass()).findMatchById(id)).withSelfRel());
-        dto.add(linkTo(methodOn(this.getClass()).listMatchPlayers(id,pageable)).withRel("matchPlayers"));
-        dto.add(linkTo(methodOn(this.getClass()).listMatchesBySport(dto.getSport().name(), pageable)).withRel("matchesOfSameType"));
-        this.addExtraLinks(dto, match.getId(), pageable);
+        var id = dto.getMatchId();
 
+        dto.add(MATCH.toSelfLink(id));
+        dto.add(MATCH_PLAYERS.toLink("matchPlayers", id));
+        dto.add(MATCHES_BY_SPORT.toLink("matchesOfSameType", dto.getSport().name()));
+        this.addExtraLinks(dto, id);
         return dto;
     }
 
-    private ResponseParticipantDto addPlayerLink(Participant player, Long matchId) {
+    private void addPlayerLink(Participant player, ResponseParticipantDto dto, Long matchId) {
 
-        var id = player.getId();
-        var dto = participantMapper.toNewExposingParticipantDto(player);
-
-        dto.add(linkTo(methodOn(ParticipantController.class).findParticipantById(id)).withSelfRel());
-        dto.add(linkTo(methodOn(this.getClass()).findMatchById(matchId)).withRel("match"));
-
-        return dto;
+        ResponseCache.dependsOn(ResponseCache.participant(player.getId()));
+        dto.add(PARTICIPANT.toSelfLink(player.getId()));
+        dto.add(MATCH.toLink("match", matchId));
     }
 
-    private void addExtraLinks(ResponseMatchDto dto, Long matchId, Pageable pageable) {
+    private void addExtraLinks(ResponseMatchDto dto, Long matchId) {
 
         var sport = dto.getSport();
 
         if (sport.equals(Sports.FUTSAL) || sport.equals(Sports.HANDBALL)) {
-            dto.add(linkTo(methodOn(GoalController.class).listGoalsFromMatch(matchId, sport.value, pageable)).withRel("goals"));
+            dto.add(MATCH_GOALS.toLink("goals", matchId, sport.value));
             // TODO link para cartões de penalidade
         }
     }
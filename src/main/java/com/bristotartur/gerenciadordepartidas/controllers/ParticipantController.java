@@ -1,24 +1,32 @@
 package com.bristotartur.gerenciadordepartidas.controllers;
 
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.CachePolicy;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestParticipantDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseParticipantDto;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
 import com.bristotartur.gerenciadordepartidas.mappers.ParticipantMapper;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshotService;
 import com.bristotartur.gerenciadordepartidas.services.people.ParticipantService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
@@ -31,52 +39,79 @@ public class ParticipantController {
 
     private final ParticipantService participantService;
     private final ParticipantMapper participantMapper;
+    private final EditionSnapshotService editionSnapshotService;
     private final MatchController matchController;
+    private final PageAssembler pageAssembler;
+    private final ResponseCache responseCache;
 
     @GetMapping
-    public ResponseEntity<Page<ResponseParticipantDto>> listAllParticipants(Pageable pageable) {
+    public ResponseEntity<Slice<ResponseParticipantDto>> listAllParticipants(@RequestParam(defaultValue = "true") boolean count,
+                                                                             Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Participant page of number '{}' and size '{}' was made.", number, size);
 
-        var dtoPage = this.createExposingDtoPage(participantService.findAllParticipants(pageable));
+        return responseCache.get("participants", List.of(pageable, count), Set.of(ResponseCache.PARTICIPANTS), () -> {
+            var participants = participantService.findAllParticipants(pageable, count);
+            return pageAssembler.toResponse(participants, participantMapper::toNewExposingParticipantDto, this::addSingleParticipantLink);
+        });
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPage<ResponseParticipantDto>> scrollAllParticipants(@RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(defaultValue = "false") boolean count,
+                                                                                    Pageable pageable) {
+        var size = pageable.getPageSize();
+        log.info("Request to get Participant page of size '{}' after cursor '{}' was made.", size, cursor);
+
+        var dtoPage = participantService.scrollParticipants(cursor, size, count).map(pageAssembler.converter(participantMapper::toNewExposingParticipantDto, this::addSingleParticipantLink));
         return ResponseEntity.ok().body(dtoPage);
     }
 
     @GetMapping(path = "/find")
-    public ResponseEntity<Page<ResponseParticipantDto>> findParticipantsByNameLike(@RequestParam String name,
-                                                                                   Pageable pageable) {
+    public ResponseEntity<Slice<ResponseParticipantDto>> findParticipantsByNameLike(@RequestParam String name,
+                                                                                    @RequestParam(defaultValue = "true") boolean count,
+                                                                                    Pageable pageable) {
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Participant page of number '{}' and size '{}' with name like '{}' was made.", number, size, name);
 
-        var dtoPage = this.createExposingDtoPage(participantService.findParticipantsByNameLike(name, pageable));
-        return ResponseEntity.ok().body(dtoPage);
+        return responseCache.get("participants/find", List.of(name, pageable, count), Set.of(ResponseCache.PARTICIPANTS), () -> {
+            var participants = participantService.findParticipantsByNameLike(name, pageable, count);
+            return pageAssembler.toResponse(participants, participantMapper::toNewExposingParticipantDto, this::addSingleParticipantLink);
+        });
     }
 
     @GetMapping(path = "/from")
-    public ResponseEntity<Page<ResponseParticipantDto>> listMembersFromTeam(@RequestParam("team") String teamName,
-                                                                            Pageable pageable) {
+    public ResponseEntity<Slice<ResponseParticipantDto>> listMembersFromTeam(@RequestParam("team") String teamName,
+                                                                             @RequestParam(defaultValue = "true") boolean count,
+                                                                             Pageable pageable) {
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         var team = Team.findTeamLike(teamName);
 
         log.info("Request to get Participant page of number '{}' and size '{}' from team '{}' was made.", number, size, team);
 
-        var dtoPage = this.createExposingDtoPage(participantService.findMambersFromTeam(team, pageable));
-        return ResponseEntity.ok().body(dtoPage);
+        return responseCache.get("participants/from", List.of(team, pageable, count), Set.of(ResponseCache.PARTICIPANTS), () -> {
+            var participants = participantService.findMambersFromTeam(team, pageable, count);
+            return pageAssembler.toResponse(participants, participantMapper::toNewExposingParticipantDto, this::addSingleParticipantLink);
+        });
     }
 
     @GetMapping(path = "/{id}/matches")
-    public ResponseEntity<Page<ResponseMatchDto>> listParticipantMatches(@PathVariable Long id, Pageable pageable) {
+    public ResponseEntity<Slice<ResponseMatchDto>> listParticipantMatches(@PathVariable Long id,
+                                                                          @RequestParam(defaultValue = "true") boolean count,
+                                                                          Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Match page of number '{}' and size '{}' from Participant '{}' was made.", number, size, id);
 
-        var dtoPage = matchController.createExposingDtoPage(participantService.findParticipantMatches(id, pageable));
-        return ResponseEntity.ok().body(dtoPage);
+        return responseCache.get("participants/{id}/matches", List.of(id, pageable, count), Set.of(ResponseCache.MATCHES), () -> {
+            var dtoPage = matchController.createExposingDtoPage(participantService.findParticipantMatches(id, pageable, count));
+            return pageAssembler.toResponse(dtoPage);
+        });
     }
 
     @GetMapping(path = "/{id}")
@@ -84,8 +119,16 @@ public class ParticipantController {
 
         log.info("Request to find Participant '{}' was made.", id);
 
-        var dto = this.createSingleExposingDto(participantService.findParticipantById(id));
-        return ResponseEntity.ok().body(dto);
+        return responseCache.get("participants/{id}", List.of(id), Set.of(ResponseCache.participant(id)), () -> {
+            var archivedParticipant = editionSnapshotService.findParticipant(id);
+
+            if (archivedParticipant.isPresent()) {
+                var dto = this.addSingleExposingLinks(archivedParticipant.get());
+                return CachePolicy.toResponse(dto, Status.ENDED, null);
+            }
+            var dto = this.createSingleExposingDto(participantService.findParticipantById(id));
+            return ResponseEntity.ok().body(dto);
+        });
     }
 
     @PostMapping
@@ -117,41 +160,31 @@ public class ParticipantController {
     }
 
     private ResponseParticipantDto createSingleExposingDto(Participant participant) {
+        return this.addSingleExposingLinks(participantMapper.toNewExposingParticipantDto(participant));
+    }
 
-        var id = participant.getId();
-        var team = participant.getTeam().value;
-        var dto = participantMapper.toNewExposingParticipantDto(participant);
+    private ResponseParticipantDto addSingleExposingLinks(ResponseParticipantDto dto) {
+
+        var id = dto.getParticipantId();
+        var team = dto.getTeam().value;
         var pageable = PageRequest.of(0, 12);
 
-        dto.add(linkTo(methodOn(this.getClass()).listAllParticipants(pageable)).withRel("participants"));
-        dto.add(linkTo(methodOn(this.getClass()).listMembersFromTeam(team, pageable)).withRel("teamMembers"));
-        dto.add(linkTo(methodOn(this.getClass()).listParticipantMatches(id, pageable)).withRel("matches"));
+        dto.add(linkTo(methodOn(this.getClass()).listAllParticipants(true, pageable)).withRel("participants"));
+        dto.add(linkTo(methodOn(this.getClass()).listMembersFromTeam(team, true, pageable)).withRel("teamMembers"));
+        dto.add(linkTo(methodOn(this.getClass()).listParticipantMatches(id, true, pageable)).withRel("matches"));
 
         return dto;
     }
 
-    private Page<ResponseParticipantDto> createExposingDtoPage(Page<Participant> participantPage) {
-
-        var participants = participantPage.getContent();
-        var dtos = participants.stream()
-                .map(this::addSingleParticipantLink)
-                .toList();
-
-        return new PageImpl<>(dtos, participantPage.getPageable(), participantPage.getSize());
-    }
-
-    private ResponseParticipantDto addSingleParticipantLink(Participant participant) {
+    private void addSingleParticipantLink(Participant participant, ResponseParticipantDto dto) {
 
         var id = participant.getId();
         var team = participant.getTeam().value;
-        var dto = participantMapper.toNewExposingParticipantDto(participant);
         var pageable = PageRequest.of(0, 12);
 
         dto.add(linkTo(methodOn(this.getClass()).findParticipantById(id)).withSelfRel());
-        dto.add(linkTo(methodOn(this.getClass()).listMembersFromTeam(team, pageable)).withRel("teamMembers"));
-        dto.add(linkTo(methodOn(this.getClass()).listParticipantMatches(id, pageable)).withRel("matches"));
-
-        return dto;
+        dto.add(linkTo(methodOn(this.getClass()).listMembersFromTeam(team, true, pageable)).withRel("teamMembers"));
+        dto.add(linkTo(methodOn(this.getClass()).listParticipantMatches(id, true, pageable)).withRel("matches"));
     }
 
 }
@@ -1,22 +1,27 @@
 package com.bristotartur.gerenciadordepartidas.controllers;
 
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
 import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestPenaltyCardDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePenaltyCardDto;
 import com.bristotartur.gerenciadordepartidas.mappers.PenaltyCardMapper;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
 import com.bristotartur.gerenciadordepartidas.services.actions.PenaltyCardService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
@@ -29,15 +34,31 @@ public class PenaltyCardController {
 
     private final PenaltyCardService penaltyCardService;
     private final PenaltyCardMapper penaltyCardMapper;
+    private final PageAssembler pageAssembler;
+    private final ResponseCache responseCache;
 
     @GetMapping
-    public ResponseEntity<Page<ResponsePenaltyCardDto>> listAllPenaltyCards(Pageable pageable) {
+    public ResponseEntity<Slice<ResponsePenaltyCardDto>> listAllPenaltyCards(@RequestParam(defaultValue = "true") boolean count,
+                                                                             Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         log.info("Request to get Penalty Card page of number '{}' and size '{}' was made.", number, size);
 
-        var dtoPage = this.createExposingDtoPage(penaltyCardService.findAllPenaltyCards(pageable));
+        return responseCache.get("penalty-cards", List.of(pageable, count), Set.of(ResponseCache.PENALTY_CARDS), () -> {
+            var penaltyCards = penaltyCardService.findAllPenaltyCards(pageable, count);
+            return pageAssembler.toResponse(penaltyCards, penaltyCardMapper::toNewExposinfPenaltyCardDto, this::addSingleGoalLink);
+        });
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPage<ResponsePenaltyCardDto>> scrollAllPenaltyCards(@RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(defaultValue = "false") boolean count,
+                                                                                    Pageable pageable) {
+        var size = pageable.getPageSize();
+        log.info("Request to get Penalty Card page of size '{}' after cursor '{}' was made.", size, cursor);
+
+        var dtoPage = penaltyCardService.scrollPenaltyCards(cursor, size, count).map(pageAssembler.converter(penaltyCardMapper::toNewExposinfPenaltyCardDto, this::addSingleGoalLink));
         return ResponseEntity.ok().body(dtoPage);
     }
 
@@ -46,8 +67,10 @@ public class PenaltyCardController {
 
         log.info("Request to find Penalty Card '{}' was made.", id);
 
-        var dto = this.createSingleExposingDto(penaltyCardService.findPenaltyCardById(id));
-        return ResponseEntity.ok().body(dto);
+        return responseCache.get("penalty-cards/{id}", List.of(id), Set.of(ResponseCache.penaltyCard(id)), () -> {
+            var dto = this.createSingleExposingDto(penaltyCardService.findPenaltyCardById(id));
+            return ResponseEntity.ok().body(dto);
+        });
     }
 
     @PostMapping
@@ -85,35 +108,25 @@ public class PenaltyCardController {
         var pageable = PageRequest.of(0, 20);
         var dto = penaltyCardMapper.toNewExposinfPenaltyCardDto(penaltyCard);
 
-        dto.add(linkTo(methodOn(this.getClass()).listAllPenaltyCards(pageable)).withRel("penalty_cards"));
+        ResponseCache.dependsOn(ResponseCache.participant(playerId));
+
+        dto.add(linkTo(methodOn(this.getClass()).listAllPenaltyCards(true, pageable)).withRel("penalty_cards"));
         dto.add(linkTo(methodOn(ParticipantController.class).findParticipantById(playerId)).withRel("player"));
         dto.add(linkTo(methodOn(MatchController.class).findMatchById(matchId)).withRel("match"));
 
         return dto;
     }
 
-    private Page<ResponsePenaltyCardDto> createExposingDtoPage(Page<PenaltyCard> penaltyCardPage) {
-
-        var penaltyCards = penaltyCardPage.getContent();
-        var dtos = penaltyCards.stream()
-                .map(this::addSingleGoalLink)
-                .toList();
-
-        return new PageImpl<>(dtos, penaltyCardPage.getPageable(), penaltyCardPage.getSize());
-    }
-
-    private ResponsePenaltyCardDto addSingleGoalLink(PenaltyCard penaltyCard) {
+    private void addSingleGoalLink(PenaltyCard penaltyCard, ResponsePenaltyCardDto dto) {
 
         var id = penaltyCard.getId();
         var playerId = penaltyCard.getPlayer().getId();
         var matchId = penaltyCard.getMatch().getId();
-        var dto = penaltyCardMapper.toNewExposinfPenaltyCardDto(penaltyCard);
 
+        ResponseCache.dependsOn(ResponseCache.participant(playerId));
         dto.add(linkTo(methodOn(this.getClass()).findPenaltyCardById(id)).withSelfRel());
         dto.add(linkTo(methodOn(ParticipantController.class).findParticipantById(playerId)).withRel("player"));
         dto.add(linkTo(methodOn(MatchController.class).findMatchById(matchId)).withRel("match"));
-
-        return dto;
     }
 
 }
@@ -0,0 +1,51 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseRecomputeJobDto;
+import com.bristotartur.gerenciadordepartidas.mappers.RecomputeJobMapper;
+import com.bristotartur.gerenciadordepartidas.services.events.RecomputeJobExecutor;
+import com.bristotartur.gerenciadordepartidas.services.events.RecomputeService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/gerenciador-de-partidas/api/recompute-jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Recompute Jobs")
+public class RecomputeJobController {
+
+    private final RecomputeService recomputeService;
+    private final RecomputeJobExecutor recomputeJobExecutor;
+    private final RecomputeJobMapper recomputeJobMapper;
+
+    @GetMapping(path = "/{id}")
+    public ResponseEntity<ResponseRecomputeJobDto> findRecomputeJobById(@PathVariable Long id) {
+
+        log.info("Request to find RecomputeJob '{}' was made.", id);
+
+        var job = recomputeService.findJobById(id);
+        return ResponseEntity.ok().body(recomputeJobMapper.toNewExposingRecomputeJobDto(job));
+    }
+
+    @PostMapping
+    public ResponseEntity<ResponseRecomputeJobDto> startRecomputeJob() {
+
+        log.info("Request to start a RecomputeJob was made.");
+
+        var job = recomputeJobExecutor.startJob();
+        return ResponseEntity.accepted().body(recomputeJobMapper.toNewExposingRecomputeJobDto(job));
+    }
+
+    @PostMapping(path = "/{id}/resume")
+    public ResponseEntity<ResponseRecomputeJobDto> resumeRecomputeJob(@PathVariable Long id) {
+
+        log.info("Request to resume RecomputeJob '{}' was made.", id);
+
+        var job = recomputeJobExecutor.resumeJob(id);
+        return ResponseEntity.accepted().body(recomputeJobMapper.toNewExposingRecomputeJobDto(job));
+    }
+
+}
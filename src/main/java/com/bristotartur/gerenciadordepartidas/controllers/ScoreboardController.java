@@ -0,0 +1,67 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseEditionDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseGoalDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseSportEventDto;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.services.ScoreboardService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/gerenciador-de-partidas/api/scoreboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Scoreboard")
+public class ScoreboardController {
+
+    private final ScoreboardService scoreboardService;
+
+    @GetMapping(path = "/matches/{id}")
+    public CompletableFuture<ResponseEntity<ResponseMatchDto>> findMatch(@PathVariable Long id) {
+
+        log.info("Request to find scoreboard of Match '{}' was made.", id);
+        return scoreboardService.findMatch(id).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/matches/{id}/goals")
+    public CompletableFuture<ResponseEntity<List<ResponseGoalDto>>> findMatchGoals(@PathVariable Long id,
+                                                                                 @RequestParam("type") String sportType,
+                                                                                 Pageable pageable) {
+        var sport = Sports.findSportLike(sportType);
+        log.info("Request to get scoreboard Goals from Match '{}' was made.", id);
+
+        return scoreboardService.findMatchGoals(id, sport, pageable).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/events/{id}")
+    public CompletableFuture<ResponseEntity<ResponseSportEventDto>> findEvent(@PathVariable Long id) {
+
+        log.info("Request to find scoreboard of SportEvent '{}' was made.", id);
+        return scoreboardService.findEvent(id).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/events/{id}/matches")
+    public CompletableFuture<ResponseEntity<List<ResponseMatchDto>>> findEventMatches(@PathVariable Long id,
+                                                                                    Pageable pageable) {
+
+        log.info("Request to get scoreboard Matches from SportEvent '{}' was made.", id);
+        return scoreboardService.findEventMatches(id, pageable).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/editions/{id}/standings")
+    public CompletableFuture<ResponseEntity<ResponseEditionDto>> findStandings(@PathVariable Long id) {
+
+        log.info("Request to get standings from Edition '{}' was made.", id);
+        return scoreboardService.findStandings(id).thenApply(ResponseEntity::ok);
+    }
+
+}
@@ -1,24 +1,34 @@
 package com.bristotartur.gerenciadordepartidas.controllers;
 
+import com.bristotartur.gerenciadordepartidas.configs.ReadCoalescingConfig.ReadKey;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.CachePolicy;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.LinkTemplate;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
 import com.bristotartur.gerenciadordepartidas.docs.SportEventOperations;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestSportEventDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseSportEventDto;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.mappers.SportEventMapper;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshotService;
 import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import com.bristotartur.gerenciadordepartidas.utils.SingleFlight;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -32,57 +42,104 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Tag(name = "Sport Event")
 public class SportEventController {
 
+    private static final LinkTemplate SPORT_EVENT = LinkTemplate.of(SportEventController.class, "findSportEventById");
+    private static final LinkTemplate EDITION = LinkTemplate.of(EditionController.class, "findEditionById");
+
     private final SportEventService sportEventService;
+    private final EditionSnapshotService editionSnapshotService;
     private final SportEventMapper sportEventMapper;
+    private final PageAssembler pageAssembler;
+    private final SingleFlight<ReadKey, ResponseEntity<ResponseSportEventDto>> sportEventReads;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
 
     @SportEventOperations.ListAllSportEventsOperation
     @GetMapping
-    public ResponseEntity<Page<ResponseSportEventDto>> listAllSportEvents(Pageable pageable) {
+    public ResponseEntity<Slice<ResponseSportEventDto>> listAllSportEvents(@RequestParam(defaultValue = "true") boolean count,
+                                                                           Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
 
         log.info("Request to get SportEvent page of number '{}' and size '{}' was made.", number, size);
 
-        var dtoPage = this.createExposingDtoPage(sportEventService.findAllEvents(pageable));
+        var events = sportEventService.findAllEvents(pageable, count);
+        return pageAssembler.toResponse(events, sportEventMapper::toNewExposingSportEventDto, this::addSingleSportEventLink);
+    }
+
+    @GetMapping(path = "/scroll")
+    public ResponseEntity<CursorPage<ResponseSportEventDto>> scrollAllSportEvents(@RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "false") boolean count,
+                                                                                  Pageable pageable) {
+        var size = pageable.getPageSize();
+        log.info("Request to get SportEvent page of size '{}' after cursor '{}' was made.", size, cursor);
+
+        var dtoPage = sportEventService.scrollEvents(cursor, size, count).map(pageAssembler.converter(sportEventMapper::toNewExposingSportEventDto, this::addSingleSportEventLink));
         return ResponseEntity.ok().body(dtoPage);
     }
 
     @SportEventOperations.ListSportEventsFromEditionOperation
     @GetMapping(path = "/from")
-    public ResponseEntity<Page<ResponseSportEventDto>> listSportEventsFromEdition(@RequestParam("edition") Long editionId,
-                                                                                  Pageable pageable) {
+    public ResponseEntity<Slice<ResponseSportEventDto>> listSportEventsFromEdition(@RequestParam("edition") Long editionId,
+                                                                                   @RequestParam(defaultValue = "true") boolean count,
+                                                                                   Pageable pageable) {
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
 
         log.info("Request to get SportEvent page of number '{}' and size '{}' from Edition '{}' was made.", number, size, editionId);
 
-        var dtoPage = this.createExposingDtoPage(sportEventService.findAllEventsFromEdition(editionId, pageable));
-        return ResponseEntity.ok().body(dtoPage);
+        var archivedEvents = editionSnapshotService.findEditionSportEvents(editionId, pageable);
+
+        if (archivedEvents.isPresent()) {
+            return pageAssembler.toResponse(archivedEvents.get().map(dto -> this.addSingleSportEventLink(dto, editionId)));
+        }
+        var events = sportEventService.findAllEventsFromEdition(editionId, pageable, count);
+        return pageAssembler.toResponse(events, sportEventMapper::toNewExposingSportEventDto, this::addSingleSportEventLink);
     }
 
     @SportEventOperations.ListSportEventsBySportOperation
     @GetMapping(path = "/list")
-    public ResponseEntity<Page<ResponseSportEventDto>> listSportEventsBySport(@RequestParam("sport") String sportType,
-                                                                              Pageable pageable) {
+    public ResponseEntity<Slice<ResponseSportEventDto>> listSportEventsBySport(@RequestParam("sport") String sportType,
+                                                                               @RequestParam(defaultValue = "true") boolean count,
+                                                                               Pageable pageable) {
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
         var sport = Sports.findSportLike(sportType);
 
         log.info("Request to get SportEvent page of number '{}' and size '{}' of type '{}' was made.", number, size, sport);
 
-        var dtoPage = this.createExposingDtoPage(sportEventService.findAllEventsOfType(sport, pageable));
-        return ResponseEntity.ok().body(dtoPage);
+        var events = sportEventService.findAllEventsOfType(sport, pageable, count);
+        return pageAssembler.toResponse(events, sportEventMapper::toNewExposingSportEventDto, this::addSingleSportEventLink);
     }
 
     @SportEventOperations.FindSportEventByIdOperation
     @GetMapping(path = "/{id}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<ResponseSportEventDto> findSportEventById(@PathVariable Long id) {
 
         log.info("Request to find SportEvent '{}' was made.", id);
 
-        var dto = this.createSingleExposingDto(sportEventService.findEventById(id));
-        return ResponseEntity.ok().body(dto);
+        return sportEventReads.execute(ReadKey.of(id), () -> readTransaction.execute(status -> {
+            var archivedEvent = editionSnapshotService.findSportEvent(id);
+            var archivedEditionId = editionSnapshotService.findSportEventEdition(id);
+
+            if (archivedEvent.isPresent() && archivedEditionId.isPresent()) {
+                var dto = this.addSingleExposingLinks(archivedEvent.get(), archivedEditionId.get());
+                return CachePolicy.toResponse(dto, Status.ENDED, null);
+            }
+            var sportEvent = sportEventService.findEventById(id);
+            var dto = this.createSingleExposingDto(sportEvent);
+
+            return CachePolicy.toResponse(dto, sportEvent.getEventStatus(), sportEvent.getLastModified());
+        }));
     }
 
     @SportEventOperations.SaveSportEventOperation
@@ -128,34 +185,27 @@ public class SportEventController {
 
     private ResponseSportEventDto createSingleExposingDto(SportEvent sportEvent) {
 
-        var editionId = sportEvent.getId();
         var dto = sportEventMapper.toNewExposingSportEventDto(sportEvent);
+        return this.addSingleExposingLinks(dto, sportEvent.getEdition().getId());
+    }
+
+    private ResponseSportEventDto addSingleExposingLinks(ResponseSportEventDto dto, Long editionId) {
 
         var pageable = PageRequest.of(0, 12);
 
-        dto.add(linkTo(methodOn(this.getClass()).listAllSportEvents(pageable)).withRel("sportEventList"));
+        dto.add(linkTo(methodOn(this.getClass()).listAllSportEvents(true, pageable)).withRel("sportEventList"));
         dto.add(linkTo(methodOn(EditionController.class).findEditionById(editionId)).withRel("edition"));
         return dto;
     }
 
-    private Page<ResponseSportEventDto> createExposingDtoPage(Page<SportEvent> sportEventPage) {
-
-        var events = sportEventPage.getContent();
-        var dtos = events.stream()
-                .map(this::addSingleSportEventLink)
-                .toList();
-
-        return new PageImpl<>(dtos, sportEventPage.getPageable(), events.size());
+    private void addSingleSportEventLink(SportEvent sportEvent, ResponseSportEventDto dto) {
+        this.addSingleSportEventLink(dto, sportEvent.getEdition().getId());
     }
 
-    private ResponseSportEventDto addSingleSportEventLink(SportEvent sportEvent) {
+    private ResponseSportEventDto addSingleSportEventLink(ResponseSportEventDto dto, Long editionId) {
 
-        var id = sportEvent.getId();
-        var editionId = sportEvent.getEdition().getId();
-        var dto = sportEventMapper.toNewExposingSportEventDto(sportEvent);
-
-        dto.add(linkTo(methodOn(this.getClass()).findSportEventById(id)).withSelfRel());
-        dto.add(linkTo(methodOn(EditionController.class).findEditionById(editionId)).withRel("edition"));
+        dto.add(SPORT_EVENT.toSelfLink(dto.getSportEventId()));
+        dto.add(EDITION.toLink("edition", editionId));
         return dto;
     }
 
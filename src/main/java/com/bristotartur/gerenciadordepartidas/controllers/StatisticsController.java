@@ -0,0 +1,91 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseTeamRecordDto;
+import com.bristotartur.gerenciadordepartidas.enums.Leaderboard;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.services.matches.TeamRecordService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/gerenciador-de-partidas/api/statistics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Statistics")
+public class StatisticsController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final PlayerStatisticsService playerStatisticsService;
+    private final TeamRecordService teamRecordService;
+
+    @GetMapping(path = "/events/{id}")
+    public ResponseEntity<List<ResponsePlayerStatisticsDto>> findEventLeaderboard(@PathVariable Long id,
+                                                                                 @RequestParam(defaultValue = "TOP_SCORERS") Leaderboard leaderboard,
+                                                                                 @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("Request to get Leaderboard '{}' from SportEvent '{}' was made.", leaderboard, id);
+
+        var statistics = playerStatisticsService.findEventLeaderboard(id, leaderboard, this.checkLimit(limit));
+        return ResponseEntity.ok().body(statistics);
+    }
+
+    @GetMapping(path = "/editions/{id}")
+    public ResponseEntity<List<ResponsePlayerStatisticsDto>> findEditionLeaderboard(@PathVariable Long id,
+                                                                                   @RequestParam(defaultValue = "TOP_SCORERS") Leaderboard leaderboard,
+                                                                                   @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("Request to get Leaderboard '{}' from Edition '{}' was made.", leaderboard, id);
+
+        var statistics = playerStatisticsService.findEditionLeaderboard(id, leaderboard, this.checkLimit(limit));
+        return ResponseEntity.ok().body(statistics);
+    }
+
+    @GetMapping(path = "/sports/{sport}")
+    public ResponseEntity<List<ResponsePlayerStatisticsDto>> findSportLeaderboard(@PathVariable("sport") String sportType,
+                                                                                 @RequestParam(defaultValue = "TOP_SCORERS") Leaderboard leaderboard,
+                                                                                 @RequestParam(defaultValue = "10") int limit) {
+
+        var sport = Sports.findSportLike(sportType);
+        log.info("Request to get Leaderboard '{}' from sport '{}' was made.", leaderboard, sport);
+
+        var statistics = playerStatisticsService.findSportLeaderboard(sport, leaderboard, this.checkLimit(limit));
+        return ResponseEntity.ok().body(statistics);
+    }
+
+    @GetMapping(path = "/teams/{team}")
+    public ResponseEntity<List<ResponseTeamRecordDto>> findTeamRecords(@PathVariable("team") String teamName,
+                                                                       @RequestParam(required = false) Long edition) {
+
+        var team = Team.findTeamLike(teamName);
+        log.info("Request to get records from team '{}' in Edition '{}' was made.", team, edition);
+
+        var records = teamRecordService.findTeamRecords(team, edition);
+        return ResponseEntity.ok().body(records);
+    }
+
+    @GetMapping(path = "/teams/{team}/head-to-head/{opponent}")
+    public ResponseEntity<List<ResponseTeamRecordDto>> findHeadToHead(@PathVariable("team") String teamName,
+                                                                      @PathVariable("opponent") String opponentName) {
+
+        var team = Team.findTeamLike(teamName);
+        var opponent = Team.findTeamLike(opponentName);
+        log.info("Request to get head-to-head records from team '{}' against team '{}' was made.", team, opponent);
+
+        var records = teamRecordService.findHeadToHead(team, opponent);
+        return ResponseEntity.ok().body(records);
+    }
+
+    private int checkLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+}
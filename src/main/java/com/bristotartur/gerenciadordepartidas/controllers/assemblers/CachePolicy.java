@@ -0,0 +1,79 @@
+package com.bristotartur.gerenciadordepartidas.controllers.assemblers;
+
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <p>Define as políticas de cache HTTP dos recursos expostos pela API com base no {@link Status} em que
+ * eles se encontram. Quanto menor a chance de um recurso ser alterado, por mais tempo ele poderá ser
+ * mantido em cache pelos clientes.</p>
+ *
+ * Políticas para cada Status:
+ * <ul>
+ *     <li>ENDED: O recurso é efetivamente imutável, podendo ser mantido em cache por um dia.</li>
+ *     <li>IN_PROGRESS: O recurso muda com frequência, podendo ser mantido em cache por apenas alguns segundos.</li>
+ *     <li>SCHEDULED: O recurso muda raramente, podendo ser mantido em cache por um minuto.</li>
+ *     <li>OPEN_FOR_EDITS: O recurso está sendo editado, devendo ser revalidado a cada requisição.</li>
+ * </ul>
+ *
+ * <p>As respostas também carregam o cabeçalho {@code Last-Modified}, permitindo que o cliente revalide
+ * o recurso através do cabeçalho {@code If-Modified-Since} e receba um {@code 304 Not Modified} sem corpo
+ * caso ele não tenha sido alterado.</p>
+ *
+ * <p>Como um mesmo recurso pode ser retornado tanto na representação completa quanto na compacta, as respostas
+ * carregam o cabeçalho {@code Vary: Accept}, impedindo que caches compartilhados entreguem uma representação a
+ * clientes que solicitaram a outra.</p>
+ */
+public final class CachePolicy {
+
+    private static final Map<Status, CacheControl> POLICIES = new EnumMap<>(Status.class);
+
+    static {
+        POLICIES.put(Status.ENDED, CacheControl.maxAge(Duration.ofDays(1)).cachePublic());
+        POLICIES.put(Status.IN_PROGRESS, CacheControl.maxAge(Duration.ofSeconds(5)).cachePublic());
+        POLICIES.put(Status.SCHEDULED, CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic());
+        POLICIES.put(Status.OPEN_FOR_EDITS, CacheControl.noCache());
+    }
+
+    private CachePolicy() {
+    }
+
+    /**
+     * Recupera a política de cache correspondente ao Status fornecido.
+     *
+     * @param status Status do recurso.
+     * @return O {@link CacheControl} correspondente ao Status.
+     */
+    public static CacheControl of(Status status) {
+        return POLICIES.get(status);
+    }
+
+    /**
+     * Gera uma resposta contendo o recurso fornecido e os cabeçalhos de cache correspondentes ao seu Status.
+     *
+     * @param body Recurso retornado na resposta.
+     * @param status Status do recurso.
+     * @param lastModified Momento da última modificação do recurso, podendo ser nulo.
+     * @return Um {@link ResponseEntity} contendo o recurso e os cabeçalhos {@code Cache-Control},
+     * {@code Last-Modified} e {@code Vary}.
+     */
+    public static <T> ResponseEntity<T> toResponse(T body, Status status, Instant lastModified) {
+
+        var builder = ResponseEntity.ok()
+                .cacheControl(of(status))
+                .varyBy(HttpHeaders.ACCEPT);
+
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder.body(body);
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.bristotartur.gerenciadordepartidas.controllers.assemblers;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Arrays;
+
+/**
+ * <p>Representa um template de URI pré-computado para um método de um controller. Diferente de
+ * {@code linkTo(methodOn(...))}, que cria um proxy e resolve o mapeamento do método através de reflexão
+ * a cada chamada, o caminho do método é resolvido uma única vez a partir das anotações de mapeamento,
+ * restando apenas expandir as variáveis do template no momento em que o link é gerado.</p>
+ *
+ * <p>A URI base da aplicação é calculada uma única vez por requisição e reaproveitada por todos os links
+ * gerados durante ela.</p>
+ *
+ * Exemplo de uso:
+ * <pre>
+ *    {@code
+ *        private static final LinkTemplate MATCH = LinkTemplate.of(MatchController.class, "findMatchById");
+ *
+ *        dto.add(MATCH.toSelfLink(id));
+ *    }
+ * </pre>
+ */
+public final class LinkTemplate {
+
+    /**
+     * Query padrão utilizada em links que apontam para a primeira página de uma listagem.
+     */
+    public static final String FIRST_PAGE_QUERY = "count=true&page=0&size=12";
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+    private final UriTemplate uriTemplate;
+
+    private LinkTemplate(String template) {
+        this.uriTemplate = new UriTemplate(template);
+    }
+
+    /**
+     * Gera um novo template com base no mapeamento de um método de um controller.
+     *
+     * @param controller Controller que declara o método.
+     * @param methodName Nome do método mapeado.
+     * @return Um novo {@link LinkTemplate} correspondente ao caminho do método.
+     * @throws IllegalStateException Caso o método não exista ou não possua um mapeamento.
+     */
+    public static LinkTemplate of(Class<?> controller, String methodName) {
+        return of(controller, methodName, "");
+    }
+
+    /**
+     * Gera um novo template com base no mapeamento de um método de um controller, acrescentando uma
+     * query ao caminho resolvido. A query pode conter variáveis, como em {@code ?sport={sport}&page=0}.
+     *
+     * @param controller Controller que declara o método.
+     * @param methodName Nome do método mapeado.
+     * @param query Query acrescentada ao caminho do método.
+     * @return Um novo {@link LinkTemplate} correspondente ao caminho do método.
+     * @throws IllegalStateException Caso o método não exista ou não possua um mapeamento.
+     */
+    public static LinkTemplate of(Class<?> controller, String methodName, String query) {
+
+        var method = Arrays.stream(ReflectionUtils.getDeclaredMethods(controller))
+                .filter(declaredMethod -> declaredMethod.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Method '%s' not found in '%s'.".formatted(methodName, controller.getSimpleName())));
+
+        var methodMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+
+        if (methodMapping == null) {
+            throw new IllegalStateException("Method '%s' of '%s' is not mapped.".formatted(methodName, controller.getSimpleName()));
+        }
+        var controllerMapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        var path = getFirstPath(controllerMapping) + normalize(getFirstPath(methodMapping));
+
+        return new LinkTemplate(path + query);
+    }
+
+    /**
+     * Expande o template com os valores fornecidos, gerando um novo {@link Link} absoluto.
+     *
+     * @param relation Relação do link gerado.
+     * @param uriVariables Valores das variáveis do template, na ordem em que aparecem.
+     * @return Um novo {@link Link} com a relação especificada.
+     */
+    public Link toLink(LinkRelation relation, Object... uriVariables) {
+        return Link.of(currentBaseUri() + uriTemplate.expand(uriVariables), relation);
+    }
+
+    /**
+     * Expande o template com os valores fornecidos, gerando um novo {@link Link} absoluto.
+     *
+     * @param relation Nome da relação do link gerado.
+     * @param uriVariables Valores das variáveis do template, na ordem em que aparecem.
+     * @return Um novo {@link Link} com a relação especificada.
+     */
+    public Link toLink(String relation, Object... uriVariables) {
+        return this.toLink(LinkRelation.of(relation), uriVariables);
+    }
+
+    /**
+     * Expande o template com os valores fornecidos, gerando um novo {@link Link} com a relação {@code self}.
+     *
+     * @param uriVariables Valores das variáveis do template, na ordem em que aparecem.
+     * @return Um novo {@link Link} com a relação {@code self}.
+     */
+    public Link toSelfLink(Object... uriVariables) {
+        return this.toLink(IanaLinkRelations.SELF, uriVariables);
+    }
+
+    /**
+     * Retorna o template utilizado por esta instância.
+     *
+     * @return O template em formato textual.
+     */
+    @Override
+    public String toString() {
+        return uriTemplate.toString();
+    }
+
+    /**
+     * Recupera a URI base da requisição atual, calculando-a apenas na primeira chamada feita durante a requisição.
+     *
+     * @return A URI base da aplicação para a requisição atual.
+     */
+    private static String currentBaseUri() {
+
+        var attributes = RequestContextHolder.currentRequestAttributes();
+        var baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    private static String getFirstPath(RequestMapping mapping) {
+
+        if (mapping == null || mapping.path().length == 0) return "";
+        return mapping.path()[0];
+    }
+
+    private static String normalize(String path) {
+        return (path.isEmpty() || path.startsWith("/")) ? path : "/" + path;
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.bristotartur.gerenciadordepartidas.controllers.assemblers;
+
+import com.bristotartur.gerenciadordepartidas.configs.CompactRepresentationConfig;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <p>Componente responsável por montar as respostas paginadas expostas pelos controllers. A conversão
+ * das entidades em DTOs é feita em uma única passagem sobre o conteúdo, mantendo os metadados originais
+ * da {@link Page} ou {@link Slice}, como o total de elementos e a existência de uma próxima página.</p>
+ *
+ * <p>Os links de navegação entre as páginas ({@code first}, {@code prev}, {@code next} e {@code last})
+ * são gerados uma única vez por página e enviados no cabeçalho {@code Link} da resposta, evitando que
+ * sejam recalculados para cada elemento.</p>
+ *
+ * <p>Quando a requisição solicita a representação compacta ({@link CompactRepresentationConfig#COMPACT_JSON}),
+ * os links de cada elemento não são gerados.</p>
+ */
+@Component
+public class PageAssembler {
+
+    private static final String PAGE_PARAM = "page";
+    private static final String SIZE_PARAM = "size";
+
+    /**
+     * Converte o conteúdo de uma {@link Slice} através da função fornecida, mantendo seus metadados. Caso
+     * a fatia seja uma {@link Page}, a página retornada também preservará o total de elementos.
+     *
+     * @param slice Fatia contendo as entidades buscadas.
+     * @param converter Função responsável por converter cada entidade em seu DTO.
+     * @return Uma nova {@link Slice} contendo os DTOs gerados.
+     */
+    public <T, R> Slice<R> toDtoSlice(Slice<T> slice, Function<? super T, ? extends R> converter) {
+        return slice.map(converter);
+    }
+
+    /**
+     * Converte o conteúdo de uma {@link Slice} através da função fornecida, adicionando os links de cada
+     * elemento apenas quando a representação compacta não for solicitada.
+     *
+     * @param slice Fatia contendo as entidades buscadas.
+     * @param converter Função responsável por converter cada entidade em seu DTO.
+     * @param linker Função responsável por adicionar os links de um DTO com base em sua entidade.
+     * @return Uma nova {@link Slice} contendo os DTOs gerados.
+     */
+    public <T, R extends RepresentationModel<?>> Slice<R> toDtoSlice(Slice<T> slice,
+                                                                     Function<? super T, ? extends R> converter,
+                                                                     BiConsumer<? super T, ? super R> linker) {
+        return slice.map(this.converter(converter, linker));
+    }
+
+    /**
+     * Converte o conteúdo de uma {@link Slice} e gera uma resposta contendo os links de paginação
+     * no cabeçalho {@code Link}.
+     *
+     * @param slice Fatia contendo as entidades buscadas.
+     * @param converter Função responsável por converter cada entidade em seu DTO.
+     * @return Um {@link ResponseEntity} contendo a fatia de DTOs gerada.
+     */
+    public <T, R> ResponseEntity<Slice<R>> toResponse(Slice<T> slice, Function<? super T, ? extends R> converter) {
+        return this.toResponse(this.toDtoSlice(slice, converter));
+    }
+
+    /**
+     * Converte o conteúdo de uma {@link Slice}, adicionando os links de cada elemento apenas quando a
+     * representação compacta não for solicitada, e gera uma resposta contendo os links de paginação no
+     * cabeçalho {@code Link}.
+     *
+     * @param slice Fatia contendo as entidades buscadas.
+     * @param converter Função responsável por converter cada entidade em seu DTO.
+     * @param linker Função responsável por adicionar os links de um DTO com base em sua entidade.
+     * @return Um {@link ResponseEntity} contendo a fatia de DTOs gerada.
+     */
+    public <T, R extends RepresentationModel<?>> ResponseEntity<Slice<R>> toResponse(Slice<T> slice,
+                                                                                     Function<? super T, ? extends R> converter,
+                                                                                     BiConsumer<? super T, ? super R> linker) {
+        return this.toResponse(this.toDtoSlice(slice, converter, linker));
+    }
+
+    /**
+     * Gera uma resposta contendo a fatia de DTOs fornecida e os links de paginação no cabeçalho {@code Link}.
+     *
+     * @param dtoSlice Fatia contendo os DTOs já convertidos.
+     * @return Um {@link ResponseEntity} contendo a fatia de DTOs.
+     */
+    public <R> ResponseEntity<Slice<R>> toResponse(Slice<R> dtoSlice) {
+
+        var links = this.createPaginationLinks(dtoSlice);
+
+        if (links.isEmpty()) {
+            return ResponseEntity.ok().body(dtoSlice);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, links.toString())
+                .body(dtoSlice);
+    }
+
+    /**
+     * Gera os links de navegação para a página fornecida com base na requisição atual. O link {@code last}
+     * só é gerado quando o total de elementos é conhecido, ou seja, quando a fatia for uma {@link Page}.
+     *
+     * @param slice Fatia para a qual os links serão gerados.
+     * @return Os links de navegação da página, ou nenhum link caso a fatia não seja paginada.
+     */
+    public Links createPaginationLinks(Slice<?> slice) {
+
+        if (slice.getPageable().isUnpaged()) return Links.NONE;
+
+        var builder = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam(SIZE_PARAM, slice.getSize());
+
+        var number = slice.getNumber();
+        var links = new ArrayList<Link>();
+
+        links.add(this.createPageLink(builder, 0, IanaLinkRelations.FIRST));
+
+        if (slice.hasPrevious()) {
+            links.add(this.createPageLink(builder, number - 1, IanaLinkRelations.PREV));
+        }
+        if (slice.hasNext()) {
+            links.add(this.createPageLink(builder, number + 1, IanaLinkRelations.NEXT));
+        }
+        if (slice instanceof Page<?> page && page.getTotalPages() > 0) {
+            links.add(this.createPageLink(builder, page.getTotalPages() - 1, IanaLinkRelations.LAST));
+        }
+        return Links.of(links);
+    }
+
+    /**
+     * Gera uma função de conversão que adiciona os links de cada DTO gerado, ou apenas converte as
+     * entidades caso a requisição atual solicite a representação compacta. A verificação é feita uma
+     * única vez, no momento em que a função é gerada.
+     *
+     * @param converter Função responsável por converter cada entidade em seu DTO.
+     * @param linker Função responsável por adicionar os links de um DTO com base em sua entidade.
+     * @return A função de conversão adequada para a requisição atual.
+     */
+    public <T, R extends RepresentationModel<?>> Function<T, R> converter(Function<? super T, ? extends R> converter,
+                                                                          BiConsumer<? super T, ? super R> linker) {
+        if (this.isCompactRequest()) {
+            return converter::apply;
+        }
+        return entity -> {
+            R dto = converter.apply(entity);
+            linker.accept(entity, dto);
+            return dto;
+        };
+    }
+
+    /**
+     * Verifica se a requisição atual solicita a representação compacta através do cabeçalho {@code Accept}.
+     *
+     * @return true caso a representação compacta tenha sido solicitada explicitamente, false caso contrário.
+     */
+    public boolean isCompactRequest() {
+
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        return CompactRepresentationConfig.isCompactRequest(attributes.getRequest());
+    }
+
+    private Link createPageLink(UriComponentsBuilder builder, int page, LinkRelation relation) {
+
+        var href = builder.cloneBuilder()
+                .replaceQueryParam(PAGE_PARAM, page)
+                .toUriString();
+
+        return Link.of(href, relation);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.bristotartur.gerenciadordepartidas.docs;
 import com.bristotartur.gerenciadordepartidas.controllers.EditionController;
 import com.bristotartur.gerenciadordepartidas.docs.examples.ExceptionResponseExamples;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestEditionDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.EditionArchive;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseEditionDto;
 import com.bristotartur.gerenciadordepartidas.handlers.ExceptionDetails;
 import com.bristotartur.gerenciadordepartidas.handlers.ValidationExceptionDetails;
@@ -125,17 +126,25 @@ public final class EditionOperations {
     @Operation(
             summary = "Recupera todas as Edições",
             description = "Recupera uma lista paginada contendo todas as Edições disponíveis no sistema.",
-            parameters = @Parameter(
-                    name = "pageable",
-                    description = "Objeto contendo informações sobre o formato da paginação",
-                    in = ParameterIn.QUERY,
-                    schema = @Schema(implementation = Pageable.class),
-                    examples = @ExampleObject(
-                            name = "edition PageableExample",
-                            summary = "Exemplo de pageable para Edições",
-                            value = PAGEABLE_EXAMPLE
+            parameters = {
+                    @Parameter(
+                            name = "pageable",
+                            description = "Objeto contendo informações sobre o formato da paginação",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(implementation = Pageable.class),
+                            examples = @ExampleObject(
+                                    name = "edition PageableExample",
+                                    summary = "Exemplo de pageable para Edições",
+                                    value = PAGEABLE_EXAMPLE
+                            )
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Define se o total de elementos deve ser calculado. Quando falso, uma fatia sem os totais é retornada",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "boolean", defaultValue = "true")
                     )
-            ),
+            },
             responses = @ApiResponse(
                     responseCode = "200",
                     description = "Lista paginada das Edições disponíveis no sistema",
@@ -201,6 +210,64 @@ public final class EditionOperations {
     public @interface FindEditionByIdOperation {
     }
 
+    @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+            summary = "Recupera o arquivo de uma Edição encerrada",
+            description = "Recupera um documento pré-computado contendo a Edição e todos os seus eventos esportivos, " +
+                    "partidas, gols e cartões de penalidade. O documento é gerado quando a Edição é encerrada e " +
+                    "invalidado caso ela seja aberta para edições.",
+            parameters = @Parameter(
+                    name = "id",
+                    description = "Identificador único da Edição",
+                    required = true,
+                    in = ParameterIn.PATH,
+                    schema = @Schema(type = "integer", format = "int64"),
+                    examples = @ExampleObject(
+                            name = "editionIdExample",
+                            summary = "Exemplo de ID de Edição",
+                            value = "1"
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Arquivo da Edição encontrado",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EditionArchive.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404", description = "Edição não encontrada",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ExceptionDetails.class),
+                                    examples = @ExampleObject(
+                                            name = "notFoundExceptionExample",
+                                            summary = "Exemplo de Not Found Exception",
+                                            value = ExceptionResponseExamples.NOT_FOUND_RESPONSE_EXAMPLE
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Edição ainda não foi encerrada",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ExceptionDetails.class),
+                                    examples = @ExampleObject(
+                                            name = "unprocessableEntityExceptionExample",
+                                            summary = "Exemplo de Unprocessable Entity Exception",
+                                            value = ExceptionResponseExamples.UNPROCESSABLE_ENTITY_RESPONSE_EXAMPLE
+                                    )
+                            )
+                    )
+            }
+    )
+    public @interface FindEditionArchiveOperation {
+    }
+
     @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(
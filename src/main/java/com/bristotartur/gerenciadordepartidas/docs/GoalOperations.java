@@ -111,17 +111,25 @@ public final class GoalOperations {
     @Operation(
             summary = "Recupera todos os Gols",
             description = "Recupera uma lista paginada contendo todos os Gols disponíveis no sistema.",
-            parameters = @Parameter(
-                    name = "pageable",
-                    description = "Objeto contendo informações sobre o formato da paginação",
-                    in = ParameterIn.QUERY,
-                    schema = @Schema(implementation = Pageable.class),
-                    examples = @ExampleObject(
-                            name = "sportEventPageableExample",
-                            summary = "Exemplo de pageable para Gols",
-                            value = PAGEABLE_EXAMPLE
+            parameters = {
+                    @Parameter(
+                            name = "pageable",
+                            description = "Objeto contendo informações sobre o formato da paginação",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(implementation = Pageable.class),
+                            examples = @ExampleObject(
+                                    name = "sportEventPageableExample",
+                                    summary = "Exemplo de pageable para Gols",
+                                    value = PAGEABLE_EXAMPLE
+                            )
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Define se o total de elementos deve ser calculado. Quando falso, uma fatia sem os totais é retornada",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "boolean", defaultValue = "true")
                     )
-            ),
+            },
             responses = @ApiResponse(
                     responseCode = "200",
                     description = "Lista paginada dos Gols disponíveis no sistema",
@@ -180,6 +188,12 @@ public final class GoalOperations {
                                     summary = "Exemplo de pageable para Gols",
                                     value = PAGEABLE_EXAMPLE
                             )
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Define se o total de elementos deve ser calculado. Quando falso, uma fatia sem os totais é retornada",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "boolean", defaultValue = "true")
                     )
             },
             responses = {
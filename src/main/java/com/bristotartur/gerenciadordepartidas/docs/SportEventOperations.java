@@ -115,17 +115,25 @@ public final class SportEventOperations {
     @Operation(
             summary = "Recupera todos os Eventos Esportivos",
             description = "Recupera uma lista paginada contendo todos os Eventos Esportivos disponíveis no sistema.",
-            parameters = @Parameter(
-                    name = "pageable",
-                    description = "Objeto contendo informações sobre o formato da paginação",
-                    in = ParameterIn.QUERY,
-                    schema = @Schema(implementation = Pageable.class),
-                    examples = @ExampleObject(
-                            name = "sportEventPageableExample",
-                            summary = "Exemplo de pageable para Eventos Esportivos",
-                            value = PAGEABLE_EXAMPLE
+            parameters = {
+                    @Parameter(
+                            name = "pageable",
+                            description = "Objeto contendo informações sobre o formato da paginação",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(implementation = Pageable.class),
+                            examples = @ExampleObject(
+                                    name = "sportEventPageableExample",
+                                    summary = "Exemplo de pageable para Eventos Esportivos",
+                                    value = PAGEABLE_EXAMPLE
+                            )
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Define se o total de elementos deve ser calculado. Quando falso, uma fatia sem os totais é retornada",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "boolean", defaultValue = "true")
                     )
-            ),
+            },
             responses = @ApiResponse(
                     responseCode = "200",
                     description = "Lista paginada dos Eventos Esportivos disponíveis no sistema",
@@ -171,6 +179,12 @@ public final class SportEventOperations {
                                     summary = "Exemplo de pageable para Eventos Esportivos",
                                     value = PAGEABLE_EXAMPLE
                             )
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Define se o total de elementos deve ser calculado. Quando falso, uma fatia sem os totais é retornada",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "boolean", defaultValue = "true")
                     )
             },
             responses = {
@@ -237,6 +251,12 @@ public final class SportEventOperations {
                                     summary = "Exemplo de pageable para Eventos Esportivos",
                                     value = PAGEABLE_EXAMPLE
                             )
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Define se o total de elementos deve ser calculado. Quando falso, uma fatia sem os totais é retornada",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "boolean", defaultValue = "true")
                     )
             },
             responses = {
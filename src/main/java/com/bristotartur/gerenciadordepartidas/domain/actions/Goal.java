@@ -17,7 +17,11 @@ import java.time.LocalTime;
  * @see Match
  */
 @Entity
-@Table(name = "GOAL")
+@Table(
+        name = "GOAL",
+        uniqueConstraints = @UniqueConstraint(name = Goal.ACTION_KEY_CONSTRAINT, columnNames = {"match_id", "action_key"}),
+        indexes = @Index(name = "idx_goal_match", columnList = "match_id")
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -25,6 +29,11 @@ import java.time.LocalTime;
 @Builder
 public class Goal {
 
+    /**
+     * Nome da restrição que impede que uma mesma chave de idempotência seja registrada duas vezes na mesma partida.
+     */
+    public static final String ACTION_KEY_CONSTRAINT = "uk_goal_action_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -46,4 +55,7 @@ public class Goal {
     @JoinColumn(name = "match_id", nullable = false)
     private Match match;
 
+    @Column(name = "action_key", length = 64)
+    private String actionKey;
+
 }
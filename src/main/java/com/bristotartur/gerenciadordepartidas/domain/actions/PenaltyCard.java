@@ -20,7 +20,11 @@ import java.time.LocalTime;
  * @see Match
  */
 @Entity
-@Table(name = "PENALTY_CARD")
+@Table(
+        name = "PENALTY_CARD",
+        uniqueConstraints = @UniqueConstraint(name = PenaltyCard.ACTION_KEY_CONSTRAINT, columnNames = {"match_id", "action_key"}),
+        indexes = @Index(name = "idx_penalty_card_match", columnList = "match_id")
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -28,6 +32,11 @@ import java.time.LocalTime;
 @Builder
 public class PenaltyCard {
 
+    /**
+     * Nome da restrição que impede que uma mesma chave de idempotência seja registrada duas vezes na mesma partida.
+     */
+    public static final String ACTION_KEY_CONSTRAINT = "uk_penalty_card_action_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -53,4 +62,7 @@ public class PenaltyCard {
     @JoinColumn(name = "match_id", nullable = false)
     private Match match;
 
+    @Column(name = "action_key", length = 64)
+    private String actionKey;
+
 }
@@ -6,12 +6,17 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "EDITION")
+@Table(
+        name = "EDITION",
+        uniqueConstraints = @UniqueConstraint(name = Edition.IN_PROGRESS_CONSTRAINT, columnNames = "in_progress_lock")
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -19,6 +24,11 @@ import java.util.List;
 @Builder
 public class Edition {
 
+    /**
+     * Nome da restrição que impede que mais de uma edição esteja em andamento.
+     */
+    public static final String IN_PROGRESS_CONSTRAINT = "uk_edition_in_progress";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -48,6 +58,17 @@ public class Edition {
     @Column(nullable = false)
     private LocalDate closure;
 
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    @EqualsAndHashCode.Exclude
+    private Instant lastModified;
+
+    @JsonIgnore
+    @Column(name = "in_progress_lock")
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Boolean inProgressLock;
+
     @JsonManagedReference
     @OneToMany(mappedBy = "edition", cascade = CascadeType.ALL)
     @JsonIgnore
@@ -66,4 +87,14 @@ public class Edition {
     @ToString.Exclude
     private List<Participant> participants;
 
+    /**
+     * Preenche a coluna única de edições em andamento enquanto a edição estiver com o status 'IN_PROGRESS',
+     * e a esvazia nos demais status, de forma que o banco de dados rejeite uma segunda edição em andamento.
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateInProgressLock() {
+        inProgressLock = Status.IN_PROGRESS.equals(editionStatus) ? Boolean.TRUE : null;
+    }
+
 }
@@ -5,6 +5,9 @@ import com.bristotartur.gerenciadordepartidas.enums.Team;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @MappedSuperclass
 @NoArgsConstructor
@@ -42,4 +45,9 @@ public abstract class Event {
     @Enumerated(EnumType.STRING)
     private Status eventStatus;
 
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    @EqualsAndHashCode.Exclude
+    private Instant lastModified;
+
 }
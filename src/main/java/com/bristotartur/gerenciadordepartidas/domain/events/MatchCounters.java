@@ -0,0 +1,208 @@
+package com.bristotartur.gerenciadordepartidas.domain.events;
+
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.enums.Importance;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.Collection;
+
+/**
+ * <p>Contadores agregados das partidas de um {@link SportEvent}, armazenados na própria linha do evento.
+ * Os contadores mantêm a quantidade total de partidas registradas, encerradas e em andamento, além das
+ * partidas registradas e encerradas de cada {@link Importance}, permitindo que as validações do evento sejam feitas sem carregar
+ * a coleção de partidas.</p>
+ *
+ * <p>Os contadores devem ser atualizados na mesma transação em que uma partida é criada, removida ou tem
+ * sua importância ou status alterados.</p>
+ */
+@Embeddable
+@NoArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class MatchCounters {
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int registeredMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int endedMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int matchesInProgress;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int normalMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int semifinalMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int thirdPlacePlayoffMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int finalMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int endedNormalMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int endedSemifinalMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int endedThirdPlacePlayoffMatches;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int endedFinalMatches;
+
+    /**
+     * Gera os contadores correspondentes as partidas fornecidas.
+     *
+     * @param matches Partidas de um mesmo evento, podendo ser nulo.
+     * @return Os contadores das partidas.
+     */
+    public static MatchCounters of(Collection<? extends Match> matches) {
+
+        var counters = new MatchCounters();
+
+        if (matches != null) matches.forEach(counters::add);
+        return counters;
+    }
+
+    /**
+     * Contabiliza uma partida com base na sua importância e status atuais.
+     *
+     * @param match Partida adicionada ao evento.
+     */
+    public void add(Match match) {
+        this.count(match.getMatchImportance(), match.getMatchStatus(), 1);
+    }
+
+    /**
+     * Desconta uma partida com base na sua importância e status atuais. Em alterações de uma partida, este
+     * método deve ser chamado antes da alteração, e {@link #add(Match)} após.
+     *
+     * @param match Partida removida do evento.
+     */
+    public void remove(Match match) {
+        this.count(match.getMatchImportance(), match.getMatchStatus(), -1);
+    }
+
+    /**
+     * Contabiliza uma quantidade de partidas com a mesma importância e status.
+     *
+     * @param importance Importância das partidas.
+     * @param status Status das partidas.
+     * @param quantity Quantidade de partidas, negativa caso as partidas estejam sendo descontadas.
+     */
+    public void count(Importance importance, Status status, int quantity) {
+
+        registeredMatches += quantity;
+
+        switch (importance) {
+            case NORMAL -> normalMatches += quantity;
+            case SEMIFINAL -> semifinalMatches += quantity;
+            case THIRD_PLACE_PLAYOFF -> thirdPlacePlayoffMatches += quantity;
+            case FINAL -> finalMatches += quantity;
+        }
+        if (status.equals(Status.IN_PROGRESS)) matchesInProgress += quantity;
+        if (!status.equals(Status.ENDED)) return;
+
+        endedMatches += quantity;
+
+        switch (importance) {
+            case NORMAL -> endedNormalMatches += quantity;
+            case SEMIFINAL -> endedSemifinalMatches += quantity;
+            case THIRD_PLACE_PLAYOFF -> endedThirdPlacePlayoffMatches += quantity;
+            case FINAL -> endedFinalMatches += quantity;
+        }
+    }
+
+    /**
+     * Retorna a quantidade total de partidas registradas no evento.
+     *
+     * @return O número de partidas registradas.
+     */
+    public int getRegisteredMatches() {
+        return registeredMatches;
+    }
+
+    /**
+     * Retorna a quantidade de partidas registradas no evento com a importância informada.
+     *
+     * @param importance Importância das partidas.
+     * @return O número de partidas registradas com a importância.
+     */
+    public int getRegisteredMatches(Importance importance) {
+
+        return switch (importance) {
+            case NORMAL -> normalMatches;
+            case SEMIFINAL -> semifinalMatches;
+            case THIRD_PLACE_PLAYOFF -> thirdPlacePlayoffMatches;
+            case FINAL -> finalMatches;
+            case NONE -> registeredMatches - normalMatches - semifinalMatches - thirdPlacePlayoffMatches - finalMatches;
+        };
+    }
+
+    /**
+     * Retorna a quantidade total de partidas encerradas no evento.
+     *
+     * @return O número de partidas encerradas.
+     */
+    public int getEndedMatches() {
+        return endedMatches;
+    }
+
+    /**
+     * Retorna a quantidade de partidas com a importância informada que ainda não foram encerradas.
+     *
+     * @param importance Importância das partidas.
+     * @return O número de partidas não encerradas com a importância.
+     */
+    public int getUnfinishedMatches(Importance importance) {
+
+        var ended = switch (importance) {
+            case NORMAL -> endedNormalMatches;
+            case SEMIFINAL -> endedSemifinalMatches;
+            case THIRD_PLACE_PLAYOFF -> endedThirdPlacePlayoffMatches;
+            case FINAL -> endedFinalMatches;
+            case NONE -> endedMatches - endedNormalMatches - endedSemifinalMatches - endedThirdPlacePlayoffMatches - endedFinalMatches;
+        };
+        return this.getRegisteredMatches(importance) - ended;
+    }
+
+    /**
+     * Retorna a quantidade total de partidas que ainda não foram encerradas.
+     *
+     * @return O número de partidas não encerradas.
+     */
+    public int getUnfinishedMatches() {
+        return this.getRegisteredMatches() - this.getEndedMatches();
+    }
+
+    /**
+     * Verifica se o evento possui alguma partida em andamento.
+     *
+     * @return true caso exista uma partida em andamento, false caso contrário.
+     */
+    public boolean hasMatchInProgress() {
+        return matchesInProgress > 0;
+    }
+
+}
@@ -16,7 +16,13 @@ import lombok.experimental.SuperBuilder;
 import java.util.List;
 
 @Entity
-@Table(name = "SPORT_EVENT")
+@Table(
+        name = "SPORT_EVENT",
+        indexes = {
+                @Index(name = "idx_sport_event_edition", columnList = "edition_id"),
+                @Index(name = "idx_sport_event_type", columnList = "type")
+        }
+)
 @NoArgsConstructor
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -55,14 +61,19 @@ public class SportEvent extends Event {
     @ToString.Exclude
     private List<Participant> participants;
 
+    @Embedded
+    @Builder.Default
+    private MatchCounters matchCounters = new MatchCounters();
+
     public SportEvent(Long id, Team firstPlace, Team secondPlace, Team thirdPlace, Team fourthPlace, Team fifthPlace, Status eventStatus, Sports type, Modality modality, Integer totalMatches, Edition edition, List<Match> matches, List<Participant> participants) {
-        super(id, firstPlace, secondPlace, thirdPlace, fourthPlace, fifthPlace, eventStatus);
+        super(id, firstPlace, secondPlace, thirdPlace, fourthPlace, fifthPlace, eventStatus, null);
         this.type = type;
         this.modality = modality;
         this.totalMatches = totalMatches;
         this.edition = edition;
         this.matches = matches;
         this.participants = participants;
+        this.matchCounters = MatchCounters.of(matches);
     }
 
 }
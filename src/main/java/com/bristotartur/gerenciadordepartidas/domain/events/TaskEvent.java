@@ -12,7 +12,13 @@ import lombok.experimental.SuperBuilder;
 import java.util.List;
 
 @Entity
-@Table(name = "TASK_EVENT")
+@Table(
+        name = "TASK_EVENT",
+        indexes = {
+                @Index(name = "idx_task_event_edition", columnList = "edition_id"),
+                @Index(name = "idx_task_event_type", columnList = "type")
+        }
+)
 @NoArgsConstructor
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -37,7 +43,7 @@ public class TaskEvent extends Event {
     private List<Participant> participants;
 
     public TaskEvent(Long id, Team firstPlace, Team secondPlace, Team thirdPlace, Team fourthPlace, Team fifthPlace, Status eventStatus, TaskType type, Edition edition, List<Participant> participants) {
-        super(id, firstPlace, secondPlace, thirdPlace, fourthPlace, fifthPlace, eventStatus);
+        super(id, firstPlace, secondPlace, thirdPlace, fourthPlace, fifthPlace, eventStatus, null);
         this.type = type;
         this.edition = edition;
         this.participants = participants;
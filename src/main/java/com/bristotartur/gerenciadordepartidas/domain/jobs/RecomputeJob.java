@@ -0,0 +1,50 @@
+package com.bristotartur.gerenciadordepartidas.domain.jobs;
+
+import com.bristotartur.gerenciadordepartidas.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * <p>Entidade responsável por registrar uma execução do recálculo dos dados derivados das partidas, como os
+ * contadores dos eventos, as estatísticas dos jogadores e os retrospectos das equipes. O trabalho é dividido em
+ * instâncias de {@link RecomputePartition}, uma para cada evento esportivo de cada edição.</p>
+ *
+ * <p>Como cada partição é marcada como concluída na mesma transação em que seus dados são recalculados, uma
+ * execução interrompida ou com falhas pode ser retomada processando apenas as partições pendentes.</p>
+ *
+ * @see RecomputePartition
+ */
+@Entity
+@Table(name = "RECOMPUTE_JOB", indexes = @Index(name = "idx_recompute_job_status", columnList = "job_status"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+public class RecomputeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "job_status")
+    @Enumerated(EnumType.STRING)
+    private JobStatus jobStatus;
+
+    @Column(nullable = false)
+    private int totalPartitions;
+
+    @Column(nullable = false)
+    private int completedPartitions;
+
+    @Column(nullable = false)
+    private int failedPartitions;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant finishedAt;
+
+}
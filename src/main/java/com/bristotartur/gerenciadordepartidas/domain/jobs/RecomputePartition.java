@@ -0,0 +1,44 @@
+package com.bristotartur.gerenciadordepartidas.domain.jobs;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entidade responsável por representar uma parte de um {@link RecomputeJob}: o recálculo dos dados derivados de
+ * um único {@link SportEvent}. Os identificadores do evento e de sua edição são armazenados sem chaves
+ * estrangeiras, de forma que a exclusão de um evento não seja impedida por recálculos antigos.
+ *
+ * @see RecomputeJob
+ */
+@Entity
+@Table(
+        name = "RECOMPUTE_PARTITION",
+        indexes = @Index(name = "idx_recompute_partition_job", columnList = "job_id, completed, edition_id, event_id")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+public class RecomputePartition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    @ToString.Exclude
+    private RecomputeJob job;
+
+    @Column(nullable = false, name = "edition_id")
+    private Long editionId;
+
+    @Column(nullable = false, name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+}
@@ -7,9 +7,12 @@ import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.enums.Modality;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -32,7 +35,15 @@ import java.util.Objects;
  * @see ChessMatch
  */
 @Entity
-@Table(name = "MATCH")
+@Table(
+        name = "MATCH",
+        uniqueConstraints = @UniqueConstraint(name = Match.IN_PROGRESS_CONSTRAINT, columnNames = "in_progress_event_id"),
+        indexes = {
+                @Index(name = "idx_match_event", columnList = "event_id"),
+                @Index(name = "idx_match_type", columnList = "type"),
+                @Index(name = "idx_match_start", columnList = "match_start, id")
+        }
+)
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type", discriminatorType = DiscriminatorType.STRING)
 @NoArgsConstructor
@@ -41,6 +52,11 @@ import java.util.Objects;
 @Builder
 public class Match {
 
+    /**
+     * Nome da restrição que impede que um mesmo evento possua mais de uma partida em andamento.
+     */
+    public static final String IN_PROGRESS_CONSTRAINT = "uk_match_in_progress_event";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -61,7 +77,11 @@ public class Match {
     @JoinTable(
             name = "match_player",
             joinColumns = @JoinColumn(name = "match_id"),
-            inverseJoinColumns = @JoinColumn(name = "participant_id")
+            inverseJoinColumns = @JoinColumn(name = "participant_id"),
+            indexes = {
+                    @Index(name = "idx_match_player_match", columnList = "match_id"),
+                    @Index(name = "idx_match_player_participant", columnList = "participant_id")
+            }
     )
     @ToString.Exclude
     private List<Participant> players;
@@ -91,6 +111,30 @@ public class Match {
     @Column(nullable = false)
     private LocalDateTime matchEnd;
 
+    @Column(length = 80)
+    private String venue;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private Instant lastModified;
+
+    @JsonIgnore
+    @Column(name = "in_progress_event_id")
+    @Setter(AccessLevel.NONE)
+    private Long inProgressEventId;
+
+    /**
+     * Preenche a coluna única de partidas em andamento com o ID do evento enquanto a partida estiver com o
+     * status 'IN_PROGRESS', e a esvazia nos demais status. Como a coluna é única e aceita múltiplos valores
+     * nulos, o próprio banco de dados impede que duas partidas do mesmo evento estejam em andamento, mesmo
+     * sob atualizações concorrentes.
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateInProgressEventId() {
+        inProgressEventId = Status.IN_PROGRESS.equals(matchStatus) ? event.getId() : null;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,105 @@
+package com.bristotartur.gerenciadordepartidas.domain.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * <p>Entidade responsável por armazenar o retrospecto de uma equipe contra um adversário em uma edição,
+ * modalidade esportiva e modalidade de gênero: vitórias, empates, derrotas, pontos marcados e pontos sofridos
+ * nas partidas encerradas. Cada partida encerrada é contabilizada em dois registros, um sob a perspectiva de
+ * cada equipe.</p>
+ *
+ * <p>Os registros são mantidos como uma tabela de resumo, permitindo que as análises de desempenho das equipes
+ * sejam geradas sem percorrer as partidas.</p>
+ *
+ * @see Match
+ * @see Team
+ */
+@Entity
+@Table(
+        name = "TEAM_RECORD",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_team_record",
+                columnNames = {"edition_id", "team", "opponent", "sport", "modality"}
+        ),
+        indexes = @Index(name = "idx_team_record_team", columnList = "team, opponent")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+public class TeamRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "edition_id", nullable = false)
+    private Edition edition;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Team team;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Team opponent;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Sports sport;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Modality modality;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int draws;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(nullable = false)
+    private int goalsFor;
+
+    @Column(nullable = false)
+    private int goalsAgainst;
+
+    /**
+     * Contabiliza o resultado de uma partida encerrada no retrospecto.
+     *
+     * @param goalsFor Pontos marcados pela equipe.
+     * @param goalsAgainst Pontos sofridos pela equipe.
+     * @param quantity Quantidade de vezes que o resultado será contabilizado, sendo negativa para descontá-lo.
+     */
+    public void count(int goalsFor, int goalsAgainst, int quantity) {
+
+        var comparison = Integer.compare(goalsFor, goalsAgainst);
+
+        if (comparison > 0) wins += quantity;
+        if (comparison == 0) draws += quantity;
+        if (comparison < 0) losses += quantity;
+
+        this.goalsFor += goalsFor * quantity;
+        this.goalsAgainst += goalsAgainst * quantity;
+    }
+
+    /**
+     * Retorna a quantidade de partidas contabilizadas no retrospecto.
+     *
+     * @return A soma de vitórias, empates e derrotas.
+     */
+    public int getMatches() {
+        return wins + draws + losses;
+    }
+
+}
@@ -7,6 +7,7 @@ import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.domain.events.TaskEvent;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.services.people.ParticipantSearchListener;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -25,7 +26,15 @@ import java.util.List;
  * @see PenaltyCard
  */
 @Entity
-@Table(name = "PARTICIPANT")
+@EntityListeners(ParticipantSearchListener.class)
+@Table(
+        name = "PARTICIPANT",
+        indexes = {
+                @Index(name = "idx_participant_edition", columnList = "edition_id"),
+                @Index(name = "idx_participant_team", columnList = "team"),
+                @Index(name = "idx_participant_name", columnList = "name, id")
+        }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
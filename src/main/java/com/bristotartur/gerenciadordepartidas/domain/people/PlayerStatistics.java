@@ -0,0 +1,67 @@
+package com.bristotartur.gerenciadordepartidas.domain.people;
+
+import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * <p>Entidade responsável por armazenar os contadores de um participante em um determinado evento esportivo:
+ * gols marcados, cartões de penalidade recebidos de cada cor e partidas disputadas até o fim. Os contadores
+ * são atualizados a cada gol, cartão ou partida encerrada, permitindo que as classificações de artilharia e
+ * disciplina sejam calculadas sem percorrer todos os gols e cartões do sistema.</p>
+ *
+ * <p>Registros cujos contadores estejam todos zerados são removidos.</p>
+ *
+ * @see Participant
+ * @see Goal
+ * @see PenaltyCard
+ */
+@Entity
+@Table(
+        name = "PLAYER_STATISTICS",
+        uniqueConstraints = @UniqueConstraint(name = "uk_player_statistics", columnNames = {"participant_id", "event_id"}),
+        indexes = @Index(name = "idx_player_statistics_event", columnList = "event_id")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = false)
+@Builder
+public class PlayerStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "participant_id", nullable = false)
+    private Participant player;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private SportEvent event;
+
+    @Column(nullable = false)
+    private int goals;
+
+    @Column(nullable = false)
+    private int yellowCards;
+
+    @Column(nullable = false)
+    private int redCards;
+
+    @Column(nullable = false)
+    private int matchesPlayed;
+
+    /**
+     * Verifica se todos os contadores do registro estão zerados.
+     *
+     * @return true caso nenhum contador possua valor, false caso contrário.
+     */
+    public boolean isEmpty() {
+        return goals == 0 && yellowCards == 0 && redCards == 0 && matchesPlayed == 0;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.bristotartur.gerenciadordepartidas.dtos.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "DTO de requisição para a geração do chaveamento de Eventos Esportivos")
+public record RequestBracketDto(
+
+        @Schema(description = "Horários disponíveis para as partidas geradas, utilizados em ordem cronológica")
+        @NotEmpty
+        List<@Valid @NotNull TimeSlot> slots
+
+) {
+}
@@ -0,0 +1,57 @@
+package com.bristotartur.gerenciadordepartidas.dtos.request;
+
+import com.bristotartur.gerenciadordepartidas.enums.ActionType;
+import com.bristotartur.gerenciadordepartidas.enums.PenaltyCardColor;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Builder
+@Schema(description = "DTO de requisição para o registro em lote de Gols e Cartões de uma Partida")
+public record RequestMatchActionsDto(
+
+        @Schema(description = "Tipo de esporte da Partida", example = "FUTSAL")
+        @NotNull
+        Sports sport,
+
+        @Schema(description = "Ações da Partida, na ordem em que ocorreram")
+        @NotEmpty
+        List<@Valid @NotNull MatchAction> actions
+
+) {
+
+    @Schema(description = "Gol ou Cartão de uma Partida, identificado por uma chave gerada pelo cliente")
+    public record MatchAction(
+
+            @Schema(description = "Chave de idempotência da ação, única na Partida", example = "0b9e2d1c-7a51-4f0e-9c8e-3c2f5b6a1d47")
+            @NotBlank
+            @Size(max = 64)
+            String actionKey,
+
+            @Schema(description = "Tipo da ação", example = "GOAL")
+            @NotNull
+            ActionType type,
+
+            @Schema(description = "Horário da ação", example = "14:05:00")
+            @NotNull
+            LocalTime actionTime,
+
+            @Schema(description = "ID do Jogador", example = "1")
+            @NotNull
+            Long playerId,
+
+            @Schema(description = "Cor do Cartão, obrigatória apenas para Cartões", example = "YELLOW")
+            PenaltyCardColor color
+
+    ) {
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.bristotartur.gerenciadordepartidas.dtos.request;
+
+import com.bristotartur.gerenciadordepartidas.enums.PenaltyCardColor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Builder
+@Schema(description = "DTO de requisição para o resultado de uma Partida já disputada")
+public record RequestMatchResultDto(
+
+        @Schema(description = "Dados da Partida")
+        @NotNull
+        @Valid
+        RequestMatchDto match,
+
+        @Schema(description = "Placar final da equipe A", example = "2")
+        @NotNull
+        @PositiveOrZero
+        Integer teamScoreA,
+
+        @Schema(description = "Placar final da equipe B", example = "1")
+        @NotNull
+        @PositiveOrZero
+        Integer teamScoreB,
+
+        @Schema(description = "Gols marcados na Partida")
+        List<@Valid @NotNull ResultGoal> goals,
+
+        @Schema(description = "Cartões de penalidade aplicados na Partida")
+        List<@Valid @NotNull ResultPenaltyCard> penaltyCards
+
+) {
+
+    @Schema(description = "Gol marcado em uma Partida já disputada")
+    public record ResultGoal(
+
+            @Schema(description = "Horário do Gol", example = "14:05:00")
+            @NotNull
+            LocalTime goalTime,
+
+            @Schema(description = "ID do Jogador", example = "1")
+            @NotNull
+            Long playerId
+
+    ) {
+    }
+
+    @Schema(description = "Cartão de penalidade aplicado em uma Partida já disputada")
+    public record ResultPenaltyCard(
+
+            @Schema(description = "Cor do Cartão", example = "YELLOW")
+            @NotNull
+            PenaltyCardColor color,
+
+            @Schema(description = "Horário do Cartão", example = "14:05:00")
+            @NotNull
+            LocalTime penaltyCardTime,
+
+            @Schema(description = "ID do Jogador", example = "1")
+            @NotNull
+            Long playerId
+
+    ) {
+    }
+
+}
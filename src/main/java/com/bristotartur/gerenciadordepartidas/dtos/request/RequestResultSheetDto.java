@@ -0,0 +1,20 @@
+package com.bristotartur.gerenciadordepartidas.dtos.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "DTO de requisição para o registro em lote dos resultados de Partidas já disputadas")
+public record RequestResultSheetDto(
+
+        @Schema(description = "Resultados das Partidas, podendo pertencer a diferentes Eventos Esportivos")
+        @NotEmpty
+        List<@Valid @NotNull RequestMatchResultDto> results
+
+) {
+}
@@ -0,0 +1,44 @@
+package com.bristotartur.gerenciadordepartidas.dtos.request;
+
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Set;
+
+@Builder
+@Schema(description = "DTO de requisição para o agendamento das partidas de uma Edição")
+public record RequestScheduleDto(
+
+        @Schema(description = "Locais disponíveis para as partidas")
+        @NotEmpty
+        List<@Valid @NotNull Venue> venues,
+
+        @Schema(description = "Horários disponíveis em cada local")
+        @NotEmpty
+        List<@Valid @NotNull TimeSlot> slots
+
+) {
+
+    @Schema(description = "Local disponível para partidas")
+    public record Venue(
+
+            @Schema(description = "Nome do local", example = "Ginásio")
+            @NotBlank
+            @Size(max = 80)
+            String name,
+
+            @Schema(description = "Esportes que podem ser disputados no local", example = "[\"FUTSAL\", \"HANDBALL\"]")
+            @NotEmpty
+            Set<@NotNull Sports> sports
+
+    ) {
+    }
+
+}
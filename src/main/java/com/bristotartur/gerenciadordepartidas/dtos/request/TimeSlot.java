@@ -0,0 +1,20 @@
+package com.bristotartur.gerenciadordepartidas.dtos.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Horário disponível para uma partida")
+public record TimeSlot(
+
+        @Schema(description = "Início do horário", example = "2024-05-20T08:00:00")
+        @NotNull
+        LocalDateTime matchStart,
+
+        @Schema(description = "Fim do horário", example = "2024-05-20T08:40:00")
+        @NotNull
+        LocalDateTime matchEnd
+
+) {
+}
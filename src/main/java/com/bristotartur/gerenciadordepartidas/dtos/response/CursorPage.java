@@ -0,0 +1,59 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Representa uma página obtida através de paginação por keyset. Diferente de um
+ * {@link org.springframework.data.domain.Page}, esta página não depende de offsets e só carrega o
+ * total de elementos quando ele for explicitamente solicitado, evitando consultas de contagem.
+ *
+ * @param content Elementos presentes na página.
+ * @param nextCursor Cursor opaco para buscar a próxima página, ou nulo caso esta seja a última.
+ * @param hasNext Indica se há uma próxima página.
+ * @param totalElements Total de elementos disponíveis, presente apenas quando solicitado.
+ * @param <T> Tipo dos elementos da página.
+ * @see CursorUtil
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext, Long totalElements) {
+
+    /**
+     * Gera uma nova {@link CursorPage} a partir dos elementos buscados no banco de dados. A consulta
+     * deve buscar um elemento a mais do que o tamanho da página, sendo que a presença deste elemento
+     * extra indica que existe uma próxima página.
+     *
+     * @param fetched Elementos retornados pela consulta, contendo até {@code size + 1} elementos.
+     * @param size Tamanho da página.
+     * @param cursorExtractor Função responsável por gerar o cursor a partir do último elemento da página.
+     * @param totalElements Total de elementos disponíveis, podendo ser nulo.
+     * @return Uma nova {@link CursorPage} com os elementos da página.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorExtractor, Long totalElements) {
+
+        var hasNext = fetched.size() > size;
+        var content = hasNext ? fetched.subList(0, size) : fetched;
+        var nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorPage<>(List.copyOf(content), nextCursor, hasNext, totalElements);
+    }
+
+    /**
+     * Converte os elementos desta página, mantendo os metadados de paginação.
+     *
+     * @param converter Função de conversão aplicada a cada elemento.
+     * @return Uma nova {@link CursorPage} contendo os elementos convertidos.
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+
+        List<R> mappedContent = content.stream()
+                .<R>map(converter)
+                .toList();
+
+        return new CursorPage<>(mappedContent, nextCursor, hasNext, totalElements);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Representa o arquivo de uma edição encerrada, contendo todos os seus eventos esportivos, partidas, gols
+ * e cartões de penalidade já convertidos em DTOs. Como uma edição encerrada não sofre alterações, este
+ * documento é gerado uma única vez e servido diretamente nas consultas históricas.
+ *
+ * @param edition Dados da edição arquivada.
+ * @param sportEvents Eventos esportivos da edição, cada um com suas partidas.
+ * @param archivedAt Momento em que o arquivo foi gerado.
+ */
+public record EditionArchive(ResponseEditionDto edition, List<ArchivedSportEvent> sportEvents, Instant archivedAt) {
+
+    /**
+     * Representa um evento esportivo arquivado.
+     *
+     * @param sportEvent Dados do evento esportivo.
+     * @param matches Partidas do evento esportivo.
+     */
+    public record ArchivedSportEvent(ResponseSportEventDto sportEvent, List<ArchivedMatch> matches) {
+    }
+
+    /**
+     * Representa uma partida arquivada.
+     *
+     * @param match Dados da partida.
+     * @param goals Gols marcados na partida.
+     * @param penaltyCards Cartões de penalidade aplicados na partida.
+     */
+    public record ArchivedMatch(ResponseMatchDto match, List<ResponseGoalDto> goals, List<ResponsePenaltyCardDto> penaltyCards) {
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+
+import java.time.LocalTime;
+
+/**
+ * Representa uma linha da exportação de gols, contendo apenas colunas simples para que possa ser escrita
+ * diretamente em formatos tabulares.
+ *
+ * @param goalId ID do gol.
+ * @param matchId ID da partida em que o gol foi marcado.
+ * @param sportEventId ID do evento esportivo da partida.
+ * @param sport Modalidade esportiva da partida.
+ * @param goalTime Momento em que o gol foi marcado.
+ * @param playerId ID do jogador que marcou o gol.
+ * @param player Nome do jogador que marcou o gol.
+ * @param team Equipe do jogador.
+ */
+public record ExportedGoal(Long goalId,
+                           Long matchId,
+                           Long sportEventId,
+                           Sports sport,
+                           LocalTime goalTime,
+                           Long playerId,
+                           String player,
+                           Team team) {
+}
@@ -0,0 +1,40 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.enums.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa uma linha da exportação de partidas, contendo apenas colunas simples para que possa ser escrita
+ * diretamente em formatos tabulares.
+ *
+ * @param matchId ID da partida.
+ * @param editionId ID da edição da partida.
+ * @param sportEventId ID do evento esportivo da partida.
+ * @param sport Modalidade esportiva da partida.
+ * @param modality Modalidade de gênero da partida.
+ * @param matchImportance Importância da partida.
+ * @param teamA Equipe A da partida.
+ * @param teamB Equipe B da partida.
+ * @param teamScoreA Pontuação da equipe A.
+ * @param teamScoreB Pontuação da equipe B.
+ * @param matchStatus Status da partida.
+ * @param matchStart Início da partida.
+ * @param matchEnd Fim da partida.
+ * @param venue Local da partida, podendo ser nulo.
+ */
+public record ExportedMatch(Long matchId,
+                            Long editionId,
+                            Long sportEventId,
+                            Sports sport,
+                            Modality modality,
+                            Importance matchImportance,
+                            Team teamA,
+                            Team teamB,
+                            Integer teamScoreA,
+                            Integer teamScoreB,
+                            Status matchStatus,
+                            LocalDateTime matchStart,
+                            LocalDateTime matchEnd,
+                            String venue) {
+}
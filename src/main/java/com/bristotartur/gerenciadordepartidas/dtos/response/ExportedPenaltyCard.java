@@ -0,0 +1,32 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.enums.PenaltyCardColor;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+
+import java.time.LocalTime;
+
+/**
+ * Representa uma linha da exportação de cartões de penalidade, contendo apenas colunas simples para que possa
+ * ser escrita diretamente em formatos tabulares.
+ *
+ * @param penaltyCardId ID do cartão.
+ * @param matchId ID da partida em que o cartão foi aplicado.
+ * @param sportEventId ID do evento esportivo da partida.
+ * @param sport Modalidade esportiva da partida.
+ * @param color Cor do cartão.
+ * @param penaltyCardTime Momento em que o cartão foi aplicado.
+ * @param playerId ID do jogador que recebeu o cartão.
+ * @param player Nome do jogador que recebeu o cartão.
+ * @param team Equipe do jogador.
+ */
+public record ExportedPenaltyCard(Long penaltyCardId,
+                                  Long matchId,
+                                  Long sportEventId,
+                                  Sports sport,
+                                  PenaltyCardColor color,
+                                  LocalTime penaltyCardTime,
+                                  Long playerId,
+                                  String player,
+                                  Team team) {
+}
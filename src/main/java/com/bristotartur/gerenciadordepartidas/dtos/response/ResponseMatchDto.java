@@ -29,5 +29,6 @@ public class ResponseMatchDto extends RepresentationModel<ResponseMatchDto> {
     private final Status matchStatus;
     private final LocalDateTime matchStart;
     private final LocalDateTime matchEnd;
+    private final String venue;
 
 }
@@ -0,0 +1,26 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Representa a linha de um participante em uma classificação, contendo a soma dos seus contadores no escopo
+ * consultado.
+ *
+ * @param participantId ID do participante.
+ * @param player Nome do participante.
+ * @param team Equipe do participante.
+ * @param goals Gols marcados.
+ * @param yellowCards Cartões amarelos recebidos.
+ * @param redCards Cartões vermelhos recebidos.
+ * @param matchesPlayed Partidas disputadas até o fim.
+ */
+@Schema(description = "Corpo de resposta para Estatísticas de Jogadores")
+public record ResponsePlayerStatisticsDto(@Schema(description = "ID do Participante", example = "1") Long participantId,
+                                          @Schema(description = "Nome do Jogador", example = "Eduardo") String player,
+                                          @Schema(description = "Equipe do Jogador", example = "PAPA_LEGUAS") Team team,
+                                          @Schema(description = "Gols marcados", example = "3") Long goals,
+                                          @Schema(description = "Cartões amarelos", example = "1") Long yellowCards,
+                                          @Schema(description = "Cartões vermelhos", example = "0") Long redCards,
+                                          @Schema(description = "Partidas disputadas", example = "4") Long matchesPlayed) {
+}
@@ -0,0 +1,27 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.enums.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Representa o progresso de um recálculo dos dados derivados das partidas.
+ *
+ * @param recomputeJobId ID do recálculo.
+ * @param jobStatus Estado do recálculo.
+ * @param totalPartitions Quantidade total de partições, uma para cada evento esportivo.
+ * @param completedPartitions Quantidade de partições já concluídas.
+ * @param failedPartitions Quantidade de partições que falharam na última execução.
+ * @param createdAt Momento em que o recálculo foi criado.
+ * @param finishedAt Momento em que a última execução do recálculo terminou.
+ */
+@Schema(description = "Corpo de resposta para Recálculos")
+public record ResponseRecomputeJobDto(@Schema(description = "ID do Recálculo", example = "1") Long recomputeJobId,
+                                      @Schema(description = "Estado do Recálculo", example = "RUNNING") JobStatus jobStatus,
+                                      @Schema(description = "Total de partições", example = "12") int totalPartitions,
+                                      @Schema(description = "Partições concluídas", example = "7") int completedPartitions,
+                                      @Schema(description = "Partições com falha", example = "0") int failedPartitions,
+                                      @Schema(description = "Momento de criação") Instant createdAt,
+                                      @Schema(description = "Momento de término") Instant finishedAt) {
+}
@@ -0,0 +1,37 @@
+package com.bristotartur.gerenciadordepartidas.dtos.response;
+
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Representa o retrospecto somado de uma equipe em uma modalidade esportiva e modalidade de gênero.
+ *
+ * @param editionId ID da edição, ou nulo caso o retrospecto reúna todas as edições.
+ * @param team Equipe analisada.
+ * @param opponent Adversário, ou nulo caso o retrospecto reúna todos os adversários.
+ * @param sport Modalidade esportiva.
+ * @param modality Modalidade de gênero.
+ * @param matches Partidas encerradas.
+ * @param wins Vitórias.
+ * @param draws Empates.
+ * @param losses Derrotas.
+ * @param goalsFor Pontos marcados.
+ * @param goalsAgainst Pontos sofridos.
+ * @param goalDifference Saldo de pontos.
+ */
+@Schema(description = "Corpo de resposta para Retrospectos de Equipes")
+public record ResponseTeamRecordDto(@Schema(description = "ID da Edição", example = "1") Long editionId,
+                                    @Schema(description = "Equipe", example = "PAPA_LEGUAS") Team team,
+                                    @Schema(description = "Adversário", example = "TWISTER") Team opponent,
+                                    @Schema(description = "Modalidade esportiva", example = "FUTSAL") Sports sport,
+                                    @Schema(description = "Modalidade de gênero", example = "MASCULINE") Modality modality,
+                                    @Schema(description = "Partidas encerradas", example = "4") int matches,
+                                    @Schema(description = "Vitórias", example = "2") int wins,
+                                    @Schema(description = "Empates", example = "1") int draws,
+                                    @Schema(description = "Derrotas", example = "1") int losses,
+                                    @Schema(description = "Pontos marcados", example = "9") int goalsFor,
+                                    @Schema(description = "Pontos sofridos", example = "6") int goalsAgainst,
+                                    @Schema(description = "Saldo de pontos", example = "3") int goalDifference) {
+}
@@ -0,0 +1,14 @@
+package com.bristotartur.gerenciadordepartidas.enums;
+
+/**
+ * Enumeração contendo os tipos de ações que podem ser registradas em lote em uma partida.
+ *
+ * <ul>
+ *     <li>GOAL: Gols.</li>
+ *     <li>PENALTY_CARD: Cartões de penalidade.</li>
+ * </ul>
+ */
+public enum ActionType {
+    GOAL,
+    PENALTY_CARD
+}
@@ -20,14 +20,23 @@ public enum ExceptionMessages {
     TABLE_TENNIS_MATCH_NOT_FOUND("Partida de tênis de mesa não encontrada."),
     VOLLEYBALL_MATCH_NOT_FOUND("Partida de vôlei não encontrada."),
 
+    BRACKET_ALREADY_COMPLETE("Todas as partidas do evento esportivo já foram registradas."),
     CANNOT_UPDATE_MATCH_STATUS("Status de partidas só podem ser atualizadas em eventos sob o status 'IN_PROGRESS.'"),
     CANNOT_HAVE_TWO_MATCHES_IN_PROGRESS("Apenas uma partida de cada vez pode estar sob o status 'IN_PROGRESS'."),
     CANNOT_REGISTER_MATCH("Ainda há partidas agendadas ou em andamento que devem ser encerradas antes de partidas de importância '%s' serem registradas."),
     INVALID_MATCH_IMPORTANCE("O evento não possui partidas necessárias ou não pode mais registrar partidas com importância '%s'."),
     INVALID_MATCH_FOR_EVENT("A partida deve ser de um esporte e modalidade iguais aos de seu evento."),
+    INVALID_MATCH_SCORE("O placar informado para a partida iniciada em '%s' não corresponde aos seus gols."),
     INVALID_MATCH_OPERATION("Partidas só podem ser atualizadas ou excluídas enquanto estiverem agendadas."),
+    MATCH_CANNOT_BE_SCHEDULED("Não há horários e locais disponíveis para a partida '%d' sem conflitos de jogadores, locais ou do seu evento."),
     INVALID_TEAMS_FOR_MATCH("Uma partida não pode ter duas equipes iguais."),
+    INVALID_TIME_SLOT("Os horários das partidas devem terminar após o seu início."),
+    INVALID_TIME_SLOTS("Os horários das partidas devem terminar após o seu início e não podem se sobrepor."),
+    NOT_ENOUGH_TEAMS_FOR_BRACKET("O evento esportivo precisa de participantes de ao menos '%d' equipes para gerar o chaveamento."),
+    NOT_ENOUGH_TIME_SLOTS("São necessários '%d' horários para gerar as partidas, mas apenas '%d' foram informados."),
+    PLAYER_SCHEDULE_CONFLICT("O participante '%d' já está na partida '%d', que possui um horário sobreposto."),
     PLAYERS_FROM_SINGLE_TEAM_IN_MATCH("Há apenas jogadores da equipe '%s' na partida."),
+    UNDEFINED_MATCH_WINNER("A partida '%d' terminou empatada e não possui um vencedor definido."),
 
     // EVENT MESSAGES
     SPORT_EVENT_NOT_FOUND("Evento esportivo não encontrado."),
@@ -43,6 +52,11 @@ public enum ExceptionMessages {
     NO_MATCHES_TO_FINISH("O evento esportivo precisa de '%d' partidas marcadas para encerrar."),
     NO_MATCHES_TO_START("Evento esportivo precisa de '%d' partidas marcadas para começar."),
 
+    // EDITION MESSAGES
+    EDITION_ALREADY_IN_PROGRESS("Apenas uma edição de cada vez pode ter o status 'IN_PROGRESS'."),
+    INVALID_OPERATION_ON_ENDED_EDITION("Operações não podem ser realizadas em edições já encerradas."),
+    INVALID_STATUS_TO_ARCHIVE("Apenas edições com o status 'ENDED' podem ser arquivadas."),
+
     // PARTICIPANT MESSAGES
     PARTICIPANT_NOT_FOUND("Participante não encontrado."),
     INVALID_CLASS_NUMBER("Número de turma inválido."),
@@ -50,17 +64,31 @@ public enum ExceptionMessages {
     PARTICIPANT_INVALID_FOR_MATCH("Participante com id '%d' não pertence a nenhuma equipe da partida."),
 
     // ACTION MESSAGES
+    ACTION_KEY_ALREADY_REGISTERED("Uma das ações enviadas já foi registrada na partida '%d' por outra requisição."),
     GOAL_NOT_FOUND("Gol não encontrado."),
+    MISSING_PENALTY_CARD_COLOR("O cartão de penalidade '%s' não possui uma cor."),
     PENALTY_CARD_NOT_FOUND("Cartão de penalidade não encontrado."),
     UNSUPPORTED_FOR_GOALS("Esporte não suportado para gols."),
     UNSUPPORTED_FOR_PENALTY_CARDS("Esporte não suportado para cartões."),
 
+    // JOB MESSAGES
+    RECOMPUTE_JOB_NOT_FOUND("Recálculo não encontrado."),
+    RECOMPUTE_JOB_ALREADY_COMPLETED("O recálculo '%d' já foi concluído."),
+    RECOMPUTE_JOB_ALREADY_RUNNING("Já existe um recálculo em execução."),
+
     // EXTRAS
     CANNOT_UPDATE_STATUS("Status '%s' só pode ser alterado para '%s'."),
+    IDEMPOTENCY_KEY_IN_PROGRESS("A requisição com a chave de idempotência '%s' ainda está sendo processada."),
+    IDEMPOTENCY_KEY_REUSED("A chave de idempotência '%s' já foi utilizada em uma requisição diferente."),
+    INVALID_CURSOR("Cursor de paginação inválido."),
+    INVALID_EXPORT_DATASET("Conjunto de dados não identificado ou não suportado para exportação."),
+    INVALID_EXPORT_FORMAT("Formato de exportação não identificado ou não suportado."),
+    INVALID_IDEMPOTENCY_KEY("A chave de idempotência deve possuir entre 1 e %d caracteres."),
     INVALID_PATTERN("Padrão inválido para '%s'."),
     INVALID_SPORT("Modalidade esportiva não identificada ou não suportada."),
     INVALID_STATUS("Status não identificado ou não suportado."),
-    INVALID_TEAM("Equeipe inválida ou não identificada.");
+    INVALID_TEAM("Equeipe inválida ou não identificada."),
+    SCOREBOARD_UNAVAILABLE("O placar está sobrecarregado no momento, tente novamente em instantes.");
 
     /**
      * Valor interno das constantes de {@link ExceptionMessages} contendo suas
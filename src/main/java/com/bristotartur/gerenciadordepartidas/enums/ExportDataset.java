@@ -0,0 +1,43 @@
+package com.bristotartur.gerenciadordepartidas.enums;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ExportedGoal;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ExportedMatch;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ExportedPenaltyCard;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumeração contendo os conjuntos de dados que podem ser exportados, cada um associado ao tipo de suas linhas.
+ *
+ * <ul>
+ *     <li>MATCHES: Partidas, representadas por {@link ExportedMatch}.</li>
+ *     <li>GOALS: Gols, representados por {@link ExportedGoal}.</li>
+ *     <li>PENALTY_CARDS: Cartões de penalidade, representados por {@link ExportedPenaltyCard}.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public enum ExportDataset {
+    MATCHES(ExportedMatch.class),
+    GOALS(ExportedGoal.class),
+    PENALTY_CARDS(ExportedPenaltyCard.class);
+
+    public final Class<? extends Record> type;
+
+    /**
+     * Busca por uma das constantes deste enum com base em seu nome, aceitando letras minúsculas e espaçamentos
+     * feitos com "-", como em "penalty-cards".
+     *
+     * @param dataset Valor correspondente as constantes deste enum.
+     * @return A constante correspondente ao valor fornecido.
+     * @throws BadRequestException Caso o valor fornecido não corresponda a nenhuma das constantes do enum.
+     */
+    public static ExportDataset findDatasetLike(String dataset) {
+
+        try {
+            return valueOf(dataset.replace("-", "_").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ExceptionMessages.INVALID_EXPORT_DATASET.message, e);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.bristotartur.gerenciadordepartidas.enums;
+
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumeração contendo os formatos de exportação disponíveis, cada um associado ao seu tipo de mídia e à
+ * extensão dos arquivos gerados.
+ *
+ * <ul>
+ *     <li>CSV: Valores separados por vírgula, com uma linha de cabeçalho contendo o nome das colunas.</li>
+ *     <li>NDJSON: Um objeto JSON por linha.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    public final String mediaType;
+    public final String extension;
+
+    /**
+     * Busca por uma das constantes deste enum com base em seu nome, desconsiderando letras maiúsculas e minúsculas.
+     *
+     * @param format Valor correspondente as constantes deste enum.
+     * @return A constante correspondente ao valor fornecido.
+     * @throws BadRequestException Caso o valor fornecido não corresponda a nenhuma das constantes do enum.
+     */
+    public static ExportFormat findFormatLike(String format) {
+
+        try {
+            return valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ExceptionMessages.INVALID_EXPORT_FORMAT.message, e);
+        }
+    }
+
+}
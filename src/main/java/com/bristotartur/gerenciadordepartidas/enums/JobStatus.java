@@ -0,0 +1,16 @@
+package com.bristotartur.gerenciadordepartidas.enums;
+
+/**
+ * Enumeração contendo os estados de uma tarefa em segundo plano.
+ *
+ * <ul>
+ *     <li>RUNNING: A tarefa está em execução, ou foi interrompida e ainda não foi retomada.</li>
+ *     <li>COMPLETED: Todas as etapas da tarefa foram concluídas.</li>
+ *     <li>FAILED: A execução terminou com etapas pendentes, que podem ser processadas ao retomar a tarefa.</li>
+ * </ul>
+ */
+public enum JobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
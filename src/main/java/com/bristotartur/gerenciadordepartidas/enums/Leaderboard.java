@@ -0,0 +1,34 @@
+package com.bristotartur.gerenciadordepartidas.enums;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Enumeração contendo as classificações de jogadores disponíveis. Cada classificação define quais jogadores
+ * fazem parte dela e a ordem em que eles são apresentados, sendo os empates desfeitos pelo nome do jogador.
+ *
+ * <ul>
+ *     <li>TOP_SCORERS: Artilharia, contendo os jogadores com mais gols.</li>
+ *     <li>DISCIPLINE: Disciplina, contendo os jogadores com mais cartões vermelhos e, em seguida, amarelos.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public enum Leaderboard {
+    TOP_SCORERS(
+            dto -> dto.goals() > 0,
+            Comparator.comparing(ResponsePlayerStatisticsDto::goals).reversed()
+                    .thenComparing(ResponsePlayerStatisticsDto::matchesPlayed)
+    ),
+    DISCIPLINE(
+            dto -> dto.redCards() + dto.yellowCards() > 0,
+            Comparator.comparing(ResponsePlayerStatisticsDto::redCards).reversed()
+                    .thenComparing(Comparator.comparing(ResponsePlayerStatisticsDto::yellowCards).reversed())
+    );
+
+    public final Predicate<ResponsePlayerStatisticsDto> filter;
+    public final Comparator<ResponsePlayerStatisticsDto> order;
+
+}
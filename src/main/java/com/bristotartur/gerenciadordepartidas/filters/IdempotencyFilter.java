@@ -0,0 +1,269 @@
+package com.bristotartur.gerenciadordepartidas.filters;
+
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.utils.ExpiringCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Filtro que torna idempotentes as requisições {@code POST} e {@code PUT} que possuam o cabeçalho
+ * {@code Idempotency-Key}, permitindo que clientes com conexões instáveis repitam uma requisição sem que ela
+ * seja processada mais de uma vez. A primeira requisição com uma chave é processada normalmente e, caso seja
+ * bem-sucedida, a sua resposta é armazenada junto da impressão digital da requisição, calculada a partir do
+ * método, do caminho, dos parâmetros e do corpo enviados. As repetições recebem a resposta armazenada, com o
+ * cabeçalho {@code Idempotent-Replayed}, sem que o banco de dados seja acessado.</p>
+ *
+ * <p>Uma chave reutilizada em uma requisição diferente resulta em um {@code 422 Unprocessable Entity}, e uma
+ * repetição enviada enquanto a requisição original ainda é processada resulta em um {@code 409 Conflict}.
+ * Respostas de erro não são armazenadas, liberando a chave para que a requisição possa ser repetida. Requisições
+ * sem o cabeçalho não são afetadas.</p>
+ *
+ * <p>As chaves são associadas ao cliente que as enviou, identificado pelo usuário autenticado ou, na sua
+ * ausência, pelo endereço de origem da requisição, de forma que clientes distintos possam utilizar as mesmas
+ * chaves sem receber a resposta um do outro. Quando a API estiver atrás de um proxy, o endereço do cliente
+ * depende de {@code server.forward-headers-strategy}.</p>
+ *
+ * <p>As respostas são mantidas em um {@link ExpiringCache}, de forma que o consumo de memória seja limitado e
+ * que cada chave só possa ser repetida durante o tempo de expiração configurado.</p>
+ *
+ * @see com.bristotartur.gerenciadordepartidas.configs.IdempotencyConfig
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("POST", "PUT");
+    private static final Set<String> IGNORED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(), HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.DATE.toLowerCase()
+    );
+
+    private final ExpiringCache<String, StoredRequest> store;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    /**
+     * Representa uma requisição já recebida com uma chave de idempotência.
+     *
+     * @param fingerprint Impressão digital da requisição.
+     * @param response Resposta da requisição, ou null caso ela ainda esteja sendo processada.
+     */
+    public record StoredRequest(String fingerprint, StoredResponse response) {
+    }
+
+    /**
+     * Representa a resposta armazenada de uma requisição bem-sucedida.
+     *
+     * @param status Código de status HTTP da resposta.
+     * @param headers Cabeçalhos da resposta.
+     * @param body Corpo da resposta.
+     */
+    public record StoredResponse(int status, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !IDEMPOTENT_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        var key = request.getHeader(IDEMPOTENCY_KEY);
+
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            var message = ExceptionMessages.INVALID_IDEMPOTENCY_KEY.message.formatted(MAX_KEY_LENGTH);
+            exceptionResolver.resolveException(request, response, null, new BadRequestException(message));
+            return;
+        }
+        var body = request.getInputStream().readAllBytes();
+        var fingerprint = this.createFingerprint(request, body);
+        var storeKey = this.createStoreKey(request, key);
+        var storedRequest = store.putIfAbsent(storeKey, new StoredRequest(fingerprint, null));
+
+        if (storedRequest != null) {
+            this.replay(key, fingerprint, storedRequest, request, response);
+            return;
+        }
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        var stored = false;
+
+        try {
+            filterChain.doFilter(new CachedBodyRequestWrapper(request, body), responseWrapper);
+
+            if (HttpStatusCode.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                store.put(storeKey, new StoredRequest(fingerprint, this.createStoredResponse(responseWrapper)));
+                stored = true;
+            }
+            responseWrapper.copyBodyToResponse();
+        } finally {
+            if (!stored) store.remove(storeKey);
+        }
+    }
+
+    private String createStoreKey(HttpServletRequest request, String key) {
+
+        var caller = (request.getRemoteUser() != null)
+                ? "user:" + request.getRemoteUser()
+                : "address:" + request.getRemoteAddr();
+
+        return caller + "\n" + key;
+    }
+
+    private void replay(String key,
+                        String fingerprint,
+                        StoredRequest storedRequest,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+
+        if (!storedRequest.fingerprint().equals(fingerprint)) {
+            var message = ExceptionMessages.IDEMPOTENCY_KEY_REUSED.message.formatted(key);
+            exceptionResolver.resolveException(request, response, null, new UnprocessableEntityException(message));
+            return;
+        }
+        var storedResponse = storedRequest.response();
+
+        if (storedResponse == null) {
+            var message = ExceptionMessages.IDEMPOTENCY_KEY_IN_PROGRESS.message.formatted(key);
+            exceptionResolver.resolveException(request, response, null, new ConflictException(message));
+            return;
+        }
+        response.setStatus(storedResponse.status());
+        storedResponse.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+
+        log.info("Request '{} {}' with Idempotency-Key '{}' was replayed.", request.getMethod(), request.getRequestURI(), key);
+    }
+
+    private StoredResponse createStoredResponse(ContentCachingResponseWrapper responseWrapper) {
+
+        var headers = new LinkedHashMap<String, List<String>>();
+
+        responseWrapper.getHeaderNames().stream()
+                .distinct()
+                .filter(name -> !IGNORED_HEADERS.contains(name.toLowerCase()))
+                .forEach(name -> headers.put(name, new ArrayList<>(responseWrapper.getHeaders(name))));
+
+        if (responseWrapper.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(responseWrapper.getContentType()));
+        }
+        return new StoredResponse(responseWrapper.getStatus(), headers, responseWrapper.getContentAsByteArray());
+    }
+
+    private String createFingerprint(HttpServletRequest request, byte[] body) {
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            var target = request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n";
+
+            digest.update(target.getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Requisição cujo corpo já foi lido pelo filtro, permitindo que ele seja lido novamente pelos controladores.
+     * Como o corpo já está inteiramente em memória, a leitura assíncrona notifica o {@link ReadListener}
+     * imediatamente, sem aguardar a chegada de novos dados.
+     */
+    private static class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequestWrapper(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+
+            var inputStream = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+
+                    try {
+                        if (!this.isFinished()) readListener.onDataAvailable();
+                        if (this.isFinished()) readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+
+            var encoding = this.getCharacterEncoding();
+            var charset = (encoding != null) ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+
+            return new BufferedReader(new InputStreamReader(this.getInputStream(), charset));
+        }
+
+    }
+
+}
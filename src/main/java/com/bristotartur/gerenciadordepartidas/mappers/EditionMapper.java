@@ -20,6 +20,8 @@ public interface EditionMapper {
     @Mapping(target = "participants", ignore = true)
     @Mapping(target = "taskEvents", ignore = true)
     @Mapping(target = "sportEvents", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "inProgressLock", ignore = true)
     Edition toNewEdition(RequestEditionDto dto);
 
     @Mapping(target = "opening", source = "dto.opening")
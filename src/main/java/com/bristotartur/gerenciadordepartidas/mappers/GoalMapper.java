@@ -28,6 +28,7 @@ public interface GoalMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "player", source = "player")
     @Mapping(target = "team", source = "player.team")
+    @Mapping(target = "actionKey", ignore = true)
     Goal toNewGoal(RequestGoalDto dto, Participant player, Match match);
 
     /**
@@ -42,6 +43,7 @@ public interface GoalMapper {
     @Mapping(target = "id", source = "id")
     @Mapping(target = "player", source = "player")
     @Mapping(target = "team", source = "player.team")
+    @Mapping(target = "actionKey", ignore = true)
     Goal toExistingGoal(Long id, RequestGoalDto dto, Participant player, Match match);
 
     /**
@@ -55,4 +57,4 @@ public interface GoalMapper {
     @Mapping(target = "team", source = "player.team")
     ResponseGoalDto toNewExposingGoalDto(Goal goal);
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -34,6 +34,9 @@ public interface MatchMapper {
     @Mapping(target = "teamScoreB", constant = "0")
     @Mapping(target = "modality", source = "dto.modality")
     @Mapping(target = "matchStatus", expression = "java(com.bristotartur.gerenciadordepartidas.enums.Status.SCHEDULED)")
+    @Mapping(target = "venue", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "inProgressEventId", ignore = true)
     Match toNewMatch(RequestMatchDto dto, List<Participant> players, SportEvent event);
 
     /**
@@ -55,6 +58,9 @@ public interface MatchMapper {
     @Mapping(target = "matchStatus", source = "match.matchStatus")
     @Mapping(target = "matchStart", source = "dto.matchStart")
     @Mapping(target = "matchEnd", source = "dto.matchEnd")
+    @Mapping(target = "venue", source = "match.venue")
+    @Mapping(target = "lastModified", source = "match.lastModified")
+    @Mapping(target = "inProgressEventId", source = "match.inProgressEventId")
     Match toExistingMatch(Long id, RequestMatchDto dto, Match match, List<Participant> players, SportEvent event);
 
     /**
@@ -29,6 +29,7 @@ public interface PenaltyCardMapper {
     @Mapping(target = "color", source = "dto.color")
     @Mapping(target = "player", source = "player")
     @Mapping(target = "team", source = "player.team")
+    @Mapping(target = "actionKey", ignore = true)
     PenaltyCard toNewPenaltyCard(RequestPenaltyCardDto dto, Participant player, Match match);
 
     /**
@@ -44,6 +45,7 @@ public interface PenaltyCardMapper {
     @Mapping(target = "color", source = "dto.color")
     @Mapping(target = "player", source = "player")
     @Mapping(target = "team", source = "player.team")
+    @Mapping(target = "actionKey", ignore = true)
     PenaltyCard toExistingPenaltyCard(Long id, RequestPenaltyCardDto dto, Participant player, Match match);
 
     /**
@@ -0,0 +1,14 @@
+package com.bristotartur.gerenciadordepartidas.mappers;
+
+import com.bristotartur.gerenciadordepartidas.domain.jobs.RecomputeJob;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseRecomputeJobDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface RecomputeJobMapper {
+
+    @Mapping(target = "recomputeJobId", source = "id")
+    ResponseRecomputeJobDto toNewExposingRecomputeJobDto(RecomputeJob recomputeJob);
+
+}
@@ -19,6 +19,8 @@ public interface SportEventMapper {
     @Mapping(target = "eventStatus", expression = "java(Status.SCHEDULED)")
     @Mapping(target = "matches", ignore = true)
     @Mapping(target = "participants", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
+    @Mapping(target = "matchCounters", ignore = true)
     SportEvent toNewSportEvent(RequestSportEventDto dto, Edition edition);
 
     @Mapping(target = "id", source = "id")
@@ -27,6 +29,8 @@ public interface SportEventMapper {
     @Mapping(target = "totalMatches", source = "dto.totalMatches")
     @Mapping(target = "edition", source = "edition")
     @Mapping(target = "participants", source = "sportEvent.participants")
+    @Mapping(target = "lastModified", source = "sportEvent.lastModified")
+    @Mapping(target = "matchCounters", source = "sportEvent.matchCounters")
     SportEvent toExistingSportEvent(Long id, RequestSportEventDto dto, SportEvent sportEvent, Edition edition);
 
     @Mapping(target = "sportEventId", source = "sportEvent.id")
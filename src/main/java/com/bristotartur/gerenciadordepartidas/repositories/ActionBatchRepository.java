@@ -0,0 +1,69 @@
+package com.bristotartur.gerenciadordepartidas.repositories;
+
+import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * <p>Repositório responsável pela inserção em lote de gols e cartões de penalidade através do JDBC. Como as
+ * ações utilizam identificadores gerados pelo banco de dados, o Hibernate realiza uma instrução de inserção por
+ * entidade persistida, enquanto este repositório agrupa as inserções em lotes do tamanho configurado em
+ * {@code hibernate.jdbc.batch_size}.</p>
+ *
+ * <p>As inserções participam da transação atual, mas não são refletidas no contexto de persistência. Por isso,
+ * as partidas e jogadores associados as ações já devem estar persistidos.</p>
+ */
+@Repository
+public class ActionBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ActionBatchRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Insere os gols fornecidos em lotes.
+     *
+     * @param goals Gols que serão inseridos, sem ID.
+     */
+    public void insertGoals(List<Goal> goals) {
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO GOAL (goal_time, participant_id, team, match_id, action_key) VALUES (?, ?, ?, ?, ?)",
+                goals, batchSize, (statement, goal) -> {
+                    statement.setObject(1, goal.getGoalTime());
+                    statement.setLong(2, goal.getPlayer().getId());
+                    statement.setString(3, goal.getTeam().name());
+                    statement.setLong(4, goal.getMatch().getId());
+                    statement.setString(5, goal.getActionKey());
+                });
+    }
+
+    /**
+     * Insere os cartões de penalidade fornecidos em lotes.
+     *
+     * @param penaltyCards Cartões de penalidade que serão inseridos, sem ID.
+     */
+    public void insertPenaltyCards(List<PenaltyCard> penaltyCards) {
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO PENALTY_CARD (color, penalty_card_time, participant_id, team, match_id, action_key) VALUES (?, ?, ?, ?, ?, ?)",
+                penaltyCards, batchSize, (statement, penaltyCard) -> {
+                    statement.setString(1, penaltyCard.getColor().name());
+                    statement.setObject(2, penaltyCard.getPenaltyCardTime());
+                    statement.setLong(3, penaltyCard.getPlayer().getId());
+                    statement.setString(4, penaltyCard.getTeam().name());
+                    statement.setLong(5, penaltyCard.getMatch().getId());
+                    statement.setString(6, penaltyCard.getActionKey());
+                });
+    }
+
+}
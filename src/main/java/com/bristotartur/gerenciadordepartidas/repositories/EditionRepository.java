@@ -2,7 +2,12 @@ package com.bristotartur.gerenciadordepartidas.repositories;
 
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,6 +15,20 @@ import java.util.Optional;
 @Repository
 public interface EditionRepository extends JpaRepository<Edition, Long> {
 
-    Optional<Edition> findByEditionStatus(Status status);
+    Slice<Edition> findAllBy(Pageable pageable);
+
+    @Query("SELECT e.editionStatus FROM Edition e WHERE e.id = :id")
+    Optional<Status> findEditionStatusById(@Param("id") Long id);
+
+    /**
+     * Preenche a coluna única de edições em andamento das edições com o status informado que ainda não a
+     * possuem, como as edições registradas antes da existência da coluna.
+     *
+     * @param status Status das edições em andamento.
+     * @return A quantidade de edições atualizadas.
+     */
+    @Modifying
+    @Query("UPDATE Edition e SET e.inProgressLock = true WHERE e.editionStatus = :status AND e.inProgressLock IS NULL")
+    int fillInProgressLocks(@Param("status") Status status);
 
 }
@@ -1,13 +1,22 @@
 package com.bristotartur.gerenciadordepartidas.repositories;
 
 import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ExportedGoal;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface GoalRepository extends JpaRepository<Goal, Long> {
 
@@ -21,4 +30,109 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
     @Query("SELECT g FROM Goal g WHERE g.match.id = :matchId")
     Page<Goal> findMatchGoals(@Param("matchId") Long matchId, Pageable pageable);
 
+    /**
+     * Busca por todos os gols relacionados a uma determinada partida, sem realizar a consulta de contagem.
+     *
+     * @param matchId Identificador único da partida.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo os gols relacionados a partida especificada.
+     */
+    @Query("SELECT g FROM Goal g WHERE g.match.id = :matchId")
+    Slice<Goal> findMatchGoalsSlice(@Param("matchId") Long matchId, Pageable pageable);
+
+    /**
+     * Retorna uma fatia dos gols disponíveis no sistema, sem realizar a consulta de contagem.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo os gols para a página especificada.
+     */
+    Slice<Goal> findAllBy(Pageable pageable);
+
+    /**
+     * Busca pelos gols posteriores a um determinado ID, sendo utilizada na paginação por keyset.
+     * Nenhuma consulta de contagem é realizada.
+     *
+     * @param id Identificador único do último gol retornado.
+     * @param pageable Um {@link Pageable} contendo apenas o limite de gols a serem retornados.
+     * @return Uma lista contendo os gols posteriores ao ID informado.
+     */
+    @Query("SELECT g FROM Goal g WHERE g.id > :id ORDER BY g.id")
+    List<Goal> findGoalsAfterKeyset(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Busca por todos os gols das partidas de uma determinada edição em uma única consulta.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Uma lista contendo todos os gols da edição.
+     */
+    @Query("SELECT g FROM Goal g WHERE g.match.event.edition.id = :editionId ORDER BY g.id")
+    List<Goal> findEditionGoals(@Param("editionId") Long editionId);
+
+
+    /**
+     * Percorre os gols de uma edição através de um cursor do banco de dados, convertendo cada linha
+     * diretamente em um {@link ExportedGoal}. O {@link Stream} retornado deve ser consumido e fechado dentro
+     * de uma transação.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Um {@link Stream} contendo os gols, ordenados pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedGoal(
+                g.id, m.id, e.id, e.type, g.goalTime, p.id, p.name, g.team
+            )
+            FROM Goal g JOIN g.match m JOIN m.event e JOIN g.player p
+            WHERE e.edition.id = :editionId
+            ORDER BY g.id
+            """)
+    Stream<ExportedGoal> exportEditionGoals(@Param("editionId") Long editionId);
+
+    /**
+     * Percorre os gols de um evento esportivo através de um cursor do banco de dados, convertendo cada linha
+     * diretamente em um {@link ExportedGoal}. O {@link Stream} retornado deve ser consumido e fechado dentro
+     * de uma transação.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo os gols, ordenados pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedGoal(
+                g.id, m.id, e.id, e.type, g.goalTime, p.id, p.name, g.team
+            )
+            FROM Goal g JOIN g.match m JOIN m.event e JOIN g.player p
+            WHERE e.id = :eventId
+            ORDER BY g.id
+            """)
+    Stream<ExportedGoal> exportEventGoals(@Param("eventId") Long eventId);
+
+    /**
+     * Percorre os gols de todos os eventos de uma modalidade esportiva através de um cursor do banco de
+     * dados, convertendo cada linha diretamente em um {@link ExportedGoal}. O {@link Stream} retornado deve
+     * ser consumido e fechado dentro de uma transação.
+     *
+     * @param sport Modalidade esportiva dos eventos.
+     * @return Um {@link Stream} contendo os gols, ordenados pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedGoal(
+                g.id, m.id, e.id, e.type, g.goalTime, p.id, p.name, g.team
+            )
+            FROM Goal g JOIN g.match m JOIN m.event e JOIN g.player p
+            WHERE e.type = :sport
+            ORDER BY g.id
+            """)
+    Stream<ExportedGoal> exportSportGoals(@Param("sport") Sports sport);
+
+    /**
+     * Busca pelas chaves de idempotência dos gols registrados em lote em uma determinada partida.
+     *
+     * @param matchId Identificador único da partida.
+     * @return As chaves de idempotência já registradas na partida.
+     */
+    @Query("SELECT g.actionKey FROM Goal g WHERE g.match.id = :matchId AND g.actionKey IS NOT NULL")
+    List<String> findMatchActionKeys(@Param("matchId") Long matchId);
+
 }
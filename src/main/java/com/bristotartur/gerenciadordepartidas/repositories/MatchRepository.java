@@ -2,15 +2,26 @@ package com.bristotartur.gerenciadordepartidas.repositories;
 
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ExportedMatch;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface MatchRepository<T extends Match> extends JpaRepository<T, Long> {
 
@@ -43,4 +54,208 @@ public interface MatchRepository<T extends Match> extends JpaRepository<T, Long>
     @Query("SELECT p FROM Participant p JOIN p.matches m WHERE m.id = :id")
     Page<Participant> findMatchPlayers(@Param("id") Long id, Pageable pageable);
 
+    /**
+     * Retorna uma fatia de todos os jogadores associados a uma determinada instância de {@link Match},
+     * sem realizar a consulta de contagem.
+     *
+     * @param id Identificador único da partida.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo os jogadores associados a partida.
+     */
+    @Query("SELECT p FROM Participant p JOIN p.matches m WHERE m.id = :id")
+    Slice<Participant> findMatchPlayersSlice(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Retorna uma fatia de todas as instâncias do tipo de partida gerenciado por este repositório,
+     * sem realizar a consulta de contagem.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo as partidas para a página especificada.
+     */
+    Slice<T> findAllBy(Pageable pageable);
+
+    /**
+     * Retorna uma lista paginada das partidas relacionadas a um determinado evento esportivo.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Page} contendo as partidas do evento especificado.
+     */
+    @Query("SELECT m FROM Match m WHERE m.event.id = :eventId")
+    Page<Match> findEventMatches(@Param("eventId") Long eventId, Pageable pageable);
+
+    /**
+     * Retorna uma fatia das partidas relacionadas a um determinado evento esportivo, sem realizar a
+     * consulta de contagem.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo as partidas do evento especificado.
+     */
+    @Query("SELECT m FROM Match m WHERE m.event.id = :eventId")
+    Slice<Match> findEventMatchesSlice(@Param("eventId") Long eventId, Pageable pageable);
+
+    /**
+     * Busca pelas primeiras partidas do sistema ordenadas pelo horário de início e pelo ID, servindo
+     * como ponto de partida para a paginação por keyset. Nenhuma consulta de contagem é realizada.
+     *
+     * @param pageable Um {@link Pageable} contendo apenas o limite de partidas a serem retornadas.
+     * @return Uma lista contendo as primeiras partidas na ordenação.
+     */
+    @Query("SELECT m FROM Match m ORDER BY m.matchStart, m.id")
+    List<Match> findFirstMatchesByKeyset(Pageable pageable);
+
+    /**
+     * Busca pelas partidas posteriores a uma determinada posição na ordenação por horário de início e ID,
+     * sendo utilizada na paginação por keyset. Nenhuma consulta de contagem é realizada.
+     *
+     * @param matchStart Horário de início da última partida retornada.
+     * @param id Identificador único da última partida retornada.
+     * @param pageable Um {@link Pageable} contendo apenas o limite de partidas a serem retornadas.
+     * @return Uma lista contendo as partidas posteriores a posição informada.
+     */
+    @Query("""
+            SELECT m FROM Match m
+            WHERE m.matchStart > :matchStart OR (m.matchStart = :matchStart AND m.id > :id)
+            ORDER BY m.matchStart, m.id
+            """)
+    List<Match> findMatchesAfterKeyset(@Param("matchStart") LocalDateTime matchStart,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /**
+     * Busca por todas as partidas dos eventos esportivos de uma determinada edição em uma única consulta,
+     * ordenadas pelo horário de início.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Uma lista contendo todas as partidas da edição.
+     */
+    @Query("SELECT m FROM Match m WHERE m.event.edition.id = :editionId ORDER BY m.matchStart, m.id")
+    List<Match> findEditionMatches(@Param("editionId") Long editionId);
+
+    /**
+     * Busca pelos horários de todas as partidas e seus jogadores, sendo cada linha composta pelo ID da partida,
+     * seu início, seu fim e o ID de um de seus jogadores.
+     *
+     * @return Uma lista contendo uma linha para cada jogador de cada partida.
+     */
+    @Query("SELECT m.id, m.matchStart, m.matchEnd, p.id FROM Match m JOIN m.players p")
+    List<Object[]> findMatchPlayerSchedules();
+
+    /**
+     * Busca por todas as partidas de uma edição, carregando os seus eventos e jogadores na mesma consulta.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Uma lista contendo as partidas da edição e seus jogadores.
+     */
+    @Query("""
+            SELECT DISTINCT m FROM Match m JOIN FETCH m.event LEFT JOIN FETCH m.players
+            WHERE m.event.id IN (SELECT s.id FROM SportEvent s WHERE s.edition.id = :editionId)
+            """)
+    List<Match> findEditionMatchesWithPlayers(@Param("editionId") Long editionId);
+
+    /**
+     * Percorre as partidas de um evento esportivo sem carregá-las todas em memória, através de um cursor do
+     * banco de dados. As partidas são carregadas apenas para leitura, e o {@link Stream} retornado deve ser
+     * consumido e fechado dentro de uma transação.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo as partidas do evento.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Match m WHERE m.event.id = :eventId")
+    Stream<Match> streamEventMatches(@Param("eventId") Long eventId);
+
+
+    /**
+     * Percorre as partidas de uma edição através de um cursor do banco de dados, convertendo cada linha
+     * diretamente em um {@link ExportedMatch}. O {@link Stream} retornado deve ser consumido e fechado dentro
+     * de uma transação.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Um {@link Stream} contendo as partidas, ordenadas pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedMatch(
+                m.id, e.edition.id, e.id, e.type, m.modality, m.matchImportance, m.teamA, m.teamB,
+                m.teamScoreA, m.teamScoreB, m.matchStatus, m.matchStart, m.matchEnd, m.venue
+            )
+            FROM Match m JOIN m.event e
+            WHERE e.edition.id = :editionId
+            ORDER BY m.id
+            """)
+    Stream<ExportedMatch> exportEditionMatches(@Param("editionId") Long editionId);
+
+    /**
+     * Percorre as partidas de um evento esportivo através de um cursor do banco de dados, convertendo cada
+     * linha diretamente em um {@link ExportedMatch}. O {@link Stream} retornado deve ser consumido e fechado
+     * dentro de uma transação.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo as partidas, ordenadas pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedMatch(
+                m.id, e.edition.id, e.id, e.type, m.modality, m.matchImportance, m.teamA, m.teamB,
+                m.teamScoreA, m.teamScoreB, m.matchStatus, m.matchStart, m.matchEnd, m.venue
+            )
+            FROM Match m JOIN m.event e
+            WHERE e.id = :eventId
+            ORDER BY m.id
+            """)
+    Stream<ExportedMatch> exportEventMatches(@Param("eventId") Long eventId);
+
+    /**
+     * Percorre as partidas de todos os eventos de uma modalidade esportiva através de um cursor do banco de
+     * dados, convertendo cada linha diretamente em um {@link ExportedMatch}. O {@link Stream} retornado deve
+     * ser consumido e fechado dentro de uma transação.
+     *
+     * @param sport Modalidade esportiva dos eventos.
+     * @return Um {@link Stream} contendo as partidas, ordenadas pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedMatch(
+                m.id, e.edition.id, e.id, e.type, m.modality, m.matchImportance, m.teamA, m.teamB,
+                m.teamScoreA, m.teamScoreB, m.matchStatus, m.matchStart, m.matchEnd, m.venue
+            )
+            FROM Match m JOIN m.event e
+            WHERE e.type = :sport
+            ORDER BY m.id
+            """)
+    Stream<ExportedMatch> exportSportMatches(@Param("sport") Sports sport);
+
+    /**
+     * Soma os pontos informados ao placar de uma partida em uma única instrução, sem sobrescrever pontos
+     * somados por outras transações concorrentes. Como a instrução não passa pelo contexto de persistência,
+     * a partida deve ser recarregada caso esteja sendo gerenciada.
+     *
+     * @param id Identificador único da partida.
+     * @param pointsA Pontos somados ao placar da equipe A.
+     * @param pointsB Pontos somados ao placar da equipe B.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Match m
+            SET m.teamScoreA = m.teamScoreA + :pointsA, m.teamScoreB = m.teamScoreB + :pointsB, m.lastModified = instant
+            WHERE m.id = :id
+            """)
+    void addToScore(@Param("id") Long id, @Param("pointsA") Integer pointsA, @Param("pointsB") Integer pointsB);
+
+    /**
+     * Preenche a coluna única de partidas em andamento com o ID do evento de cada partida com o status
+     * informado que ainda não a possui, como as partidas registradas antes da existência da coluna.
+     *
+     * @param status Status das partidas em andamento.
+     * @return A quantidade de partidas atualizadas.
+     */
+    @Modifying
+    @Query("UPDATE Match m SET m.inProgressEventId = m.event.id WHERE m.matchStatus = :status AND m.inProgressEventId IS NULL")
+    int fillInProgressEventIds(@Param("status") Status status);
+
 }
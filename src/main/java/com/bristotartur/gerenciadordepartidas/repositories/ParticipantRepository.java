@@ -5,6 +5,7 @@ import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,14 +17,30 @@ import java.util.List;
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
 
     /**
-     * Realiza uma query para retornar uma lista paginada contendo entidades do tipo {@link Participant}
-     * que tenham o nome semelhante ao fornecido na base de dados.
+     * Busca pelo ID e pelo nome de todos os participantes, sendo cada linha composta pelo ID do participante
+     * e seu nome.
      *
-     * @param name Nome utilizado na pesquisa.
-     * @return Uma {@link Page} contendo os participantes com o nome parecido ao informado.
+     * @return Uma lista contendo uma linha para cada participante.
      */
-    @Query("SELECT p FROM Participant p WHERE p.name LIKE %:name%")
-    Page<Participant> findParticipantsByNameLike(@Param("name") String name, Pageable pageable);
+    @Query("SELECT p.id, p.name FROM Participant p")
+    List<Object[]> findParticipantNames();
+
+    /**
+     * Retorna uma fatia dos participantes disponíveis no sistema, sem realizar a consulta de contagem.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo os participantes para a página especificada.
+     */
+    Slice<Participant> findAllBy(Pageable pageable);
+
+    /**
+     * Busca por todos os participantes de uma determinada edição.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Uma lista contendo todos os participantes da edição.
+     */
+    @Query("SELECT p FROM Participant p WHERE p.edition.id = :editionId")
+    List<Participant> findEditionParticipants(@Param("editionId") Long editionId);
 
     /**
      * Busca por todas as partidas associadas a uma entidade do tipo {@link Participant}.
@@ -44,6 +61,16 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     @Query("SELECT p FROM Participant p WHERE p.team = :team")
     Page<Participant> findTeamMembers(@Param("team") Team team, Pageable pageable);
 
+    /**
+     * Procura por todos os membros de uma determinada equipe, sem realizar a consulta de contagem.
+     *
+     * @param team Equipe utilizada na pesquisa.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo os participantes relacionados a equipe.
+     */
+    @Query("SELECT p FROM Participant p WHERE p.team = :team")
+    Slice<Participant> findTeamMembersSlice(@Param("team") Team team, Pageable pageable);
+
     /**
      * Retorna uma lista paginada de todos as partidas associados a uma determinada instância
      * de {@link Participant}.
@@ -55,4 +82,43 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     @Query("SELECT m FROM Match m JOIN m.players p WHERE p.id = :id")
     Page<Match> findParticipantMatches(@Param("id") Long id, Pageable pageable);
 
+    /**
+     * Retorna uma fatia das partidas associadas a uma determinada instância de {@link Participant},
+     * sem realizar a consulta de contagem.
+     *
+     * @param id Identificador único do participante.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo as partidas associadas ao participante.
+     */
+    @Query("SELECT m FROM Match m JOIN m.players p WHERE p.id = :id")
+    Slice<Match> findParticipantMatchesSlice(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Busca pelos primeiros participantes do sistema ordenados pelo nome e pelo ID, servindo como ponto
+     * de partida para a paginação por keyset. Nenhuma consulta de contagem é realizada.
+     *
+     * @param pageable Um {@link Pageable} contendo apenas o limite de participantes a serem retornados.
+     * @return Uma lista contendo os primeiros participantes na ordenação.
+     */
+    @Query("SELECT p FROM Participant p ORDER BY p.name, p.id")
+    List<Participant> findFirstParticipantsByKeyset(Pageable pageable);
+
+    /**
+     * Busca pelos participantes posteriores a uma determinada posição na ordenação por nome e ID, sendo
+     * utilizada na paginação por keyset. Nenhuma consulta de contagem é realizada.
+     *
+     * @param name Nome do último participante retornado.
+     * @param id Identificador único do último participante retornado.
+     * @param pageable Um {@link Pageable} contendo apenas o limite de participantes a serem retornados.
+     * @return Uma lista contendo os participantes posteriores a posição informada.
+     */
+    @Query("""
+            SELECT p FROM Participant p
+            WHERE p.name > :name OR (p.name = :name AND p.id > :id)
+            ORDER BY p.name, p.id
+            """)
+    List<Participant> findParticipantsAfterKeyset(@Param("name") String name,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
 }
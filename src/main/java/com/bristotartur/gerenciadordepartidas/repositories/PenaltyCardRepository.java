@@ -1,9 +1,118 @@
 package com.bristotartur.gerenciadordepartidas.repositories;
 
 import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ExportedPenaltyCard;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface PenaltyCardRepository extends JpaRepository<PenaltyCard, Long> {
+
+    /**
+     * Retorna uma fatia dos cartões de penalidade disponíveis no sistema, sem realizar a consulta
+     * de contagem.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo os cartões para a página especificada.
+     */
+    Slice<PenaltyCard> findAllBy(Pageable pageable);
+
+    /**
+     * Busca pelos cartões de penalidade posteriores a um determinado ID, sendo utilizada na paginação
+     * por keyset. Nenhuma consulta de contagem é realizada.
+     *
+     * @param id Identificador único do último cartão retornado.
+     * @param pageable Um {@link Pageable} contendo apenas o limite de cartões a serem retornados.
+     * @return Uma lista contendo os cartões posteriores ao ID informado.
+     */
+    @Query("SELECT c FROM PenaltyCard c WHERE c.id > :id ORDER BY c.id")
+    List<PenaltyCard> findPenaltyCardsAfterKeyset(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Busca por todos os cartões de penalidade das partidas de uma determinada edição em uma única consulta.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Uma lista contendo todos os cartões de penalidade da edição.
+     */
+    @Query("SELECT c FROM PenaltyCard c WHERE c.match.event.edition.id = :editionId ORDER BY c.id")
+    List<PenaltyCard> findEditionPenaltyCards(@Param("editionId") Long editionId);
+
+
+    /**
+     * Percorre os cartões de penalidade de uma edição através de um cursor do banco de dados, convertendo
+     * cada linha diretamente em um {@link ExportedPenaltyCard}. O {@link Stream} retornado deve ser consumido
+     * e fechado dentro de uma transação.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Um {@link Stream} contendo os cartões de penalidade, ordenados pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedPenaltyCard(
+                c.id, m.id, e.id, e.type, c.color, c.penaltyCardTime, p.id, p.name, c.team
+            )
+            FROM PenaltyCard c JOIN c.match m JOIN m.event e JOIN c.player p
+            WHERE e.edition.id = :editionId
+            ORDER BY c.id
+            """)
+    Stream<ExportedPenaltyCard> exportEditionPenaltyCards(@Param("editionId") Long editionId);
+
+    /**
+     * Percorre os cartões de penalidade de um evento esportivo através de um cursor do banco de dados,
+     * convertendo cada linha diretamente em um {@link ExportedPenaltyCard}. O {@link Stream} retornado deve
+     * ser consumido e fechado dentro de uma transação.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo os cartões de penalidade, ordenados pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedPenaltyCard(
+                c.id, m.id, e.id, e.type, c.color, c.penaltyCardTime, p.id, p.name, c.team
+            )
+            FROM PenaltyCard c JOIN c.match m JOIN m.event e JOIN c.player p
+            WHERE e.id = :eventId
+            ORDER BY c.id
+            """)
+    Stream<ExportedPenaltyCard> exportEventPenaltyCards(@Param("eventId") Long eventId);
+
+    /**
+     * Percorre os cartões de penalidade de todos os eventos de uma modalidade esportiva através de um cursor
+     * do banco de dados, convertendo cada linha diretamente em um {@link ExportedPenaltyCard}. O
+     * {@link Stream} retornado deve ser consumido e fechado dentro de uma transação.
+     *
+     * @param sport Modalidade esportiva dos eventos.
+     * @return Um {@link Stream} contendo os cartões de penalidade, ordenados pelo seu ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ExportedPenaltyCard(
+                c.id, m.id, e.id, e.type, c.color, c.penaltyCardTime, p.id, p.name, c.team
+            )
+            FROM PenaltyCard c JOIN c.match m JOIN m.event e JOIN c.player p
+            WHERE e.type = :sport
+            ORDER BY c.id
+            """)
+    Stream<ExportedPenaltyCard> exportSportPenaltyCards(@Param("sport") Sports sport);
+
+    /**
+     * Busca pelas chaves de idempotência dos cartões de penalidade registrados em lote em uma determinada partida.
+     *
+     * @param matchId Identificador único da partida.
+     * @return As chaves de idempotência já registradas na partida.
+     */
+    @Query("SELECT c.actionKey FROM PenaltyCard c WHERE c.match.id = :matchId AND c.actionKey IS NOT NULL")
+    List<String> findMatchActionKeys(@Param("matchId") Long matchId);
+
 }
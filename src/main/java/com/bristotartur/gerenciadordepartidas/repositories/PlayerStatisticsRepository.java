@@ -0,0 +1,169 @@
+package com.bristotartur.gerenciadordepartidas.repositories;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.people.PlayerStatistics;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto;
+import com.bristotartur.gerenciadordepartidas.enums.EventType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface PlayerStatisticsRepository extends JpaRepository<PlayerStatistics, Long> {
+
+    /**
+     * Busca pelos contadores de um participante em um determinado evento esportivo.
+     *
+     * @param playerId Identificador único do participante.
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Optional} contendo os contadores, caso existam.
+     */
+    @Query("SELECT s FROM PlayerStatistics s WHERE s.player.id = :playerId AND s.event.id = :eventId")
+    Optional<PlayerStatistics> findPlayerStatistics(@Param("playerId") Long playerId, @Param("eventId") Long eventId);
+
+    /**
+     * Busca pelos contadores de todos os participantes de um evento esportivo.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Os contadores dos participantes do evento.
+     */
+    @Query("SELECT s FROM PlayerStatistics s WHERE s.event.id = :eventId")
+    List<PlayerStatistics> findEventStatistics(@Param("eventId") Long eventId);
+
+    /**
+     * Soma os contadores de cada participante em um determinado evento esportivo.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Uma lista contendo a soma dos contadores de cada participante do evento.
+     */
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto(
+                p.id, p.name, p.team, SUM(s.goals), SUM(s.yellowCards), SUM(s.redCards), SUM(s.matchesPlayed))
+            FROM PlayerStatistics s JOIN s.player p
+            WHERE s.event.id = :eventId
+            GROUP BY p.id, p.name, p.team
+            """)
+    List<ResponsePlayerStatisticsDto> sumEventStatistics(@Param("eventId") Long eventId);
+
+    /**
+     * Soma os contadores de cada participante em todos os eventos esportivos de uma determinada edição.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Uma lista contendo a soma dos contadores de cada participante da edição.
+     */
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto(
+                p.id, p.name, p.team, SUM(s.goals), SUM(s.yellowCards), SUM(s.redCards), SUM(s.matchesPlayed))
+            FROM PlayerStatistics s JOIN s.player p JOIN s.event e
+            WHERE e.edition.id = :editionId
+            GROUP BY p.id, p.name, p.team
+            """)
+    List<ResponsePlayerStatisticsDto> sumEditionStatistics(@Param("editionId") Long editionId);
+
+    /**
+     * Soma os contadores de cada participante em todos os eventos de uma determinada modalidade esportiva.
+     *
+     * @param sport Modalidade esportiva dos eventos.
+     * @return Uma lista contendo a soma dos contadores de cada participante da modalidade.
+     */
+    @Query("""
+            SELECT new com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto(
+                p.id, p.name, p.team, SUM(s.goals), SUM(s.yellowCards), SUM(s.redCards), SUM(s.matchesPlayed))
+            FROM PlayerStatistics s JOIN s.player p JOIN s.event e
+            WHERE e.type = :sport
+            GROUP BY p.id, p.name, p.team
+            """)
+    List<ResponsePlayerStatisticsDto> sumSportStatistics(@Param("sport") EventType<SportEvent> sport);
+
+    /**
+     * Conta os gols de cada participante em cada evento esportivo, sendo cada linha composta pelo ID do
+     * participante, o ID do evento e a quantidade de gols.
+     *
+     * @return Uma lista contendo uma linha para cada participante de cada evento que tenha marcado gols.
+     */
+    @Query("SELECT g.player.id, g.match.event.id, COUNT(g) FROM Goal g GROUP BY g.player.id, g.match.event.id")
+    List<Object[]> countGoals();
+
+    /**
+     * Conta os cartões de penalidade de cada cor recebidos por cada participante em cada evento esportivo, sendo
+     * cada linha composta pelo ID do participante, o ID do evento, a cor e a quantidade de cartões.
+     *
+     * @return Uma lista contendo uma linha para cada cor de cartão de cada participante de cada evento.
+     */
+    @Query("""
+            SELECT c.player.id, c.match.event.id, c.color, COUNT(c) FROM PenaltyCard c
+            GROUP BY c.player.id, c.match.event.id, c.color
+            """)
+    List<Object[]> countPenaltyCards();
+
+    /**
+     * Conta as partidas encerradas disputadas por cada participante em cada evento esportivo, sendo cada linha
+     * composta pelo ID do participante, o ID do evento e a quantidade de partidas.
+     *
+     * @return Uma lista contendo uma linha para cada participante de cada evento que tenha disputado partidas.
+     */
+    @Query("""
+            SELECT p.id, m.event.id, COUNT(m) FROM Match m JOIN m.players p
+            WHERE m.matchStatus IN (com.bristotartur.gerenciadordepartidas.enums.Status.ENDED,
+                                    com.bristotartur.gerenciadordepartidas.enums.Status.OPEN_FOR_EDITS)
+            GROUP BY p.id, m.event.id
+            """)
+    List<Object[]> countPlayedMatches();
+
+    /**
+     * Percorre os autores de todos os gols marcados em um evento esportivo através de um cursor do banco de
+     * dados, sendo cada elemento o ID do participante que marcou um gol.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo um elemento para cada gol do evento.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT g.player.id FROM Goal g WHERE g.match.event.id = :eventId")
+    Stream<Long> streamEventGoals(@Param("eventId") Long eventId);
+
+    /**
+     * Percorre todos os cartões de penalidade de um evento esportivo através de um cursor do banco de dados,
+     * sendo cada linha composta pelo ID do participante e pela cor do cartão.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo uma linha para cada cartão do evento.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT c.player.id, c.color FROM PenaltyCard c WHERE c.match.event.id = :eventId")
+    Stream<Object[]> streamEventPenaltyCards(@Param("eventId") Long eventId);
+
+    /**
+     * Percorre os jogadores de todas as partidas encerradas de um evento esportivo através de um cursor do
+     * banco de dados, sendo cada elemento o ID de um jogador de uma partida.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @return Um {@link Stream} contendo um elemento para cada jogador de cada partida encerrada do evento.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+            SELECT p.id FROM Match m JOIN m.players p
+            WHERE m.event.id = :eventId
+            AND m.matchStatus IN (com.bristotartur.gerenciadordepartidas.enums.Status.ENDED,
+                                  com.bristotartur.gerenciadordepartidas.enums.Status.OPEN_FOR_EDITS)
+            """)
+    Stream<Long> streamEventPlayedMatches(@Param("eventId") Long eventId);
+
+    /**
+     * Remove as estatísticas de todos os participantes de um evento esportivo.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     */
+    @Modifying
+    @Query("DELETE FROM PlayerStatistics s WHERE s.event.id = :eventId")
+    void deleteEventStatistics(@Param("eventId") Long eventId);
+
+}
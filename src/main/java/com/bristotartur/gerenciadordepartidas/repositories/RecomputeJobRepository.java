@@ -0,0 +1,35 @@
+package com.bristotartur.gerenciadordepartidas.repositories;
+
+import com.bristotartur.gerenciadordepartidas.domain.jobs.RecomputeJob;
+import com.bristotartur.gerenciadordepartidas.enums.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecomputeJobRepository extends JpaRepository<RecomputeJob, Long> {
+
+    /**
+     * Busca pelos identificadores de todos os recálculos que se encontram em um determinado estado.
+     *
+     * @param jobStatus Estado dos recálculos.
+     * @return Os identificadores dos recálculos, em ordem crescente.
+     */
+    @Query("SELECT j.id FROM RecomputeJob j WHERE j.jobStatus = :jobStatus ORDER BY j.id")
+    List<Long> findJobIds(@Param("jobStatus") JobStatus jobStatus);
+
+    /**
+     * Incrementa a quantidade de partições concluídas de um recálculo diretamente no banco de dados, de forma
+     * que partições processadas em paralelo não sobrescrevam o progresso umas das outras.
+     *
+     * @param id Identificador único do recálculo.
+     */
+    @Modifying
+    @Query("UPDATE RecomputeJob j SET j.completedPartitions = j.completedPartitions + 1 WHERE j.id = :id")
+    void incrementCompletedPartitions(@Param("id") Long id);
+
+}
@@ -0,0 +1,27 @@
+package com.bristotartur.gerenciadordepartidas.repositories;
+
+import com.bristotartur.gerenciadordepartidas.domain.jobs.RecomputePartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecomputePartitionRepository extends JpaRepository<RecomputePartition, Long> {
+
+    /**
+     * Busca pelos identificadores das partições ainda não concluídas de um recálculo.
+     *
+     * @param jobId Identificador único do recálculo.
+     * @return Os identificadores das partições pendentes, ordenados pela edição e pelo evento.
+     */
+    @Query("""
+            SELECT p.id FROM RecomputePartition p
+            WHERE p.job.id = :jobId AND p.completed = false
+            ORDER BY p.editionId, p.eventId
+            """)
+    List<Long> findPendingPartitionIds(@Param("jobId") Long jobId);
+
+}
@@ -5,6 +5,7 @@ import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.enums.EventType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,10 +19,28 @@ public interface SportEventRepository extends EventRepository<SportEvent> {
     @Query("SELECT s FROM SportEvent s WHERE s.edition.id = :id")
     Page<SportEvent> findSportEventsByEditionId(@Param("id") Long editionId, Pageable pageable);
 
+    @Query("SELECT s FROM SportEvent s WHERE s.edition.id = :id")
+    Slice<SportEvent> findSportEventsByEditionIdSlice(@Param("id") Long editionId, Pageable pageable);
+
     @Query("SELECT s FROM SportEvent s WHERE s.type = :type")
     Page<SportEvent> findSportEventsBySportType(@Param("type") EventType<SportEvent> type, Pageable pageable);
 
+    @Query("SELECT s FROM SportEvent s WHERE s.type = :type")
+    Slice<SportEvent> findSportEventsBySportTypeSlice(@Param("type") EventType<SportEvent> type, Pageable pageable);
+
+    Slice<SportEvent> findAllBy(Pageable pageable);
+
     @Query("SELECT p FROM Participant p JOIN p.sportEvents s WHERE s.id = :id")
     Page<Participant> findParticipantsFromSportEvent(@Param("id") Long sportEventId, Pageable pageable);
 
+    @Query("SELECT s FROM SportEvent s WHERE s.id > :id ORDER BY s.id")
+    List<SportEvent> findSportEventsAfterKeyset(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT m.event.id, m.matchImportance, m.matchStatus, COUNT(m) FROM Match m " +
+           "GROUP BY m.event.id, m.matchImportance, m.matchStatus")
+    List<Object[]> countMatchesByEvent();
+
+    @Query("SELECT s.edition.id, s.id FROM SportEvent s ORDER BY s.edition.id, s.id")
+    List<Object[]> findEventPartitions();
+
 }
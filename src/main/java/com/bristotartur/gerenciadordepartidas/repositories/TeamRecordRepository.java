@@ -0,0 +1,111 @@
+package com.bristotartur.gerenciadordepartidas.repositories;
+
+import com.bristotartur.gerenciadordepartidas.domain.matches.TeamRecord;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TeamRecordRepository extends JpaRepository<TeamRecord, Long> {
+
+    /**
+     * Busca pelo retrospecto de uma equipe contra um adversário em uma edição, modalidade esportiva e
+     * modalidade de gênero.
+     *
+     * @param editionId Identificador único da edição.
+     * @param team Equipe analisada.
+     * @param opponent Adversário da equipe.
+     * @param sport Modalidade esportiva.
+     * @param modality Modalidade de gênero.
+     * @return Um {@link Optional} contendo o retrospecto, caso exista.
+     */
+    @Query("""
+            SELECT r FROM TeamRecord r
+            WHERE r.team = :team AND r.opponent = :opponent AND r.edition.id = :editionId
+            AND r.sport = :sport AND r.modality = :modality
+            """)
+    Optional<TeamRecord> findTeamRecord(@Param("editionId") Long editionId,
+                                        @Param("team") Team team,
+                                        @Param("opponent") Team opponent,
+                                        @Param("sport") Sports sport,
+                                        @Param("modality") Modality modality);
+
+    /**
+     * Busca por todos os retrospectos de uma equipe.
+     *
+     * @param team Equipe analisada.
+     * @return Uma lista contendo os retrospectos da equipe contra cada adversário, em cada edição.
+     */
+    @Query("SELECT r FROM TeamRecord r WHERE r.team = :team")
+    List<TeamRecord> findTeamRecords(@Param("team") Team team);
+
+    /**
+     * Busca pelos retrospectos de uma equipe contra um determinado adversário.
+     *
+     * @param team Equipe analisada.
+     * @param opponent Adversário da equipe.
+     * @return Uma lista contendo os retrospectos da equipe contra o adversário, em cada edição.
+     */
+    @Query("SELECT r FROM TeamRecord r WHERE r.team = :team AND r.opponent = :opponent")
+    List<TeamRecord> findHeadToHeadRecords(@Param("team") Team team, @Param("opponent") Team opponent);
+
+    /**
+     * Soma os resultados das partidas encerradas sob a perspectiva da equipe A, sendo cada linha composta pelo
+     * ID da edição, a equipe A, a equipe B, a modalidade esportiva, a modalidade de gênero, as vitórias, os empates,
+     * as derrotas, os pontos marcados e os pontos sofridos pela equipe A.
+     *
+     * @return Uma lista contendo uma linha para cada confronto de cada edição e modalidade.
+     */
+    @Query("""
+            SELECT e.edition.id, m.teamA, m.teamB, e.type, m.modality,
+                SUM(CASE WHEN m.teamScoreA > m.teamScoreB THEN 1 ELSE 0 END),
+                SUM(CASE WHEN m.teamScoreA = m.teamScoreB THEN 1 ELSE 0 END),
+                SUM(CASE WHEN m.teamScoreA < m.teamScoreB THEN 1 ELSE 0 END),
+                SUM(m.teamScoreA), SUM(m.teamScoreB)
+            FROM Match m JOIN m.event e
+            WHERE m.matchStatus = com.bristotartur.gerenciadordepartidas.enums.Status.ENDED
+            GROUP BY e.edition.id, m.teamA, m.teamB, e.type, m.modality
+            """)
+    List<Object[]> sumEndedMatchesForTeamA();
+
+    /**
+     * Soma os resultados das partidas encerradas sob a perspectiva da equipe B, seguindo o mesmo formato de
+     * {@link #sumEndedMatchesForTeamA()}.
+     *
+     * @return Uma lista contendo uma linha para cada confronto de cada edição e modalidade.
+     */
+    @Query("""
+            SELECT e.edition.id, m.teamB, m.teamA, e.type, m.modality,
+                SUM(CASE WHEN m.teamScoreB > m.teamScoreA THEN 1 ELSE 0 END),
+                SUM(CASE WHEN m.teamScoreB = m.teamScoreA THEN 1 ELSE 0 END),
+                SUM(CASE WHEN m.teamScoreB < m.teamScoreA THEN 1 ELSE 0 END),
+                SUM(m.teamScoreB), SUM(m.teamScoreA)
+            FROM Match m JOIN m.event e
+            WHERE m.matchStatus = com.bristotartur.gerenciadordepartidas.enums.Status.ENDED
+            GROUP BY e.edition.id, m.teamA, m.teamB, e.type, m.modality
+            """)
+    List<Object[]> sumEndedMatchesForTeamB();
+
+    /**
+     * Remove os retrospectos de todas as equipes em uma modalidade esportiva e de gênero de uma edição, ou
+     * seja, todos os retrospectos derivados de um único evento esportivo.
+     *
+     * @param editionId Identificador único da edição.
+     * @param sport Modalidade esportiva.
+     * @param modality Modalidade de gênero.
+     */
+    @Modifying
+    @Query("DELETE FROM TeamRecord r WHERE r.edition.id = :editionId AND r.sport = :sport AND r.modality = :modality")
+    void deleteEventRecords(@Param("editionId") Long editionId,
+                            @Param("sport") Sports sport,
+                            @Param("modality") Modality modality);
+
+}
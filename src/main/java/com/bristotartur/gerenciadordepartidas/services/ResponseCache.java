@@ -0,0 +1,263 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.configs.CompactRepresentationConfig;
+import com.bristotartur.gerenciadordepartidas.utils.TaggedCache;
+import com.bristotartur.gerenciadordepartidas.utils.TaggedCache.Loaded;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Cache das respostas já convertidas para DTO dos endpoints de listagem e detalhamento, identificadas pelo
+ * nome do endpoint e pelos seus parâmetros. Cada resposta é associada a etiquetas que identificam os dados dos
+ * quais ela depende, como {@code match:5} para os dados da partida 5 ou {@link #MATCHES} para o conjunto de todas
+ * as partidas, e os fluxos de escrita dos serviços descartam apenas as respostas associadas às etiquetas dos
+ * dados que alteraram.</p>
+ *
+ * <p>As etiquetas conhecidas apenas durante a produção da resposta, como o jogador de um gol, podem ser
+ * registradas através de {@link #dependsOn(String...)}. As invalidações são aplicadas ao fim da transação atual,
+ * de forma que nenhuma resposta produzida antes da confirmação das alterações permaneça no cache.</p>
+ *
+ * <p>Como os links HATEOAS das respostas são gerados a partir do endereço da requisição e omitidos na
+ * representação compacta, cada resposta também é identificada pela {@link Variant} da requisição que a produziu,
+ * de forma que ela só seja reaproveitada por requisições com o mesmo endereço base e a mesma representação.</p>
+ *
+ * <p>A quantidade de respostas armazenadas é limitada por {@code gerenciador.response-cache.max-entries}, e a
+ * taxa de acerto de cada endpoint pode ser consultada através de {@link #stats()} e é registrada no log a cada
+ * {@code gerenciador.response-cache.report-interval}.</p>
+ *
+ * @see TaggedCache
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    public static final String MATCHES = "matches";
+    public static final String GOALS = "goals";
+    public static final String PENALTY_CARDS = "penalty-cards";
+    public static final String PARTICIPANTS = "participants";
+
+    private static final ThreadLocal<Deque<Set<String>>> DEPENDENCIES = new ThreadLocal<>();
+
+    private final TaggedCache<Key, Object> cache;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private record Key(String endpoint, List<?> parameters, Variant variant) {
+    }
+
+    private record Counters(LongAdder hits, LongAdder misses) {
+
+        Counters() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    /**
+     * Representa a variante de uma resposta solicitada por uma requisição.
+     *
+     * @param baseUri Endereço base da requisição, ou nulo caso nenhuma requisição esteja associada a thread atual.
+     * @param compact Define se a representação compacta foi solicitada.
+     */
+    public record Variant(String baseUri, boolean compact) {
+
+        /**
+         * Identifica a variante solicitada pela requisição associada a thread atual.
+         *
+         * @return A variante da requisição atual.
+         */
+        public static Variant current() {
+
+            if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+                return new Variant(null, false);
+            }
+            var request = attributes.getRequest();
+            var baseUri = ServletUriComponentsBuilder.fromContextPath(request).toUriString();
+
+            return new Variant(baseUri, CompactRepresentationConfig.isCompactRequest(request));
+        }
+    }
+
+    /**
+     * Representa as estatísticas de acerto das respostas de um endpoint.
+     *
+     * @param hits Quantidade de respostas encontradas no cache.
+     * @param misses Quantidade de respostas que precisaram ser produzidas.
+     */
+    public record Stats(long hits, long misses) {
+
+        /**
+         * Retorna a proporção das requisições atendidas pelo cache.
+         *
+         * @return Valor entre 0 e 1, sendo 0 caso nenhuma requisição tenha sido feita.
+         */
+        public double hitRate() {
+            return (hits + misses == 0) ? 0 : (double) hits / (hits + misses);
+        }
+    }
+
+    public ResponseCache(@Value("${gerenciador.response-cache.max-entries:5000}") int maxEntries) {
+        this.cache = new TaggedCache<>(maxEntries);
+    }
+
+    public static String match(Long id) {
+        return "match:" + id;
+    }
+
+    public static String event(Long id) {
+        return "event:" + id;
+    }
+
+    public static String goal(Long id) {
+        return "goal:" + id;
+    }
+
+    public static String penaltyCard(Long id) {
+        return "penalty-card:" + id;
+    }
+
+    public static String participant(Long id) {
+        return "participant:" + id;
+    }
+
+    /**
+     * Busca a resposta de um endpoint para os parâmetros fornecidos e a variante da requisição atual ou, caso
+     * ela não esteja no cache, produz a resposta e a armazena junto das etiquetas fornecidas e das registradas
+     * durante a sua produção.
+     *
+     * @param endpoint Nome do endpoint.
+     * @param parameters Parâmetros da requisição que identificam a resposta.
+     * @param tags Etiquetas dos dados dos quais a resposta depende.
+     * @param loader Operação que produz a resposta.
+     * @return A resposta do endpoint.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, List<?> parameters, Set<String> tags, Supplier<T> loader) {
+
+        var endpointCounters = counters.computeIfAbsent(endpoint, e -> new Counters());
+        var missed = new boolean[1];
+
+        var response = (T) cache.get(new Key(endpoint, parameters, Variant.current()), () -> {
+            missed[0] = true;
+            return this.load(tags, loader);
+        });
+        (missed[0] ? endpointCounters.misses() : endpointCounters.hits()).increment();
+
+        return response;
+    }
+
+    /**
+     * Registra etiquetas das quais a resposta em produção na thread atual depende. Caso nenhuma resposta esteja
+     * sendo produzida, a chamada é ignorada.
+     *
+     * @param tags Etiquetas dos dados dos quais a resposta depende.
+     */
+    public static void dependsOn(String... tags) {
+
+        var stack = DEPENDENCIES.get();
+        if (stack != null) stack.element().addAll(List.of(tags));
+    }
+
+    /**
+     * Descarta as respostas associadas a alguma das etiquetas fornecidas ao fim da transação atual, ou
+     * imediatamente caso nenhuma transação esteja ativa.
+     *
+     * @param tags Etiquetas dos dados alterados.
+     */
+    public void invalidate(String... tags) {
+
+        var invalidatedTags = List.of(tags);
+        this.afterTransaction(() -> cache.invalidate(invalidatedTags));
+    }
+
+    /**
+     * Descarta todas as respostas do cache ao fim da transação atual, ou imediatamente caso nenhuma transação
+     * esteja ativa.
+     */
+    public void invalidateAll() {
+        this.afterTransaction(cache::clear);
+    }
+
+    /**
+     * Retorna as estatísticas de acerto de cada endpoint já consultado.
+     *
+     * @return Um {@link Map} contendo as estatísticas de cada endpoint.
+     */
+    public Map<String, Stats> stats() {
+        return counters.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                entry -> new Stats(entry.getValue().hits().sum(), entry.getValue().misses().sum())));
+    }
+
+    /**
+     * Retorna a quantidade de respostas armazenadas no cache.
+     *
+     * @return A quantidade de respostas.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    @Scheduled(fixedRateString = "${gerenciador.response-cache.report-interval:PT5M}",
+            initialDelayString = "${gerenciador.response-cache.report-interval:PT5M}")
+    void reportHitRates() {
+
+        this.stats().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> log.info("'{}' of '{}' {} responses were served from cache, with hit rate of '{}'.",
+                        entry.getValue().hits(), entry.getValue().hits() + entry.getValue().misses(), entry.getKey(),
+                        String.format("%.3f", entry.getValue().hitRate())));
+    }
+
+    private void afterTransaction(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private <T> Loaded<Object> load(Set<String> tags, Supplier<T> loader) {
+
+        var dependencies = new HashSet<>(tags);
+        var stack = DEPENDENCIES.get();
+
+        if (stack == null) {
+            stack = new ArrayDeque<>();
+            DEPENDENCIES.set(stack);
+        }
+        stack.push(dependencies);
+        try {
+            var response = loader.get();
+            return new Loaded<>(response, dependencies);
+        } finally {
+            stack.pop();
+
+            var outerDependencies = stack.peek();
+            if (outerDependencies != null) outerDependencies.addAll(dependencies);
+            if (stack.isEmpty()) DEPENDENCIES.remove();
+        }
+    }
+
+}
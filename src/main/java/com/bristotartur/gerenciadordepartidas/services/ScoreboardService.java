@@ -0,0 +1,192 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseEditionDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseGoalDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseSportEventDto;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.ServiceUnavailableException;
+import com.bristotartur.gerenciadordepartidas.mappers.EditionMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.GoalMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.SportEventMapper;
+import com.bristotartur.gerenciadordepartidas.services.actions.GoalService;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>Classe responsável pelas consultas somente leitura do placar: partidas, gols, eventos esportivos e a
+ * classificação das equipes em cada edição. Estas consultas representam a maior parte do tráfego durante as
+ * partidas e são executadas em um pool de threads dedicado, de forma que as threads do servidor sejam
+ * liberadas enquanto aguardam o banco de dados e que a capacidade de leitura possa ser ajustada sem alterar o
+ * pool de threads do servidor.</p>
+ *
+ * <p>O tamanho do pool é definido por {@code gerenciador.scoreboard.pool-size}, limitado ao tamanho do pool de
+ * conexões menos uma conexão reservada às demais requisições, e as consultas excedentes aguardam em uma fila
+ * limitada por {@code gerenciador.scoreboard.queue-capacity}. Quando a fila está cheia, a consulta é recusada
+ * imediatamente com {@link ServiceUnavailableException}, evitando que as requisições se acumulem no servidor.</p>
+ *
+ * <p>Cada consulta é executada em uma transação somente leitura, e as respostas das partidas e dos eventos são
+ * mantidas no {@link ResponseCache} até que os dados dos quais dependem sejam alterados.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScoreboardService {
+
+    private final MatchService matchService;
+    private final GoalService goalService;
+    private final SportEventService sportEventService;
+    private final EditionService editionService;
+    private final GoalMapper goalMapper;
+    private final SportEventMapper sportEventMapper;
+    private final EditionMapper editionMapper;
+    private final ResponseCache responseCache;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+
+    @Value("${gerenciador.scoreboard.pool-size:4}")
+    private int poolSize;
+
+    @Value("${gerenciador.scoreboard.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor pool;
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void init() {
+
+        var availableConnections = (dataSource instanceof HikariDataSource hikari)
+                ? hikari.getMaximumPoolSize() - 1
+                : poolSize;
+        var size = Math.max(1, Math.min(poolSize, availableConnections));
+        var threadCount = new AtomicInteger();
+
+        pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            var thread = new Thread(runnable, "scoreboard-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Busca os dados de uma partida para o placar.
+     *
+     * @param id Identificador único da partida.
+     * @return Um {@link CompletableFuture} concluído com o DTO da partida, ou com {@link NotFoundException} caso
+     * nenhuma partida corresponda ao ID fornecido.
+     * @throws ServiceUnavailableException Caso a fila de consultas esteja cheia.
+     */
+    public CompletableFuture<ResponseMatchDto> findMatch(Long id) {
+
+        return this.read(() -> responseCache.get("scoreboard/matches/{id}", List.of(id), Set.of(ResponseCache.match(id)), () -> {
+            var match = matchService.findMatchById(id);
+
+            ResponseCache.dependsOn(ResponseCache.event(match.getEvent().getId()));
+            return matchService.createExposingMatchDto(match);
+        }));
+    }
+
+    /**
+     * Busca uma página dos gols de uma partida para o placar.
+     *
+     * @param matchId Identificador único da partida.
+     * @param sport Modalidade esportiva da partida.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link CompletableFuture} concluído com os DTOs dos gols da página.
+     * @throws ServiceUnavailableException Caso a fila de consultas esteja cheia.
+     */
+    public CompletableFuture<List<ResponseGoalDto>> findMatchGoals(Long matchId, Sports sport, Pageable pageable) {
+
+        return this.read(() -> responseCache.get("scoreboard/matches/{id}/goals", List.of(matchId, sport, pageable), Set.of(ResponseCache.match(matchId)), () ->
+                goalService.findGoalsFromMatch(matchId, sport, pageable, false).stream()
+                        .map(goalMapper::toNewExposingGoalDto)
+                        .toList()
+        ));
+    }
+
+    /**
+     * Busca os dados de um evento esportivo para o placar.
+     *
+     * @param id Identificador único do evento esportivo.
+     * @return Um {@link CompletableFuture} concluído com o DTO do evento esportivo.
+     * @throws ServiceUnavailableException Caso a fila de consultas esteja cheia.
+     */
+    public CompletableFuture<ResponseSportEventDto> findEvent(Long id) {
+
+        return this.read(() -> responseCache.get("scoreboard/events/{id}", List.of(id), Set.of(ResponseCache.MATCHES, ResponseCache.event(id)), () ->
+                sportEventMapper.toNewExposingSportEventDto(sportEventService.findEventById(id))
+        ));
+    }
+
+    /**
+     * Busca uma página das partidas de um evento esportivo para o placar.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link CompletableFuture} concluído com os DTOs das partidas da página.
+     * @throws ServiceUnavailableException Caso a fila de consultas esteja cheia.
+     */
+    public CompletableFuture<List<ResponseMatchDto>> findEventMatches(Long eventId, Pageable pageable) {
+
+        return this.read(() -> responseCache.get("scoreboard/events/{id}/matches", List.of(eventId, pageable), Set.of(ResponseCache.MATCHES), () ->
+                matchService.findMatchesBySportEvent(eventId, pageable, false).stream()
+                        .map(matchService::createExposingMatchDto)
+                        .toList()
+        ));
+    }
+
+    /**
+     * Busca a classificação das equipes em uma edição. Como a pontuação das equipes é alterada pelo
+     * encerramento dos eventos esportivos, a classificação é sempre consultada no banco de dados.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Um {@link CompletableFuture} concluído com o DTO da edição contendo a pontuação das equipes.
+     * @throws ServiceUnavailableException Caso a fila de consultas esteja cheia.
+     */
+    public CompletableFuture<ResponseEditionDto> findStandings(Long editionId) {
+        return this.read(() -> editionMapper.toNewExposingEditionDto(editionService.findEditionById(editionId)));
+    }
+
+    private <T> CompletableFuture<T> read(Supplier<T> query) {
+
+        try {
+            return CompletableFuture.supplyAsync(() -> transaction.execute(status -> query.get()), pool);
+        } catch (RejectedExecutionException e) {
+            log.warn("Scoreboard query was rejected with '{}' queued queries.", pool.getQueue().size());
+            throw new ServiceUnavailableException(ExceptionMessages.SCOREBOARD_UNAVAILABLE.message, e);
+        }
+    }
+
+}
@@ -2,10 +2,14 @@ package com.bristotartur.gerenciadordepartidas.services.actions;
 
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 
+import java.util.Map;
+
 public final class ActionValidator {
 
     private ActionValidator() {
@@ -16,6 +20,9 @@ public final class ActionValidator {
         if (!match.getMatchStatus().equals(Status.IN_PROGRESS)) {
             throw new ConflictException("Operações envolvendo ações só podem ser realizadas em partidas em andamento.");
         }
+        if (match.getEvent().getEdition().getEditionStatus().equals(Status.ENDED)) {
+            throw new UnprocessableEntityException(ExceptionMessages.INVALID_OPERATION_ON_ENDED_EDITION.message);
+        }
     }
 
     public static void checkPlayerForAction(Participant player, Match match) {
@@ -27,5 +34,28 @@ public final class ActionValidator {
             throw new UnprocessableEntityException(message.formatted(player.getId(), match.getId()));
         }
     }
+
+    public static void checkPlayerForAction(Long playerId, Map<Long, Participant> matchPlayers, Match match) {
+
+        if (!matchPlayers.containsKey(playerId)) {
+            var message = "O jogador '%d' não pode ser associado a ação pois não está presente na partida '%d'.";
+            throw new UnprocessableEntityException(message.formatted(playerId, match.getId()));
+        }
+    }
+
+    public static void checkSportForGoals(Sports sport) {
+
+        if (!sport.equals(Sports.FUTSAL) && !sport.equals(Sports.HANDBALL)) {
+            throw new UnprocessableEntityException(ExceptionMessages.UNSUPPORTED_FOR_GOALS.message);
+        }
+    }
+
+    public static void checkSportForPenaltyCards(Sports sport) {
+
+        switch (sport) {
+            case FUTSAL, HANDBALL, BASKETBALL -> {}
+            default -> throw new UnprocessableEntityException(ExceptionMessages.UNSUPPORTED_FOR_PENALTY_CARDS.message);
+        }
+    }
     
 }
@@ -3,6 +3,7 @@ package com.bristotartur.gerenciadordepartidas.services.actions;
 import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestGoalDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
@@ -11,12 +12,17 @@ import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.mappers.GoalMapper;
 import com.bristotartur.gerenciadordepartidas.repositories.GoalRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
 import com.bristotartur.gerenciadordepartidas.services.matches.MatchServiceMediator;
 import com.bristotartur.gerenciadordepartidas.services.people.ParticipantService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +44,8 @@ public class GoalService {
     private final GoalMapper goalMapper;
     private final ParticipantService participantService;
     private final MatchServiceMediator matchServiceMediator;
+    private final PlayerStatisticsService playerStatisticsService;
+    private final ResponseCache responseCache;
 
     /**
      * Retorna uma lista paginada dos gols disponíveis no sistema.
@@ -55,6 +63,43 @@ public class GoalService {
         return goals;
     }
 
+    /**
+     * Retorna uma fatia dos gols disponíveis no sistema, realizando a consulta de contagem apenas quando solicitada.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de gols deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<Goal> findAllGoals(Pageable pageable, boolean count) {
+
+        if (count) return this.findAllGoals(pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var goals = goalRepository.findAllBy(pageable);
+
+        log.info("Goal slice of number '{}' and size '{}' was returned.", number, size);
+        return goals;
+    }
+
+    /**
+     * Retorna uma página dos gols disponíveis no sistema utilizando paginação por keyset, ordenando
+     * os gols pelo seu ID.
+     *
+     * @param cursor Cursor opaco retornado pela página anterior, ou nulo para buscar a primeira página.
+     * @param size Quantidade de gols na página.
+     * @param count Define se o total de gols deve ser calculado.
+     * @return Uma {@link CursorPage} contendo os gols posteriores ao cursor.
+     */
+    public CursorPage<Goal> scrollGoals(String cursor, int size, boolean count) {
+
+        var goals = goalRepository.findGoalsAfterKeyset(CursorUtil.decodeId(cursor), PageRequest.of(0, size + 1));
+        var totalElements = count ? goalRepository.count() : null;
+
+        log.info("Goal page of size '{}' after cursor '{}' was returned.", size, cursor);
+        return CursorPage.of(goals, size, goal -> CursorUtil.encode(goal.getId()), totalElements);
+    }
+
     /**
      * Retorna uma lista paginada de gols relacionados a uma determinada partida.
      *
@@ -78,6 +123,32 @@ public class GoalService {
         return goals;
     }
 
+    /**
+     * Retorna uma fatia de gols relacionados a uma determinada partida, realizando a consulta de contagem
+     * apenas quando solicitada.
+     *
+     * @param matchId Identificador único da partida.
+     * @param sport Modalidade esportiva da partida.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de gols deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     * @throws NotFoundException Se nenhuma partida correspondente ao ID ou esporte fornecido for encontrada.
+     * @throws UnprocessableEntityException Se o tipo de esporte não suportar a operação relacionada a gols.
+     */
+    public Slice<Goal> findGoalsFromMatch(Long matchId, Sports sport, Pageable pageable, boolean count) {
+
+        if (count) return this.findGoalsFromMatch(matchId, sport, pageable);
+
+        matchServiceMediator.findMatchForGoal(matchId, sport);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var goals = goalRepository.findMatchGoalsSlice(matchId, pageable);
+
+        log.info("Goal slice of number '{}' and size '{}' from Match '{}' was returned.", number, size, matchId);
+        return goals;
+    }
+
     /**
      * Busca por uma entidade específica do tipo {@link Goal} com base no seu ID.
      *
@@ -116,6 +187,8 @@ public class GoalService {
 
         this.increaseScore(player.getTeam(), match);
         var savedGoal = goalRepository.save(goalMapper.toNewGoal(requestGoalDto, player, match));
+        playerStatisticsService.addGoal(savedGoal);
+        responseCache.invalidate(ResponseCache.GOALS, ResponseCache.MATCHES, ResponseCache.goal(savedGoal.getId()), ResponseCache.match(match.getId()));
 
         log.info("Goal '{}' was created in Match '{}'.", savedGoal.getId(), match.getId());
         return savedGoal;
@@ -137,9 +210,12 @@ public class GoalService {
         var team = goal.getPlayer().getTeam();
 
         ActionValidator.checkMatchForAction(match);
+        playerStatisticsService.removeGoal(goal);
         goalRepository.deleteById(id);
 
         this.decreaseScore(team, match);
+        responseCache.invalidate(ResponseCache.GOALS, ResponseCache.MATCHES, ResponseCache.goal(id), ResponseCache.match(match.getId()));
+
         log.info("Goal '{}' from Match '{}' was deleted.", id, match.getId());
     }
 
@@ -178,7 +254,15 @@ public class GoalService {
             this.increaseScore(newPlayer.getTeam(), newMatch);
             this.decreaseScore(originalPlayerTeam, originaMatch);
         }
-        var updatedGoal = goalRepository.save(goalMapper.toExistingGoal(id, requestGoalDto, newPlayer, newMatch));
+        playerStatisticsService.removeGoal(originalGol);
+
+        var updatedGoal = goalMapper.toExistingGoal(id, requestGoalDto, newPlayer, newMatch);
+        updatedGoal.setActionKey(originalGol.getActionKey());
+
+        updatedGoal = goalRepository.save(updatedGoal);
+        playerStatisticsService.addGoal(updatedGoal);
+        responseCache.invalidate(ResponseCache.GOALS, ResponseCache.MATCHES, ResponseCache.goal(id),
+                ResponseCache.match(originaMatch.getId()), ResponseCache.match(newMatch.getId()));
 
         log.info("Goal '{}' from Match '{}' was updated.", id, updatedGoal.getMatch().getId());
         return updatedGoal;
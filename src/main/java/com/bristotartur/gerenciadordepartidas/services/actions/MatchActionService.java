@@ -0,0 +1,169 @@
+package com.bristotartur.gerenciadordepartidas.services.actions;
+
+import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchActionsDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchActionsDto.MatchAction;
+import com.bristotartur.gerenciadordepartidas.enums.ActionType;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.repositories.ActionBatchRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.GoalRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.PenaltyCardRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchServiceMediator;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import com.bristotartur.gerenciadordepartidas.utils.ConstraintUtil;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Classe responsável pelo registro em lote de gols e cartões de penalidade de uma única partida, permitindo que
+ * ações acumuladas pelo cliente sejam enviadas de uma só vez. A partida e o seu elenco são carregados e validados
+ * uma única vez para todo o lote, o placar é alterado em uma única instrução e as ações são inseridas em lotes por
+ * {@link ActionBatchRepository}.</p>
+ *
+ * <p>Cada ação possui uma chave de idempotência gerada pelo cliente, única na partida. Ações cujas chaves já
+ * foram registradas são ignoradas, de forma que um lote possa ser reenviado com segurança após uma falha de
+ * conexão.</p>
+ *
+ * @see GoalService
+ * @see PenaltyCardService
+ * @see ActionValidator
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class MatchActionService {
+
+    private final GoalRepository goalRepository;
+    private final PenaltyCardRepository penaltyCardRepository;
+    private final MatchRepository<Match> matchRepository;
+    private final ActionBatchRepository actionBatchRepository;
+    private final MatchServiceMediator matchServiceMediator;
+    private final PlayerStatisticsService playerStatisticsService;
+    private final EntityManager entityManager;
+    private final ResponseCache responseCache;
+
+    /**
+     * Registra os gols e cartões de penalidade fornecidos em {@link RequestMatchActionsDto} em uma partida,
+     * ignorando as ações cujas chaves de idempotência já estejam registradas na partida ou repetidas no lote.
+     *
+     * @param matchId Identificador único da partida.
+     * @param requestMatchActionsDto DTO do tipo {@link RequestMatchActionsDto} contendo as ações da partida.
+     * @return A partida com o placar atualizado.
+     * @throws NotFoundException Caso nenhuma partida correspondente ao ID e esporte fornecidos seja encontrada.
+     * @throws ConflictException Caso a partida não esteja em andamento ou alguma chave seja registrada por
+     * outra requisição concorrente.
+     * @throws UnprocessableEntityException Caso a modalidade esportiva não suporte as ações fornecidas ou o
+     * jogador de alguma ação não esteja relacionado a partida.
+     * @throws BadRequestException Caso algum cartão de penalidade não possua uma cor.
+     */
+    public Match saveMatchActions(Long matchId, RequestMatchActionsDto requestMatchActionsDto) {
+
+        var sport = requestMatchActionsDto.sport();
+        var match = matchServiceMediator.findMatch(matchId, sport);
+        ActionValidator.checkMatchForAction(match);
+
+        var registeredKeys = new HashSet<>(goalRepository.findMatchActionKeys(matchId));
+        registeredKeys.addAll(penaltyCardRepository.findMatchActionKeys(matchId));
+
+        var actions = requestMatchActionsDto.actions().stream()
+                .filter(action -> registeredKeys.add(action.actionKey()))
+                .collect(Collectors.groupingBy(MatchAction::type));
+
+        var goalActions = actions.getOrDefault(ActionType.GOAL, List.of());
+        var penaltyCardActions = actions.getOrDefault(ActionType.PENALTY_CARD, List.of());
+
+        if (!goalActions.isEmpty()) ActionValidator.checkSportForGoals(sport);
+        if (!penaltyCardActions.isEmpty()) ActionValidator.checkSportForPenaltyCards(sport);
+
+        var players = match.getPlayers().stream().collect(Collectors.toMap(Participant::getId, Function.identity()));
+        var goals = goalActions.stream().map(action -> this.createGoal(action, match, players)).toList();
+        var penaltyCards = penaltyCardActions.stream().map(action -> this.createPenaltyCard(action, match, players)).toList();
+
+        try {
+            actionBatchRepository.insertGoals(goals);
+            actionBatchRepository.insertPenaltyCards(penaltyCards);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintUtil.isViolationOf(e, Goal.ACTION_KEY_CONSTRAINT)
+                    && !ConstraintUtil.isViolationOf(e, PenaltyCard.ACTION_KEY_CONSTRAINT)) throw e;
+            throw new ConflictException(ExceptionMessages.ACTION_KEY_ALREADY_REGISTERED.message.formatted(matchId), e);
+        }
+        this.updateScore(match, goals);
+        playerStatisticsService.addMatchResults(match.getEvent(), List.of(), goals, penaltyCards);
+        responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.GOALS, ResponseCache.PENALTY_CARDS, ResponseCache.match(matchId));
+
+        var skippedActions = requestMatchActionsDto.actions().size() - goals.size() - penaltyCards.size();
+
+        log.info("'{}' Goals and '{}' Penalty Cards were created in Match '{}', while '{}' repeated actions were ignored.",
+                goals.size(), penaltyCards.size(), matchId, skippedActions);
+        return match;
+    }
+
+    /**
+     * Soma os gols de cada equipe ao placar da partida em uma única instrução e recarrega a partida.
+     *
+     * @param match Partida que terá o placar alterado.
+     * @param goals Gols registrados na partida.
+     */
+    private void updateScore(Match match, List<Goal> goals) {
+
+        if (goals.isEmpty()) return;
+
+        var goalsForTeamA = (int) goals.stream().filter(goal -> goal.getTeam().equals(match.getTeamA())).count();
+
+        matchRepository.addToScore(match.getId(), goalsForTeamA, goals.size() - goalsForTeamA);
+        entityManager.refresh(match);
+    }
+
+    private Goal createGoal(MatchAction action, Match match, Map<Long, Participant> players) {
+
+        ActionValidator.checkPlayerForAction(action.playerId(), players, match);
+        var player = players.get(action.playerId());
+
+        return Goal.builder()
+                .goalTime(action.actionTime())
+                .player(player)
+                .team(player.getTeam())
+                .match(match)
+                .actionKey(action.actionKey())
+                .build();
+    }
+
+    private PenaltyCard createPenaltyCard(MatchAction action, Match match, Map<Long, Participant> players) {
+
+        ActionValidator.checkPlayerForAction(action.playerId(), players, match);
+        var player = players.get(action.playerId());
+
+        if (action.color() == null) {
+            throw new BadRequestException(ExceptionMessages.MISSING_PENALTY_CARD_COLOR.message.formatted(action.actionKey()));
+        }
+        return PenaltyCard.builder()
+                .color(action.color())
+                .penaltyCardTime(action.actionTime())
+                .player(player)
+                .team(player.getTeam())
+                .match(match)
+                .actionKey(action.actionKey())
+                .build();
+    }
+
+}
@@ -2,18 +2,24 @@ package com.bristotartur.gerenciadordepartidas.services.actions;
 
 import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestPenaltyCardDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.mappers.PenaltyCardMapper;
 import com.bristotartur.gerenciadordepartidas.repositories.PenaltyCardRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
 import com.bristotartur.gerenciadordepartidas.services.matches.MatchServiceMediator;
 import com.bristotartur.gerenciadordepartidas.services.people.ParticipantService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +42,8 @@ public class PenaltyCardService {
     private final PenaltyCardMapper penaltyCardMapper;
     private final ParticipantService participantService;
     private final MatchServiceMediator matchServiceMediator;
+    private final PlayerStatisticsService playerStatisticsService;
+    private final ResponseCache responseCache;
 
     /**
      * Retorna uma lista paginada dos cartões de penalidade disponíveis no sistema.
@@ -53,6 +61,45 @@ public class PenaltyCardService {
         return penaltyCards;
     }
 
+    /**
+     * Retorna uma fatia dos cartões de penalidade disponíveis no sistema, realizando a consulta de contagem
+     * apenas quando solicitada.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de cartões deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<PenaltyCard> findAllPenaltyCards(Pageable pageable, boolean count) {
+
+        if (count) return this.findAllPenaltyCards(pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var penaltyCards = penaltyCardRepository.findAllBy(pageable);
+
+        log.info("Penalty Card slice of number '{}' and size '{}' was returned.", number, size);
+        return penaltyCards;
+    }
+
+    /**
+     * Retorna uma página dos cartões de penalidade disponíveis no sistema utilizando paginação por keyset,
+     * ordenando os cartões pelo seu ID.
+     *
+     * @param cursor Cursor opaco retornado pela página anterior, ou nulo para buscar a primeira página.
+     * @param size Quantidade de cartões na página.
+     * @param count Define se o total de cartões deve ser calculado.
+     * @return Uma {@link CursorPage} contendo os cartões posteriores ao cursor.
+     */
+    public CursorPage<PenaltyCard> scrollPenaltyCards(String cursor, int size, boolean count) {
+
+        var pageable = PageRequest.of(0, size + 1);
+        var penaltyCards = penaltyCardRepository.findPenaltyCardsAfterKeyset(CursorUtil.decodeId(cursor), pageable);
+        var totalElements = count ? penaltyCardRepository.count() : null;
+
+        log.info("Penalty Card page of size '{}' after cursor '{}' was returned.", size, cursor);
+        return CursorPage.of(penaltyCards, size, penaltyCard -> CursorUtil.encode(penaltyCard.getId()), totalElements);
+    }
+
     /**
      * Busca por uma entidade específica do tipo {@link PenaltyCard} com base no seu ID.
      *
@@ -89,6 +136,9 @@ public class PenaltyCardService {
 
         var savedPenaltyCard = penaltyCardMapper.toNewPenaltyCard(requestPenaltyCardDto, player, match);
         savedPenaltyCard =  penaltyCardRepository.save(savedPenaltyCard);
+        playerStatisticsService.addPenaltyCard(savedPenaltyCard);
+        responseCache.invalidate(ResponseCache.PENALTY_CARDS, ResponseCache.MATCHES,
+                ResponseCache.penaltyCard(savedPenaltyCard.getId()), ResponseCache.match(match.getId()));
 
         log.info("Penalty Card '{}' was created in Match '{}'.", savedPenaltyCard.getId(), match.getId());
         return savedPenaltyCard;
@@ -108,7 +158,10 @@ public class PenaltyCardService {
         var match = penaltyCard.getMatch();
 
         ActionValidator.checkMatchForAction(match);
+        playerStatisticsService.removePenaltyCard(penaltyCard);
         penaltyCardRepository.deleteById(id);
+        responseCache.invalidate(ResponseCache.PENALTY_CARDS, ResponseCache.MATCHES, ResponseCache.penaltyCard(id),
+                ResponseCache.match(match.getId()));
 
         log.info("Penalty Card '{}' from Match '{}' was deleted.", id, match.getId());
     }
@@ -130,15 +183,22 @@ public class PenaltyCardService {
      */
     public PenaltyCard replacePenaltyCard(Long id, RequestPenaltyCardDto requestPenaltyCardDto) {
 
-        this.findPenaltyCardById(id);
+        var originalPenaltyCard = this.findPenaltyCardById(id);
 
         var match = matchServiceMediator.findMatchForCard(requestPenaltyCardDto.matchId(), requestPenaltyCardDto.sport());
         var player = participantService.findParticipantById(requestPenaltyCardDto.playerId());
         ActionValidator.checkMatchForAction(match);
         ActionValidator.checkPlayerForAction(player, match);
 
+        playerStatisticsService.removePenaltyCard(originalPenaltyCard);
+
         var updatedPenaltyCard = penaltyCardMapper.toExistingPenaltyCard(id, requestPenaltyCardDto, player, match);
+        updatedPenaltyCard.setActionKey(originalPenaltyCard.getActionKey());
+
         updatedPenaltyCard = penaltyCardRepository.save(updatedPenaltyCard);
+        playerStatisticsService.addPenaltyCard(updatedPenaltyCard);
+        responseCache.invalidate(ResponseCache.PENALTY_CARDS, ResponseCache.MATCHES, ResponseCache.penaltyCard(id),
+                ResponseCache.match(originalPenaltyCard.getMatch().getId()), ResponseCache.match(match.getId()));
 
         log.info("Penalty Card '{}' from Match '{}' was updated.", id, match.getId());
         return updatedPenaltyCard;
@@ -2,20 +2,27 @@ package com.bristotartur.gerenciadordepartidas.services.events;
 
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestEditionDto;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.mappers.EditionMapper;
 import com.bristotartur.gerenciadordepartidas.repositories.EditionRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.utils.ConstraintUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +32,8 @@ public class EditionService {
 
     private final EditionRepository editionRepository;
     private final EditionMapper editionMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResponseCache responseCache;
 
     public Page<Edition> findAllEditions(Pageable pageable) {
 
@@ -36,6 +45,18 @@ public class EditionService {
         return editions;
     }
 
+    public Slice<Edition> findAllEditions(Pageable pageable, boolean count) {
+
+        if (count) return this.findAllEditions(pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var editions = editionRepository.findAllBy(pageable);
+
+        log.info("Edition slice of number '{}' and size '{}' was returned.", number, size);
+        return editions;
+    }
+
     public Edition findEditionById(Long id) {
 
         var edition = editionRepository.findById(id)
@@ -61,6 +82,8 @@ public class EditionService {
             throw new UnprocessableEntityException("Uma edição só pode ser excluída antes de ser iniciada.");
         }
         editionRepository.deleteById(id);
+        responseCache.invalidateAll();
+
         log.info("Edition '{}' was deleted.", id);
     }
 
@@ -78,27 +101,49 @@ public class EditionService {
         var edition = this.findEditionById(id);
         Status.checkStatus(edition.getEditionStatus(), newStatus);
 
-        Optional<Edition> alreadyInProgressEdition = editionRepository.findByEditionStatus(newStatus);
+        edition.setEditionStatus(newStatus);
+        Edition updatedEdition;
 
-        if (newStatus.equals(Status.IN_PROGRESS) && alreadyInProgressEdition.isPresent()) {
-            if (!edition.equals(alreadyInProgressEdition.get())) {
-                throw new ConflictException("Apenas uma edição de cada pode ter o status 'IN_PROGRESS'.");
-            }
+        try {
+            updatedEdition = editionRepository.saveAndFlush(edition);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintUtil.isViolationOf(e, Edition.IN_PROGRESS_CONSTRAINT)) throw e;
+            throw new ConflictException(ExceptionMessages.EDITION_ALREADY_IN_PROGRESS.message, e);
         }
-        edition.setEditionStatus(newStatus);
-        var updatedEdition = editionRepository.save(edition);
+        eventPublisher.publishEvent(new EditionStatusUpdatedEvent(id, newStatus));
 
         log.info("Edition '{}' had the status updated to '{}'.", id, newStatus);
         return updatedEdition;
     }
 
-    public void checkEditionStatusById(Long id) {
+    /**
+     * Preenche a coluna única de edições em andamento na inicialização da aplicação. A coluna é preenchida
+     * apenas ao salvar uma edição, e as edições já em andamento antes da sua existência a manteriam vazia,
+     * ficando fora da restrição única. Caso mais de uma edição já esteja em andamento, a restrição é violada e
+     * a inicialização falha até que as edições excedentes tenham o seu status corrigido no banco de dados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillInProgressLocks() {
+
+        var updated = editionRepository.fillInProgressLocks(Status.IN_PROGRESS);
+        log.info("In progress lock of '{}' Editions was filled.", updated);
+    }
 
-        var edition = this.findEditionById(id);
-        var status = edition.getEditionStatus();
+    public void checkEditionStatusById(Long id) {
+        this.checkEditionStatus(this.findEditionById(id));
+    }
 
-        if (status.equals(Status.ENDED)) {
-            throw new UnprocessableEntityException("Operações não podem ser realizadas em edições já encerradas.");
+    /**
+     * Verifica se uma edição ainda pode ter os seus registros alterados. Os registros de edições encerradas
+     * são servidos a partir de seus snapshots e, por isso, só podem ser alterados após a edição ser reaberta.
+     *
+     * @param edition A edição dos registros que serão alterados.
+     * @throws UnprocessableEntityException Caso a edição esteja com o status {@code ENDED}.
+     */
+    public void checkEditionStatus(Edition edition) {
+
+        if (edition.getEditionStatus().equals(Status.ENDED)) {
+            throw new UnprocessableEntityException(ExceptionMessages.INVALID_OPERATION_ON_ENDED_EDITION.message);
         }
     }
 
@@ -0,0 +1,321 @@
+package com.bristotartur.gerenciadordepartidas.services.events;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+/**
+ * <p>Representa o snapshot binário de uma edição encerrada, lido através de um {@link MappedByteBuffer}.
+ * O arquivo é mapeado em memória uma única vez e cada registro é acessado diretamente no buffer, sem
+ * consultas ao banco de dados e sem cópias intermediárias.</p>
+ *
+ * <p>O arquivo é dividido em seções, uma para cada tipo de registro ({@link Section}). Cada seção possui
+ * um índice ordenado pelo ID dos registros, permitindo que um registro seja localizado através de uma
+ * busca binária. Além dos registros, o snapshot contém o documento completo da edição, servido por
+ * {@code GET /editions/{id}/archive}, e os IDs das partidas de cada evento esportivo.</p>
+ *
+ * Formato do arquivo:
+ * <pre>
+ *    {@code
+ *        int  magic
+ *        int  version
+ *        long editionId
+ *        int  sectionCount
+ *        [sectionCount] { int section, int recordCount, long indexOffset }
+ *        [recordCount]  { long id, long recordOffset, int recordLength }   // índice de cada seção
+ *        [...]          bytes dos registros
+ *    }
+ * </pre>
+ *
+ * <p>A versão do formato é incrementada sempre que a estrutura do arquivo ou as seções são alteradas, e
+ * arquivos de outras versões são rejeitados ao serem abertos. Como o arquivo é mapeado em um único buffer, um
+ * snapshot não pode ultrapassar {@link Integer#MAX_VALUE} bytes, e todas as posições do arquivo são validadas
+ * ao abri-lo.</p>
+ *
+ * <p>Instâncias desta classe são imutáveis e podem ser lidas concorrentemente, já que todas as leituras
+ * utilizam posições absolutas do buffer.</p>
+ *
+ * @see EditionSnapshotService
+ */
+public final class EditionSnapshot {
+
+    /**
+     * Tipos de registro armazenados em um snapshot.
+     */
+    public enum Section {
+        SPORT_EVENTS,
+        MATCHES,
+        PARTICIPANTS,
+        GOALS,
+        PENALTY_CARDS,
+        EDITIONS,
+        /** IDs das partidas de cada evento esportivo, gravados como uma sequência de {@code long}. */
+        SPORT_EVENT_MATCHES,
+        /** Documento completo da edição, indexado pelo ID da edição. */
+        ARCHIVE
+    }
+
+    private static final int MAGIC = 0x47534E50;
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+    private static final int SECTION_ENTRY_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 2 + Integer.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final long editionId;
+    private final Map<Section, SectionIndex> sections;
+    private final Instant lastModified;
+
+    private EditionSnapshot(MappedByteBuffer buffer, long editionId, Map<Section, SectionIndex> sections, Instant lastModified) {
+        this.buffer = buffer;
+        this.editionId = editionId;
+        this.sections = sections;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Grava um novo snapshot diretamente em um arquivo.
+     *
+     * @param path Caminho do arquivo.
+     * @param editionId Identificador único da edição.
+     * @param records Registros de cada seção, indexados pelo seu ID.
+     * @throws IOException Caso ocorra um erro durante a escrita.
+     */
+    public static void write(Path path, long editionId, Map<Section, SortedMap<Long, byte[]>> records) throws IOException {
+
+        try (var output = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(output, editionId, records);
+        }
+    }
+
+    /**
+     * Grava um novo snapshot com os registros fornecidos. Os registros de cada seção são gravados na ordem
+     * de seus IDs, assim como o índice utilizado para localizá-los.
+     *
+     * @param output Destino dos bytes do snapshot.
+     * @param editionId Identificador único da edição.
+     * @param records Registros de cada seção, indexados pelo seu ID.
+     * @throws IOException Caso ocorra um erro durante a escrita ou o snapshot ultrapasse {@link Integer#MAX_VALUE}
+     * bytes.
+     */
+    public static void write(OutputStream output, long editionId, Map<Section, SortedMap<Long, byte[]>> records) throws IOException {
+
+        var sectionCount = records.size();
+        var size = HEADER_SIZE + (long) SECTION_ENTRY_SIZE * sectionCount;
+
+        for (var sectionRecords : records.values()) {
+            size += (long) INDEX_ENTRY_SIZE * sectionRecords.size();
+
+            for (var record : sectionRecords.values()) {
+                size += record.length;
+            }
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of Edition '%d' exceeds the maximum size with '%d' bytes.".formatted(editionId, size));
+        }
+        var data = new DataOutputStream(output);
+
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(editionId);
+        data.writeInt(sectionCount);
+
+        long indexOffset = HEADER_SIZE + (long) SECTION_ENTRY_SIZE * sectionCount;
+
+        for (var entry : records.entrySet()) {
+            var recordCount = entry.getValue().size();
+
+            data.writeInt(entry.getKey().ordinal());
+            data.writeInt(recordCount);
+            data.writeLong(indexOffset);
+            indexOffset += (long) INDEX_ENTRY_SIZE * recordCount;
+        }
+        var recordOffset = indexOffset;
+
+        for (var sectionRecords : records.values()) {
+            for (var record : sectionRecords.entrySet()) {
+                data.writeLong(record.getKey());
+                data.writeLong(recordOffset);
+                data.writeInt(record.getValue().length);
+                recordOffset += record.getValue().length;
+            }
+        }
+        for (var sectionRecords : records.values()) {
+            for (var record : sectionRecords.values()) {
+                data.write(record);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Mapeia em memória um snapshot previamente gravado por {@link EditionSnapshot#write}.
+     *
+     * @param path Caminho do arquivo do snapshot.
+     * @return Uma nova instância de {@link EditionSnapshot}.
+     * @throws IOException Caso o arquivo não possa ser lido, seja de outra versão do formato ou não seja um
+     * snapshot válido.
+     */
+    public static EditionSnapshot open(Path path) throws IOException {
+
+        MappedByteBuffer buffer;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+
+            if (header.position() < HEADER_SIZE || header.getInt(0) != MAGIC || channel.size() > Integer.MAX_VALUE) {
+                throw invalidSnapshot(path, "unexpected header or size");
+            }
+            if (header.getInt(Integer.BYTES) != VERSION) {
+                throw invalidSnapshot(path, "version '%d' instead of '%d'".formatted(header.getInt(Integer.BYTES), VERSION));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        var editionId = buffer.getLong(Integer.BYTES * 2);
+        var sectionCount = buffer.getInt(Integer.BYTES * 2 + Long.BYTES);
+        var sections = new EnumMap<Section, SectionIndex>(Section.class);
+
+        if (sectionCount < 0 || sectionCount > Section.values().length
+                || HEADER_SIZE + (long) SECTION_ENTRY_SIZE * sectionCount > buffer.capacity()) {
+            throw invalidSnapshot(path, "invalid section count");
+        }
+        for (int i = 0; i < sectionCount; i++) {
+            var position = HEADER_SIZE + SECTION_ENTRY_SIZE * i;
+            var ordinal = buffer.getInt(position);
+            var index = new SectionIndex(buffer.getInt(position + Integer.BYTES), buffer.getLong(position + Integer.BYTES * 2));
+
+            if (ordinal < 0 || ordinal >= Section.values().length || !isWithinBounds(buffer, index)) {
+                throw invalidSnapshot(path, "invalid section entry");
+            }
+            sections.put(Section.values()[ordinal], index);
+        }
+        return new EditionSnapshot(buffer, editionId, sections, Files.getLastModifiedTime(path).toInstant());
+    }
+
+    private static boolean isWithinBounds(MappedByteBuffer buffer, SectionIndex index) {
+
+        var capacity = buffer.capacity();
+
+        if (index.recordCount() < 0 || index.indexOffset() < 0
+                || index.indexOffset() + (long) INDEX_ENTRY_SIZE * index.recordCount() > capacity) {
+            return false;
+        }
+        for (int i = 0; i < index.recordCount(); i++) {
+            var position = (int) (index.indexOffset() + (long) INDEX_ENTRY_SIZE * i);
+            var recordOffset = buffer.getLong(position + Long.BYTES);
+            var recordLength = buffer.getInt(position + Long.BYTES * 2);
+
+            if (recordOffset < 0 || recordLength < 0 || recordOffset + recordLength > capacity) return false;
+        }
+        return true;
+    }
+
+    private static IOException invalidSnapshot(Path path, String reason) {
+        return new IOException("Invalid snapshot file '%s': %s.".formatted(path.getFileName(), reason));
+    }
+
+    /**
+     * Busca por um registro de uma seção com base no seu ID. O registro retornado é uma fatia do buffer
+     * mapeado, não havendo cópia de seus bytes.
+     *
+     * @param section Seção do registro.
+     * @param id Identificador único do registro.
+     * @return Um {@link Optional} contendo uma fatia somente leitura com os bytes do registro, ou vazio
+     * caso ele não exista no snapshot.
+     */
+    public Optional<ByteBuffer> findRecord(Section section, long id) {
+
+        var index = sections.get(section);
+
+        if (index == null) return Optional.empty();
+
+        int low = 0;
+        int high = index.recordCount() - 1;
+
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var position = index.indexOffset() + (long) INDEX_ENTRY_SIZE * middle;
+            var middleId = buffer.getLong((int) position);
+
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                var recordOffset = (int) buffer.getLong((int) position + Long.BYTES);
+                var recordLength = buffer.getInt((int) position + Long.BYTES * 2);
+
+                return Optional.of(buffer.slice(recordOffset, recordLength).asReadOnlyBuffer());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retorna os IDs dos registros de uma seção, na ordem em que estão indexados.
+     *
+     * @param section Seção do snapshot.
+     * @return Os IDs dos registros da seção, ou um array vazio caso ela não exista.
+     */
+    public long[] ids(Section section) {
+
+        var index = sections.get(section);
+
+        if (index == null) return new long[0];
+
+        var ids = new long[index.recordCount()];
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = buffer.getLong((int) (index.indexOffset() + (long) INDEX_ENTRY_SIZE * i));
+        }
+        return ids;
+    }
+
+    /**
+     * Retorna a quantidade de registros de uma seção.
+     *
+     * @param section Seção do snapshot.
+     * @return A quantidade de registros da seção, ou zero caso ela não exista.
+     */
+    public int count(Section section) {
+
+        var index = sections.get(section);
+        return (index == null) ? 0 : index.recordCount();
+    }
+
+    /**
+     * Retorna o identificador único da edição contida no snapshot.
+     *
+     * @return O ID da edição.
+     */
+    public long getEditionId() {
+        return editionId;
+    }
+
+    /**
+     * Retorna o momento em que o snapshot foi gravado.
+     *
+     * @return O momento da última modificação do arquivo do snapshot.
+     */
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    private record SectionIndex(int recordCount, long indexOffset) {
+    }
+
+}
@@ -0,0 +1,603 @@
+package com.bristotartur.gerenciadordepartidas.services.events;
+
+import com.bristotartur.gerenciadordepartidas.configs.CompactRepresentationConfig;
+import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.response.EditionArchive;
+import com.bristotartur.gerenciadordepartidas.dtos.response.EditionArchive.ArchivedMatch;
+import com.bristotartur.gerenciadordepartidas.dtos.response.EditionArchive.ArchivedSportEvent;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseEditionDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseGoalDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseParticipantDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePenaltyCardDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseSportEventDto;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.mappers.EditionMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.GoalMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.ParticipantMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.PenaltyCardMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.SportEventMapper;
+import com.bristotartur.gerenciadordepartidas.repositories.EditionRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.GoalRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.ParticipantRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.PenaltyCardRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshot.Section;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Classe responsável pelo arquivo das edições encerradas. Quando uma edição é encerrada, ela e seus
+ * eventos esportivos, partidas, participantes, gols e cartões de penalidade são gravados em um
+ * {@link EditionSnapshot}, junto do documento completo da edição ({@link EditionArchive}). O snapshot é então
+ * mapeado em memória e passa a atender as consultas históricas desses registros sem acessar o banco de
+ * dados, tanto nas buscas por ID quanto nas listagens dos eventos de uma edição e das partidas de um
+ * evento.</p>
+ *
+ * <p>Os snapshots existentes em disco são mapeados na inicialização da aplicação, e os IDs de seus registros
+ * são mantidos em um índice que aponta para a edição de cada registro, de forma que uma consulta acesse apenas
+ * o snapshot que contém o registro. Apenas os snapshots de edições que continuam encerradas no banco de dados
+ * são mapeados, já que os IDs de edições removidas podem ter sido reutilizados por novos registros. O snapshot é gerado após a confirmação da transação que encerrou a edição,
+ * ou sob demanda ao consultar o documento da edição, e é invalidado assim que a edição deixa o status
+ * {@code ENDED}. Os registros de uma edição encerrada não podem ser alterados até que ela seja reaberta.</p>
+ *
+ * <p>As listagens servidas pelo snapshot são sempre ordenadas pelo ID dos registros.</p>
+ *
+ * @see EditionSnapshot
+ * @see EditionStatusUpdatedEvent
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class EditionSnapshotService {
+
+    private static final String SNAPSHOT_PREFIX = "edition-";
+    private static final String SNAPSHOT_EXTENSION = ".snap";
+
+    private final EditionService editionService;
+    private final EditionRepository editionRepository;
+    private final SportEventRepository sportEventRepository;
+    private final MatchRepository<Match> matchRepository;
+    private final ParticipantRepository participantRepository;
+    private final GoalRepository goalRepository;
+    private final PenaltyCardRepository penaltyCardRepository;
+    private final MatchService matchService;
+    private final EditionMapper editionMapper;
+    private final SportEventMapper sportEventMapper;
+    private final ParticipantMapper participantMapper;
+    private final GoalMapper goalMapper;
+    private final PenaltyCardMapper penaltyCardMapper;
+    private final ObjectMapper objectMapper;
+    private final ResponseCache responseCache;
+
+    private final Map<Long, EditionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Section, Map<Long, Long>> recordEditions = new EnumMap<>(Section.class);
+
+    @Value("${gerenciador.archive.directory:archive}")
+    private Path snapshotDirectory;
+
+    private ObjectMapper recordMapper;
+
+    /**
+     * Representa o documento completo de uma edição arquivada.
+     *
+     * @param content Fatia somente leitura do snapshot contendo o documento em JSON.
+     * @param lastModified Momento em que o snapshot foi gravado.
+     */
+    public record ArchiveDocument(ByteBuffer content, Instant lastModified) {
+    }
+
+    @PostConstruct
+    void init() {
+
+        for (var section : Section.values()) {
+            recordEditions.put(section, new ConcurrentHashMap<>());
+        }
+
+        recordMapper = objectMapper.copy()
+                .addMixIn(RepresentationModel.class, CompactRepresentationConfig.IgnoreLinksMixin.class);
+    }
+
+    /**
+     * Mapeia os snapshots existentes em disco na inicialização da aplicação. Os snapshots de edições que não
+     * existem mais ou que não estão encerradas são removidos, enquanto os snapshots inválidos ou gravados em
+     * outra versão do formato são gerados novamente.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadSnapshots() {
+
+        if (!Files.isDirectory(snapshotDirectory)) return;
+
+        List<Path> paths;
+
+        try (var files = Files.list(snapshotDirectory)) {
+            paths = files.filter(path -> path.getFileName().toString().endsWith(SNAPSHOT_EXTENSION)).toList();
+        } catch (IOException e) {
+            log.warn("Snapshot directory '{}' could not be read.", snapshotDirectory, e);
+            return;
+        }
+        paths.forEach(this::loadSnapshot);
+        log.info("'{}' Edition snapshots were loaded.", snapshots.size());
+    }
+
+    /**
+     * Busca por uma edição encerrada em seu snapshot.
+     *
+     * @param id Identificador único da edição.
+     * @return Um {@link Optional} contendo o DTO da edição, ou vazio caso ela não possua um snapshot.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ResponseEditionDto> findEdition(Long id) {
+        return this.findRecord(Section.EDITIONS, id, ResponseEditionDto.class);
+    }
+
+    /**
+     * Busca por um evento esportivo nos snapshots das edições encerradas.
+     *
+     * @param id Identificador único do evento esportivo.
+     * @return Um {@link Optional} contendo o DTO do evento esportivo, ou vazio caso ele não pertença a uma
+     * edição encerrada.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ResponseSportEventDto> findSportEvent(Long id) {
+        return this.findRecord(Section.SPORT_EVENTS, id, ResponseSportEventDto.class);
+    }
+
+    /**
+     * Busca pela edição encerrada à qual um evento esportivo pertence.
+     *
+     * @param id Identificador único do evento esportivo.
+     * @return Um {@link Optional} contendo o ID da edição, ou vazio caso o evento não pertença a uma edição
+     * encerrada.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<Long> findSportEventEdition(Long id) {
+        return Optional.ofNullable(recordEditions.get(Section.SPORT_EVENTS).get(id));
+    }
+
+    /**
+     * Busca por uma página dos eventos esportivos de uma edição encerrada.
+     *
+     * @param editionId Identificador único da edição.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Optional} contendo a página de eventos esportivos, ou vazio caso a edição não possua um
+     * snapshot.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<Page<ResponseSportEventDto>> findEditionSportEvents(Long editionId, Pageable pageable) {
+
+        return this.findSnapshot(editionId).map(snapshot ->
+                this.toPage(snapshot, Section.SPORT_EVENTS, snapshot.ids(Section.SPORT_EVENTS), pageable, ResponseSportEventDto.class));
+    }
+
+    /**
+     * Busca por uma página das partidas de um evento esportivo de uma edição encerrada.
+     *
+     * @param sportEventId Identificador único do evento esportivo.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Optional} contendo a página de partidas, ou vazio caso o evento não pertença a uma
+     * edição encerrada.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<Page<ResponseMatchDto>> findSportEventMatches(Long sportEventId, Pageable pageable) {
+
+        return this.findSportEventEdition(sportEventId)
+                .map(snapshots::get)
+                .flatMap(snapshot -> snapshot.findRecord(Section.SPORT_EVENT_MATCHES, sportEventId).map(record -> {
+                    var ids = new long[record.remaining() / Long.BYTES];
+                    record.asLongBuffer().get(ids);
+
+                    return this.toPage(snapshot, Section.MATCHES, ids, pageable, ResponseMatchDto.class);
+                }));
+    }
+
+    /**
+     * Busca por uma partida nos snapshots das edições encerradas.
+     *
+     * @param id Identificador único da partida.
+     * @return Um {@link Optional} contendo o DTO da partida, ou vazio caso ela não pertença a uma edição
+     * encerrada.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ResponseMatchDto> findMatch(Long id) {
+        return this.findRecord(Section.MATCHES, id, ResponseMatchDto.class);
+    }
+
+    /**
+     * Busca por um participante nos snapshots das edições encerradas.
+     *
+     * @param id Identificador único do participante.
+     * @return Um {@link Optional} contendo o DTO do participante, ou vazio caso ele não pertença a uma
+     * edição encerrada.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ResponseParticipantDto> findParticipant(Long id) {
+        return this.findRecord(Section.PARTICIPANTS, id, ResponseParticipantDto.class);
+    }
+
+    /**
+     * Busca pelo snapshot mapeado de uma edição.
+     *
+     * @param editionId Identificador único da edição.
+     * @return Um {@link Optional} contendo o snapshot, ou vazio caso ele não exista.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<EditionSnapshot> findSnapshot(Long editionId) {
+        return Optional.ofNullable(snapshots.get(editionId));
+    }
+
+    /**
+     * Busca pelo documento completo de uma edição, gerando o seu snapshot caso ele ainda não exista.
+     *
+     * @param editionId Identificador único da edição.
+     * @return O documento da edição.
+     * @throws UnprocessableEntityException Caso o snapshot não exista e a edição não esteja encerrada.
+     */
+    public ArchiveDocument findOrCreateArchive(Long editionId) {
+
+        var snapshot = this.findSnapshot(editionId)
+                .filter(existing -> existing.count(Section.ARCHIVE) > 0)
+                .orElseGet(() -> this.writeSnapshot(editionId));
+
+        var content = snapshot.findRecord(Section.ARCHIVE, editionId).orElseThrow();
+        return new ArchiveDocument(content, snapshot.getLastModified());
+    }
+
+    /**
+     * Gera o snapshot de uma edição encerrada e o mapeia em memória, substituindo qualquer snapshot gerado
+     * anteriormente. Os registros são carregados com uma única consulta por tipo de registro, e a escrita é
+     * feita em um arquivo temporário que então é movido atomicamente para o seu destino, de forma que
+     * leituras concorrentes nunca encontrem um arquivo incompleto.
+     *
+     * <p>Como a edição pode ser reaberta enquanto o snapshot é gravado, o seu status é consultado novamente após
+     * o snapshot ser mapeado, e o snapshot é descartado caso a edição não esteja mais encerrada.</p>
+     *
+     * @param editionId Identificador único da edição.
+     * @return O snapshot gerado.
+     * @throws UnprocessableEntityException Caso a edição não esteja com o status {@code ENDED}.
+     * @throws UncheckedIOException Caso ocorra um erro durante a escrita do snapshot.
+     */
+    public EditionSnapshot writeSnapshot(Long editionId) {
+
+        var edition = editionService.findEditionById(editionId);
+
+        if (!edition.getEditionStatus().equals(Status.ENDED)) {
+            throw new UnprocessableEntityException(ExceptionMessages.INVALID_STATUS_TO_ARCHIVE.message);
+        }
+        var sportEvents = sportEventRepository.findSportEventsByEditionId(editionId);
+        var matches = matchRepository.findEditionMatches(editionId);
+        var goals = goalRepository.findEditionGoals(editionId);
+        var penaltyCards = penaltyCardRepository.findEditionPenaltyCards(editionId);
+
+        var editionDto = editionMapper.toNewExposingEditionDto(edition);
+        var sportEventDtos = this.toDtos(sportEvents, SportEvent::getId, sportEventMapper::toNewExposingSportEventDto);
+        var matchDtos = this.toDtos(matches, Match::getId, matchService::createExposingMatchDto);
+        var goalDtos = this.toDtos(goals, Goal::getId, goalMapper::toNewExposingGoalDto);
+        var penaltyCardDtos = this.toDtos(penaltyCards, PenaltyCard::getId, penaltyCardMapper::toNewExposinfPenaltyCardDto);
+
+        var records = new EnumMap<Section, SortedMap<Long, byte[]>>(Section.class);
+
+        records.put(Section.SPORT_EVENTS, this.toRecords(sportEventDtos));
+        records.put(Section.MATCHES, this.toRecords(matchDtos));
+        records.put(Section.PARTICIPANTS, this.toRecords(this.toDtos(participantRepository.findEditionParticipants(editionId),
+                Participant::getId, participantMapper::toNewExposingParticipantDto)));
+        records.put(Section.GOALS, this.toRecords(goalDtos));
+        records.put(Section.PENALTY_CARDS, this.toRecords(penaltyCardDtos));
+        records.put(Section.EDITIONS, this.toRecords(new TreeMap<>(Map.of(editionId, editionDto))));
+        records.put(Section.SPORT_EVENT_MATCHES, this.toMatchIdRecords(sportEvents, matches));
+        records.put(Section.ARCHIVE, this.toRecords(new TreeMap<>(Map.of(editionId, this.createArchive(
+                editionDto, sportEvents, matches, goals, penaltyCards, sportEventDtos, matchDtos, goalDtos, penaltyCardDtos)))));
+
+        try {
+            Files.createDirectories(snapshotDirectory);
+            var tempFile = Files.createTempFile(snapshotDirectory, SNAPSHOT_PREFIX + editionId, ".tmp");
+
+            EditionSnapshot.write(tempFile, editionId, records);
+            Files.move(tempFile, this.resolveSnapshotPath(editionId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            var snapshot = EditionSnapshot.open(this.resolveSnapshotPath(editionId));
+            this.register(snapshot);
+
+            if (!this.isEnded(editionId)) {
+                this.evictSnapshot(editionId);
+                throw new UnprocessableEntityException(ExceptionMessages.INVALID_STATUS_TO_ARCHIVE.message);
+            }
+            log.info("Snapshot of Edition '{}' was written.", editionId);
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove o snapshot de uma edição, deixando de utilizá-lo nas consultas. As respostas mantidas em cache são
+     * descartadas, já que podem ter sido produzidas a partir do snapshot.
+     *
+     * Falhas na remoção do arquivo não são propagadas, já que o snapshot deixa de ser utilizado de qualquer forma
+     * e o arquivo é descartado na próxima inicialização da aplicação.
+     *
+     * @param editionId Identificador único da edição.
+     */
+    public void evictSnapshot(Long editionId) {
+
+        this.unregister(editionId);
+        responseCache.invalidateAll();
+
+        var path = this.resolveSnapshotPath(editionId);
+
+        if (Files.exists(path)) {
+            this.deleteSnapshotFile(path);
+            log.info("Snapshot of Edition '{}' was evicted.", editionId);
+        }
+    }
+
+    /**
+     * Invalida o snapshot de uma edição após a confirmação da transação que a retirou do status {@code ENDED}.
+     * Até a confirmação, as alterações nos registros da edição continuam sendo rejeitadas, e o snapshot
+     * continua correspondendo aos dados confirmados no banco de dados.
+     *
+     * @param event Evento contendo a edição atualizada e seu novo Status.
+     */
+    @TransactionalEventListener(condition = "!#event.status().equals(T(com.bristotartur.gerenciadordepartidas.enums.Status).ENDED)")
+    public void onEditionReopened(EditionStatusUpdatedEvent event) {
+        this.evictSnapshot(event.editionId());
+    }
+
+    /**
+     * Gera o snapshot de uma edição após a confirmação da transação que a encerrou. Falhas na geração do
+     * snapshot não são propagadas, já que as consultas continuarão sendo atendidas pelo banco de dados e o
+     * snapshot será gerado sob demanda ao consultar o documento da edição.
+     *
+     * @param event Evento contendo a edição atualizada e seu novo Status.
+     */
+    @TransactionalEventListener(condition = "#event.status().equals(T(com.bristotartur.gerenciadordepartidas.enums.Status).ENDED)")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEditionEnded(EditionStatusUpdatedEvent event) {
+
+        try {
+            this.writeSnapshot(event.editionId());
+        } catch (RuntimeException e) {
+            log.warn("Snapshot of Edition '{}' could not be written.", event.editionId(), e);
+        }
+    }
+
+    private <T> Optional<T> findRecord(Section section, Long id, Class<T> type) {
+
+        var editionId = recordEditions.get(section).get(id);
+        var snapshot = (editionId != null) ? snapshots.get(editionId) : null;
+
+        if (snapshot == null) return Optional.empty();
+
+        return snapshot.findRecord(section, id).map(record -> this.readRecord(record, type));
+    }
+
+    private <T> T readRecord(ByteBuffer record, Class<T> type) {
+
+        try {
+            return recordMapper.readValue(new ByteBufferBackedInputStream(record), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void register(EditionSnapshot snapshot) {
+
+        var editionId = snapshot.getEditionId();
+        this.unregister(editionId);
+
+        for (var section : Section.values()) {
+            for (var id : snapshot.ids(section)) {
+                recordEditions.get(section).put(id, editionId);
+            }
+        }
+        snapshots.put(editionId, snapshot);
+    }
+
+    private synchronized void unregister(Long editionId) {
+
+        var snapshot = snapshots.remove(editionId);
+
+        if (snapshot == null) return;
+
+        for (var section : Section.values()) {
+            for (var id : snapshot.ids(section)) {
+                recordEditions.get(section).remove(id, editionId);
+            }
+        }
+    }
+
+    private <T> Page<T> toPage(EditionSnapshot snapshot, Section section, long[] ids, Pageable pageable, Class<T> type) {
+
+        var start = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), ids.length) : 0;
+        var end = pageable.isPaged() ? Math.min(start + pageable.getPageSize(), ids.length) : ids.length;
+        var content = new ArrayList<T>(end - start);
+
+        for (int i = start; i < end; i++) {
+            snapshot.findRecord(section, ids[i]).ifPresent(record -> content.add(this.readRecord(record, type)));
+        }
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    private <E, D> SortedMap<Long, D> toDtos(List<E> entities, Function<E, Long> idExtractor, Function<E, D> converter) {
+
+        var dtos = new TreeMap<Long, D>();
+
+        for (var entity : entities) {
+            dtos.put(idExtractor.apply(entity), converter.apply(entity));
+        }
+        return dtos;
+    }
+
+    private SortedMap<Long, byte[]> toRecords(SortedMap<Long, ?> dtos) {
+
+        var records = new TreeMap<Long, byte[]>();
+
+        try {
+            for (var entry : dtos.entrySet()) {
+                records.put(entry.getKey(), recordMapper.writeValueAsBytes(entry.getValue()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return records;
+    }
+
+    private SortedMap<Long, byte[]> toMatchIdRecords(List<SportEvent> sportEvents, List<Match> matches) {
+
+        var matchIds = matches.stream().collect(Collectors.groupingBy(match -> match.getEvent().getId(),
+                Collectors.mapping(Match::getId, Collectors.toList())));
+
+        var records = new TreeMap<Long, byte[]>();
+
+        for (var sportEvent : sportEvents) {
+            var ids = matchIds.getOrDefault(sportEvent.getId(), List.of()).stream().sorted().toList();
+            var record = ByteBuffer.allocate(ids.size() * Long.BYTES);
+
+            ids.forEach(record::putLong);
+            records.put(sportEvent.getId(), record.array());
+        }
+        return records;
+    }
+
+    private EditionArchive createArchive(ResponseEditionDto editionDto,
+                                         List<SportEvent> sportEvents,
+                                         List<Match> matches,
+                                         List<Goal> goals,
+                                         List<PenaltyCard> penaltyCards,
+                                         Map<Long, ResponseSportEventDto> sportEventDtos,
+                                         Map<Long, ResponseMatchDto> matchDtos,
+                                         Map<Long, ResponseGoalDto> goalDtos,
+                                         Map<Long, ResponsePenaltyCardDto> penaltyCardDtos) {
+
+        Map<Long, List<ResponseGoalDto>> matchGoals = goals.stream()
+                .collect(Collectors.groupingBy(goal -> goal.getMatch().getId(),
+                        Collectors.mapping(goal -> goalDtos.get(goal.getId()), Collectors.toList())));
+
+        Map<Long, List<ResponsePenaltyCardDto>> matchPenaltyCards = penaltyCards.stream()
+                .collect(Collectors.groupingBy(penaltyCard -> penaltyCard.getMatch().getId(),
+                        Collectors.mapping(penaltyCard -> penaltyCardDtos.get(penaltyCard.getId()), Collectors.toList())));
+
+        Map<Long, List<ArchivedMatch>> eventMatches = matches.stream()
+                .collect(Collectors.groupingBy(match -> match.getEvent().getId(), Collectors.mapping(match -> new ArchivedMatch(
+                        matchDtos.get(match.getId()),
+                        matchGoals.getOrDefault(match.getId(), List.of()),
+                        matchPenaltyCards.getOrDefault(match.getId(), List.of())), Collectors.toList())));
+
+        var archivedSportEvents = sportEvents.stream()
+                .map(sportEvent -> new ArchivedSportEvent(
+                        sportEventDtos.get(sportEvent.getId()),
+                        eventMatches.getOrDefault(sportEvent.getId(), List.of())))
+                .toList();
+
+        return new EditionArchive(editionDto, archivedSportEvents, Instant.now());
+    }
+
+    private void loadSnapshot(Path path) {
+
+        var editionId = this.parseEditionId(path);
+        if (editionId == null || !this.isEnded(editionId)) {
+            log.info("Snapshot '{}' does not belong to an ENDED Edition and will be discarded.", path.getFileName());
+
+            if (editionId != null) this.unregister(editionId);
+            this.deleteSnapshotFile(path);
+            return;
+        }
+        try {
+            var snapshot = EditionSnapshot.open(path);
+
+            if (snapshot.getEditionId() != editionId) {
+                throw new IOException("Snapshot '%s' contains Edition '%d'.".formatted(path.getFileName(), snapshot.getEditionId()));
+            }
+            this.register(snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot '{}' could not be opened and will be written again.", path.getFileName(), e);
+            this.rewriteSnapshot(editionId);
+        }
+    }
+
+    private boolean isEnded(Long editionId) {
+
+        return editionRepository.findEditionStatusById(editionId)
+                .filter(Status.ENDED::equals)
+                .isPresent();
+    }
+
+    private void rewriteSnapshot(Long editionId) {
+
+        try {
+            this.writeSnapshot(editionId);
+        } catch (RuntimeException e) {
+            log.warn("Snapshot of Edition '{}' could not be written.", editionId, e);
+        }
+    }
+
+    private void deleteSnapshotFile(Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Snapshot '{}' could not be deleted.", path.getFileName(), e);
+        }
+    }
+
+    private Long parseEditionId(Path path) {
+
+        var fileName = path.getFileName().toString();
+
+        if (!fileName.startsWith(SNAPSHOT_PREFIX)) return null;
+
+        try {
+            return Long.valueOf(fileName.substring(SNAPSHOT_PREFIX.length(), fileName.length() - SNAPSHOT_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Path resolveSnapshotPath(Long editionId) {
+        return snapshotDirectory.resolve(SNAPSHOT_PREFIX + editionId + SNAPSHOT_EXTENSION);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.bristotartur.gerenciadordepartidas.services.events;
+
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+
+/**
+ * Evento publicado sempre que o {@link Status} de uma edição é atualizado.
+ *
+ * @param editionId Identificador único da edição.
+ * @param status Novo Status da edição.
+ * @see EditionService
+ * @see EditionSnapshotService
+ */
+public record EditionStatusUpdatedEvent(Long editionId, Status status) {
+}
@@ -0,0 +1,175 @@
+package com.bristotartur.gerenciadordepartidas.services.events;
+
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.enums.ExportDataset;
+import com.bristotartur.gerenciadordepartidas.enums.ExportFormat;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.repositories.GoalRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.PenaltyCardRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>Classe responsável por exportar as partidas, gols e cartões de penalidade de uma edição, de um evento
+ * esportivo ou de uma modalidade esportiva nos formatos definidos em {@link ExportFormat}.</p>
+ *
+ * <p>As linhas são lidas do banco de dados através de cursores e escritas uma a uma na saída fornecida, sem
+ * que nenhuma listagem seja mantida em memória, de forma que o consumo de memória seja constante
+ * independentemente da quantidade de linhas exportadas.</p>
+ *
+ * @see ExportDataset
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ExportService {
+
+    private final MatchRepository<Match> matchRepository;
+    private final GoalRepository goalRepository;
+    private final PenaltyCardRepository penaltyCardRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Exporta um conjunto de dados de uma edição.
+     *
+     * @param editionId Identificador único da edição.
+     * @param dataset Conjunto de dados exportado.
+     * @param format Formato de exportação.
+     * @param outputStream Saída na qual as linhas serão escritas.
+     * @throws UncheckedIOException Caso ocorra algum erro ao escrever na saída.
+     */
+    public void exportEditionData(Long editionId, ExportDataset dataset, ExportFormat format, OutputStream outputStream) {
+
+        var rows = switch (dataset) {
+            case MATCHES -> matchRepository.exportEditionMatches(editionId);
+            case GOALS -> goalRepository.exportEditionGoals(editionId);
+            case PENALTY_CARDS -> penaltyCardRepository.exportEditionPenaltyCards(editionId);
+        };
+        var count = this.write(rows, dataset, format, outputStream);
+        log.info("'{}' rows of '{}' from Edition '{}' were exported as '{}'.", count, dataset, editionId, format);
+    }
+
+    /**
+     * Exporta um conjunto de dados de um evento esportivo.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param dataset Conjunto de dados exportado.
+     * @param format Formato de exportação.
+     * @param outputStream Saída na qual as linhas serão escritas.
+     * @throws UncheckedIOException Caso ocorra algum erro ao escrever na saída.
+     */
+    public void exportEventData(Long eventId, ExportDataset dataset, ExportFormat format, OutputStream outputStream) {
+
+        var rows = switch (dataset) {
+            case MATCHES -> matchRepository.exportEventMatches(eventId);
+            case GOALS -> goalRepository.exportEventGoals(eventId);
+            case PENALTY_CARDS -> penaltyCardRepository.exportEventPenaltyCards(eventId);
+        };
+        var count = this.write(rows, dataset, format, outputStream);
+        log.info("'{}' rows of '{}' from SportEvent '{}' were exported as '{}'.", count, dataset, eventId, format);
+    }
+
+    /**
+     * Exporta um conjunto de dados de todos os eventos de uma modalidade esportiva.
+     *
+     * @param sport Modalidade esportiva dos eventos.
+     * @param dataset Conjunto de dados exportado.
+     * @param format Formato de exportação.
+     * @param outputStream Saída na qual as linhas serão escritas.
+     * @throws UncheckedIOException Caso ocorra algum erro ao escrever na saída.
+     */
+    public void exportSportData(Sports sport, ExportDataset dataset, ExportFormat format, OutputStream outputStream) {
+
+        var rows = switch (dataset) {
+            case MATCHES -> matchRepository.exportSportMatches(sport);
+            case GOALS -> goalRepository.exportSportGoals(sport);
+            case PENALTY_CARDS -> penaltyCardRepository.exportSportPenaltyCards(sport);
+        };
+        var count = this.write(rows, dataset, format, outputStream);
+        log.info("'{}' rows of '{}' from sport '{}' were exported as '{}'.", count, dataset, sport, format);
+    }
+
+    /**
+     * Escreve as linhas fornecidas na saída, fechando o cursor ao fim da escrita. A saída não é fechada.
+     *
+     * @param rows Linhas exportadas.
+     * @param dataset Conjunto de dados das linhas, utilizado para gerar o cabeçalho dos arquivos CSV.
+     * @param format Formato de exportação.
+     * @param outputStream Saída na qual as linhas serão escritas.
+     * @return A quantidade de linhas escritas.
+     */
+    private long write(Stream<? extends Record> rows, ExportDataset dataset, ExportFormat format, OutputStream outputStream) {
+
+        var components = dataset.type.getRecordComponents();
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        var count = 0L;
+
+        try (rows) {
+            if (format.equals(ExportFormat.CSV)) {
+                writer.write(Arrays.stream(components).map(RecordComponent::getName).collect(Collectors.joining(",")));
+                writer.newLine();
+            }
+            for (var iterator = rows.iterator(); iterator.hasNext(); count++) {
+                var row = iterator.next();
+
+                writer.write(switch (format) {
+                    case CSV -> this.toCsvLine(row, components);
+                    case NDJSON -> objectMapper.writeValueAsString(row);
+                });
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private String toCsvLine(Record row, RecordComponent[] components) {
+
+        return Arrays.stream(components)
+                .map(component -> escapeCsv(this.readComponent(row, component)))
+                .collect(Collectors.joining(","));
+    }
+
+    private Object readComponent(Record row, RecordComponent component) {
+
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converte um valor em uma célula CSV, envolvendo-o em aspas caso contenha vírgulas, aspas ou quebras de
+     * linha, conforme a RFC 4180.
+     *
+     * @param value Valor da célula, podendo ser nulo.
+     * @return A célula formatada, sendo vazia para valores nulos.
+     */
+    private static String escapeCsv(Object value) {
+
+        if (value == null) return "";
+
+        var text = value.toString();
+
+        if (text.chars().noneMatch(character -> character == ',' || character == '"' || character == '\n' || character == '\r')) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.bristotartur.gerenciadordepartidas.services.events;
+
+import com.bristotartur.gerenciadordepartidas.domain.jobs.RecomputeJob;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Executa os recálculos registrados por {@link RecomputeService}, processando as partições pendentes em
+ * paralelo em um {@link ForkJoinPool} dedicado. A lista de partições é dividida recursivamente ao meio até que
+ * cada tarefa contenha uma única partição, permitindo que as threads ociosas roubem o trabalho das demais.</p>
+ *
+ * <p>Como cada partição ocupa uma conexão com o banco de dados durante o seu processamento, o paralelismo é
+ * limitado tanto pela propriedade {@code gerenciador.recompute.parallelism} quanto pelo tamanho do pool de
+ * conexões, reservando ao menos uma conexão para as demais requisições. Apenas um recálculo é executado por
+ * vez, e recálculos interrompidos são retomados na inicialização da aplicação.</p>
+ *
+ * @see RecomputeService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecomputeJobExecutor {
+
+    private final RecomputeService recomputeService;
+    private final DataSource dataSource;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${gerenciador.recompute.parallelism:4}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private Semaphore connections;
+
+    @PostConstruct
+    void init() {
+
+        var availableConnections = (dataSource instanceof HikariDataSource hikari)
+                ? hikari.getMaximumPoolSize() - 1
+                : parallelism;
+        var size = Math.max(1, Math.min(parallelism, availableConnections));
+
+        pool = new ForkJoinPool(size);
+        connections = new Semaphore(size);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Registra um novo recálculo de todos os dados derivados e inicia a sua execução em segundo plano.
+     *
+     * @return O recálculo criado, cujo progresso pode ser consultado através de {@link RecomputeService}.
+     * @throws ConflictException Caso outro recálculo já esteja em execução.
+     */
+    public RecomputeJob startJob() {
+
+        this.acquire();
+        try {
+            var job = recomputeService.createJob();
+            var partitionIds = recomputeService.restartJob(job.getId());
+
+            pool.execute(() -> this.execute(job.getId(), partitionIds));
+            return job;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Retoma a execução de um recálculo interrompido ou com falhas em segundo plano, processando apenas as
+     * partições que ainda não foram concluídas.
+     *
+     * @param id Identificador único do recálculo.
+     * @return O recálculo retomado.
+     * @throws ConflictException Caso outro recálculo já esteja em execução.
+     * @throws NotFoundException Caso nenhum recálculo correspondente ao ID seja encontrado.
+     * @throws UnprocessableEntityException Caso o recálculo já tenha sido concluído.
+     */
+    public RecomputeJob resumeJob(Long id) {
+
+        this.acquire();
+        try {
+            var partitionIds = recomputeService.restartJob(id);
+
+            pool.execute(() -> this.execute(id, partitionIds));
+            return recomputeService.findJobById(id);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Executa as partições pendentes de um recálculo, aguardando o fim da execução.
+     *
+     * @param id Identificador único do recálculo.
+     * @return O recálculo após a execução.
+     * @throws ConflictException Caso outro recálculo já esteja em execução.
+     * @throws NotFoundException Caso nenhum recálculo correspondente ao ID seja encontrado.
+     * @throws UnprocessableEntityException Caso o recálculo já tenha sido concluído.
+     */
+    public RecomputeJob runJob(Long id) {
+
+        this.acquire();
+        try {
+            var partitionIds = recomputeService.restartJob(id);
+            return this.execute(id, partitionIds);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Retoma, em segundo plano e um de cada vez, os recálculos que foram interrompidos pelo encerramento da
+     * aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+
+        var jobIds = recomputeService.findInterruptedJobIds();
+
+        if (jobIds.isEmpty()) return;
+
+        log.info("Resuming '{}' interrupted RecomputeJobs.", jobIds.size());
+        pool.execute(() -> jobIds.forEach(id -> {
+            try {
+                this.runJob(id);
+            } catch (RuntimeException e) {
+                log.error("RecomputeJob '{}' could not be resumed.", id, e);
+            }
+        }));
+    }
+
+    private void acquire() {
+
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException(ExceptionMessages.RECOMPUTE_JOB_ALREADY_RUNNING.message);
+        }
+    }
+
+    private RecomputeJob execute(Long id, List<Long> partitionIds) {
+
+        var failures = new AtomicInteger();
+        try {
+            pool.invoke(new RecomputeTask(partitionIds, failures));
+            return recomputeService.finishJob(id, failures.get());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void recompute(Long partitionId, AtomicInteger failures) {
+
+        connections.acquireUninterruptibly();
+        try {
+            recomputeService.recomputePartition(partitionId);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.error("Partition '{}' could not be recomputed.", partitionId, e);
+        } finally {
+            connections.release();
+        }
+    }
+
+    /**
+     * Tarefa que divide as partições recebidas ao meio até restar apenas uma, que é então processada.
+     */
+    private final class RecomputeTask extends RecursiveAction {
+
+        private final List<Long> partitionIds;
+        private final AtomicInteger failures;
+
+        private RecomputeTask(List<Long> partitionIds, AtomicInteger failures) {
+            this.partitionIds = partitionIds;
+            this.failures = failures;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (partitionIds.size() <= 1) {
+                partitionIds.forEach(partitionId -> recompute(partitionId, failures));
+                return;
+            }
+            var middle = partitionIds.size() / 2;
+
+            invokeAll(new RecomputeTask(partitionIds.subList(0, middle), failures),
+                    new RecomputeTask(partitionIds.subList(middle, partitionIds.size()), failures));
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.bristotartur.gerenciadordepartidas.services.events;
+
+import com.bristotartur.gerenciadordepartidas.domain.jobs.RecomputeJob;
+import com.bristotartur.gerenciadordepartidas.domain.jobs.RecomputePartition;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.JobStatus;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.repositories.RecomputeJobRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.RecomputePartitionRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
+import com.bristotartur.gerenciadordepartidas.services.matches.TeamRecordService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * <p>Classe responsável por registrar os recálculos dos dados derivados das partidas e por processar cada uma
+ * de suas partições: os contadores de partidas do evento esportivo, as estatísticas de seus participantes e os
+ * retrospectos das equipes em sua modalidade.</p>
+ *
+ * <p>Cada partição é processada em uma transação própria, na qual também é marcada como concluída, de forma
+ * que o progresso do recálculo seja mantido mesmo que a execução seja interrompida.</p>
+ *
+ * @see RecomputeJobExecutor
+ * @see RecomputeJob
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class RecomputeService {
+
+    private final RecomputeJobRepository recomputeJobRepository;
+    private final RecomputePartitionRepository recomputePartitionRepository;
+    private final SportEventRepository sportEventRepository;
+    private final SportEventService sportEventService;
+    private final PlayerStatisticsService playerStatisticsService;
+    private final TeamRecordService teamRecordService;
+
+    /**
+     * Busca por um recálculo existente.
+     *
+     * @param id Identificador único do recálculo.
+     * @return O recálculo correspondente ao ID.
+     * @throws NotFoundException Caso nenhum recálculo correspondente ao ID seja encontrado.
+     */
+    public RecomputeJob findJobById(Long id) {
+
+        return recomputeJobRepository.findById(id).orElseThrow(() -> {
+            log.warn("RecomputeJob '{}' was not found.", id);
+            return new NotFoundException(ExceptionMessages.RECOMPUTE_JOB_NOT_FOUND.message);
+        });
+    }
+
+    /**
+     * Busca pelos recálculos que ainda constam em execução, ou seja, que foram interrompidos antes de terminar.
+     *
+     * @return Os identificadores dos recálculos interrompidos.
+     */
+    public List<Long> findInterruptedJobIds() {
+        return recomputeJobRepository.findJobIds(JobStatus.RUNNING);
+    }
+
+    /**
+     * Registra um novo recálculo, contendo uma partição para cada evento esportivo de cada edição.
+     *
+     * @return O recálculo criado.
+     */
+    public RecomputeJob createJob() {
+
+        var partitions = sportEventRepository.findEventPartitions();
+        var job = recomputeJobRepository.save(RecomputeJob.builder()
+                .jobStatus(JobStatus.RUNNING)
+                .totalPartitions(partitions.size())
+                .createdAt(Instant.now())
+                .build());
+
+        recomputePartitionRepository.saveAll(partitions.stream()
+                .map(row -> RecomputePartition.builder()
+                        .job(job)
+                        .editionId((Long) row[0])
+                        .eventId((Long) row[1])
+                        .build())
+                .toList());
+
+        log.info("RecomputeJob '{}' was created with '{}' partitions.", job.getId(), partitions.size());
+        return job;
+    }
+
+    /**
+     * Prepara um recálculo para ser executado novamente, buscando as partições que ainda não foram concluídas.
+     *
+     * @param id Identificador único do recálculo.
+     * @return Os identificadores das partições pendentes, ordenados pela edição e pelo evento.
+     * @throws NotFoundException Caso nenhum recálculo correspondente ao ID seja encontrado.
+     * @throws UnprocessableEntityException Caso o recálculo já tenha sido concluído.
+     */
+    public List<Long> restartJob(Long id) {
+
+        var job = this.findJobById(id);
+
+        if (job.getJobStatus().equals(JobStatus.COMPLETED)) {
+            throw new UnprocessableEntityException(ExceptionMessages.RECOMPUTE_JOB_ALREADY_COMPLETED.message.formatted(id));
+        }
+        job.setJobStatus(JobStatus.RUNNING);
+        job.setFailedPartitions(0);
+        job.setFinishedAt(null);
+
+        return recomputePartitionRepository.findPendingPartitionIds(id);
+    }
+
+    /**
+     * Recalcula os dados derivados do evento esportivo de uma partição e a marca como concluída, em uma
+     * transação independente da transação atual. Eventos excluídos após a criação do recálculo são ignorados.
+     *
+     * @param partitionId Identificador único da partição.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recomputePartition(Long partitionId) {
+
+        var partition = recomputePartitionRepository.findById(partitionId).orElseThrow();
+
+        if (partition.isCompleted()) return;
+
+        sportEventRepository.findById(partition.getEventId()).ifPresent(event -> {
+            sportEventService.recountEventMatches(event);
+            playerStatisticsService.recountEventStatistics(event);
+            teamRecordService.rebuildEventRecords(event);
+        });
+        partition.setCompleted(true);
+        recomputeJobRepository.incrementCompletedPartitions(partition.getJob().getId());
+
+        log.info("Partition of SportEvent '{}' from Edition '{}' was recomputed.", partition.getEventId(), partition.getEditionId());
+    }
+
+    /**
+     * Encerra a execução atual de um recálculo, marcando-o como concluído caso nenhuma partição tenha falhado.
+     *
+     * @param id Identificador único do recálculo.
+     * @param failedPartitions Quantidade de partições que falharam durante a execução.
+     * @return O recálculo atualizado.
+     */
+    public RecomputeJob finishJob(Long id, int failedPartitions) {
+
+        var job = this.findJobById(id);
+
+        job.setJobStatus((failedPartitions == 0) ? JobStatus.COMPLETED : JobStatus.FAILED);
+        job.setFailedPartitions(failedPartitions);
+        job.setFinishedAt(Instant.now());
+
+        log.info("RecomputeJob '{}' finished with status '{}' after '{}' of '{}' partitions.",
+                id, job.getJobStatus(), job.getCompletedPartitions(), job.getTotalPartitions());
+        return job;
+    }
+
+}
@@ -1,25 +1,39 @@
 package com.bristotartur.gerenciadordepartidas.services.events;
 
+import com.bristotartur.gerenciadordepartidas.domain.events.MatchCounters;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestSportEventDto;
 import com.bristotartur.gerenciadordepartidas.dtos.request.TransferableEventData;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.enums.EventType;
 import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Importance;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.mappers.SportEventMapper;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
 import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+
 /**
  * Classe de serviços responsável por fornecer operações CRUD para entidades do tipo {@link SportEvent}.
  * A criação e gerenciamento de eventos esportivos é um processo que deve seguir diversas validações para
@@ -42,7 +56,10 @@ public class SportEventService implements EventStrategy<SportEvent> {
 
     private final SportEventRepository sportEventRepository;
     private final EditionService editionService;
+    private final ResponseCache responseCache;
     private final SportEventMapper sportEventMapper;
+    private final MatchRepository<Match> matchRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Page<SportEvent> findAllEvents(Pageable pageable) {
@@ -55,6 +72,45 @@ public class SportEventService implements EventStrategy<SportEvent> {
         return events;
     }
 
+    /**
+     * Retorna uma fatia dos eventos esportivos disponíveis no sistema, realizando a consulta de contagem
+     * apenas quando solicitada.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de eventos deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<SportEvent> findAllEvents(Pageable pageable, boolean count) {
+
+        if (count) return this.findAllEvents(pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var events = sportEventRepository.findAllBy(pageable);
+
+        log.info("SportEvent slice of number '{}' and size '{}' was returned.", number, size);
+        return events;
+    }
+
+    /**
+     * Retorna uma página dos eventos esportivos disponíveis no sistema utilizando paginação por keyset,
+     * ordenando os eventos pelo seu ID.
+     *
+     * @param cursor Cursor opaco retornado pela página anterior, ou nulo para buscar a primeira página.
+     * @param size Quantidade de eventos na página.
+     * @param count Define se o total de eventos deve ser calculado.
+     * @return Uma {@link CursorPage} contendo os eventos posteriores ao cursor.
+     */
+    public CursorPage<SportEvent> scrollEvents(String cursor, int size, boolean count) {
+
+        var pageable = PageRequest.of(0, size + 1);
+        var events = sportEventRepository.findSportEventsAfterKeyset(CursorUtil.decodeId(cursor), pageable);
+        var totalElements = count ? sportEventRepository.count() : null;
+
+        log.info("SportEvent page of size '{}' after cursor '{}' was returned.", size, cursor);
+        return CursorPage.of(events, size, event -> CursorUtil.encode(event.getId()), totalElements);
+    }
+
     /**
      * @throws NotFoundException Caso nenhuma edição correspondente ao ID seja encontrada.
      */
@@ -71,6 +127,30 @@ public class SportEventService implements EventStrategy<SportEvent> {
         return events;
     }
 
+    /**
+     * Retorna uma fatia dos eventos esportivos de uma edição, realizando a consulta de contagem apenas
+     * quando solicitada.
+     *
+     * @param editionId Identificador único da edição.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de eventos deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     * @throws NotFoundException Caso nenhuma edição correspondente ao ID seja encontrada.
+     */
+    public Slice<SportEvent> findAllEventsFromEdition(Long editionId, Pageable pageable, boolean count) {
+
+        if (count) return this.findAllEventsFromEdition(editionId, pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+
+        editionService.findEditionById(editionId);
+        var events = sportEventRepository.findSportEventsByEditionIdSlice(editionId, pageable);
+
+        log.info("SportEvent slice of number '{}' and size '{}' from Edition '{}' was returned.", number, size, editionId);
+        return events;
+    }
+
     @Override
     public Page<SportEvent> findAllEventsOfType(EventType<SportEvent> type, Pageable pageable) {
 
@@ -82,6 +162,27 @@ public class SportEventService implements EventStrategy<SportEvent> {
         return events;
     }
 
+    /**
+     * Retorna uma fatia dos eventos esportivos de um determinado tipo, realizando a consulta de contagem
+     * apenas quando solicitada.
+     *
+     * @param type Tipo dos eventos esportivos.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de eventos deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<SportEvent> findAllEventsOfType(EventType<SportEvent> type, Pageable pageable, boolean count) {
+
+        if (count) return this.findAllEventsOfType(type, pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var events = sportEventRepository.findSportEventsBySportTypeSlice(type, pageable);
+
+        log.info("SportEvent slice of number '{}' and size '{}' of type '{}' was returned.", number, size, type);
+        return events;
+    }
+
     /**
      * @throws NotFoundException Caso o nenhum evento esportivo correspondente ao ID seja encontrado.
      */
@@ -112,18 +213,23 @@ public class SportEventService implements EventStrategy<SportEvent> {
     }
 
     /**
+     * O evento retornado permanece bloqueado até o fim da transação atual através de {@link #lockEvent(SportEvent)}.
+     *
      * @throws NotFoundException Caso o nenhum evento correspondente ao ID seja encontrado.
-     * @throws UnprocessableEntityException Caso o evento esteja encerrado.
+     * @throws UnprocessableEntityException Caso o evento ou a sua edição estejam encerrados.
      */
     @Override
     public SportEvent findEventAndCheckStatus(Long id) {
 
         var event = this.findEventById(id);
+        this.lockEvent(event);
+
         var status = event.getEventStatus();
 
         if (status.equals(Status.ENDED)) {
             throw new UnprocessableEntityException(ExceptionMessages.INVALID_MATCH_OPERATION_ON_EVENT.message);
         }
+        editionService.checkEditionStatus(event.getEdition());
         return event;
     }
 
@@ -161,6 +267,7 @@ public class SportEventService implements EventStrategy<SportEvent> {
         }
         var editionId = event.getEdition().getId();
         sportEventRepository.deleteById(id);
+        responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.event(id));
 
         log.info("SportEvent '{}' from Edition '{}' was deleted.", id, editionId);
     }
@@ -188,11 +295,27 @@ public class SportEventService implements EventStrategy<SportEvent> {
         }
         SportEventValidator.checkNewTotalMatchesForSportEvent(originalEvent, dto.totalMatches());
         var updatedEvent = sportEventRepository.save(sportEventMapper.toExistingSportEvent(id, dto, originalEvent, edition));
+        responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.event(id));
 
         log.info("SportEvent '{}' from Edition '{}' was updated.", originalEvent.getId(), edition.getId());
         return updatedEvent;
     }
 
+    /**
+     * Bloqueia a linha de um evento esportivo até o fim da transação atual e recarrega o seu estado a partir do
+     * banco de dados. Como os {@link MatchCounters} são lidos, alterados e gravados pela própria entidade, o
+     * bloqueio garante que duas transações concorrentes não alterem os contadores a partir do mesmo estado,
+     * perdendo uma das alterações. As alterações pendentes da transação são sincronizadas antes do bloqueio, de
+     * forma que não sejam descartadas ao recarregar o evento.
+     *
+     * @param event Evento esportivo a ser bloqueado.
+     */
+    public void lockEvent(SportEvent event) {
+
+        entityManager.flush();
+        entityManager.refresh(event, LockModeType.PESSIMISTIC_WRITE);
+    }
+
     /**
      * @throws NotFoundException Caso o nenhum evento correspondente ao ID seja encontrado.
      * @throws UnprocessableEntityException Caso o evento não esteja apto para ter seu status atualizado.
@@ -201,6 +324,8 @@ public class SportEventService implements EventStrategy<SportEvent> {
     public SportEvent updateEventStatus(Long id, Status newStatus) {
 
         var event = this.findEventById(id);
+        this.lockEvent(event);
+
         var originalStatus = event.getEventStatus();
         Status.checkStatus(originalStatus, newStatus);
 
@@ -210,10 +335,51 @@ public class SportEventService implements EventStrategy<SportEvent> {
         }
         event.setEventStatus(newStatus);
         var updatedEvent = sportEventRepository.save(event);
+        responseCache.invalidate(ResponseCache.event(id));
 
         var editionId = event.getEdition().getId();
         log.info("SportEvent '{}' from Edition '{}' had the status updated to '{}'.", id, editionId, newStatus);
         return event;
     }
 
+    /**
+     * Recalcula os {@link MatchCounters} de todos os eventos esportivos a partir de uma única consulta agregada
+     * na inicialização da aplicação, corrigindo os contadores de eventos registrados antes da sua existência.
+     * Apenas os eventos com contadores divergentes são atualizados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountEventMatches() {
+
+        var countersByEvent = new HashMap<Long, MatchCounters>();
+
+        for (var row : sportEventRepository.countMatchesByEvent()) {
+            countersByEvent.computeIfAbsent((Long) row[0], id -> new MatchCounters())
+                    .count((Importance) row[1], (Status) row[2], ((Long) row[3]).intValue());
+        }
+        var events = sportEventRepository.findAll();
+
+        events.forEach(event -> event.setMatchCounters(countersByEvent.getOrDefault(event.getId(), new MatchCounters())));
+        log.info("Match counters of '{}' SportEvents were recalculated.", events.size());
+    }
+
+    /**
+     * Recalcula os {@link MatchCounters} de um único evento esportivo, percorrendo as suas partidas através de
+     * um cursor do banco de dados ao invés de carregar a coleção de partidas do evento.
+     *
+     * @param event Evento esportivo que terá os contadores recalculados.
+     */
+    public void recountEventMatches(SportEvent event) {
+
+        var counters = new MatchCounters();
+
+        try (var matches = matchRepository.streamEventMatches(event.getId())) {
+            matches.forEach(match -> {
+                counters.add(match);
+                entityManager.detach(match);
+            });
+        }
+        event.setMatchCounters(counters);
+        log.info("Match counters of SportEvent '{}' were recalculated.", event.getId());
+    }
+
 }
@@ -3,7 +3,6 @@ package com.bristotartur.gerenciadordepartidas.services.events;
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
 import com.bristotartur.gerenciadordepartidas.domain.events.Event;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
-import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestSportEventDto;
 import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.enums.Modality;
@@ -91,7 +90,7 @@ public final class SportEventValidator {
      */
     public static void checkNewTotalMatchesForSportEvent(SportEvent originalEvent, Integer newTotal) {
 
-        var matchQuantity = originalEvent.getMatches().size();
+        var matchQuantity = originalEvent.getMatchCounters().getRegisteredMatches();
 
         if (matchQuantity > newTotal - 4) {
             throw new UnprocessableEntityException(ExceptionMessages.CANNOT_UPDATE_TOTAL_MATCHES.message);
@@ -151,7 +150,7 @@ public final class SportEventValidator {
     private static void checkMatchesToStartEvent(SportEvent originalEvent, Integer totalMatches) {
 
         var necessaryMatches = totalMatches - 4;
-        var hasNoSufficientMatchesToStart = originalEvent.getMatches().size() < necessaryMatches;
+        var hasNoSufficientMatchesToStart = originalEvent.getMatchCounters().getRegisteredMatches() < necessaryMatches;
 
         if (hasNoSufficientMatchesToStart) {
             var message = ExceptionMessages.NO_MATCHES_TO_START.message;
@@ -174,19 +173,14 @@ public final class SportEventValidator {
     private static void checkMatchesToFinishEvent(SportEvent originalEvent) {
 
         var totalMatches = originalEvent.getTotalMatches();
-        var hasNoSufficientMatchesToEnd = originalEvent.getMatches().size() < totalMatches;
+        var counters = originalEvent.getMatchCounters();
+        var hasNoSufficientMatchesToEnd = counters.getRegisteredMatches() < totalMatches;
 
         if (hasNoSufficientMatchesToEnd) {
             var message = ExceptionMessages.NO_MATCHES_TO_FINISH.message;
             throw new UnprocessableEntityException(message.formatted(totalMatches));
         }
-        var matches = originalEvent.getMatches();
-        Optional<Status> notEndedStatus = matches.stream()
-                .map(Match::getMatchStatus)
-                .filter(status -> !status.equals(Status.ENDED))
-                .findFirst();
-
-        if (notEndedStatus.isPresent()) {
+        if (counters.getUnfinishedMatches() > 0) {
             throw new UnprocessableEntityException(ExceptionMessages.INVALID_MATCH_STATUS_TO_FINISH_EVENT.message);
         }
     }
@@ -0,0 +1,311 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.TimeSlot;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Importance;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+
+import java.util.*;
+
+/**
+ * <p>Classe utilitária responsável por gerar os confrontos do chaveamento de um {@link SportEvent}. Os
+ * confrontos são gerados por fase, seguindo a mesma ordem de importância exigida por
+ * {@link MatchValidator#checkMatchImportance}:</p>
+ *
+ * <ol>
+ *     <li>NORMAL - Confrontos de todos contra todos entre as equipes do evento, gerados através do método do
+ *     círculo, de forma que cada rodada reúna confrontos entre equipes diferentes. Caso o evento possua mais
+ *     partidas normais do que confrontos possíveis, os confrontos são repetidos com as equipes invertidas.</li>
+ *     <li>SEMIFINAL - O primeiro colocado das partidas normais enfrenta o quarto, e o segundo enfrenta o terceiro.</li>
+ *     <li>THIRD_PLACE_PLAYOFF - Os perdedores das semifinais se enfrentam.</li>
+ *     <li>FINAL - Os vencedores das semifinais se enfrentam.</li>
+ * </ol>
+ *
+ * <p>Todos os métodos desta classe operam apenas sobre os dados fornecidos, sem realizar consultas ao banco
+ * de dados.</p>
+ *
+ * @see BracketService
+ * @see MatchValidator
+ */
+public final class BracketGenerator {
+
+    /**
+     * Quantidade mínima de equipes necessárias para formar as semifinais de um evento.
+     */
+    public static final int MINIMUM_TEAMS = 4;
+
+    private static final int WIN_POINTS = 3;
+    private static final int DRAW_POINTS = 1;
+
+    private BracketGenerator() {
+    }
+
+    /**
+     * Representa um confronto entre duas equipes gerado pelo chaveamento.
+     *
+     * @param teamA Primeira equipe do confronto.
+     * @param teamB Segunda equipe do confronto.
+     */
+    public record Pairing(Team teamA, Team teamB) {
+    }
+
+    /**
+     * Identifica a importância das próximas partidas que podem ser registradas em um evento com base na
+     * quantidade de partidas já registradas e no total de partidas permitidas.
+     *
+     * @param registeredMatches Número de partidas registradas no evento.
+     * @param totalMatches Total de partidas permitidas no evento.
+     * @return A importância das próximas partidas do evento.
+     * @throws UnprocessableEntityException Caso todas as partidas do evento já tenham sido registradas.
+     */
+    public static Importance findNextImportance(int registeredMatches, int totalMatches) {
+
+        if (registeredMatches < totalMatches - 4) return Importance.NORMAL;
+        if (registeredMatches < totalMatches - 2) return Importance.SEMIFINAL;
+        if (registeredMatches == totalMatches - 2) return Importance.THIRD_PLACE_PLAYOFF;
+        if (registeredMatches == totalMatches - 1) return Importance.FINAL;
+
+        throw new UnprocessableEntityException(ExceptionMessages.BRACKET_ALREADY_COMPLETE.message);
+    }
+
+    /**
+     * Identifica as equipes que possuem participantes inscritos no evento, na ordem em que são declaradas
+     * em {@link Team}.
+     *
+     * @param participants Listagem dos participantes inscritos no evento.
+     * @return As equipes do evento.
+     * @throws UnprocessableEntityException Caso o evento possua menos equipes do que o necessário para as semifinais.
+     */
+    public static List<Team> findEventTeams(List<Participant> participants) {
+
+        var teams = EnumSet.noneOf(Team.class);
+
+        participants.stream()
+                .map(Participant::getTeam)
+                .filter(team -> !team.equals(Team.NONE))
+                .forEach(teams::add);
+
+        if (teams.size() < MINIMUM_TEAMS) {
+            throw new UnprocessableEntityException(
+                    ExceptionMessages.NOT_ENOUGH_TEAMS_FOR_BRACKET.message.formatted(MINIMUM_TEAMS)
+            );
+        }
+        return List.copyOf(teams);
+    }
+
+    /**
+     * Gera os confrontos de partidas normais a partir de uma posição da sequência de confrontos de todos contra
+     * todos. A posição inicial permite que eventos com partidas normais já registradas continuem a sequência
+     * de onde ela parou.
+     *
+     * @param teams Equipes do evento.
+     * @param offset Posição inicial da sequência, normalmente o número de partidas normais já registradas.
+     * @param count Quantidade de confrontos gerados.
+     * @return Os confrontos gerados, na ordem em que devem ser disputados.
+     */
+    public static List<Pairing> generateRoundRobin(List<Team> teams, int offset, int count) {
+
+        var cycle = createRoundRobinCycle(teams);
+        var pairings = new ArrayList<Pairing>(count);
+
+        for (int i = offset; i < offset + count; i++) {
+            var pairing = cycle.get(i % cycle.size());
+            var reversed = (i / cycle.size()) % 2 == 1;
+
+            pairings.add(reversed ? new Pairing(pairing.teamB(), pairing.teamA()) : pairing);
+        }
+        return pairings;
+    }
+
+    /**
+     * Gera os confrontos das semifinais a partir da classificação das partidas normais. Caso alguma semifinal
+     * já tenha sido registrada, apenas os confrontos cujas equipes ainda não estejam em uma semifinal são gerados.
+     *
+     * @param teams Equipes do evento.
+     * @param matches Partidas já registradas no evento.
+     * @param count Quantidade de semifinais que ainda podem ser registradas.
+     * @return Os confrontos das semifinais.
+     */
+    public static List<Pairing> generateSemifinals(List<Team> teams, List<Match> matches, int count) {
+
+        var standings = calculateStandings(teams, filterMatches(matches, Importance.NORMAL));
+        var registeredTeams = EnumSet.noneOf(Team.class);
+
+        filterMatches(matches, Importance.SEMIFINAL).forEach(match -> {
+            registeredTeams.add(match.getTeamA());
+            registeredTeams.add(match.getTeamB());
+        });
+
+        return List.of(new Pairing(standings.get(0), standings.get(3)), new Pairing(standings.get(1), standings.get(2)))
+                .stream()
+                .filter(pairing -> !registeredTeams.contains(pairing.teamA()) && !registeredTeams.contains(pairing.teamB()))
+                .limit(count)
+                .toList();
+    }
+
+    /**
+     * Gera o confronto da disputa pelo terceiro lugar, formado pelos perdedores das semifinais.
+     *
+     * @param matches Partidas já registradas no evento.
+     * @return O confronto da disputa pelo terceiro lugar.
+     * @throws BadRequestException Caso alguma semifinal não possua um vencedor definido.
+     */
+    public static Pairing generateThirdPlacePlayoff(List<Match> matches) {
+
+        var semifinals = filterMatches(matches, Importance.SEMIFINAL);
+        return new Pairing(findLoser(semifinals.get(0)), findLoser(semifinals.get(1)));
+    }
+
+    /**
+     * Gera o confronto da final, formado pelos vencedores das semifinais.
+     *
+     * @param matches Partidas já registradas no evento.
+     * @return O confronto da final.
+     * @throws BadRequestException Caso alguma semifinal não possua um vencedor definido.
+     */
+    public static Pairing generateFinal(List<Match> matches) {
+
+        var semifinals = filterMatches(matches, Importance.SEMIFINAL);
+        return new Pairing(findWinner(semifinals.get(0)), findWinner(semifinals.get(1)));
+    }
+
+    /**
+     * <p>Calcula a classificação das equipes com base nos resultados das partidas encerradas. Cada vitória
+     * vale três pontos e cada empate vale um ponto. Em caso de empate na pontuação, são utilizados, em ordem,
+     * o saldo de pontos marcados, o total de pontos marcados e a ordem de declaração em {@link Team}.</p>
+     *
+     * @param teams Equipes classificadas.
+     * @param matches Partidas utilizadas no cálculo da classificação.
+     * @return As equipes ordenadas da primeira até a última colocação.
+     */
+    public static List<Team> calculateStandings(List<Team> teams, List<Match> matches) {
+
+        var points = new EnumMap<Team, Integer>(Team.class);
+        var balance = new EnumMap<Team, Integer>(Team.class);
+        var scored = new EnumMap<Team, Integer>(Team.class);
+
+        for (var match : matches) {
+            if (!match.getMatchStatus().equals(Status.ENDED)) continue;
+
+            var scoreA = match.getTeamScoreA();
+            var scoreB = match.getTeamScoreB();
+            var pointsA = (scoreA > scoreB) ? WIN_POINTS : (scoreA.equals(scoreB) ? DRAW_POINTS : 0);
+            var pointsB = (scoreB > scoreA) ? WIN_POINTS : (scoreA.equals(scoreB) ? DRAW_POINTS : 0);
+
+            points.merge(match.getTeamA(), pointsA, Integer::sum);
+            points.merge(match.getTeamB(), pointsB, Integer::sum);
+            balance.merge(match.getTeamA(), scoreA - scoreB, Integer::sum);
+            balance.merge(match.getTeamB(), scoreB - scoreA, Integer::sum);
+            scored.merge(match.getTeamA(), scoreA, Integer::sum);
+            scored.merge(match.getTeamB(), scoreB, Integer::sum);
+        }
+        Comparator<Team> comparator = Comparator
+                .<Team>comparingInt(team -> points.getOrDefault(team, 0))
+                .thenComparingInt(team -> balance.getOrDefault(team, 0))
+                .thenComparingInt(team -> scored.getOrDefault(team, 0))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder());
+
+        return teams.stream()
+                .sorted(comparator)
+                .toList();
+    }
+
+    /**
+     * Verifica se os horários fornecidos são suficientes e válidos para as partidas que serão geradas,
+     * retornando-os em ordem cronológica. Cada horário deve terminar após o seu início, e nenhum horário
+     * pode se sobrepor a outro, já que as partidas de um mesmo evento não podem ocorrer simultaneamente.
+     *
+     * @param slots Horários disponíveis para as partidas.
+     * @param necessarySlots Quantidade de partidas que serão geradas.
+     * @return Os primeiros horários necessários, em ordem cronológica.
+     * @throws BadRequestException Caso os horários sejam insuficientes, inválidos ou se sobreponham.
+     */
+    public static List<TimeSlot> checkTimeSlots(List<TimeSlot> slots, int necessarySlots) {
+
+        if (slots.size() < necessarySlots) {
+            throw new BadRequestException(
+                    ExceptionMessages.NOT_ENOUGH_TIME_SLOTS.message.formatted(necessarySlots, slots.size())
+            );
+        }
+        var sortedSlots = slots.stream()
+                .sorted(Comparator.comparing(TimeSlot::matchStart))
+                .toList();
+
+        TimeSlot previous = null;
+
+        for (var slot : sortedSlots) {
+            var invalid = !slot.matchStart().isBefore(slot.matchEnd())
+                    || (previous != null && slot.matchStart().isBefore(previous.matchEnd()));
+
+            if (invalid) {
+                throw new BadRequestException(ExceptionMessages.INVALID_TIME_SLOTS.message);
+            }
+            previous = slot;
+        }
+        return sortedSlots.subList(0, necessarySlots);
+    }
+
+    /**
+     * Gera um ciclo completo de confrontos de todos contra todos através do método do círculo. Caso a
+     * quantidade de equipes seja ímpar, uma equipe fictícia é adicionada, e a equipe que a enfrentaria
+     * folga na rodada.
+     *
+     * @param teams Equipes do evento.
+     * @return Os confrontos do ciclo, agrupados por rodada.
+     */
+    private static List<Pairing> createRoundRobinCycle(List<Team> teams) {
+
+        var positions = new ArrayList<Team>(teams);
+
+        if (positions.size() % 2 == 1) positions.add(null);
+
+        var size = positions.size();
+        var pairings = new ArrayList<Pairing>(size * (size - 1) / 2);
+
+        for (int round = 0; round < size - 1; round++) {
+            for (int i = 0; i < size / 2; i++) {
+                var home = positions.get(i);
+                var away = positions.get(size - 1 - i);
+
+                if (home == null || away == null) continue;
+
+                pairings.add((round % 2 == 0) ? new Pairing(home, away) : new Pairing(away, home));
+            }
+            positions.add(1, positions.remove(size - 1));
+        }
+        return pairings;
+    }
+
+    private static List<Match> filterMatches(List<Match> matches, Importance importance) {
+
+        return matches.stream()
+                .filter(match -> match.getMatchImportance().equals(importance))
+                .sorted(Comparator.comparing(Match::getMatchStart))
+                .toList();
+    }
+
+    private static Team findWinner(Match match) {
+
+        var scoreA = match.getTeamScoreA();
+        var scoreB = match.getTeamScoreB();
+
+        if (scoreA.equals(scoreB)) {
+            throw new BadRequestException(ExceptionMessages.UNDEFINED_MATCH_WINNER.message.formatted(match.getId()));
+        }
+        return (scoreA > scoreB) ? match.getTeamA() : match.getTeamB();
+    }
+
+    private static Team findLoser(Match match) {
+
+        var winner = findWinner(match);
+        return winner.equals(match.getTeamA()) ? match.getTeamB() : match.getTeamA();
+    }
+
+}
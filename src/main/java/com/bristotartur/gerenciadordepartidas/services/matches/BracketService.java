@@ -0,0 +1,135 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestBracketDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchDto;
+import com.bristotartur.gerenciadordepartidas.enums.Importance;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.mappers.MatchMapper;
+import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import com.bristotartur.gerenciadordepartidas.services.matches.BracketGenerator.Pairing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Serviço responsável por gerar o chaveamento de instâncias de {@link SportEvent}, registrando todas as
+ * partidas de uma fase do evento em uma única transação, ao invés de uma requisição por partida.</p>
+ *
+ * <p>Como as partidas decisivas são formadas a partir dos resultados das fases anteriores, cada chamada gera
+ * apenas a próxima fase que o evento está apto a registrar: todas as partidas normais restantes, as semifinais,
+ * a disputa pelo terceiro lugar e, por fim, a final. Os confrontos são calculados por {@link BracketGenerator}
+ * e distribuídos nos horários fornecidos em ordem cronológica.</p>
+ *
+ * @see BracketGenerator
+ * @see MatchValidator
+ * @see MatchServiceMediator
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class BracketService {
+
+    private final MatchMapper matchMapper;
+    private final MatchServiceMediator matchServiceMediator;
+    private final SportEventService sportEventService;
+
+    /**
+     * Gera e persiste as partidas da próxima fase de um evento esportivo, com base nos participantes do evento,
+     * nos resultados das partidas já registradas e nos horários fornecidos.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param requestBracketDto DTO do tipo {@link RequestBracketDto} contendo os horários disponíveis para as partidas.
+     * @return As partidas geradas, em ordem cronológica.
+     * @throws NotFoundException Caso nenhum evento correspondente ao ID seja encontrado.
+     * @throws UnprocessableEntityException Caso o evento esteja encerrado, não possua equipes suficientes ou
+     * já possua todas as suas partidas registradas.
+     * @throws BadRequestException Caso as partidas da fase anterior não estejam encerradas, alguma semifinal não
+     * possua um vencedor, os horários sejam insuficientes ou inválidos, ou algum jogador já esteja em outra partida
+     * com horário sobreposto.
+     */
+    public List<Match> generateBracket(Long eventId, RequestBracketDto requestBracketDto) {
+
+        var event = sportEventService.findEventAndCheckStatus(eventId);
+        var matches = Objects.requireNonNullElse(event.getMatches(), List.<Match>of());
+        var participants = Objects.requireNonNullElse(event.getParticipants(), List.<Participant>of());
+
+        var counters = event.getMatchCounters();
+
+        var importance = BracketGenerator.findNextImportance(counters.getRegisteredMatches(), event.getTotalMatches());
+        MatchValidator.checkMatchesForImportance(counters, importance);
+
+        var teams = BracketGenerator.findEventTeams(participants);
+        var pairings = this.generatePairings(event, teams, matches, importance);
+        var slots = BracketGenerator.checkTimeSlots(requestBracketDto.slots(), pairings.size());
+
+        var playersByTeam = new EnumMap<Team, List<Participant>>(Team.class);
+        participants.forEach(participant -> playersByTeam
+                .computeIfAbsent(participant.getTeam(), team -> new ArrayList<>())
+                .add(participant));
+
+        var newMatches = new ArrayList<Match>(pairings.size());
+
+        for (int i = 0; i < pairings.size(); i++) {
+            var pairing = pairings.get(i);
+            var slot = slots.get(i);
+
+            var players = new ArrayList<Participant>(playersByTeam.getOrDefault(pairing.teamA(), List.of()));
+            players.addAll(playersByTeam.getOrDefault(pairing.teamB(), List.of()));
+
+            var requestMatchDto = RequestMatchDto.builder()
+                    .sport(event.getType())
+                    .matchImportance(importance)
+                    .teamA(pairing.teamA())
+                    .teamB(pairing.teamB())
+                    .playerIds(players.stream().map(Participant::getId).toList())
+                    .eventId(eventId)
+                    .modality(event.getModality())
+                    .matchStart(slot.matchStart())
+                    .matchEnd(slot.matchEnd())
+                    .build();
+
+            newMatches.add(matchMapper.toNewMatch(requestMatchDto, players, event));
+        }
+        var savedMatches = matchServiceMediator.saveMatches(newMatches, event.getType());
+        savedMatches.forEach(counters::add);
+
+        log.info("'{}' Matches of importance '{}' were generated for SportEvent '{}'.", savedMatches.size(), importance, eventId);
+        return savedMatches;
+    }
+
+    /**
+     * Gera os confrontos da fase correspondente a importância informada.
+     *
+     * @param event Evento esportivo no qual as partidas serão geradas.
+     * @param teams Equipes do evento.
+     * @param matches Partidas já registradas no evento.
+     * @param importance Importância das partidas que serão geradas.
+     * @return Os confrontos da fase.
+     */
+    private List<Pairing> generatePairings(SportEvent event, List<Team> teams, List<Match> matches, Importance importance) {
+
+        var totalMatches = event.getTotalMatches();
+
+        return switch (importance) {
+            case NORMAL -> BracketGenerator.generateRoundRobin(teams, matches.size(), totalMatches - 4 - matches.size());
+            case SEMIFINAL -> BracketGenerator.generateSemifinals(teams, matches, totalMatches - 2 - matches.size());
+            case THIRD_PLACE_PLAYOFF -> List.of(BracketGenerator.generateThirdPlacePlayoff(matches));
+            case FINAL -> List.of(BracketGenerator.generateFinal(matches));
+            case NONE -> List.of();
+        };
+    }
+
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 /**
@@ -37,6 +38,17 @@ public class ChessMatchService implements MatchStrategy<ChessMatch> {
         return chessMatchRepository.findAll(pageable);
     }
 
+    /**
+     * Recupera uma fatia contendo instâncias da {@link ChessMatch}, sem realizar a consulta de contagem.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo as instâncias de {@link ChessMatch} da página especificada.
+     */
+    @Override
+    public Slice<ChessMatch> findSlice(Pageable pageable) {
+        return chessMatchRepository.findAllBy(pageable);
+    }
+
     /**
      * Busca uma partida de xadrez pelo seu ID.
      *
@@ -0,0 +1,270 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestGoalDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchResultDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchResultDto.ResultGoal;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchResultDto.ResultPenaltyCard;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestPenaltyCardDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestResultSheetDto;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.mappers.GoalMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.MatchMapper;
+import com.bristotartur.gerenciadordepartidas.mappers.PenaltyCardMapper;
+import com.bristotartur.gerenciadordepartidas.repositories.ActionBatchRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.actions.ActionValidator;
+import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import com.bristotartur.gerenciadordepartidas.services.people.ParticipantService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>Serviço responsável pelo registro em lote de resultados de partidas já disputadas, como amistosos ou
+ * súmulas em papel, substituindo a sequência de criar a partida, iniciá-la, registrar cada ação e encerrá-la.</p>
+ *
+ * <p>Os resultados são agrupados por evento esportivo e cada evento é registrado em uma transação própria: os
+ * resultados de um evento são validados em memória com as mesmas regras de {@link MatchValidator} e
+ * {@link ActionValidator}, e caso algum deles seja inválido, nenhum resultado do evento é registrado. Os eventos
+ * são processados na ordem em que aparecem, portanto os eventos anteriores a um evento inválido permanecem
+ * registrados.</p>
+ *
+ * <p>Os gols e cartões de penalidade são inseridos em lotes por {@link ActionBatchRepository}, e os contadores
+ * derivados das partidas são atualizados uma única vez por evento.</p>
+ *
+ * @see MatchService
+ * @see RequestResultSheetDto
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchResultService {
+
+    private final MatchMapper matchMapper;
+    private final GoalMapper goalMapper;
+    private final PenaltyCardMapper penaltyCardMapper;
+    private final MatchServiceMediator matchServiceMediator;
+    private final SportEventService sportEventService;
+    private final ParticipantService participantService;
+    private final PlayerStatisticsService playerStatisticsService;
+    private final TeamRecordService teamRecordService;
+    private final ResponseCache responseCache;
+    private final ActionBatchRepository actionBatchRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Registra os resultados fornecidos em {@link RequestResultSheetDto}, criando cada partida já encerrada,
+     * com o seu placar final, seus gols e seus cartões de penalidade.
+     *
+     * @param requestResultSheetDto DTO do tipo {@link RequestResultSheetDto} contendo os resultados das partidas.
+     * @return As partidas registradas, agrupadas por evento e em ordem cronológica dentro de cada evento.
+     * @throws NotFoundException Caso algum evento ou participante não corresponda aos IDs fornecidos.
+     * @throws UnprocessableEntityException Caso algum evento esteja encerrado, alguma modalidade esportiva não
+     * suporte as ações fornecidas ou o jogador de alguma ação não esteja relacionado a partida.
+     * @throws BadRequestException Caso algum evento não esteja em andamento ou possua uma partida em andamento, a
+     * seleção das equipes ou jogadores seja irregular, algum jogador já esteja em outra partida com horário
+     * sobreposto ou o placar de alguma partida não corresponda aos seus gols.
+     */
+    public List<Match> saveResultSheet(RequestResultSheetDto requestResultSheetDto) {
+
+        var resultsByEvent = requestResultSheetDto.results().stream()
+                .collect(Collectors.groupingBy(result -> result.match().eventId(), LinkedHashMap::new, Collectors.toList()));
+
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var savedMatches = new ArrayList<Match>();
+        resultsByEvent.forEach((eventId, results) -> savedMatches.addAll(
+                Objects.requireNonNull(transaction.execute(status -> this.saveEventResults(eventId, results)))
+        ));
+
+        log.info("'{}' Match results from '{}' SportEvents were registered.", savedMatches.size(), resultsByEvent.size());
+        return savedMatches;
+    }
+
+    /**
+     * Valida e persiste os resultados de um único evento esportivo na transação atual. Os resultados são
+     * aplicados em ordem cronológica, de forma que as regras de importância das partidas sejam verificadas
+     * na mesma ordem em que as partidas ocorreram.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param results Resultados das partidas do evento.
+     * @return As partidas registradas.
+     */
+    private List<Match> saveEventResults(Long eventId, List<RequestMatchResultDto> results) {
+
+        var event = sportEventService.findEventAndCheckStatus(eventId);
+        MatchValidator.checkMatchStatus(event, Status.IN_PROGRESS);
+
+        var players = participantService.findParticipantsById(results.stream()
+                .flatMap(this::findPlayerIds)
+                .collect(Collectors.toSet()));
+
+        var matches = new ArrayList<Match>(results.size());
+        var goals = new ArrayList<Goal>();
+        var penaltyCards = new ArrayList<PenaltyCard>();
+
+        var orderedResults = results.stream()
+                .sorted(Comparator.comparing(result -> result.match().matchStart()))
+                .toList();
+
+        for (var result : orderedResults) {
+            var match = this.saveResultMatch(result, event, players);
+
+            matches.add(match);
+            goals.addAll(this.createGoals(result, match, players));
+            penaltyCards.addAll(this.createPenaltyCards(result, match, players));
+        }
+        entityManager.flush();
+        actionBatchRepository.insertGoals(goals);
+        actionBatchRepository.insertPenaltyCards(penaltyCards);
+        responseCache.invalidate(ResponseCache.GOALS, ResponseCache.PENALTY_CARDS);
+
+        teamRecordService.addMatches(matches);
+        playerStatisticsService.addMatchResults(event, matches, goals, penaltyCards);
+
+        log.info("'{}' Match results with '{}' Goals and '{}' Penalty Cards were registered in SportEvent '{}'.",
+                matches.size(), goals.size(), penaltyCards.size(), eventId);
+        return matches;
+    }
+
+    /**
+     * Valida e persiste uma partida já encerrada, contabilizando-a nos contadores do evento.
+     *
+     * @param result Resultado da partida.
+     * @param event Evento relacionado a partida.
+     * @param players Participantes do lote, indexados pelo seu ID.
+     * @return A partida persistida.
+     */
+    private Match saveResultMatch(RequestMatchResultDto result, SportEvent event, Map<Long, Participant> players) {
+
+        var dto = result.match();
+        var matchPlayers = dto.playerIds().stream().map(players::get).toList();
+
+        MatchValidator.checkTeamsForMatch(dto);
+        MatchValidator.checkMatchForSportEvent(event, dto);
+        MatchValidator.checkMatchImportance(event, dto);
+        MatchValidator.checkPlayersForMatch(matchPlayers, dto);
+        this.checkActions(result);
+
+        var match = matchMapper.toNewMatch(dto, matchPlayers, event);
+        match.setTeamScoreA(result.teamScoreA());
+        match.setTeamScoreB(result.teamScoreB());
+        match.setMatchStatus(Status.ENDED);
+
+        var savedMatch = matchServiceMediator.saveMatch(match, dto.sport());
+        event.getMatchCounters().add(savedMatch);
+
+        return savedMatch;
+    }
+
+    /**
+     * Verifica se as ações do resultado são suportadas pela modalidade esportiva da partida.
+     *
+     * @param result Resultado da partida.
+     * @throws UnprocessableEntityException Caso a modalidade esportiva não suporte as ações fornecidas.
+     */
+    private void checkActions(RequestMatchResultDto result) {
+
+        var sport = result.match().sport();
+
+        if (!this.findGoals(result).isEmpty()) ActionValidator.checkSportForGoals(sport);
+        if (!this.findPenaltyCards(result).isEmpty()) ActionValidator.checkSportForPenaltyCards(sport);
+    }
+
+    /**
+     * Gera os gols de uma partida persistida, validando os jogadores de cada gol. Caso o resultado possua gols,
+     * eles devem corresponder ao placar de cada equipe, enquanto resultados sem gols mantêm apenas o placar.
+     *
+     * @param result Resultado da partida.
+     * @param match Partida persistida.
+     * @param players Participantes do lote, indexados pelo seu ID.
+     * @return Os gols da partida, ainda não persistidos.
+     * @throws UnprocessableEntityException Caso o jogador de algum gol não esteja relacionado a partida.
+     * @throws BadRequestException Caso os gols de cada equipe não correspondam ao placar.
+     */
+    private List<Goal> createGoals(RequestMatchResultDto result, Match match, Map<Long, Participant> players) {
+
+        var goals = this.findGoals(result).stream()
+                .map(goal -> {
+                    var player = players.get(goal.playerId());
+                    ActionValidator.checkPlayerForAction(player, match);
+
+                    var dto = new RequestGoalDto(goal.goalTime(), player.getId(), match.getId(), result.match().sport());
+                    return goalMapper.toNewGoal(dto, player, match);
+                })
+                .toList();
+
+        var goalsForTeamA = goals.stream().filter(goal -> goal.getTeam().equals(match.getTeamA())).count();
+        var goalsForTeamB = goals.size() - goalsForTeamA;
+
+        if (!goals.isEmpty() && (goalsForTeamA != match.getTeamScoreA() || goalsForTeamB != match.getTeamScoreB())) {
+            throw new BadRequestException(ExceptionMessages.INVALID_MATCH_SCORE.message.formatted(match.getMatchStart()));
+        }
+        return goals;
+    }
+
+    /**
+     * Gera os cartões de penalidade de uma partida persistida, validando os jogadores de cada cartão.
+     *
+     * @param result Resultado da partida.
+     * @param match Partida persistida.
+     * @param players Participantes do lote, indexados pelo seu ID.
+     * @return Os cartões da partida, ainda não persistidos.
+     * @throws UnprocessableEntityException Caso o jogador de algum cartão não esteja relacionado a partida.
+     */
+    private List<PenaltyCard> createPenaltyCards(RequestMatchResultDto result, Match match, Map<Long, Participant> players) {
+
+        return this.findPenaltyCards(result).stream()
+                .map(penaltyCard -> {
+                    var player = players.get(penaltyCard.playerId());
+                    ActionValidator.checkPlayerForAction(player, match);
+
+                    var dto = new RequestPenaltyCardDto(penaltyCard.color(), penaltyCard.penaltyCardTime(),
+                            player.getId(), match.getId(), result.match().sport());
+                    return penaltyCardMapper.toNewPenaltyCard(dto, player, match);
+                })
+                .toList();
+    }
+
+    private Stream<Long> findPlayerIds(RequestMatchResultDto result) {
+
+        var goalPlayers = this.findGoals(result).stream().map(ResultGoal::playerId);
+        var penaltyCardPlayers = this.findPenaltyCards(result).stream().map(ResultPenaltyCard::playerId);
+
+        return Stream.of(result.match().playerIds().stream(), goalPlayers, penaltyCardPlayers).flatMap(ids -> ids);
+    }
+
+    private List<ResultGoal> findGoals(RequestMatchResultDto result) {
+        return Objects.requireNonNullElse(result.goals(), List.of());
+    }
+
+    private List<ResultPenaltyCard> findPenaltyCards(RequestMatchResultDto result) {
+        return Objects.requireNonNullElse(result.penaltyCards(), List.of());
+    }
+
+}
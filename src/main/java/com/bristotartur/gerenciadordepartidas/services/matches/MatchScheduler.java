@@ -0,0 +1,162 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestScheduleDto.Venue;
+import com.bristotartur.gerenciadordepartidas.dtos.request.TimeSlot;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.utils.IntervalTree;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * <p>Responsável por alocar partidas em horários e locais de uma {@link Edition}, garantindo que nenhum
+ * jogador ou local seja reservado em dois horários sobrepostos e que as partidas de um mesmo evento ocorram
+ * uma de cada vez, na ordem em que forem alocadas.</p>
+ *
+ * <p>As reservas de cada jogador e de cada local são mantidas em instâncias de {@link IntervalTree}, de forma
+ * que cada verificação de conflito custe O(log n) em relação a quantidade de reservas, ao invés de comparar
+ * a partida com todas as demais partidas da edição.</p>
+ *
+ * <p>Cada instância representa uma única execução do agendamento e não deve ser compartilhada entre threads.</p>
+ *
+ * @see ScheduleService
+ */
+public final class MatchScheduler {
+
+    private final List<TimeSlot> slots;
+    private final Map<Sports, List<String>> venuesBySport = new EnumMap<>(Sports.class);
+    private final Map<Long, IntervalTree<LocalDateTime, Long>> playerReservations = new HashMap<>();
+    private final Map<String, IntervalTree<LocalDateTime, Long>> venueReservations = new HashMap<>();
+    private final Map<Long, LocalDateTime> eventAvailability = new HashMap<>();
+
+    /**
+     * Representa a alocação de uma partida em um horário e local.
+     *
+     * @param match Partida alocada.
+     * @param slot Horário em que a partida ocorrerá.
+     * @param venue Nome do local em que a partida ocorrerá.
+     */
+    public record Assignment(Match match, TimeSlot slot, String venue) {
+    }
+
+    /**
+     * Gera um novo agendador com base nos locais e horários disponíveis. Cada horário pode ser utilizado
+     * uma vez em cada local.
+     *
+     * @param venues Locais disponíveis para as partidas.
+     * @param slots Horários disponíveis em cada local.
+     * @throws BadRequestException Caso algum horário não termine após o seu início.
+     */
+    public MatchScheduler(List<Venue> venues, List<TimeSlot> slots) {
+
+        slots.stream()
+                .filter(slot -> !slot.matchStart().isBefore(slot.matchEnd()))
+                .findFirst()
+                .ifPresent(slot -> {
+                    throw new BadRequestException(ExceptionMessages.INVALID_TIME_SLOT.message);
+                });
+
+        this.slots = slots.stream()
+                .sorted(Comparator.comparing(TimeSlot::matchStart).thenComparing(TimeSlot::matchEnd))
+                .toList();
+
+        venues.forEach(venue -> venue.sports().forEach(sport -> venuesBySport
+                .computeIfAbsent(sport, key -> new ArrayList<>())
+                .add(venue.name())));
+    }
+
+    /**
+     * Registra uma partida que já possui horário definido e não será realocada, como partidas em andamento
+     * ou encerradas, para que seus jogadores, local e evento sejam considerados nas próximas alocações.
+     *
+     * @param match Partida com horário definido.
+     */
+    public void reserve(Match match) {
+        this.reserve(match, match.getMatchStart(), match.getMatchEnd(), match.getVenue());
+    }
+
+    /**
+     * Aloca uma partida no primeiro horário disponível em que nenhum de seus jogadores e o local escolhido
+     * estejam reservados, e que comece após o fim da última partida alocada para o mesmo evento.
+     *
+     * @param match Partida a ser alocada.
+     * @return A alocação da partida.
+     * @throws UnprocessableEntityException Caso não exista nenhum horário e local disponível para a partida.
+     */
+    public Assignment assign(Match match) {
+
+        var venues = venuesBySport.getOrDefault(match.getEvent().getType(), List.of());
+        var availableFrom = eventAvailability.get(match.getEvent().getId());
+
+        for (int i = this.findFirstSlot(availableFrom); i < slots.size(); i++) {
+            var slot = slots.get(i);
+
+            if (this.hasPlayerConflict(match.getPlayers(), slot)) continue;
+
+            for (var venue : venues) {
+                var reservations = venueReservations.get(venue);
+
+                if (reservations != null && reservations.overlaps(slot.matchStart(), slot.matchEnd())) continue;
+
+                this.reserve(match, slot.matchStart(), slot.matchEnd(), venue);
+                return new Assignment(match, slot, venue);
+            }
+        }
+        throw new UnprocessableEntityException(ExceptionMessages.MATCH_CANNOT_BE_SCHEDULED.message.formatted(match.getId()));
+    }
+
+    private void reserve(Match match, LocalDateTime start, LocalDateTime end, String venue) {
+
+        var id = match.getId();
+
+        for (var player : match.getPlayers()) {
+            playerReservations.computeIfAbsent(player.getId(), key -> new IntervalTree<>()).insert(start, end, id);
+        }
+        if (venue != null) {
+            venueReservations.computeIfAbsent(venue, key -> new IntervalTree<>()).insert(start, end, id);
+        }
+        eventAvailability.merge(match.getEvent().getId(), end, (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+    }
+
+    private boolean hasPlayerConflict(List<Participant> players, TimeSlot slot) {
+
+        for (var player : players) {
+            var reservations = playerReservations.get(player.getId());
+
+            if (reservations != null && reservations.overlaps(slot.matchStart(), slot.matchEnd())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Busca, através de uma busca binária, o índice do primeiro horário que começa a partir do momento informado.
+     *
+     * @param availableFrom Momento a partir do qual o horário deve começar, podendo ser nulo.
+     * @return O índice do primeiro horário disponível.
+     */
+    private int findFirstSlot(LocalDateTime availableFrom) {
+
+        if (availableFrom == null) return 0;
+
+        int low = 0;
+        int high = slots.size();
+
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+
+            if (slots.get(middle).matchStart().isBefore(availableFrom)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+}
@@ -4,26 +4,41 @@ import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
 import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.mappers.MatchMapper;
 import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
 import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
 import com.bristotartur.gerenciadordepartidas.services.people.ParticipantService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import com.bristotartur.gerenciadordepartidas.utils.ConstraintUtil;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
+import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -50,6 +65,11 @@ public class MatchService {
     private final ParticipantService participantService;
     private final MatchServiceMediator matchServiceMediator;
     private final SportEventService sportEventService;
+    private final EditionService editionService;
+    private final PlayerScheduleIndex playerScheduleIndex;
+    private final PlayerStatisticsService playerStatisticsService;
+    private final TeamRecordService teamRecordService;
+    private final ResponseCache responseCache;
 
     /**
      * Retorna uma lista paginada das partidas disponíveis no sistema.
@@ -67,6 +87,54 @@ public class MatchService {
         return matches;
     }
 
+    /**
+     * Retorna uma fatia das partidas disponíveis no sistema. Caso a contagem não seja solicitada, apenas a
+     * consulta dos dados será realizada, sem a consulta de contagem necessária para gerar uma {@link Page}.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de partidas deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<Match> findAllMatches(Pageable pageable, boolean count) {
+
+        if (count) return this.findAllMatches(pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var matches = matchRepository.findAllBy(pageable);
+
+        log.info("Match slice of number '{}' and size '{}' was returned.", number, size);
+        return matches;
+    }
+
+    /**
+     * Retorna uma página das partidas disponíveis no sistema utilizando paginação por keyset. As partidas
+     * são ordenadas pelo seu horário de início e pelo seu ID, de forma que inserções concorrentes não
+     * causem a repetição ou o salto de partidas entre as páginas.
+     *
+     * @param cursor Cursor opaco retornado pela página anterior, ou nulo para buscar a primeira página.
+     * @param size Quantidade de partidas na página.
+     * @param count Define se o total de partidas deve ser calculado.
+     * @return Uma {@link CursorPage} contendo as partidas posteriores ao cursor.
+     * @throws BadRequestException Caso o cursor fornecido seja inválido.
+     */
+    public CursorPage<Match> scrollMatches(String cursor, int size, boolean count) {
+
+        var pageable = PageRequest.of(0, size + 1);
+        List<Match> matches;
+
+        if (cursor == null || cursor.isBlank()) {
+            matches = matchRepository.findFirstMatchesByKeyset(pageable);
+        } else {
+            var keys = CursorUtil.decode(cursor, 2);
+            matches = matchRepository.findMatchesAfterKeyset(this.parseMatchStart(keys[0]), CursorUtil.parseId(keys[1]), pageable);
+        }
+        var totalElements = count ? matchRepository.count() : null;
+
+        log.info("Match page of size '{}' after cursor '{}' was returned.", size, cursor);
+        return CursorPage.of(matches, size, match -> CursorUtil.encode(match.getMatchStart(), match.getId()), totalElements);
+    }
+
     /**
      * Recupera uma lista paginada contendo todas as instâncias de uma especialização específica de {@link Match}.
      *
@@ -84,21 +152,67 @@ public class MatchService {
         return matches;
     }
 
+    /**
+     * Recupera uma fatia contendo instâncias de uma especialização específica de {@link Match}, realizando a
+     * consulta de contagem apenas quando solicitada.
+     *
+     * @param sport Esporte no qual as instâncias retornadas na lista serão especializadas.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de partidas deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<? extends Match> findMatchesBySport(Sports sport, Pageable pageable, boolean count) {
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var matches = matchServiceMediator.findMatchesBySport(sport, pageable, count);
+
+        log.info("Matches slice of number '{}' and size '{}' with type '{}' was returned.", number, size, sport);
+        return matches;
+    }
+
     /**
      * Busca por todas as partidas relacionadas a um evento esportivo específico.
      *
      * @param sportEventId Identificador único do evento esportivo.
      * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
-     * @return Um {@link Page} contendo todas as partidas relacionadas ao evento esportivo especificado.
+     * @return Um {@link Page} contendo as partidas relacionadas ao evento esportivo especificado.
+     * @throws NotFoundException Caso nenhum evento esportivo correspondente ao ID for encontrado.
      */
     public Page<? extends Match> findMatchesBySportEvent(Long sportEventId, Pageable pageable) {
 
+        sportEventService.findEventById(sportEventId);
+
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
-        var matches = sportEventService.findEventById(sportEventId).getMatches();
+        var matches = matchRepository.findEventMatches(sportEventId, pageable);
 
         log.info("Match page of number '{}' and size '{}' from SportEvent '{}' was returned.", number, size, sportEventId);
-        return new PageImpl<>(matches, pageable, matches.size());
+        return matches;
+    }
+
+    /**
+     * Busca por uma fatia das partidas relacionadas a um evento esportivo específico. Caso a contagem não seja
+     * solicitada, as partidas são buscadas diretamente de forma paginada, sem a consulta de contagem.
+     *
+     * @param sportEventId Identificador único do evento esportivo.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de partidas deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     * @throws NotFoundException Caso nenhum evento esportivo correspondente ao ID for encontrado.
+     */
+    public Slice<? extends Match> findMatchesBySportEvent(Long sportEventId, Pageable pageable, boolean count) {
+
+        if (count) return this.findMatchesBySportEvent(sportEventId, pageable);
+
+        sportEventService.findEventById(sportEventId);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var matches = matchRepository.findEventMatchesSlice(sportEventId, pageable);
+
+        log.info("Match slice of number '{}' and size '{}' from SportEvent '{}' was returned.", number, size, sportEventId);
+        return matches;
     }
 
     /**
@@ -121,6 +235,30 @@ public class MatchService {
         return players;
     }
 
+    /**
+     * Retorna uma fatia dos jogadores presentes em uma partida, realizando a consulta de contagem apenas
+     * quando solicitada.
+     *
+     * @param id Identificador único da partida.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de jogadores deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     * @throws NotFoundException Caso nenhuma partida correspondente ao ID for encontrada.
+     */
+    public Slice<Participant> findAllMatchPlayers(Long id, Pageable pageable, boolean count) {
+
+        if (count) return this.findAllMatchPlayers(id, pageable);
+
+        this.findMatchById(id);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var players = matchRepository.findMatchPlayersSlice(id, pageable);
+
+        log.info("Player slice of number '{}' and size '{}' from Match '{}' was returned.", number, size, id);
+        return players;
+    }
+
     /**
      * Busca por uma entidade específica do tipo {@link Match} com base no seu ID.
      *
@@ -144,11 +282,7 @@ public class MatchService {
      * @return Nova instância de {@link ResponseMatchDto} contendo os dados fornecidos.
      */
     public ResponseMatchDto createExposingMatchDto(Match match) {
-
-        var sportType = matchRepository.findMatchTypeById(match.getId(), entityManager);
-        var sport = Sports.valueOf(sportType);
-
-        return matchMapper.toNewExposingMatchDto(match, sport);
+        return matchMapper.toNewExposingMatchDto(match, this.findMatchSport(match));
     }
 
     /**
@@ -158,7 +292,8 @@ public class MatchService {
      * @param requestMatchDto DTO do tipo {@link RequestMatchDto} contendo os dados da partida a ser salva.
      * @return A partida recém-salva.
      * @throws NotFoundException Caso alguma entidade não corresponda aos IDs fornecidos por {@link RequestMatchDto}.
-     * @throws BadRequestException Caso a seleção das equipes ou jogadores seja irregular.
+     * @throws BadRequestException Caso a seleção das equipes ou jogadores seja irregular, ou algum jogador já esteja
+     * em outra partida com horário sobreposto.
      */
     public Match saveMatch(RequestMatchDto requestMatchDto) {
 
@@ -169,6 +304,7 @@ public class MatchService {
 
         var match = matchMapper.toNewMatch(requestMatchDto, players, event);
         var savedMatch = matchServiceMediator.saveMatch(match, requestMatchDto.sport());
+        event.getMatchCounters().add(savedMatch);
 
         log.info("Match '{}' with type '{}' was created.", savedMatch.getId(), requestMatchDto.sport());
         return savedMatch;
@@ -189,7 +325,10 @@ public class MatchService {
             throw new BadRequestException(ExceptionMessages.INVALID_MATCH_OPERATION.message);
         }
         var sport = matchRepository.findMatchTypeById(id, entityManager);
+        match.getEvent().getMatchCounters().remove(match);
         matchRepository.deleteById(id);
+        playerScheduleIndex.unregister(id);
+        responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.match(id));
 
         log.info("Match '{}' of type '{}' was deleted.", id, sport);
     }
@@ -204,7 +343,9 @@ public class MatchService {
      * @return A partida atualizada.
      * @throws NotFoundException Caso nenhuma partida correspondente ao ID for encontrada ou
      * alguma entidade não corresponda aos IDs fornecidos por {@link RequestMatchDto}.
-     * @throws BadRequestException Caso a seleção das equipes ou jogadores seja irregular.
+     * @throws BadRequestException Caso a seleção das equipes ou jogadores seja irregular, ou algum jogador já esteja
+     * em outra partida com horário sobreposto.
+     * @throws UnprocessableEntityException Caso a edição da partida esteja encerrada.
      */
     public Match replaceMatch(Long id, RequestMatchDto requestMatchDto) {
 
@@ -213,13 +354,17 @@ public class MatchService {
         if (!existingMatch.getMatchStatus().equals(Status.SCHEDULED)) {
             throw new BadRequestException(ExceptionMessages.INVALID_MATCH_OPERATION.message);
         }
+        sportEventService.lockEvent(existingMatch.getEvent());
+        editionService.checkEditionStatus(existingMatch.getEvent().getEdition());
         var event = sportEventService.findEventAndCheckStatus(requestMatchDto.eventId());
         var players = this.findPlayersById(requestMatchDto.playerIds());
 
         this.creatingAndUpdatingValidations(requestMatchDto, event, players);
+        existingMatch.getEvent().getMatchCounters().remove(existingMatch);
 
         var match = matchMapper.toExistingMatch(id, requestMatchDto, existingMatch, players, event);
         var updatedMatch = matchServiceMediator.saveMatch(match, requestMatchDto.sport());
+        event.getMatchCounters().add(updatedMatch);
 
         log.info("Match '{}' of type '{}' was updated.", id, requestMatchDto.sport());
         return updatedMatch;
@@ -233,26 +378,64 @@ public class MatchService {
      * @param newMatchStatus Novo status da partida.
      * @return A partida com o status atuaizado.
      * @throws NotFoundException Caso nenhuma partida correspondente ao ID for encontrada.
-     * @throws BadRequestException Caso o status informado seja inválido ou a partida não possa ser atuaizada.
+     * @throws BadRequestException Caso o status informado seja inválido, a partida não possa ser atuaizada ou
+     * outra partida do mesmo evento já esteja em andamento.
+     * @throws UnprocessableEntityException Caso a edição da partida esteja encerrada.
      */
     public Match updateMatchStatus(Long id, Status newMatchStatus) {
 
         var match = this.findMatchById(id);
+        sportEventService.lockEvent(match.getEvent());
+        editionService.checkEditionStatus(match.getEvent().getEdition());
         Status.checkStatus(match.getMatchStatus(), newMatchStatus);
 
         if (!match.getMatchStatus().equals(newMatchStatus)) {
             var event = match.getEvent();
             MatchValidator.checkMatchStatus(event, newMatchStatus);
         }
+        var sport = Sports.findSportLike(matchRepository.findMatchTypeById(id, entityManager));
+        var counters = match.getEvent().getMatchCounters();
+
+        var ended = match.getMatchStatus().equals(Status.IN_PROGRESS) && newMatchStatus.equals(Status.ENDED);
+        var wasEnded = match.getMatchStatus().equals(Status.ENDED);
+
+        if (wasEnded && !newMatchStatus.equals(Status.ENDED)) teamRecordService.removeMatch(match);
+
+        counters.remove(match);
         match.setMatchStatus(newMatchStatus);
+        counters.add(match);
+
+        if (ended) playerStatisticsService.addPlayedMatch(match);
+        if (!wasEnded && newMatchStatus.equals(Status.ENDED)) teamRecordService.addMatch(match);
 
-        var sport = Sports.findSportLike(matchRepository.findMatchTypeById(id, entityManager));
         var updatedMatch = matchServiceMediator.saveMatch(match, sport);
 
+        // A restrição única do banco de dados garante a regra mesmo sob atualizações concorrentes
+        try {
+            matchRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintUtil.isViolationOf(e, Match.IN_PROGRESS_CONSTRAINT)) throw e;
+            throw new BadRequestException(ExceptionMessages.CANNOT_HAVE_TWO_MATCHES_IN_PROGRESS.message, e);
+        }
+
         log.info("Match '{}' had the status updated to '{}'.", id, newMatchStatus);
         return updatedMatch;
     }
 
+    /**
+     * Preenche a coluna única de partidas em andamento na inicialização da aplicação. A coluna é preenchida
+     * apenas ao salvar uma partida, e as partidas já em andamento antes da sua existência a manteriam vazia,
+     * ficando fora da restrição única. Caso um evento já possua mais de uma partida em andamento, a restrição é
+     * violada e a inicialização falha até que as partidas excedentes tenham o seu status corrigido no banco de
+     * dados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillInProgressEventIds() {
+
+        var updated = matchRepository.fillInProgressEventIds(Status.IN_PROGRESS);
+        log.info("In progress event of '{}' Matches was filled.", updated);
+    }
+
     /**
      * Procura os jogadores correspondentes aos IDs da listagem passada para o método.
      *
@@ -267,6 +450,40 @@ public class MatchService {
                 .toList();
     }
 
+    /**
+     * Identifica a modalidade esportiva de uma partida a partir do {@link DiscriminatorValue} da sua especialização,
+     * evitando uma consulta ao banco de dados para cada partida mapeada. Caso a instância não seja de uma
+     * especialização de {@link Match}, a modalidade é buscada diretamente no banco de dados.
+     *
+     * @param match Partida cuja modalidade esportiva será identificada.
+     * @return A modalidade esportiva da partida.
+     */
+    private Sports findMatchSport(Match match) {
+
+        var discriminator = Hibernate.getClass(match).getAnnotation(DiscriminatorValue.class);
+
+        if (discriminator != null) {
+            return Sports.valueOf(discriminator.value());
+        }
+        return Sports.valueOf(matchRepository.findMatchTypeById(match.getId(), entityManager));
+    }
+
+    /**
+     * Converte o horário de início presente em um cursor de paginação.
+     *
+     * @param matchStart Horário de início no formato ISO.
+     * @return O horário de início convertido.
+     * @throws BadRequestException Caso o valor não corresponda a um horário válido.
+     */
+    private LocalDateTime parseMatchStart(String matchStart) {
+
+        try {
+            return LocalDateTime.parse(matchStart);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(ExceptionMessages.INVALID_CURSOR.message, e);
+        }
+    }
+
     /**
      * Realiza as validações necessárias para criar e atualizar partidas. A função deste método é tornar o código
      * dos métodos relacionados a criação e atualização de partidas mais conciso, melhorando sua legibilidade.
@@ -1,17 +1,21 @@
 package com.bristotartur.gerenciadordepartidas.services.matches;
 
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
-import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.actions.ActionValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Esta classe atua como uma camada de serviço centralizada para operações relacionadas a diferentes
  * especializações de {@link Match}. Cada tipo de partida possui um serviço dedicado, sendo este uma
@@ -27,6 +31,8 @@ import org.springframework.stereotype.Service;
 public class MatchServiceMediator {
 
     private final ApplicationContext context;
+    private final PlayerScheduleIndex playerScheduleIndex;
+    private final ResponseCache responseCache;
 
     /**
      * Retorna uma lista paginada contendo todas as instâncias de uma determinada especialização de {@link Match}.
@@ -41,6 +47,21 @@ public class MatchServiceMediator {
         return service.findAll(pageable);
     }
 
+    /**
+     * Retorna uma fatia contendo instâncias de uma determinada especialização de {@link Match}. Caso a contagem
+     * não seja solicitada, a consulta de contagem de elementos não será realizada.
+     *
+     * @param sport Esporte no qual as instâncias retornadas na lista serão especializadas.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de elementos deve ser calculado.
+     * @return Um {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<? extends Match> findMatchesBySport(Sports sport, Pageable pageable, boolean count) {
+
+        var service = MatchServiceFactory.newMatchSportService(sport, context);
+        return count ? service.findAll(pageable) : service.findSlice(pageable);
+    }
+
     /**
      * Encontra uma instância de {@link Match} com base no seu ID e tipo de esporte.
      *
@@ -57,15 +78,41 @@ public class MatchServiceMediator {
     }
 
     /**
-     * Cria uma nova instância de {@link Match} especializada em um esporte específico.
+     * Cria uma nova instância de {@link Match} especializada em um esporte específico, reservando seu horário
+     * em {@link PlayerScheduleIndex}.
      *
      * @param sport Tipo de esporte na qual a instância de {@link Match} será especializada.
      * @return Uma nova instância de {@link Match} baseada no tipo de esporte fornecido.
+     * @throws BadRequestException Caso algum jogador já esteja em outra partida com horário sobreposto.
      */
     public Match saveMatch(Match match, Sports sport) {
 
         var service = MatchServiceFactory.newMatchSportService(sport, context);
-        return service.saveMatch(match);
+        var savedMatch = service.saveMatch(match);
+
+        playerScheduleIndex.reserve(savedMatch);
+        responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.match(savedMatch.getId()));
+        return savedMatch;
+    }
+
+    /**
+     * Persiste um conjunto de novas instâncias de {@link Match} especializadas em um mesmo esporte, resolvendo
+     * o serviço especializado uma única vez para todo o conjunto.
+     *
+     * @param matches Listagem contendo as partidas que serão persistidas.
+     * @param sport Tipo de esporte na qual as instâncias de {@link Match} serão especializadas.
+     * @return Uma listagem contendo as instâncias persistidas, na mesma ordem em que foram fornecidas.
+     * @throws BadRequestException Caso algum jogador já esteja em outra partida com horário sobreposto.
+     */
+    public List<Match> saveMatches(List<Match> matches, Sports sport) {
+
+        var service = MatchServiceFactory.newMatchSportService(sport, context);
+
+        return matches.stream()
+                .<Match>map(service::saveMatch)
+                .peek(playerScheduleIndex::reserve)
+                .peek(savedMatch -> responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.match(savedMatch.getId())))
+                .toList();
     }
 
     /**
@@ -81,10 +128,8 @@ public class MatchServiceMediator {
 
         var service = MatchServiceFactory.newMatchSportService(sport, context);
 
-        if (sport.equals(Sports.FUTSAL) || sport.equals(Sports.HANDBALL)) {
-            return service.findMatchById(id);
-        }
-        throw new UnprocessableEntityException(ExceptionMessages.UNSUPPORTED_FOR_GOALS.message);
+        ActionValidator.checkSportForGoals(sport);
+        return service.findMatchById(id);
     }
 
     /**
@@ -100,13 +145,9 @@ public class MatchServiceMediator {
     public Match findMatchForCard(Long id, Sports sport) {
 
         var service = MatchServiceFactory.newMatchSportService(sport, context);
-        Match match;
 
-        switch (sport) {
-            case FUTSAL, HANDBALL, BASKETBALL -> match = service.findMatchById(id);
-            default -> throw new UnprocessableEntityException(ExceptionMessages.UNSUPPORTED_FOR_PENALTY_CARDS.message);
-        }
-        return match;
+        ActionValidator.checkSportForPenaltyCards(sport);
+        return service.findMatchById(id);
     }
 
 }
@@ -3,6 +3,7 @@ package com.bristotartur.gerenciadordepartidas.services.matches;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Estratégia para serviços relacionados a especializações de {@link Match}, fornecendo
@@ -24,6 +25,15 @@ public interface MatchStrategy<T extends Match> {
      */
     Page<T> findAll(Pageable pageable);
 
+    /**
+     * Recupera uma fatia contendo instâncias da especialização de {@link Match} associada a esta
+     * estratégia, sem realizar a consulta de contagem de elementos.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo as instâncias de {@link Match} específicas desta estratégia.
+     */
+    Slice<T> findSlice(Pageable pageable);
+
     /**
      * Procura por uma instância de uma determinada especialização de {@link Match} no banco de dados
      * com base no ID fornecido.
@@ -1,5 +1,6 @@
 package com.bristotartur.gerenciadordepartidas.services.matches;
 
+import com.bristotartur.gerenciadordepartidas.domain.events.MatchCounters;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
@@ -99,10 +100,11 @@ public final class MatchValidator {
     public static void checkMatchImportance(SportEvent event, RequestMatchDto requestMatchDto) {
 
         var importance = requestMatchDto.matchImportance();
+        var counters = event.getMatchCounters();
 
-        checkMatchesForImportance(event.getMatches(), importance);
+        checkMatchesForImportance(counters, importance);
 
-        var registeredMatches = event.getMatches().size();
+        var registeredMatches = counters.getRegisteredMatches();
         var totalMatches = event.getTotalMatches();
 
         switch (importance) {
@@ -114,33 +116,28 @@ public final class MatchValidator {
     }
 
     /**
-     * Verifica se todas as partidas presentes na listagem passada como parâmetro, e que tenham importância
+     * Verifica se todas as partidas contabilizadas nos contadores passados como parâmetro, e que tenham importância
      * diferente da informada, estão encerradas. Partidas de determianada importância devem ser definidas
      * após partidas de outras importâncias encerrarem. Partidas normais são as primeiras a acontecer,
      * semifinais só podem ser marcadas após partidas normais, dispustas pelo terceiro lugar só podem acontecer
      * após semifinais e normais, e finais só podem ocorrer após todas as demais.
      *
-     * @param matches Listagem contendo todas as instâncias de {@link Match} associadas a um evento.
+     * @param counters Contadores do tipo {@link MatchCounters} das partidas associadas a um evento.
      * @param importance Importância da partida que está sendo analisada.
      * @throws BadRequestException Caso não seja possível registrar uma partida com a importância informada.
      *
-     * @apiNote O método não realiza nenhuma validação prévia sobre a relação das partidas presentes na
-     * listagem, assumindo que todas estão relacionadas ao mesmo evento. O método também presupõe que
-     * a constante de {@link Importance} passada pertença a uma partida válida ou associada ao mesmo evento
-     * que as partidas na listagem.
+     * @apiNote O método presupõe que a constante de {@link Importance} passada pertença a uma partida válida
+     * ou associada ao mesmo evento que os contadores.
      */
-    public static void checkMatchesForImportance(List<Match> matches, Importance importance) {
+    public static void checkMatchesForImportance(MatchCounters counters, Importance importance) {
 
-        Optional<Match> unfinishedMatch = matches.stream()
-                .filter(match -> !match.getMatchImportance().equals(importance))
-                .filter(match -> !match.getMatchStatus().equals(Status.ENDED))
-                .findFirst();
+        var unfinishedMatches = counters.getUnfinishedMatches() - counters.getUnfinishedMatches(importance);
 
-        unfinishedMatch.ifPresent(status -> {
+        if (unfinishedMatches > 0) {
             throw new BadRequestException(
                     ExceptionMessages.CANNOT_REGISTER_MATCH.message.formatted(importance.name())
             );
-        });
+        }
     }
 
     /**
@@ -242,14 +239,9 @@ public final class MatchValidator {
         }
         if (!newStatus.equals(Status.IN_PROGRESS)) return;
 
-        Optional<Status> inProgress = event.getMatches().stream()
-                .map(Match::getMatchStatus)
-                .filter(status -> status.equals(Status.IN_PROGRESS))
-                .findFirst();
-
-        inProgress.ifPresent(status -> {
+        if (event.getMatchCounters().hasMatchInProgress()) {
             throw new BadRequestException(ExceptionMessages.CANNOT_HAVE_TWO_MATCHES_IN_PROGRESS.message);
-        });
+        }
     }
 
     /**
@@ -0,0 +1,224 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.utils.IntervalTree;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>Índice em memória dos horários de cada participante, utilizado para verificar se um jogador já está em
+ * outra partida com horário sobreposto sem consultar o banco de dados. Cada participante possui uma
+ * {@link IntervalTree} contendo os horários de suas partidas, de forma que a verificação custe O(log n) por
+ * jogador.</p>
+ *
+ * <p>O índice é reconstruído a partir do banco de dados na inicialização da aplicação e atualizado a cada
+ * partida salva ou removida. A verificação dos horários e a reserva do horário da partida são feitas sob uma
+ * mesma trava de escrita, de forma que duas partidas salvas concorrentemente, mesmo em eventos distintos, não
+ * possam reservar horários sobrepostos para o mesmo jogador. Caso a transação em que a alteração ocorreu seja
+ * revertida, a alteração também é desfeita no índice.</p>
+ *
+ * @see MatchService
+ * @see MatchServiceMediator
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerScheduleIndex {
+
+    private final MatchRepository<Match> matchRepository;
+
+    private final Map<Long, IntervalTree<LocalDateTime, Long>> playerSchedules = new HashMap<>();
+    private final Map<Long, Reservation> reservations = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Representa o horário reservado por uma partida para os seus jogadores.
+     *
+     * @param start Início da partida.
+     * @param end Fim da partida.
+     * @param playerIds Identificadores dos jogadores da partida.
+     */
+    private record Reservation(LocalDateTime start, LocalDateTime end, List<Long> playerIds) {
+    }
+
+    @PostConstruct
+    void rebuild() {
+
+        var rows = matchRepository.findMatchPlayerSchedules();
+        var players = new HashMap<Long, List<Long>>();
+        var schedules = new HashMap<Long, LocalDateTime[]>();
+
+        for (var row : rows) {
+            var matchId = (Long) row[0];
+
+            schedules.putIfAbsent(matchId, new LocalDateTime[]{(LocalDateTime) row[1], (LocalDateTime) row[2]});
+            players.computeIfAbsent(matchId, key -> new ArrayList<>()).add((Long) row[3]);
+        }
+        lock.writeLock().lock();
+        try {
+            playerSchedules.clear();
+            reservations.clear();
+
+            schedules.forEach((matchId, schedule) -> this.insert(matchId, new Reservation(schedule[0], schedule[1], players.get(matchId))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Player schedule index was rebuilt with '{}' Matches.", reservations.size());
+    }
+
+    /**
+     * Reserva o horário de uma partida salva para os seus jogadores, verificando atomicamente se algum deles já
+     * está em outra partida cujo horário se sobreponha ao intervalo {@code [start, end)}. Caso a partida já
+     * possua uma reserva, ela é desconsiderada na verificação e substituída pela nova.
+     *
+     * @param matchId Identificador único da partida.
+     * @param players Jogadores da partida.
+     * @param start Início da partida.
+     * @param end Fim da partida.
+     * @throws BadRequestException Caso algum jogador possua outra partida com horário sobreposto. Neste caso,
+     * o índice não é alterado.
+     */
+    public void reserve(Long matchId, List<Participant> players, LocalDateTime start, LocalDateTime end) {
+
+        var reservation = new Reservation(start, end, this.toPlayerIds(players));
+
+        this.replace(matchId, reservation, () -> {
+            if (!start.isBefore(end)) return;
+
+            for (var player : players) {
+                var schedule = playerSchedules.get(player.getId());
+
+                if (schedule == null) continue;
+
+                schedule.findOverlapping(start, end).stream()
+                        .map(IntervalTree.Interval::value)
+                        .filter(overlappingMatchId -> !overlappingMatchId.equals(matchId))
+                        .findFirst()
+                        .ifPresent(overlappingMatchId -> {
+                            throw new BadRequestException(
+                                    ExceptionMessages.PLAYER_SCHEDULE_CONFLICT.message.formatted(player.getId(), overlappingMatchId)
+                            );
+                        });
+            }
+        });
+    }
+
+    /**
+     * Reserva o horário de uma partida salva para os seus jogadores.
+     *
+     * @param match Partida salva, contendo seu ID, horários e jogadores.
+     * @throws BadRequestException Caso algum jogador possua outra partida com horário sobreposto.
+     * @see PlayerScheduleIndex#reserve(Long, List, LocalDateTime, LocalDateTime)
+     */
+    public void reserve(Match match) {
+        this.reserve(match.getId(), match.getPlayers(), match.getMatchStart(), match.getMatchEnd());
+    }
+
+    /**
+     * Registra ou atualiza o horário de uma partida no índice sem verificar os horários de seus jogadores,
+     * sendo utilizado apenas quando a ausência de sobreposições já foi garantida, como no agendamento de todas
+     * as partidas de uma edição.
+     *
+     * @param match Partida salva, contendo seu ID, horários e jogadores.
+     */
+    public void register(Match match) {
+        this.replace(match.getId(), new Reservation(match.getMatchStart(), match.getMatchEnd(), this.toPlayerIds(match.getPlayers())), () -> {});
+    }
+
+    /**
+     * Remove o horário de uma partida do índice.
+     *
+     * @param matchId Identificador único da partida removida.
+     */
+    public void unregister(Long matchId) {
+        this.replace(matchId, null, () -> {});
+    }
+
+    /**
+     * Substitui a reserva de uma partida, desfazendo a substituição caso a transação atual seja revertida.
+     *
+     * @param matchId Identificador único da partida.
+     * @param reservation Nova reserva da partida, ou nulo para removê-la.
+     * @param check Verificação executada sob a trava de escrita antes da substituição, que a impede ao lançar
+     *              uma exceção.
+     */
+    private void replace(Long matchId, Reservation reservation, Runnable check) {
+
+        Reservation previous;
+
+        lock.writeLock().lock();
+        try {
+            check.run();
+            previous = this.remove(matchId);
+            if (reservation != null) this.insert(matchId, reservation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || Objects.equals(previous, reservation)) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+
+                lock.writeLock().lock();
+                try {
+                    remove(matchId);
+                    if (previous != null) insert(matchId, previous);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+    }
+
+    private List<Long> toPlayerIds(List<Participant> players) {
+
+        return (players == null) ? List.of() : players.stream()
+                .map(Participant::getId)
+                .toList();
+    }
+
+    private void insert(Long matchId, Reservation reservation) {
+
+        reservations.put(matchId, reservation);
+
+        if (!reservation.start().isBefore(reservation.end())) return;
+
+        reservation.playerIds().forEach(playerId -> playerSchedules
+                .computeIfAbsent(playerId, key -> new IntervalTree<>())
+                .insert(reservation.start(), reservation.end(), matchId));
+    }
+
+    private Reservation remove(Long matchId) {
+
+        var reservation = reservations.remove(matchId);
+
+        if (reservation == null || !reservation.start().isBefore(reservation.end())) return reservation;
+
+        reservation.playerIds().forEach(playerId -> {
+            var schedule = playerSchedules.get(playerId);
+            schedule.remove(reservation.start(), reservation.end(), matchId);
+
+            if (schedule.isEmpty()) playerSchedules.remove(playerId);
+        });
+        return reservation;
+    }
+
+}
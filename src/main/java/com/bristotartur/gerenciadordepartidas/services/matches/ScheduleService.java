@@ -0,0 +1,92 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestScheduleDto;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>Serviço responsável por agendar as partidas de todos os {@link SportEvent} de uma {@link Edition},
+ * distribuindo-as entre os locais e horários disponíveis sem que um jogador ou local seja reservado em
+ * horários sobrepostos.</p>
+ *
+ * <p>Apenas partidas agendadas são realocadas. Partidas em andamento ou encerradas mantêm seus horários e
+ * são consideradas como reservas já existentes. As partidas são alocadas por ordem de importância, de forma
+ * que as partidas normais de todos os eventos ocupem os primeiros horários e as finais os últimos.</p>
+ *
+ * @see MatchScheduler
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class ScheduleService {
+
+    private final MatchRepository<Match> matchRepository;
+    private final EditionService editionService;
+    private final PlayerScheduleIndex playerScheduleIndex;
+    private final ResponseCache responseCache;
+
+    /**
+     * Agenda as partidas de uma edição nos locais e horários fornecidos, atualizando o horário e o local
+     * de cada partida agendada.
+     *
+     * @param editionId Identificador único da edição.
+     * @param requestScheduleDto DTO do tipo {@link RequestScheduleDto} contendo os locais e horários disponíveis.
+     * @return As partidas reagendadas, em ordem cronológica.
+     * @throws NotFoundException Caso nenhuma edição correspondente ao ID seja encontrada.
+     * @throws UnprocessableEntityException Caso a edição esteja encerrada ou alguma partida não possa ser alocada.
+     * @throws BadRequestException Caso algum horário seja inválido.
+     */
+    public List<Match> scheduleEdition(Long editionId, RequestScheduleDto requestScheduleDto) {
+
+        editionService.checkEditionStatusById(editionId);
+
+        var matches = matchRepository.findEditionMatchesWithPlayers(editionId);
+        var scheduler = new MatchScheduler(requestScheduleDto.venues(), requestScheduleDto.slots());
+
+        matches.stream()
+                .filter(match -> !match.getMatchStatus().equals(Status.SCHEDULED))
+                .forEach(scheduler::reserve);
+
+        var assignments = matches.stream()
+                .filter(match -> match.getMatchStatus().equals(Status.SCHEDULED))
+                .sorted(Comparator.comparing(Match::getMatchImportance)
+                        .thenComparing(Match::getMatchStart)
+                        .thenComparing(Match::getId))
+                .map(scheduler::assign)
+                .toList();
+
+        assignments.forEach(assignment -> {
+            var match = assignment.match();
+
+            match.setMatchStart(assignment.slot().matchStart());
+            match.setMatchEnd(assignment.slot().matchEnd());
+            match.setVenue(assignment.venue());
+            playerScheduleIndex.register(match);
+            responseCache.invalidate(ResponseCache.MATCHES, ResponseCache.match(match.getId()));
+        });
+
+        log.info("'{}' Matches of Edition '{}' were scheduled.", assignments.size(), editionId);
+
+        return assignments.stream()
+                .map(MatchScheduler.Assignment::match)
+                .sorted(Comparator.comparing(Match::getMatchStart).thenComparing(Match::getId))
+                .toList();
+    }
+
+}
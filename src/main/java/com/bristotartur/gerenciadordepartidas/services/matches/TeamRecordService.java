@@ -0,0 +1,256 @@
+package com.bristotartur.gerenciadordepartidas.services.matches;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.matches.TeamRecord;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseTeamRecordDto;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.repositories.MatchRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.TeamRecordRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <p>Classe responsável por manter a tabela de resumo {@link TeamRecord} e por gerar as análises de desempenho
+ * das equipes: o retrospecto de cada equipe por modalidade esportiva e de gênero, e o histórico de confrontos
+ * diretos entre duas equipes ao longo das edições.</p>
+ *
+ * <p>O resumo é reconstruído por completo a partir das partidas encerradas na inicialização da aplicação e
+ * periodicamente, e atualizado de forma incremental sempre que uma partida é encerrada ou reaberta para edições.
+ * Uma partida só é contabilizada enquanto estiver encerrada, de forma que alterações no placar de uma partida
+ * reaberta sejam refletidas quando ela for encerrada novamente.</p>
+ *
+ * @see MatchService
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class TeamRecordService {
+
+    private final TeamRecordRepository teamRecordRepository;
+    private final MatchRepository<Match> matchRepository;
+    private final EntityManager entityManager;
+
+    private record RecordKey(Long editionId, Team team, Team opponent, Sports sport, Modality modality) {
+    }
+
+    /**
+     * Gera o retrospecto de uma equipe em cada modalidade esportiva e de gênero, reunindo todos os adversários.
+     *
+     * @param team Equipe analisada.
+     * @param editionId Identificador único da edição considerada, ou nulo para reunir todas as edições.
+     * @return Os retrospectos da equipe, ordenados pela modalidade esportiva e de gênero.
+     */
+    public List<ResponseTeamRecordDto> findTeamRecords(Team team, Long editionId) {
+
+        var records = teamRecordRepository.findTeamRecords(team).stream()
+                .filter(teamRecord -> editionId == null || teamRecord.getEdition().getId().equals(editionId))
+                .toList();
+
+        log.info("Records from team '{}' in Edition '{}' were returned.", team, editionId);
+        return this.summarize(records, teamRecord -> new RecordKey(editionId, team, null, teamRecord.getSport(), teamRecord.getModality()));
+    }
+
+    /**
+     * Gera o histórico de confrontos diretos entre duas equipes em cada edição, modalidade esportiva e de gênero.
+     *
+     * @param team Equipe analisada.
+     * @param opponent Adversário da equipe.
+     * @return Os retrospectos da equipe contra o adversário, ordenados pela edição e pelas modalidades.
+     */
+    public List<ResponseTeamRecordDto> findHeadToHead(Team team, Team opponent) {
+
+        var records = teamRecordRepository.findHeadToHeadRecords(team, opponent);
+
+        log.info("Head-to-head records from team '{}' against team '{}' were returned.", team, opponent);
+        return this.summarize(records, teamRecord -> new RecordKey(
+                teamRecord.getEdition().getId(), team, opponent, teamRecord.getSport(), teamRecord.getModality()
+        ));
+    }
+
+    /**
+     * Contabiliza o resultado de uma partida recém-encerrada no retrospecto de suas duas equipes.
+     *
+     * @param match Partida encerrada.
+     */
+    public void addMatch(Match match) {
+        this.count(match, 1);
+    }
+
+    /**
+     * Contabiliza os resultados de várias partidas recém-encerradas, buscando e salvando cada retrospecto
+     * afetado apenas uma vez, independentemente da quantidade de partidas entre as mesmas equipes.
+     *
+     * @param matches Partidas encerradas.
+     */
+    public void addMatches(List<Match> matches) {
+
+        var records = new HashMap<RecordKey, TeamRecord>();
+
+        for (var match : matches) {
+            var editionId = match.getEvent().getEdition().getId();
+            var sport = match.getEvent().getType();
+
+            this.findRecord(records, new RecordKey(editionId, match.getTeamA(), match.getTeamB(), sport, match.getModality()))
+                    .count(match.getTeamScoreA(), match.getTeamScoreB(), 1);
+            this.findRecord(records, new RecordKey(editionId, match.getTeamB(), match.getTeamA(), sport, match.getModality()))
+                    .count(match.getTeamScoreB(), match.getTeamScoreA(), 1);
+        }
+        teamRecordRepository.saveAll(records.values());
+    }
+
+    /**
+     * Desconta o resultado de uma partida que deixou de estar encerrada do retrospecto de suas duas equipes.
+     *
+     * @param match Partida reaberta, ainda com o placar contabilizado.
+     */
+    public void removeMatch(Match match) {
+        this.count(match, -1);
+    }
+
+    /**
+     * Reconstrói todo o resumo a partir das partidas encerradas, agregando os resultados no banco de dados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${gerenciador.analytics.rebuild-cron:0 0 4 * * *}")
+    public void rebuildTeamRecords() {
+
+        var records = new HashMap<RecordKey, TeamRecord>();
+        var rows = new ArrayList<>(teamRecordRepository.sumEndedMatchesForTeamA());
+        rows.addAll(teamRecordRepository.sumEndedMatchesForTeamB());
+
+        for (var row : rows) {
+            var key = new RecordKey((Long) row[0], (Team) row[1], (Team) row[2], (Sports) row[3], (Modality) row[4]);
+            var teamRecord = records.computeIfAbsent(key, this::createRecord);
+
+            teamRecord.setWins(teamRecord.getWins() + ((Long) row[5]).intValue());
+            teamRecord.setDraws(teamRecord.getDraws() + ((Long) row[6]).intValue());
+            teamRecord.setLosses(teamRecord.getLosses() + ((Long) row[7]).intValue());
+            teamRecord.setGoalsFor(teamRecord.getGoalsFor() + ((Long) row[8]).intValue());
+            teamRecord.setGoalsAgainst(teamRecord.getGoalsAgainst() + ((Long) row[9]).intValue());
+        }
+        teamRecordRepository.deleteAllInBatch();
+        teamRecordRepository.saveAll(records.values());
+
+        log.info("Team records were rebuilt with '{}' records.", records.size());
+    }
+
+    /**
+     * Reconstrói os retrospectos derivados de um único evento esportivo, percorrendo as suas partidas através de
+     * um cursor do banco de dados ao invés de carregá-las todas em memória.
+     *
+     * @param event Evento esportivo cujas partidas encerradas serão contabilizadas.
+     */
+    public void rebuildEventRecords(SportEvent event) {
+
+        var editionId = event.getEdition().getId();
+        var records = new HashMap<RecordKey, TeamRecord>();
+
+        try (var matches = matchRepository.streamEventMatches(event.getId())) {
+            matches.forEach(match -> {
+                if (match.getMatchStatus().equals(Status.ENDED)) this.accumulate(records, editionId, event.getType(), match);
+                entityManager.detach(match);
+            });
+        }
+        teamRecordRepository.deleteEventRecords(editionId, event.getType(), event.getModality());
+        teamRecordRepository.saveAll(records.values());
+
+        log.info("Team records from SportEvent '{}' were rebuilt with '{}' records.", event.getId(), records.size());
+    }
+
+    private void count(Match match, int quantity) {
+
+        var edition = match.getEvent().getEdition();
+        var sport = match.getEvent().getType();
+
+        this.count(new RecordKey(edition.getId(), match.getTeamA(), match.getTeamB(), sport, match.getModality()),
+                match.getTeamScoreA(), match.getTeamScoreB(), quantity);
+        this.count(new RecordKey(edition.getId(), match.getTeamB(), match.getTeamA(), sport, match.getModality()),
+                match.getTeamScoreB(), match.getTeamScoreA(), quantity);
+    }
+
+    private void count(RecordKey key, int goalsFor, int goalsAgainst, int quantity) {
+
+        var teamRecord = teamRecordRepository.findTeamRecord(key.editionId(), key.team(), key.opponent(), key.sport(), key.modality())
+                .orElseGet(() -> this.createRecord(key));
+
+        teamRecord.count(goalsFor, goalsAgainst, quantity);
+
+        if (teamRecord.getMatches() == 0) {
+            if (teamRecord.getId() != null) teamRecordRepository.delete(teamRecord);
+            return;
+        }
+        teamRecordRepository.save(teamRecord);
+    }
+
+    private void accumulate(Map<RecordKey, TeamRecord> records, Long editionId, Sports sport, Match match) {
+
+        records.computeIfAbsent(new RecordKey(editionId, match.getTeamA(), match.getTeamB(), sport, match.getModality()), this::createRecord)
+                .count(match.getTeamScoreA(), match.getTeamScoreB(), 1);
+        records.computeIfAbsent(new RecordKey(editionId, match.getTeamB(), match.getTeamA(), sport, match.getModality()), this::createRecord)
+                .count(match.getTeamScoreB(), match.getTeamScoreA(), 1);
+    }
+
+    private TeamRecord findRecord(Map<RecordKey, TeamRecord> records, RecordKey key) {
+
+        return records.computeIfAbsent(key, recordKey -> teamRecordRepository.findTeamRecord(
+                recordKey.editionId(), recordKey.team(), recordKey.opponent(), recordKey.sport(), recordKey.modality()
+        ).orElseGet(() -> this.createRecord(recordKey)));
+    }
+
+    private TeamRecord createRecord(RecordKey key) {
+
+        return TeamRecord.builder()
+                .edition(entityManager.getReference(Edition.class, key.editionId()))
+                .team(key.team())
+                .opponent(key.opponent())
+                .sport(key.sport())
+                .modality(key.modality())
+                .build();
+    }
+
+    private List<ResponseTeamRecordDto> summarize(List<TeamRecord> records, Function<TeamRecord, RecordKey> grouping) {
+
+        var totals = new TreeMap<RecordKey, TeamRecord>(Comparator
+                .comparing(RecordKey::editionId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(RecordKey::sport)
+                .thenComparing(RecordKey::modality));
+
+        for (var teamRecord : records) {
+            var total = totals.computeIfAbsent(grouping.apply(teamRecord), key -> new TeamRecord());
+
+            total.setWins(total.getWins() + teamRecord.getWins());
+            total.setDraws(total.getDraws() + teamRecord.getDraws());
+            total.setLosses(total.getLosses() + teamRecord.getLosses());
+            total.setGoalsFor(total.getGoalsFor() + teamRecord.getGoalsFor());
+            total.setGoalsAgainst(total.getGoalsAgainst() + teamRecord.getGoalsAgainst());
+        }
+        return totals.entrySet().stream()
+                .map(entry -> this.toDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private ResponseTeamRecordDto toDto(RecordKey key, TeamRecord total) {
+
+        return new ResponseTeamRecordDto(
+                key.editionId(), key.team(), key.opponent(), key.sport(), key.modality(), total.getMatches(),
+                total.getWins(), total.getDraws(), total.getLosses(), total.getGoalsFor(), total.getGoalsAgainst(),
+                total.getGoalsFor() - total.getGoalsAgainst()
+        );
+    }
+
+}
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 /**
@@ -37,6 +38,17 @@ public class VolleyballMatchService implements MatchStrategy<VolleyballMatch> {
         return volleyballMatchRepository.findAll(pageable);
     }
 
+    /**
+     * Recupera uma fatia contendo instâncias da {@link VolleyballMatch}, sem realizar a consulta de contagem.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Um {@link Slice} contendo as instâncias de {@link VolleyballMatch} da página especificada.
+     */
+    @Override
+    public Slice<VolleyballMatch> findSlice(Pageable pageable) {
+        return volleyballMatchRepository.findAllBy(pageable);
+    }
+
     /**
      * Busca uma partida de vôlei pelo seu ID.
      *
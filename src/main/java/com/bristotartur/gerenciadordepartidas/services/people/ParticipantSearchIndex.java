@@ -0,0 +1,131 @@
+package com.bristotartur.gerenciadordepartidas.services.people;
+
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.repositories.ParticipantRepository;
+import com.bristotartur.gerenciadordepartidas.utils.TrigramIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>Índice em memória dos nomes dos participantes, utilizado na busca por nome sem consultar o banco de
+ * dados. Os nomes são indexados em uma {@link TrigramIndex}, tornando a busca insensível a acentos e letras
+ * maiúsculas e permitindo encontrar participantes pelo início de qualquer parte do nome ou com pequenos erros
+ * de digitação.</p>
+ *
+ * <p>O índice é reconstruído a partir do banco de dados na inicialização da aplicação e atualizado por
+ * {@link ParticipantSearchListener} sempre que um participante é salvo, atualizado ou removido. Caso a transação
+ * em que a alteração ocorreu seja revertida, a alteração também é desfeita no índice.</p>
+ *
+ * @see ParticipantService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantSearchIndex {
+
+    private final ParticipantRepository participantRepository;
+
+    private final TrigramIndex<Long> names = new TrigramIndex<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    void rebuild() {
+
+        var rows = participantRepository.findParticipantNames();
+
+        lock.writeLock().lock();
+        try {
+            rows.forEach(row -> names.put((Long) row[0], (String) row[1]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Participant search index was rebuilt with '{}' Participants.", rows.size());
+    }
+
+    /**
+     * Busca pelos participantes cujo nome se assemelhe ao nome fornecido.
+     *
+     * @param name Nome, ou parte do nome, utilizado na busca.
+     * @return Os IDs dos participantes encontrados, ordenados por relevância.
+     */
+    public List<Long> search(String name) {
+
+        lock.readLock().lock();
+        try {
+            return names.search(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registra ou atualiza o nome de um participante no índice.
+     *
+     * @param participant Participante salvo, contendo seu ID e nome.
+     */
+    public void register(Participant participant) {
+        this.replace(participant.getId(), TrigramIndex.normalize(participant.getName()));
+    }
+
+    /**
+     * Remove o nome de um participante do índice.
+     *
+     * @param participantId Identificador único do participante removido.
+     */
+    public void unregister(Long participantId) {
+        this.replace(participantId, null);
+    }
+
+    /**
+     * Substitui o nome de um participante no índice, desfazendo a substituição caso a transação atual seja
+     * revertida.
+     *
+     * @param participantId Identificador único do participante.
+     * @param name Novo nome normalizado do participante, ou nulo para removê-lo.
+     */
+    private void replace(Long participantId, String name) {
+
+        String previous;
+
+        lock.writeLock().lock();
+        try {
+            previous = names.get(participantId);
+            this.put(participantId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || Objects.equals(previous, name)) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+
+                lock.writeLock().lock();
+                try {
+                    put(participantId, previous);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void put(Long participantId, String name) {
+
+        if (name == null) {
+            names.remove(participantId);
+        } else {
+            names.put(participantId, name);
+        }
+    }
+
+}
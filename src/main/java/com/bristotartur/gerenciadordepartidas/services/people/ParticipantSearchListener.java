@@ -0,0 +1,33 @@
+package com.bristotartur.gerenciadordepartidas.services.people;
+
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA responsável por manter o {@link ParticipantSearchIndex} atualizado a cada escrita de uma entidade
+ * do tipo {@link Participant}, independentemente de onde a escrita tenha sido realizada. O índice é obtido apenas
+ * no momento da escrita, já que o listener é criado junto ao {@code EntityManagerFactory} do qual o índice depende.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipantSearchListener {
+
+    private final ObjectProvider<ParticipantSearchIndex> participantSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Participant participant) {
+        participantSearchIndex.getObject().register(participant);
+    }
+
+    @PostRemove
+    void onRemove(Participant participant) {
+        participantSearchIndex.getObject().unregister(participant.getId());
+    }
+
+}
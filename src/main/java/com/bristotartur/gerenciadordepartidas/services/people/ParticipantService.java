@@ -3,20 +3,30 @@ package com.bristotartur.gerenciadordepartidas.services.people;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestParticipantDto;
+import com.bristotartur.gerenciadordepartidas.dtos.response.CursorPage;
 import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
 import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.mappers.ParticipantMapper;
 import com.bristotartur.gerenciadordepartidas.repositories.ParticipantRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
 import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Classe responsável por fornecer serviços relacionados a operações CRUD para a entidade {@link Participant},
  * interagindo com o repositório {@link ParticipantRepository} para acessar e manipular dados relacionados
@@ -33,6 +43,8 @@ public class ParticipantService {
     private final ParticipantRepository participantRepository;
     private final ParticipantMapper participantMapper;
     private final EditionService editionService;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final ResponseCache responseCache;
 
     /**
      * Retorna uma lista paginada dos participantes disponíveis no sistema.
@@ -51,21 +63,100 @@ public class ParticipantService {
     }
 
     /**
-     * Retorna uma lista paginada dos participantes que tenham um nome semelhante ao fornecido.
+     * Retorna uma fatia dos participantes disponíveis no sistema, realizando a consulta de contagem apenas
+     * quando solicitada.
+     *
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de participantes deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<Participant> findAllParticipants(Pageable pageable, boolean count) {
+
+        if (count) return this.findAllParticipants(pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var participantSlice = participantRepository.findAllBy(pageable);
+
+        log.info("Participant slice of number '{}' and size '{}' was returned.", number, size);
+        return participantSlice;
+    }
+
+    /**
+     * Retorna uma página dos participantes disponíveis no sistema utilizando paginação por keyset,
+     * ordenando os participantes pelo seu nome e pelo seu ID.
+     *
+     * @param cursor Cursor opaco retornado pela página anterior, ou nulo para buscar a primeira página.
+     * @param size Quantidade de participantes na página.
+     * @param count Define se o total de participantes deve ser calculado.
+     * @return Uma {@link CursorPage} contendo os participantes posteriores ao cursor.
+     * @throws BadRequestException Caso o cursor fornecido seja inválido.
+     */
+    public CursorPage<Participant> scrollParticipants(String cursor, int size, boolean count) {
+
+        var pageable = PageRequest.of(0, size + 1);
+        List<Participant> participants;
+
+        if (cursor == null || cursor.isBlank()) {
+            participants = participantRepository.findFirstParticipantsByKeyset(pageable);
+        } else {
+            var keys = CursorUtil.decode(cursor, 2);
+            participants = participantRepository.findParticipantsAfterKeyset(keys[1], CursorUtil.parseId(keys[0]), pageable);
+        }
+        var totalElements = count ? participantRepository.count() : null;
+
+        log.info("Participant page of size '{}' after cursor '{}' was returned.", size, cursor);
+
+        // O nome é codificado por último, ao contrário da ordenação, para que nomes contendo o separador do cursor
+        // sejam mantidos intactos na decodificação.
+        return CursorPage.of(participants, size, participant -> CursorUtil.encode(participant.getId(), participant.getName()), totalElements);
+    }
+
+    /**
+     * Retorna uma lista paginada dos participantes que tenham um nome semelhante ao fornecido. A busca é
+     * realizada através do {@link ParticipantSearchIndex}, desconsiderando acentos e letras maiúsculas, e os
+     * participantes são ordenados por relevância, ignorando a ordenação definida em {@link Pageable}.
      *
      * @param name Nome usado para a busca.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
      * @return Uma lista contendo todos os participantes cujo o nome se assemelhe ao nome passado como parâmetro.
      */
     public Page<Participant> findParticipantsByNameLike(String name, Pageable pageable) {
 
         var number = pageable.getPageNumber();
         var size = pageable.getPageSize();
-        var participantPage = participantRepository.findParticipantsByNameLike(name, pageable);
+        var ids = participantSearchIndex.search(name);
+
+        var participantPage = new PageImpl<>(this.findParticipantsInOrder(ids, pageable), pageable, ids.size());
 
-        log.info("Participant page of number '{}' and size '{}' with name like '{}' was returned.", name, number, size);
+        log.info("Participant page of number '{}' and size '{}' with name like '{}' was returned.", number, size, name);
         return participantPage;
     }
 
+    /**
+     * Retorna uma fatia dos participantes que tenham um nome semelhante ao fornecido, realizando a consulta
+     * de contagem apenas quando solicitada.
+     *
+     * @param name Nome usado para a busca.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de participantes deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<Participant> findParticipantsByNameLike(String name, Pageable pageable, boolean count) {
+
+        if (count) return this.findParticipantsByNameLike(name, pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        var ids = participantSearchIndex.search(name);
+        var hasNext = pageable.getOffset() + size < ids.size();
+
+        var participantSlice = new SliceImpl<>(this.findParticipantsInOrder(ids, pageable), pageable, hasNext);
+
+        log.info("Participant slice of number '{}' and size '{}' with name like '{}' was returned.", number, size, name);
+        return participantSlice;
+    }
+
     /**
      * Procura por todos os membros de uma determinada equipe.
      *
@@ -85,6 +176,28 @@ public class ParticipantService {
         return membersPage;
     }
 
+    /**
+     * Procura por uma fatia dos membros de uma determinada equipe, realizando a consulta de contagem apenas
+     * quando solicitada.
+     *
+     * @param team equipe do participante.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de membros deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     */
+    public Slice<Participant> findMambersFromTeam(Team team, Pageable pageable, boolean count) {
+
+        if (count) return this.findMambersFromTeam(team, pageable);
+
+        var membersSlice = participantRepository.findTeamMembersSlice(team, pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        log.info("Members slice of number '{}' and size '{}' from team '{}' was returned.", number, size, team);
+
+        return membersSlice;
+    }
+
     public Page<Match> findParticipantMatches(Long id, Pageable pageable) {
 
         this.findParticipantById(id);
@@ -97,6 +210,30 @@ public class ParticipantService {
         return matchPage;
     }
 
+    /**
+     * Retorna uma fatia das partidas de um participante, realizando a consulta de contagem apenas quando
+     * solicitada.
+     *
+     * @param id Identificador único do participante.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @param count Define se o total de partidas deve ser calculado.
+     * @return Uma {@link Page} caso a contagem seja solicitada, ou um {@link Slice} caso contrário.
+     * @throws NotFoundException Caso nenhum participante correspondente ao ID seja encontrado.
+     */
+    public Slice<Match> findParticipantMatches(Long id, Pageable pageable, boolean count) {
+
+        if (count) return this.findParticipantMatches(id, pageable);
+
+        this.findParticipantById(id);
+        var matchSlice = participantRepository.findParticipantMatchesSlice(id, pageable);
+
+        var number = pageable.getPageNumber();
+        var size = pageable.getPageSize();
+        log.info("Match slice of number '{}' and size '{}' from Participant '{}' was returned.", number, size, id);
+
+        return matchSlice;
+    }
+
     /**
      * Busca por uma entidade específica do tipo {@link Participant} com base no seu ID.
      *
@@ -113,6 +250,25 @@ public class ParticipantService {
         return participant;
     }
 
+    /**
+     * Busca pelos participantes correspondentes aos IDs fornecidos em uma única consulta.
+     *
+     * @param ids Identificadores únicos dos participantes, sem repetições.
+     * @return Um mapa contendo os participantes encontrados, indexados pelo seu ID.
+     * @throws NotFoundException Caso algum dos IDs não corresponda a um participante.
+     */
+    public Map<Long, Participant> findParticipantsById(Collection<Long> ids) {
+
+        var participants = participantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+
+        if (participants.size() < ids.size()) {
+            throw new NotFoundException(ExceptionMessages.PARTICIPANT_NOT_FOUND.message);
+        }
+        log.info("'{}' Participants were found.", participants.size());
+        return participants;
+    }
+
     /**
      * Salva um participante no sistema com base nos dados fornecidos em {@link RequestParticipantDto}, realizando
      * uma validação prévia destes dados antes de gerar o participante e persistí-lo.
@@ -121,14 +277,18 @@ public class ParticipantService {
      * @return O participante recém-salvo.
      * @throws NotFoundException Caso alguma entidade não corresponda aos IDs fornecidos por {@link RequestParticipantDto}.
      * @throws BadRequestException Caso o número da turma do participante seja inválido.
+     * @throws UnprocessableEntityException Caso a edição do participante esteja encerrada.
      */
     public Participant saveParticipant(RequestParticipantDto requestParticipantDto) {
 
         var edition = editionService.findEditionById(requestParticipantDto.editionId());
+        editionService.checkEditionStatus(edition);
+
         var participant = participantMapper.toNewParticipant(requestParticipantDto, edition);
 
         this.reformatClassNumber(participant);
         var savedParticipant = participantRepository.save(participant);
+        responseCache.invalidate(ResponseCache.PARTICIPANTS);
 
         log.info("Participant '{}' with name '{}' was created.", savedParticipant.getId(), savedParticipant.getName());
         return savedParticipant;
@@ -142,16 +302,21 @@ public class ParticipantService {
      * @param id Identificador único do participante.
      * @throws NotFoundException Caso o ID fornecido não corresponda a nenhum participante.
      * @throws BadRequestException Caso o participante já esteja atrelado a algum evento.
+     * @throws UnprocessableEntityException Caso a edição do participante esteja encerrada.
      */
     public void deleteParticipantById(Long id) {
 
         var participant = this.findParticipantById(id);
+        editionService.checkEditionStatus(participant.getEdition());
+
         var participantMatches = participantRepository.findMatchesByParticipantId(id);
 
         if (!participantMatches.isEmpty()) {
             throw new BadRequestException(ExceptionMessages.INVALID_PARTICIPANT_EXCLUSION_OPERATION.message);
         }
         participantRepository.deleteById(id);
+        responseCache.invalidate(ResponseCache.PARTICIPANTS, ResponseCache.participant(id));
+
         log.info("Participant '{}' with name '{}' was deleted.", id, participant.getName());
     }
 
@@ -165,21 +330,49 @@ public class ParticipantService {
      * @return O participante atualizado.
      * @throws NotFoundException Caso alguma entidade não corresponda aos IDs fornecidos por {@link RequestParticipantDto}.
      * @throws BadRequestException Caso o número da turma do participante seja inválido.
+     * @throws UnprocessableEntityException Caso a edição atual ou a nova edição do participante estejam encerradas.
      */
     public Participant replaceParticipant(Long id, RequestParticipantDto requestParticipantDto) {
 
-        this.findParticipantById(id);
+        var existingParticipant = this.findParticipantById(id);
+        editionService.checkEditionStatus(existingParticipant.getEdition());
 
         var edition = editionService.findEditionById(requestParticipantDto.editionId());
+        editionService.checkEditionStatus(edition);
+
         var participant = participantMapper.toExistingParticipant(id, requestParticipantDto, edition);
 
         this.reformatClassNumber(participant);
         var updatedParticipant = participantRepository.save(participant);
+        responseCache.invalidate(ResponseCache.PARTICIPANTS, ResponseCache.participant(id));
 
         log.info("Participant '{}' with name '{}' was updated.", id, updatedParticipant.getName());
         return updatedParticipant;
     }
 
+    /**
+     * Busca pelos participantes correspondentes aos IDs da página informada, mantendo a ordem dos IDs.
+     *
+     * @param ids IDs de todos os participantes encontrados, em ordem de relevância.
+     * @param pageable Um {@link Pageable} contendo informações sobre a paginação.
+     * @return Os participantes da página, na mesma ordem de seus IDs.
+     */
+    private List<Participant> findParticipantsInOrder(List<Long> ids, Pageable pageable) {
+
+        if (pageable.getOffset() >= ids.size()) return List.of();
+
+        var end = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ids.size());
+        var pageIds = ids.subList((int) pageable.getOffset(), end);
+
+        var participants = participantRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+
+        return pageIds.stream()
+                .map(participants::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * Verifica se o número da turma de um participante é válido e o reformata caso necessário.
      *
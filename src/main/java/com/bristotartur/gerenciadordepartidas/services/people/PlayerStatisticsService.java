@@ -0,0 +1,316 @@
+package com.bristotartur.gerenciadordepartidas.services.people;
+
+import com.bristotartur.gerenciadordepartidas.configs.CacheConfig;
+import com.bristotartur.gerenciadordepartidas.domain.actions.Goal;
+import com.bristotartur.gerenciadordepartidas.domain.actions.PenaltyCard;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.domain.people.PlayerStatistics;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto;
+import com.bristotartur.gerenciadordepartidas.enums.Leaderboard;
+import com.bristotartur.gerenciadordepartidas.enums.PenaltyCardColor;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.repositories.PlayerStatisticsRepository;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Classe responsável por manter os contadores de {@link PlayerStatistics} de cada participante e por gerar
+ * as classificações de artilharia e disciplina por evento esportivo, por edição e por modalidade esportiva.</p>
+ *
+ * <p>Os contadores são atualizados de forma incremental pelos serviços de gols, cartões de penalidade e
+ * partidas, e recalculados a partir dos dados existentes na inicialização da aplicação. As classificações são
+ * mantidas em cache e descartadas ao fim de toda transação que altere algum contador, tenha ela sido confirmada
+ * ou revertida, de forma que nenhuma classificação calculada com dados não confirmados permaneça em cache.</p>
+ *
+ * @see Leaderboard
+ * @see CacheConfig
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class PlayerStatisticsService {
+
+    private final PlayerStatisticsRepository playerStatisticsRepository;
+    private final EditionService editionService;
+    private final SportEventService sportEventService;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+
+    /**
+     * Gera a classificação dos jogadores de um evento esportivo.
+     *
+     * @param eventId Identificador único do evento esportivo.
+     * @param leaderboard Classificação desejada.
+     * @param limit Quantidade máxima de jogadores na classificação.
+     * @return Os jogadores da classificação, em ordem.
+     * @throws NotFoundException Caso nenhum evento correspondente ao ID seja encontrado.
+     */
+    @Cacheable(cacheNames = CacheConfig.LEADERBOARDS, key = "'event:' + #eventId + ':' + #leaderboard + ':' + #limit")
+    public List<ResponsePlayerStatisticsDto> findEventLeaderboard(Long eventId, Leaderboard leaderboard, int limit) {
+
+        sportEventService.findEventById(eventId);
+        var statistics = playerStatisticsRepository.sumEventStatistics(eventId);
+
+        log.info("Leaderboard '{}' from SportEvent '{}' was generated.", leaderboard, eventId);
+        return this.rank(statistics, leaderboard, limit);
+    }
+
+    /**
+     * Gera a classificação dos jogadores de todos os eventos esportivos de uma edição.
+     *
+     * @param editionId Identificador único da edição.
+     * @param leaderboard Classificação desejada.
+     * @param limit Quantidade máxima de jogadores na classificação.
+     * @return Os jogadores da classificação, em ordem.
+     * @throws NotFoundException Caso nenhuma edição correspondente ao ID seja encontrada.
+     */
+    @Cacheable(cacheNames = CacheConfig.LEADERBOARDS, key = "'edition:' + #editionId + ':' + #leaderboard + ':' + #limit")
+    public List<ResponsePlayerStatisticsDto> findEditionLeaderboard(Long editionId, Leaderboard leaderboard, int limit) {
+
+        editionService.findEditionById(editionId);
+        var statistics = playerStatisticsRepository.sumEditionStatistics(editionId);
+
+        log.info("Leaderboard '{}' from Edition '{}' was generated.", leaderboard, editionId);
+        return this.rank(statistics, leaderboard, limit);
+    }
+
+    /**
+     * Gera a classificação dos jogadores de todos os eventos de uma modalidade esportiva.
+     *
+     * @param sport Modalidade esportiva dos eventos.
+     * @param leaderboard Classificação desejada.
+     * @param limit Quantidade máxima de jogadores na classificação.
+     * @return Os jogadores da classificação, em ordem.
+     */
+    @Cacheable(cacheNames = CacheConfig.LEADERBOARDS, key = "'sport:' + #sport + ':' + #leaderboard + ':' + #limit")
+    public List<ResponsePlayerStatisticsDto> findSportLeaderboard(Sports sport, Leaderboard leaderboard, int limit) {
+
+        var statistics = playerStatisticsRepository.sumSportStatistics(sport);
+
+        log.info("Leaderboard '{}' from sport '{}' was generated.", leaderboard, sport);
+        return this.rank(statistics, leaderboard, limit);
+    }
+
+    /**
+     * Contabiliza um gol recém-salvo para o jogador que o marcou.
+     *
+     * @param goal Gol salvo.
+     */
+    public void addGoal(Goal goal) {
+        this.update(goal.getPlayer(), goal.getMatch(), statistics -> statistics.setGoals(statistics.getGoals() + 1));
+    }
+
+    /**
+     * Desconta um gol removido ou prestes a ser alterado do jogador que o marcou.
+     *
+     * @param goal Gol removido.
+     */
+    public void removeGoal(Goal goal) {
+        this.update(goal.getPlayer(), goal.getMatch(), statistics -> statistics.setGoals(statistics.getGoals() - 1));
+    }
+
+    /**
+     * Contabiliza um cartão de penalidade recém-salvo para o jogador que o recebeu.
+     *
+     * @param penaltyCard Cartão de penalidade salvo.
+     */
+    public void addPenaltyCard(PenaltyCard penaltyCard) {
+        this.update(penaltyCard.getPlayer(), penaltyCard.getMatch(), statistics -> this.countCard(statistics, penaltyCard.getColor(), 1));
+    }
+
+    /**
+     * Desconta um cartão de penalidade removido ou prestes a ser alterado do jogador que o recebeu.
+     *
+     * @param penaltyCard Cartão de penalidade removido.
+     */
+    public void removePenaltyCard(PenaltyCard penaltyCard) {
+        this.update(penaltyCard.getPlayer(), penaltyCard.getMatch(), statistics -> this.countCard(statistics, penaltyCard.getColor(), -1));
+    }
+
+    /**
+     * Contabiliza uma partida recém-encerrada para todos os seus jogadores.
+     *
+     * @param match Partida encerrada.
+     */
+    public void addPlayedMatch(Match match) {
+        match.getPlayers().forEach(player -> this.update(player, match, statistics -> statistics.setMatchesPlayed(statistics.getMatchesPlayed() + 1)));
+    }
+
+    /**
+     * Contabiliza de uma só vez os gols, cartões de penalidade e partidas disputadas de um conjunto de partidas
+     * recém-encerradas de um mesmo evento esportivo, buscando os contadores existentes do evento em uma única
+     * consulta e salvando cada contador alterado apenas uma vez.
+     *
+     * @param event Evento esportivo das partidas.
+     * @param matches Partidas encerradas.
+     * @param goals Gols das partidas.
+     * @param penaltyCards Cartões de penalidade das partidas.
+     */
+    public void addMatchResults(SportEvent event, List<Match> matches, List<Goal> goals, List<PenaltyCard> penaltyCards) {
+
+        var existingStatistics = playerStatisticsRepository.findEventStatistics(event.getId()).stream()
+                .collect(Collectors.toMap(row -> row.getPlayer().getId(), Function.identity()));
+
+        var statistics = new HashMap<Long, PlayerStatistics>();
+        Function<Participant, PlayerStatistics> findStatistics = player -> statistics.computeIfAbsent(player.getId(), playerId -> Optional
+                .ofNullable(existingStatistics.get(playerId))
+                .orElseGet(() -> PlayerStatistics.builder().player(player).event(event).build()));
+
+        goals.stream().map(Goal::getPlayer).map(findStatistics).forEach(row -> row.setGoals(row.getGoals() + 1));
+        penaltyCards.forEach(penaltyCard -> this.countCard(findStatistics.apply(penaltyCard.getPlayer()), penaltyCard.getColor(), 1));
+        matches.stream()
+                .flatMap(match -> match.getPlayers().stream())
+                .map(findStatistics)
+                .forEach(row -> row.setMatchesPlayed(row.getMatchesPlayed() + 1));
+
+        playerStatisticsRepository.saveAll(statistics.values());
+
+        this.evictLeaderboards();
+        log.info("Statistics of '{}' Participants in SportEvent '{}' were updated.", statistics.size(), event.getId());
+    }
+
+    /**
+     * Recalcula todos os contadores a partir dos gols, cartões de penalidade e partidas encerradas existentes,
+     * corrigindo eventuais divergências causadas por alterações realizadas fora dos serviços da aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountStatistics() {
+
+        var statistics = new HashMap<List<Long>, PlayerStatistics>();
+
+        for (var row : playerStatisticsRepository.countGoals()) {
+            this.findRow(statistics, row).setGoals(((Long) row[2]).intValue());
+        }
+        for (var row : playerStatisticsRepository.countPenaltyCards()) {
+            this.countCard(this.findRow(statistics, row), (PenaltyCardColor) row[2], ((Long) row[3]).intValue());
+        }
+        for (var row : playerStatisticsRepository.countPlayedMatches()) {
+            this.findRow(statistics, row).setMatchesPlayed(((Long) row[2]).intValue());
+        }
+        playerStatisticsRepository.deleteAllInBatch();
+        playerStatisticsRepository.saveAll(statistics.values());
+
+        this.evictLeaderboards();
+        log.info("Statistics of '{}' Participants in SportEvents were recounted.", statistics.size());
+    }
+
+    /**
+     * Recalcula as estatísticas dos participantes de um único evento esportivo, percorrendo os seus gols,
+     * cartões e partidas encerradas através de cursores do banco de dados.
+     *
+     * @param event Evento esportivo que terá as estatísticas recalculadas.
+     */
+    public void recountEventStatistics(SportEvent event) {
+
+        var statistics = new HashMap<Long, PlayerStatistics>();
+        Function<Long, PlayerStatistics> findStatistics = playerId -> statistics.computeIfAbsent(playerId, key -> PlayerStatistics.builder()
+                .player(entityManager.getReference(Participant.class, playerId))
+                .event(event)
+                .build());
+
+        try (var goals = playerStatisticsRepository.streamEventGoals(event.getId())) {
+            goals.map(findStatistics).forEach(row -> row.setGoals(row.getGoals() + 1));
+        }
+        try (var penaltyCards = playerStatisticsRepository.streamEventPenaltyCards(event.getId())) {
+            penaltyCards.forEach(row -> this.countCard(findStatistics.apply((Long) row[0]), (PenaltyCardColor) row[1], 1));
+        }
+        try (var playedMatches = playerStatisticsRepository.streamEventPlayedMatches(event.getId())) {
+            playedMatches.map(findStatistics).forEach(row -> row.setMatchesPlayed(row.getMatchesPlayed() + 1));
+        }
+        playerStatisticsRepository.deleteEventStatistics(event.getId());
+        playerStatisticsRepository.saveAll(statistics.values());
+
+        this.evictLeaderboards();
+        log.info("Statistics of '{}' Participants in SportEvent '{}' were recounted.", statistics.size(), event.getId());
+    }
+
+    private void update(Participant player, Match match, Consumer<PlayerStatistics> change) {
+
+        var event = match.getEvent();
+        var statistics = playerStatisticsRepository.findPlayerStatistics(player.getId(), event.getId())
+                .orElseGet(() -> PlayerStatistics.builder().player(player).event(event).build());
+
+        change.accept(statistics);
+        this.evictLeaderboards();
+
+        if (statistics.isEmpty()) {
+            if (statistics.getId() != null) playerStatisticsRepository.delete(statistics);
+            return;
+        }
+        playerStatisticsRepository.save(statistics);
+    }
+
+    /**
+     * Descarta todas as classificações em cache ao fim da transação atual, ou imediatamente caso nenhuma
+     * transação esteja ativa.
+     */
+    private void evictLeaderboards() {
+
+        var cache = cacheManager.getCache(CacheConfig.LEADERBOARDS);
+
+        if (cache == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.clear();
+            }
+        });
+    }
+
+    private PlayerStatistics findRow(Map<List<Long>, PlayerStatistics> statistics, Object[] row) {
+
+        var playerId = (Long) row[0];
+        var eventId = (Long) row[1];
+
+        return statistics.computeIfAbsent(List.of(playerId, eventId), key -> PlayerStatistics.builder()
+                .player(entityManager.getReference(Participant.class, playerId))
+                .event(entityManager.getReference(SportEvent.class, eventId))
+                .build());
+    }
+
+    private void countCard(PlayerStatistics statistics, PenaltyCardColor color, int quantity) {
+
+        switch (color) {
+            case YELLOW -> statistics.setYellowCards(statistics.getYellowCards() + quantity);
+            case RED -> statistics.setRedCards(statistics.getRedCards() + quantity);
+        }
+    }
+
+    private List<ResponsePlayerStatisticsDto> rank(List<ResponsePlayerStatisticsDto> statistics, Leaderboard leaderboard, int limit) {
+
+        return statistics.stream()
+                .filter(leaderboard.filter)
+                .sorted(leaderboard.order.thenComparing(ResponsePlayerStatisticsDto::player)
+                        .thenComparing(ResponsePlayerStatisticsDto::participantId))
+                .limit(limit)
+                .toList();
+    }
+
+}
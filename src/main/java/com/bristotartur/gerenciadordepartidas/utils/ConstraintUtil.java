@@ -0,0 +1,39 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Classe utilitária responsável por identificar qual restrição do banco de dados foi violada em uma
+ * {@link DataIntegrityViolationException}, permitindo que violações de restrições específicas sejam
+ * convertidas nas exceções da aplicação.
+ */
+public final class ConstraintUtil {
+
+    private ConstraintUtil() {
+    }
+
+    /**
+     * Verifica se a exceção foi causada pela violação da restrição informada. Como cada banco de dados
+     * reporta o nome da restrição de uma forma, a comparação ignora a caixa das letras e aceita nomes
+     * acompanhados de prefixos ou sufixos.
+     *
+     * @param exception Exceção lançada pelo banco de dados.
+     * @param constraintName Nome da restrição.
+     * @return true caso a restrição informada tenha sido violada, false caso contrário.
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+
+        var violatedConstraint = (exception.getCause() instanceof ConstraintViolationException violation)
+                ? violation.getConstraintName()
+                : null;
+
+        var description = Objects.requireNonNullElseGet(violatedConstraint, () -> exception.getMostSpecificCause().getMessage());
+
+        return description != null && description.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import com.bristotartur.gerenciadordepartidas.enums.ExceptionMessages;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * Classe utilitária responsável por gerar e interpretar cursores opacos utilizados na paginação por
+ * keyset. Um cursor carrega os valores das chaves de ordenação do último elemento retornado em uma
+ * página, permitindo que a página seguinte seja buscada a partir deste ponto sem o uso de offsets.
+ */
+public final class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * Gera um cursor opaco a partir das chaves de ordenação fornecidas.
+     *
+     * @param keys Valores das chaves de ordenação do último elemento da página.
+     * @return Um cursor codificado em Base64 seguro para URLs.
+     */
+    public static String encode(Object... keys) {
+
+        var rawCursor = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor previamente gerado por {@link CursorUtil#encode(Object...)}. Como o cursor é dividido
+     * em no máximo {@code expectedKeys} partes, apenas a última chave pode conter o separador, de forma que chaves
+     * textuais livres, como nomes, devem ser as últimas a serem codificadas.
+     *
+     * @param cursor Cursor opaco recebido na requisição.
+     * @param expectedKeys Quantidade de chaves esperadas no cursor.
+     * @return Os valores das chaves de ordenação contidas no cursor.
+     * @throws BadRequestException Caso o cursor seja inválido ou não possua a quantidade de chaves esperada.
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+
+        try {
+            var rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var keys = rawCursor.split("\\" + SEPARATOR, expectedKeys);
+
+            if (keys.length != expectedKeys) {
+                throw new BadRequestException(ExceptionMessages.INVALID_CURSOR.message);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ExceptionMessages.INVALID_CURSOR.message, e);
+        }
+    }
+
+    /**
+     * Decodifica um cursor contendo apenas um identificador único como chave de ordenação. Caso nenhum
+     * cursor seja fornecido, o valor zero será retornado, representando o início da listagem.
+     *
+     * @param cursor Cursor opaco recebido na requisição, podendo ser nulo.
+     * @return O identificador único contido no cursor.
+     * @throws BadRequestException Caso o cursor seja inválido.
+     */
+    public static Long decodeId(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) return 0L;
+
+        return parseId(decode(cursor, 1)[0]);
+    }
+
+    /**
+     * Converte uma chave de ordenação decodificada de um cursor em um identificador único.
+     *
+     * @param key Chave de ordenação em formato textual.
+     * @return O identificador único correspondente a chave.
+     * @throws BadRequestException Caso a chave não corresponda a um identificador válido.
+     */
+    public static Long parseId(String key) {
+
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ExceptionMessages.INVALID_CURSOR.message, e);
+        }
+    }
+
+}
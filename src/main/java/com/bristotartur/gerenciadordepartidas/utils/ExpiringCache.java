@@ -0,0 +1,184 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.function.Predicate;
+
+/**
+ * <p>Cache em memória de tamanho limitado no qual cada entrada expira após um tempo fixo contado a partir da
+ * sua inserção. As entradas são mantidas na ordem em que foram inseridas, de forma que as mais antigas sejam
+ * tanto as primeiras a expirar quanto as primeiras a serem descartadas quando o limite de entradas é atingido.</p>
+ *
+ * <p>As entradas expiradas são removidas durante as próprias operações do cache, sem depender de nenhuma
+ * tarefa em segundo plano. Como elas se encontram sempre no início da ordem de inserção, a remoção custa
+ * apenas O(k), sendo k a quantidade de entradas expiradas.</p>
+ *
+ * <p>Opcionalmente, o cache pode receber um predicado que indica quais valores podem ser descartados. Valores
+ * que não atendem ao predicado nunca são descartados pelo limite de entradas ou pela expiração, apenas ao serem
+ * substituídos ou removidos, de forma que o limite de entradas pode ser excedido enquanto eles existirem.</p>
+ *
+ * <p>Esta classe é sincronizada.</p>
+ *
+ * @param <K> Tipo das chaves do cache.
+ * @param <V> Tipo dos valores do cache.
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Predicate<V> evictable;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>();
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+
+    /**
+     * Cria um cache que utiliza o relógio do sistema para determinar a expiração das entradas.
+     *
+     * @param maxEntries Quantidade máxima de entradas mantidas no cache.
+     * @param timeToLive Tempo pelo qual cada entrada permanece válida após ser inserida.
+     * @throws IllegalArgumentException Caso a quantidade de entradas ou o tempo de expiração não sejam positivos.
+     */
+    public ExpiringCache(int maxEntries, Duration timeToLive) {
+        this(maxEntries, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * Cria um cache que utiliza o relógio fornecido para determinar a expiração das entradas.
+     *
+     * @param maxEntries Quantidade máxima de entradas mantidas no cache.
+     * @param timeToLive Tempo pelo qual cada entrada permanece válida após ser inserida.
+     * @param clock Relógio utilizado para determinar a expiração das entradas.
+     * @throws IllegalArgumentException Caso a quantidade de entradas ou o tempo de expiração não sejam positivos.
+     */
+    public ExpiringCache(int maxEntries, Duration timeToLive, Clock clock) {
+        this(maxEntries, timeToLive, clock, value -> true);
+    }
+
+    /**
+     * Cria um cache no qual apenas os valores que atendem ao predicado fornecido podem ser descartados pelo
+     * limite de entradas ou pela expiração.
+     *
+     * @param maxEntries Quantidade máxima de entradas mantidas no cache.
+     * @param timeToLive Tempo pelo qual cada entrada permanece válida após ser inserida.
+     * @param clock Relógio utilizado para determinar a expiração das entradas.
+     * @param evictable Predicado que indica se um valor pode ser descartado.
+     * @throws IllegalArgumentException Caso a quantidade de entradas ou o tempo de expiração não sejam positivos.
+     */
+    public ExpiringCache(int maxEntries, Duration timeToLive, Clock clock, Predicate<V> evictable) {
+
+        if (maxEntries <= 0 || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("A quantidade de entradas e o tempo de expiração devem ser positivos.");
+        }
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.evictable = evictable;
+    }
+
+    /**
+     * Busca o valor associado a uma chave.
+     *
+     * @param key Chave do valor.
+     * @return O valor associado a chave, ou null caso ela não exista ou tenha expirado.
+     */
+    public synchronized V get(K key) {
+
+        this.evictExpired();
+        var entry = entries.get(key);
+
+        return (entry != null) ? entry.value() : null;
+    }
+
+    /**
+     * Associa um valor a uma chave, substituindo o valor anterior e reiniciando o seu tempo de expiração.
+     *
+     * @param key Chave do valor.
+     * @param value Valor a ser armazenado.
+     */
+    public synchronized void put(K key, V value) {
+
+        this.evictExpired();
+        entries.remove(key);
+        this.insert(key, value);
+    }
+
+    /**
+     * Associa um valor a uma chave apenas caso ela ainda não possua nenhum valor válido no cache.
+     *
+     * @param key Chave do valor.
+     * @param value Valor a ser armazenado.
+     * @return O valor já associado a chave, ou null caso o valor fornecido tenha sido armazenado.
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+
+        this.evictExpired();
+        var entry = entries.get(key);
+
+        if (entry != null) return entry.value();
+
+        this.insert(key, value);
+        return null;
+    }
+
+    /**
+     * Remove o valor associado a uma chave.
+     *
+     * @param key Chave do valor.
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Retorna a quantidade de entradas válidas no cache.
+     *
+     * @return A quantidade de entradas.
+     */
+    public synchronized int size() {
+
+        this.evictExpired();
+        return entries.size();
+    }
+
+    private void insert(K key, V value) {
+
+        entries.put(key, new Entry<>(value, clock.instant().plus(timeToLive)));
+
+        if (entries.size() <= maxEntries) return;
+
+        var iterator = entries.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (evictable.test(iterator.next().value())) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private void evictExpired() {
+
+        var now = clock.instant();
+        var iterator = entries.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next().getValue();
+
+            if (entry.expiresAt().isAfter(now)) return;
+            if (evictable.test(entry.value())) iterator.remove();
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>Índice de intervalos semiabertos {@code [start, end)} baseado em uma árvore de busca balanceada
+ * aleatoriamente (treap), ordenada pelo início dos intervalos. Cada nó armazena o maior fim presente em sua
+ * subárvore, permitindo que subárvores sem nenhuma sobreposição possível sejam descartadas durante as buscas.</p>
+ *
+ * <p>Inserções, remoções e a verificação de sobreposição possuem custo esperado de O(log n), e a busca
+ * de todos os intervalos sobrepostos custa O(log n + k), sendo k a quantidade de intervalos encontrados.
+ * Intervalos que apenas se tocam, como {@code [8h, 9h)} e {@code [9h, 10h)}, não são considerados sobrepostos.</p>
+ *
+ * <p>Esta classe não é sincronizada.</p>
+ *
+ * @param <K> Tipo dos limites dos intervalos.
+ * @param <V> Tipo do valor associado a cada intervalo.
+ */
+public class IntervalTree<K extends Comparable<? super K>, V> {
+
+    private Node<K, V> root;
+    private int size;
+
+    /**
+     * Representa um intervalo armazenado no índice e o valor associado a ele.
+     *
+     * @param start Início do intervalo, inclusivo.
+     * @param end Fim do intervalo, exclusivo.
+     * @param value Valor associado ao intervalo.
+     */
+    public record Interval<K, V>(K start, K end, V value) {
+    }
+
+    private static final class Node<K, V> {
+
+        private final Interval<K, V> interval;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private K maxEnd;
+        private Node<K, V> left;
+        private Node<K, V> right;
+
+        private Node(Interval<K, V> interval) {
+            this.interval = interval;
+            this.maxEnd = interval.end();
+        }
+    }
+
+    /**
+     * Adiciona um novo intervalo ao índice.
+     *
+     * @param start Início do intervalo, inclusivo.
+     * @param end Fim do intervalo, exclusivo.
+     * @param value Valor associado ao intervalo.
+     * @throws IllegalArgumentException Caso o fim do intervalo não seja posterior ao seu início.
+     */
+    public void insert(K start, K end, V value) {
+
+        if (start.compareTo(end) >= 0) {
+            throw new IllegalArgumentException("Interval end must be after its start.");
+        }
+        root = this.insert(root, new Node<>(new Interval<>(start, end, value)));
+        size++;
+    }
+
+    /**
+     * Remove um intervalo do índice, caso exista um intervalo com os mesmos limites e valor.
+     *
+     * @param start Início do intervalo.
+     * @param end Fim do intervalo.
+     * @param value Valor associado ao intervalo.
+     * @return true caso o intervalo tenha sido removido, false caso contrário.
+     */
+    public boolean remove(K start, K end, V value) {
+
+        var previousSize = size;
+        root = this.remove(root, new Interval<>(start, end, value));
+
+        return size < previousSize;
+    }
+
+    /**
+     * Verifica se algum intervalo do índice se sobrepõe ao intervalo informado.
+     *
+     * @param start Início do intervalo consultado, inclusivo.
+     * @param end Fim do intervalo consultado, exclusivo.
+     * @return true caso exista ao menos uma sobreposição, false caso contrário.
+     */
+    public boolean overlaps(K start, K end) {
+
+        var node = root;
+
+        while (node != null) {
+            if (intersects(node.interval, start, end)) return true;
+
+            node = (node.left != null && node.left.maxEnd.compareTo(start) > 0) ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Busca todos os intervalos do índice que se sobrepõem ao intervalo informado.
+     *
+     * @param start Início do intervalo consultado, inclusivo.
+     * @param end Fim do intervalo consultado, exclusivo.
+     * @return Os intervalos sobrepostos, ordenados pelo seu início.
+     */
+    public List<Interval<K, V>> findOverlapping(K start, K end) {
+
+        var result = new ArrayList<Interval<K, V>>();
+        this.collectOverlapping(root, start, end, result);
+
+        return result;
+    }
+
+    /**
+     * Retorna a quantidade de intervalos presentes no índice.
+     *
+     * @return O número de intervalos.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica se o índice não possui nenhum intervalo.
+     *
+     * @return true caso o índice esteja vazio, false caso contrário.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, Node<K, V> newNode) {
+
+        if (node == null) return newNode;
+
+        if (newNode.interval.start().compareTo(node.interval.start()) < 0) {
+            node.left = this.insert(node.left, newNode);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = this.insert(node.right, newNode);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K, V> remove(Node<K, V> node, Interval<K, V> interval) {
+
+        if (node == null) return null;
+
+        var comparison = interval.start().compareTo(node.interval.start());
+
+        if (comparison == 0 && node.interval.equals(interval)) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = this.remove(node.left, interval);
+        } else {
+            var previousSize = size;
+            node.right = this.remove(node.right, interval);
+
+            // Rotações podem mover intervalos com o mesmo início para a subárvore esquerda
+            if (comparison == 0 && size == previousSize) {
+                node.left = this.remove(node.left, interval);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private void collectOverlapping(Node<K, V> node, K start, K end, List<Interval<K, V>> result) {
+
+        if (node == null || node.maxEnd.compareTo(start) <= 0) return;
+
+        this.collectOverlapping(node.left, start, end, result);
+
+        if (intersects(node.interval, start, end)) result.add(node.interval);
+        if (node.interval.start().compareTo(end) < 0) this.collectOverlapping(node.right, start, end, result);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> merge(Node<K, V> left, Node<K, V> right) {
+
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> rotateRight(Node<K, V> node) {
+
+        var left = node.left;
+        node.left = left.right;
+        left.right = node;
+
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> rotateLeft(Node<K, V> node) {
+
+        var right = node.right;
+        node.right = right.left;
+        right.left = node;
+
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static <K extends Comparable<? super K>, V> void update(Node<K, V> node) {
+
+        var maxEnd = node.interval.end();
+
+        if (node.left != null && node.left.maxEnd.compareTo(maxEnd) > 0) maxEnd = node.left.maxEnd;
+        if (node.right != null && node.right.maxEnd.compareTo(maxEnd) > 0) maxEnd = node.right.maxEnd;
+
+        node.maxEnd = maxEnd;
+    }
+
+    private static <K extends Comparable<? super K>, V> boolean intersects(Interval<K, V> interval, K start, K end) {
+        return interval.start().compareTo(end) < 0 && start.compareTo(interval.end()) < 0;
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Agrupa chamadas concorrentes para uma mesma chave em uma única execução. A primeira thread a solicitar uma
+ * chave executa a operação, enquanto as threads que solicitarem a mesma chave antes do fim da execução aguardam
+ * e recebem o mesmo resultado, ou a mesma exceção. Após o fim da execução, a próxima chamada para a chave
+ * executa a operação novamente, de forma que nenhum resultado seja mantido em cache.</p>
+ *
+ * <p>São registradas a quantidade de chamadas recebidas e a quantidade de execuções realizadas, tanto no total,
+ * através de {@link #totalStats()}, quanto para cada chave, através de {@link #stats()} e de
+ * {@link #mostRequested(int)}. Para que os contadores
+ * não cresçam indefinidamente, apenas as chaves solicitadas mais recentemente são mantidas, até o limite
+ * informado na criação da instância.</p>
+ *
+ * <p>Como o resultado é compartilhado entre threads, ele deve ser imutável e não depender de nenhum recurso
+ * atrelado à thread que o produziu, como o contexto de persistência da requisição.</p>
+ *
+ * <p>Esta classe é thread-safe.</p>
+ *
+ * @param <K> Tipo das chaves das chamadas.
+ * @param <V> Tipo do resultado das chamadas.
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * Quantidade padrão de chaves cujos contadores são mantidos.
+     */
+    public static final int DEFAULT_TRACKED_KEYS = 1_000;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, Counters> counters;
+    private final Counters totals = new Counters();
+
+    private record Counters(LongAdder requests, LongAdder executions) {
+
+        Counters() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    /**
+     * Representa as estatísticas de agrupamento de uma chave.
+     *
+     * @param requests Quantidade de chamadas recebidas.
+     * @param executions Quantidade de vezes em que a operação foi executada.
+     */
+    public record Stats(long requests, long executions) {
+
+        /**
+         * Retorna a proporção das chamadas que foram atendidas pela execução de outra chamada.
+         *
+         * @return Valor entre 0 e 1, sendo 0 caso nenhuma chamada tenha sido agrupada.
+         */
+        public double mergeRatio() {
+            return (requests == 0) ? 0 : (double) (requests - executions) / requests;
+        }
+    }
+
+    /**
+     * Cria uma instância que mantém os contadores das {@link #DEFAULT_TRACKED_KEYS} chaves solicitadas mais
+     * recentemente.
+     */
+    public SingleFlight() {
+        this(DEFAULT_TRACKED_KEYS);
+    }
+
+    /**
+     * Cria uma instância que mantém os contadores das chaves solicitadas mais recentemente.
+     *
+     * @param maxTrackedKeys Quantidade máxima de chaves cujos contadores são mantidos.
+     * @throws IllegalArgumentException Caso a quantidade informada não seja positiva.
+     */
+    public SingleFlight(int maxTrackedKeys) {
+
+        if (maxTrackedKeys <= 0) {
+            throw new IllegalArgumentException("A quantidade de chaves acompanhadas deve ser positiva.");
+        }
+
+        this.counters = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Counters> eldest) {
+                return size() > maxTrackedKeys;
+            }
+        });
+    }
+
+    /**
+     * Executa a operação para a chave fornecida ou, caso ela já esteja sendo executada por outra thread, aguarda
+     * e retorna o resultado dessa execução.
+     *
+     * @param key Chave da chamada.
+     * @param loader Operação que produz o resultado da chave.
+     * @return O resultado da operação.
+     * @throws RuntimeException A exceção lançada pela operação, tanto para a thread que a executou quanto para as
+     * threads que aguardavam o seu resultado.
+     */
+    public V execute(K key, Supplier<V> loader) {
+
+        var keyCounters = counters.computeIfAbsent(key, k -> new Counters());
+        keyCounters.requests().increment();
+        totals.requests().increment();
+
+        var future = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) return this.await(existing);
+
+        keyCounters.executions().increment();
+        totals.executions().increment();
+        try {
+            var result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Retorna as estatísticas de agrupamento de uma chave.
+     *
+     * @param key Chave das chamadas.
+     * @return As estatísticas da chave, zeradas caso ela nunca tenha sido solicitada ou tenha deixado de ser
+     * acompanhada.
+     */
+    public Stats stats(K key) {
+
+        var keyCounters = counters.get(key);
+
+        return (keyCounters != null) ? this.toStats(keyCounters) : new Stats(0, 0);
+    }
+
+    /**
+     * Retorna as estatísticas de agrupamento das chaves acompanhadas atualmente.
+     *
+     * @return Um {@link Map} contendo as estatísticas de cada chave.
+     */
+    public Map<K, Stats> stats() {
+
+        synchronized (counters) {
+            return counters.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> this.toStats(entry.getValue())));
+        }
+    }
+
+    /**
+     * Retorna as estatísticas de agrupamento das chaves acompanhadas que receberam mais chamadas.
+     *
+     * @param limit Quantidade máxima de chaves retornadas.
+     * @return Um {@link Map} contendo as estatísticas de cada chave, ordenado da chave com mais chamadas para a
+     * chave com menos chamadas.
+     */
+    public Map<K, Stats> mostRequested(int limit) {
+
+        return this.stats().entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(Stats::requests).reversed()))
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Retorna as estatísticas de agrupamento de todas as chamadas já recebidas, incluindo as chaves que deixaram
+     * de ser acompanhadas.
+     *
+     * @return As estatísticas totais.
+     */
+    public Stats totalStats() {
+        return this.toStats(totals);
+    }
+
+    private Stats toStats(Counters keyCounters) {
+        return new Stats(keyCounters.requests().sum(), keyCounters.executions().sum());
+    }
+
+    private V await(CompletableFuture<V> future) {
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+}
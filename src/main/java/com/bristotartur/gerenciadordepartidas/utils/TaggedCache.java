@@ -0,0 +1,171 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * <p>Cache em memória de tamanho limitado no qual cada entrada é associada a um conjunto de etiquetas,
+ * permitindo que todas as entradas que dependam de um mesmo dado sejam descartadas de uma só vez através de
+ * {@link #invalidate(Collection)}. Quando o limite de entradas é atingido, a entrada acessada há mais tempo é
+ * descartada.</p>
+ *
+ * <p>Os valores são produzidos fora da sincronização do cache, de forma que a produção de um valor não bloqueie
+ * as demais chaves. Para que um valor produzido a partir de dados já desatualizados não seja armazenado, um
+ * valor só é mantido no cache caso nenhuma invalidação tenha ocorrido durante a sua produção.</p>
+ *
+ * <p>Esta classe é sincronizada.</p>
+ *
+ * @param <K> Tipo das chaves do cache.
+ * @param <V> Tipo dos valores do cache.
+ */
+public class TaggedCache<K, V> {
+
+    private final int maxEntries;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<K>> keysByTag = new HashMap<>();
+    private long generation;
+    private long evictions;
+
+    private record Entry<V>(V value, Set<String> tags) {
+    }
+
+    /**
+     * Representa o valor produzido para uma chave e as etiquetas das quais ele depende.
+     *
+     * @param value Valor produzido.
+     * @param tags Etiquetas associadas ao valor.
+     */
+    public record Loaded<V>(V value, Set<String> tags) {
+    }
+
+    /**
+     * Cria um cache capaz de armazenar a quantidade de entradas fornecida.
+     *
+     * @param maxEntries Quantidade máxima de entradas mantidas no cache.
+     * @throws IllegalArgumentException Caso a quantidade de entradas não seja positiva.
+     */
+    public TaggedCache(int maxEntries) {
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("A quantidade de entradas deve ser positiva.");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Busca o valor associado a uma chave.
+     *
+     * @param key Chave do valor.
+     * @return O valor associado a chave, ou null caso ele não esteja no cache.
+     */
+    public synchronized V get(K key) {
+
+        var entry = entries.get(key);
+        return (entry != null) ? entry.value() : null;
+    }
+
+    /**
+     * Busca o valor associado a uma chave ou, caso ele não esteja no cache, produz o valor e o armazena junto
+     * das etiquetas das quais ele depende.
+     *
+     * @param key Chave do valor.
+     * @param loader Operação que produz o valor e as suas etiquetas.
+     * @return O valor associado a chave.
+     */
+    public V get(K key, Supplier<Loaded<V>> loader) {
+
+        long startGeneration;
+
+        synchronized (this) {
+            var entry = entries.get(key);
+            if (entry != null) return entry.value();
+
+            startGeneration = generation;
+        }
+        var loaded = loader.get();
+
+        synchronized (this) {
+            if (generation == startGeneration) this.insert(key, loaded);
+        }
+        return loaded.value();
+    }
+
+    /**
+     * Descarta todas as entradas associadas a alguma das etiquetas fornecidas.
+     *
+     * @param tags Etiquetas cujas entradas serão descartadas.
+     */
+    public synchronized void invalidate(Collection<String> tags) {
+
+        generation++;
+
+        for (var tag : tags) {
+            var keys = keysByTag.remove(tag);
+            if (keys != null) keys.forEach(this::removeEntry);
+        }
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public synchronized void clear() {
+
+        generation++;
+        entries.clear();
+        keysByTag.clear();
+    }
+
+    /**
+     * Retorna a quantidade de entradas no cache.
+     *
+     * @return A quantidade de entradas.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retorna a quantidade de entradas descartadas por falta de espaço no cache.
+     *
+     * @return A quantidade de entradas descartadas.
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private void insert(K key, Loaded<V> loaded) {
+
+        this.removeEntry(key);
+
+        var tags = Set.copyOf(loaded.tags());
+        entries.put(key, new Entry<>(loaded.value(), tags));
+        tags.forEach(tag -> keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key));
+
+        if (entries.size() > maxEntries) {
+            this.removeEntry(entries.keySet().iterator().next());
+            evictions++;
+        }
+    }
+
+    private void removeEntry(K key) {
+
+        var entry = entries.remove(key);
+
+        if (entry == null) return;
+
+        for (var tag : entry.tags()) {
+            var keys = keysByTag.get(tag);
+            if (keys == null) continue;
+
+            keys.remove(key);
+            if (keys.isEmpty()) keysByTag.remove(tag);
+        }
+    }
+
+}
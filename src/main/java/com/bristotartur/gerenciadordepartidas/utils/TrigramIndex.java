@@ -0,0 +1,174 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Índice invertido de trigramas utilizado para buscas textuais aproximadas em memória. Os textos são
+ * normalizados antes de serem indexados, desconsiderando acentos, letras maiúsculas e pontuação, de forma que
+ * "Júlia" e "julia" sejam considerados iguais.</p>
+ *
+ * <p>Cada palavra é dividida em trigramas precedidos por dois espaços, permitindo que buscas com apenas uma
+ * ou duas letras encontrem as palavras iniciadas por elas. Os resultados são ordenados por relevância: textos
+ * que começam com o termo buscado, textos com alguma palavra iniciada pelo termo, textos que contêm o termo e,
+ * por fim, textos que compartilham ao menos metade dos trigramas do termo, tolerando pequenos erros de
+ * digitação.</p>
+ *
+ * <p>Esta classe não é sincronizada.</p>
+ *
+ * @param <V> Tipo do valor associado a cada texto.
+ */
+public class TrigramIndex<V extends Comparable<? super V>> {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final double MIN_SIMILARITY = 0.5;
+
+    private final Map<String, Set<V>> postings = new HashMap<>();
+    private final Map<V, String> texts = new HashMap<>();
+
+    private record Candidate<V>(V value, String text, int rank, double similarity) {
+    }
+
+    /**
+     * Adiciona um texto ao índice, substituindo o texto anteriormente associado ao mesmo valor.
+     *
+     * @param value Valor associado ao texto.
+     * @param text Texto a ser indexado.
+     */
+    public void put(V value, String text) {
+
+        this.remove(value);
+
+        var normalized = normalize(text);
+        texts.put(value, normalized);
+
+        trigrams(normalized, true).forEach(trigram -> postings
+                .computeIfAbsent(trigram, key -> new HashSet<>())
+                .add(value));
+    }
+
+    /**
+     * Remove o texto associado a um valor do índice.
+     *
+     * @param value Valor associado ao texto.
+     * @return true caso o valor estivesse presente no índice, false caso contrário.
+     */
+    public boolean remove(V value) {
+
+        var text = texts.remove(value);
+
+        if (text == null) return false;
+
+        for (var trigram : trigrams(text, true)) {
+            var values = postings.get(trigram);
+            values.remove(value);
+
+            if (values.isEmpty()) postings.remove(trigram);
+        }
+        return true;
+    }
+
+    /**
+     * Busca pelos valores cujos textos se assemelham ao termo informado. O termo é tratado como incompleto,
+     * de forma que a sua última palavra possa ser apenas o início de uma palavra do texto.
+     *
+     * @param query Termo utilizado na busca.
+     * @return Os valores encontrados, ordenados por relevância, pelo texto e pelo próprio valor.
+     */
+    public List<V> search(String query) {
+
+        var normalized = normalize(query);
+
+        if (normalized.isEmpty()) return List.of();
+
+        var trigrams = trigrams(normalized, false);
+        var hits = new HashMap<V, Integer>();
+
+        trigrams.forEach(trigram -> postings.getOrDefault(trigram, Set.of())
+                .forEach(value -> hits.merge(value, 1, Integer::sum)));
+
+        var candidates = new ArrayList<Candidate<V>>(hits.size());
+
+        hits.forEach((value, count) -> {
+            var text = texts.get(value);
+            var similarity = (double) count / trigrams.size();
+            var rank = rank(text, normalized, similarity);
+
+            if (rank >= 0) candidates.add(new Candidate<>(value, text, rank, similarity));
+        });
+        candidates.sort(Comparator.<Candidate<V>>comparingInt(Candidate::rank)
+                .thenComparing(Candidate::similarity, Comparator.reverseOrder())
+                .thenComparing(Candidate::text)
+                .thenComparing(Candidate::value));
+
+        return candidates.stream()
+                .map(Candidate::value)
+                .toList();
+    }
+
+    /**
+     * Busca pelo texto normalizado associado a um valor.
+     *
+     * @param value Valor associado ao texto.
+     * @return O texto normalizado, ou nulo caso o valor não esteja presente no índice.
+     */
+    public String get(V value) {
+        return texts.get(value);
+    }
+
+    /**
+     * Retorna a quantidade de textos presentes no índice.
+     *
+     * @return O número de textos indexados.
+     */
+    public int size() {
+        return texts.size();
+    }
+
+    /**
+     * Normaliza um texto, removendo acentos, pontuação e espaços repetidos e convertendo suas letras para
+     * minúsculas.
+     *
+     * @param text Texto a ser normalizado, podendo ser nulo.
+     * @return O texto normalizado.
+     */
+    public static String normalize(String text) {
+
+        if (text == null) return "";
+
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        var unaccented = DIACRITICS.matcher(decomposed).replaceAll("");
+
+        return SEPARATORS.matcher(unaccented.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private static Set<String> trigrams(String normalized, boolean complete) {
+
+        var trigrams = new LinkedHashSet<String>();
+
+        if (normalized.isEmpty()) return trigrams;
+
+        var words = normalized.split(" ");
+
+        for (int i = 0; i < words.length; i++) {
+            var padded = "  " + words[i] + ((complete || i < words.length - 1) ? " " : "");
+
+            for (int j = 0; j + 3 <= padded.length(); j++) {
+                trigrams.add(padded.substring(j, j + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static int rank(String text, String query, double similarity) {
+
+        if (text.startsWith(query)) return 0;
+        if (text.contains(" " + query)) return 1;
+        if (text.contains(query)) return 2;
+
+        return (similarity >= MIN_SIMILARITY) ? 3 : -1;
+    }
+
+}
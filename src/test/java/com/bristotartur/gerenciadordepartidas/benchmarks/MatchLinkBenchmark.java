@@ -0,0 +1,129 @@
+package com.bristotartur.gerenciadordepartidas.benchmarks;
+
+import com.bristotartur.gerenciadordepartidas.controllers.GoalController;
+import com.bristotartur.gerenciadordepartidas.controllers.MatchController;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.LinkTemplate;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseMatchDto;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Compara a geração dos links de uma página com 200 partidas utilizando {@code linkTo(methodOn(...))}
+ * e utilizando os templates pré-computados de {@link LinkTemplate}. Cada requisição simulada possui sua
+ * própria URI base, da mesma forma que ocorre durante o processamento de uma requisição real.
+ *
+ * <p>Para executar, compile as classes de teste e rode o método {@code main} desta classe com o
+ * classpath de testes, por exemplo através da IDE.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchLinkBenchmark {
+
+    private static final int PAGE_SIZE = 200;
+
+    private static final LinkTemplate MATCH = LinkTemplate.of(MatchController.class, "findMatchById");
+    private static final LinkTemplate MATCH_PLAYERS = LinkTemplate.of(MatchController.class, "listMatchPlayers", "?" + LinkTemplate.FIRST_PAGE_QUERY);
+    private static final LinkTemplate MATCHES_BY_SPORT = LinkTemplate.of(MatchController.class, "listMatchesBySport", "?sportType={sport}&" + LinkTemplate.FIRST_PAGE_QUERY);
+    private static final LinkTemplate MATCH_GOALS = LinkTemplate.of(GoalController.class, "listGoalsFromMatch", "?match={matchId}&type={sport}&" + LinkTemplate.FIRST_PAGE_QUERY);
+
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = LongStream.rangeClosed(1, PAGE_SIZE).boxed().toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void startRequest() {
+
+        var request = new MockHttpServletRequest("GET", "/gerenciador-de-partidas/api/matches");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Invocation)
+    public void finishRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<ResponseMatchDto> methodOnLinks() {
+
+        var pageable = PageRequest.of(0, 12);
+        var dtos = new ArrayList<ResponseMatchDto>(PAGE_SIZE);
+
+        for (var id : ids) {
+            var dto = createDto(id);
+            var sport = dto.getSport();
+
+            dto.add(linkTo(methodOn(MatchController.class).findMatchById(id)).withSelfRel());
+            dto.add(linkTo(methodOn(MatchController.class).listMatchPlayers(id, true, pageable)).withRel("matchPlayers"));
+            dto.add(linkTo(methodOn(MatchController.class).listMatchesBySport(sport.name(), true, pageable)).withRel("matchesOfSameType"));
+
+            if (sport.equals(Sports.FUTSAL)) {
+                dto.add(linkTo(methodOn(GoalController.class).listGoalsFromMatch(id, sport.value, true, pageable)).withRel("goals"));
+            }
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<ResponseMatchDto> templateLinks() {
+
+        var dtos = new ArrayList<ResponseMatchDto>(PAGE_SIZE);
+
+        for (var id : ids) {
+            var dto = createDto(id);
+            var sport = dto.getSport();
+
+            dto.add(MATCH.toSelfLink(id));
+            dto.add(MATCH_PLAYERS.toLink("matchPlayers", id));
+            dto.add(MATCHES_BY_SPORT.toLink("matchesOfSameType", sport.name()));
+
+            if (sport.equals(Sports.FUTSAL)) {
+                dto.add(MATCH_GOALS.toLink("goals", id, sport.value));
+            }
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    private static ResponseMatchDto createDto(Long id) {
+
+        var sport = (id % 2 == 0) ? Sports.FUTSAL : Sports.VOLLEYBALL;
+        var now = LocalDateTime.now();
+
+        return new ResponseMatchDto(id, sport, Importance.NONE, Team.PAPA_LEGUAS, Team.TWISTER,
+                0, 0, Modality.MASCULINE, Status.SCHEDULED, now, now, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        var options = new OptionsBuilder()
+                .include(MatchLinkBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
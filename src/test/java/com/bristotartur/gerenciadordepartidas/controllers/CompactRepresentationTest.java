@@ -0,0 +1,79 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.configs.CompactRepresentationConfig;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class CompactRepresentationTest {
+
+    private static final String EDITIONS_PATH = "/gerenciador-de-partidas/api/editions";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        EditionTestUtil.createNewEdition(Status.SCHEDULED, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should serialize elements without links when the compact representation is requested")
+    void Should_SerializeElementsWithoutLinks_When_CompactRepresentationIsRequested() throws Exception {
+
+        var response = mockMvc.perform(get(EDITIONS_PATH).accept(CompactRepresentationConfig.COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertTrue(CompactRepresentationConfig.COMPACT_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType())));
+        assertTrue(response.getContentAsString().contains("\"content\""));
+        assertFalse(response.getContentAsString().contains("\"links\""));
+    }
+
+    @Test
+    @DisplayName("Should serialize elements with links when JSON is requested")
+    void Should_SerializeElementsWithLinks_When_JsonIsRequested() throws Exception {
+
+        var response = mockMvc.perform(get(EDITIONS_PATH).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType())));
+        assertTrue(response.getContentAsString().contains("\"links\""));
+    }
+
+    @Test
+    @DisplayName("Should serialize elements with links when any media type is accepted")
+    void Should_SerializeElementsWithLinks_When_AnyMediaTypeIsAccepted() throws Exception {
+
+        var response = mockMvc.perform(get(EDITIONS_PATH).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertTrue(response.getContentAsString().contains("\"links\""));
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.repositories.EditionRepository;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class HttpCachingTest {
+
+    private static final String EDITIONS_PATH = "/gerenciador-de-partidas/api/editions";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private EditionRepository editionRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private List<Edition> editions;
+
+    @BeforeEach
+    void setUp() {
+
+        var endedEditions = IntStream.range(0, 20)
+                .mapToObj(i -> EditionTestUtil.createNewEdition(Status.ENDED));
+
+        editions = editionRepository.saveAll(Stream.concat(endedEditions,
+                Stream.of(EditionTestUtil.createNewEdition(Status.OPEN_FOR_EDITS))).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        editionRepository.deleteAll(editions);
+    }
+
+    @Test
+    @DisplayName("Should compress the response when the client accepts gzip encoding")
+    void Should_CompressTheResponse_When_ClientAcceptsGzipEncoding() throws Exception {
+
+        var path = EDITIONS_PATH + "?size=20";
+
+        var plainResponse = this.send(this.request(path).build());
+        var compressedResponse = this.send(this.request(path).header(HttpHeaders.ACCEPT_ENCODING, "gzip").build());
+
+        assertEquals(compressedResponse.statusCode(), 200);
+        assertEquals(compressedResponse.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null), "gzip");
+        assertTrue(plainResponse.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertTrue(compressedResponse.body().length * 2 < plainResponse.body().length);
+    }
+
+    @Test
+    @DisplayName("Should cache the resource for a long time when its Status is ENDED")
+    void Should_CacheTheResourceForLongTime_When_ItsStatusIsEnded() throws Exception {
+
+        var response = this.send(this.request(EDITIONS_PATH + "/" + editions.get(0).getId()).build());
+
+        assertEquals(response.statusCode(), 200);
+        assertEquals(response.headers().firstValue(HttpHeaders.CACHE_CONTROL).orElse(null), "max-age=86400, public");
+        assertTrue(response.headers().firstValue(HttpHeaders.LAST_MODIFIED).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should vary the cached response by the Accept header when the resource is cacheable")
+    void Should_VaryCachedResponseByAcceptHeader_When_ResourceIsCacheable() throws Exception {
+
+        var response = this.send(this.request(EDITIONS_PATH + "/" + editions.get(0).getId()).build());
+
+        var varyHeaders = response.headers().allValues(HttpHeaders.VARY).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .toList();
+
+        assertEquals(response.statusCode(), 200);
+        assertTrue(varyHeaders.stream().anyMatch(HttpHeaders.ACCEPT::equalsIgnoreCase));
+    }
+
+    @Test
+    @DisplayName("Should require revalidation when the resource is open for edits")
+    void Should_RequireRevalidation_When_ResourceIsOpenForEdits() throws Exception {
+
+        var response = this.send(this.request(EDITIONS_PATH + "/" + editions.get(20).getId()).build());
+
+        assertEquals(response.statusCode(), 200);
+        assertEquals(response.headers().firstValue(HttpHeaders.CACHE_CONTROL).orElse(null), "no-cache");
+    }
+
+    @Test
+    @DisplayName("Should return Not Modified without a body when the resource was not modified")
+    void Should_ReturnNotModifiedWithoutBody_When_ResourceWasNotModified() throws Exception {
+
+        var path = EDITIONS_PATH + "/" + editions.get(0).getId();
+        var response = this.send(this.request(path).build());
+
+        var lastModified = response.headers().firstValue(HttpHeaders.LAST_MODIFIED).orElseThrow();
+        var etag = response.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+
+        var modifiedSinceResponse = this.send(this.request(path).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified).build());
+        var noneMatchResponse = this.send(this.request(path).header(HttpHeaders.IF_NONE_MATCH, etag).build());
+
+        assertEquals(modifiedSinceResponse.statusCode(), 304);
+        assertEquals(modifiedSinceResponse.body().length, 0);
+        assertEquals(noneMatchResponse.statusCode(), 304);
+        assertEquals(noneMatchResponse.body().length, 0);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.filters.IdempotencyFilter;
+import com.bristotartur.gerenciadordepartidas.repositories.EditionRepository;
+import com.bristotartur.gerenciadordepartidas.utils.ExpiringCache;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class IdempotencyTest {
+
+    private static final String EDITIONS_PATH = "/gerenciador-de-partidas/api/editions";
+    private static final String EDITION_BODY = "{\"opening\": \"2030-04-01\", \"closure\": \"2030-05-15\"}";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private EditionRepository editionRepository;
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver exceptionResolver;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private List<Long> existingEditionIds;
+
+    @BeforeEach
+    void setUp() {
+        existingEditionIds = editionRepository.findAll().stream().map(Edition::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        editionRepository.findAll().stream()
+                .filter(edition -> !existingEditionIds.contains(edition.getId()))
+                .forEach(editionRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Should replay the original response when a request is retried with the same Idempotency-Key")
+    void Should_ReplayTheOriginalResponse_When_RequestIsRetriedWithSameIdempotencyKey() throws Exception {
+
+        var key = UUID.randomUUID().toString();
+
+        var response = this.send(this.request(key, EDITION_BODY));
+        var retriedResponse = this.send(this.request(key, EDITION_BODY));
+
+        assertEquals(response.statusCode(), 201);
+        assertEquals(retriedResponse.statusCode(), 201);
+        assertEquals(retriedResponse.body(), response.body());
+        assertEquals(retriedResponse.headers().firstValue(IdempotencyFilter.IDEMPOTENT_REPLAYED).orElse(null), "true");
+        assertTrue(response.headers().firstValue(IdempotencyFilter.IDEMPOTENT_REPLAYED).isEmpty());
+        assertEquals(editionRepository.count(), existingEditionIds.size() + 1);
+    }
+
+    @Test
+    @DisplayName("Should return Unprocessable Entity when the Idempotency-Key is reused in a different request")
+    void Should_ReturnUnprocessableEntity_When_IdempotencyKeyIsReusedInDifferentRequest() throws Exception {
+
+        var key = UUID.randomUUID().toString();
+        var otherBody = "{\"opening\": \"2031-04-01\", \"closure\": \"2031-05-15\"}";
+
+        var response = this.send(this.request(key, EDITION_BODY));
+        var reusedResponse = this.send(this.request(key, otherBody));
+
+        assertEquals(response.statusCode(), 201);
+        assertEquals(reusedResponse.statusCode(), 422);
+        assertEquals(editionRepository.count(), existingEditionIds.size() + 1);
+    }
+
+    @Test
+    @DisplayName("Should process every request when no Idempotency-Key is sent")
+    void Should_ProcessEveryRequest_When_NoIdempotencyKeyIsSent() throws Exception {
+
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + EDITIONS_PATH))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(EDITION_BODY))
+                .build();
+
+        this.send(request);
+        this.send(request);
+
+        assertEquals(editionRepository.count(), existingEditionIds.size() + 2);
+    }
+
+    @Test
+    @DisplayName("Should process the request of each client when different clients send the same Idempotency-Key")
+    void Should_ProcessRequestOfEachClient_When_DifferentClientsSendSameIdempotencyKey() throws Exception {
+
+        var filter = new IdempotencyFilter(new ExpiringCache<>(10, Duration.ofMinutes(1)), exceptionResolver);
+        var processed = new AtomicInteger();
+        var key = UUID.randomUUID().toString();
+
+        for (var address : List.of("10.0.0.1", "10.0.0.2", "10.0.0.1")) {
+            var request = this.mockRequest(key, EDITION_BODY);
+            request.setRemoteAddr(address);
+
+            filter.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {
+                processed.incrementAndGet();
+                ((HttpServletResponse) filteredResponse).setStatus(201);
+            });
+        }
+        assertEquals(processed.get(), 2);
+    }
+
+    @Test
+    @DisplayName("Should notify the ReadListener with the whole body when the request body is read asynchronously")
+    void Should_NotifyReadListenerWithTheWholeBody_When_RequestBodyIsReadAsynchronously() throws Exception {
+
+        var filter = new IdempotencyFilter(new ExpiringCache<>(10, Duration.ofMinutes(1)), exceptionResolver);
+        var body = new ByteArrayOutputStream();
+        var allDataRead = new AtomicBoolean();
+
+        filter.doFilter(this.mockRequest(UUID.randomUUID().toString(), EDITION_BODY), new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {
+            var inputStream = filteredRequest.getInputStream();
+
+            inputStream.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (inputStream.isReady() && !inputStream.isFinished()) body.write(inputStream.read());
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail(throwable);
+                }
+            });
+        });
+        assertEquals(body.toString(StandardCharsets.UTF_8), EDITION_BODY);
+        assertTrue(allDataRead.get());
+    }
+
+    private MockHttpServletRequest mockRequest(String key, String body) {
+
+        var request = new MockHttpServletRequest("POST", EDITIONS_PATH);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        return request;
+    }
+
+    private HttpRequest request(String key, String body) {
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + EDITIONS_PATH))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY, key)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+}
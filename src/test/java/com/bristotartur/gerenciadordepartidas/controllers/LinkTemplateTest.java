@@ -0,0 +1,61 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.LinkTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplateTest {
+
+    @BeforeEach
+    void setUp() {
+
+        var request = new MockHttpServletRequest("GET", "/gerenciador-de-partidas/api/matches");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should generate the same href as methodOn when the template of a controller method is expanded")
+    void Should_GenerateTheSameHrefAsMethodOn_When_TheTemplateOfControllerMethodIsExpanded() {
+
+        var template = LinkTemplate.of(MatchController.class, "findMatchById");
+
+        var expected = linkTo(methodOn(MatchController.class).findMatchById(5L)).withSelfRel();
+        var result = template.toSelfLink(5L);
+
+        assertEquals(result.getHref(), expected.getHref());
+        assertEquals(result.getRel(), expected.getRel());
+    }
+
+    @Test
+    @DisplayName("Should expand query variables when the template has a query")
+    void Should_ExpandQueryVariables_When_TheTemplateHasQuery() {
+
+        var template = LinkTemplate.of(GoalController.class, "listGoalsFromMatch", "?match={matchId}&type={sport}");
+        var result = template.toLink("goals", 3L, "futsal");
+
+        assertEquals(result.getHref(), "http://localhost/gerenciador-de-partidas/api/goals/from?match=3&type=futsal");
+        assertEquals(result.getRel().value(), "goals");
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalStateException when the controller method does not exist")
+    void Should_ThrowIllegalStateException_When_TheControllerMethodDoesNotExist() {
+
+        assertThrows(IllegalStateException.class, () -> LinkTemplate.of(MatchController.class, "nonExistingMethod"));
+    }
+
+}
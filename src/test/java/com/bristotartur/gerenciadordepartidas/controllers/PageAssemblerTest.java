@@ -0,0 +1,119 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.configs.CompactRepresentationConfig;
+import com.bristotartur.gerenciadordepartidas.controllers.assemblers.PageAssembler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageAssemblerTest {
+
+    private final PageAssembler pageAssembler = new PageAssembler();
+
+    @BeforeEach
+    void setUp() {
+
+        var request = new MockHttpServletRequest("GET", "/gerenciador-de-partidas/api/matches");
+        request.setQueryString("page=1&size=2");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should keep the original total when a Page is converted")
+    void Should_KeepTheOriginalTotal_When_PageIsConverted() {
+
+        var page = new PageImpl<>(List.of(3, 4), PageRequest.of(1, 2), 7);
+        var result = pageAssembler.toDtoSlice(page, String::valueOf);
+
+        assertInstanceOf(Page.class, result);
+        assertEquals(((Page<String>) result).getTotalElements(), 7);
+        assertEquals(((Page<String>) result).getTotalPages(), 4);
+        assertEquals(result.getContent(), List.of("3", "4"));
+    }
+
+    @Test
+    @DisplayName("Should add navigation links to the Link header when a Page is assembled")
+    void Should_AddNavigationLinksToTheLinkHeader_When_PageIsAssembled() {
+
+        var page = new PageImpl<>(List.of(3, 4), PageRequest.of(1, 2), 7);
+        var linkHeader = pageAssembler.toResponse(page, String::valueOf)
+                .getHeaders()
+                .getFirst(HttpHeaders.LINK);
+
+        assertNotNull(linkHeader);
+
+        var links = Links.parse(linkHeader);
+
+        assertTrue(links.getRequiredLink(IanaLinkRelations.FIRST).getHref().contains("page=0"));
+        assertTrue(links.getRequiredLink(IanaLinkRelations.PREV).getHref().contains("page=0"));
+        assertTrue(links.getRequiredLink(IanaLinkRelations.NEXT).getHref().contains("page=2"));
+        assertTrue(links.getRequiredLink(IanaLinkRelations.LAST).getHref().contains("page=3"));
+    }
+
+    @Test
+    @DisplayName("Should not add the last link when a Slice is assembled")
+    void Should_NotAddTheLastLink_When_SliceIsAssembled() {
+
+        var slice = new SliceImpl<>(List.of(3, 4), PageRequest.of(1, 2), true);
+        var linkHeader = pageAssembler.toResponse(slice, String::valueOf)
+                .getHeaders()
+                .getFirst(HttpHeaders.LINK);
+
+        assertNotNull(linkHeader);
+
+        var links = Links.parse(linkHeader);
+
+        assertTrue(links.hasLink(IanaLinkRelations.NEXT));
+        assertFalse(links.hasLink(IanaLinkRelations.LAST));
+    }
+
+    @Test
+    @DisplayName("Should not add element links when the compact representation is requested")
+    void Should_NotAddElementLinks_When_CompactRepresentationIsRequested() {
+
+        var request = new MockHttpServletRequest("GET", "/gerenciador-de-partidas/api/matches");
+        request.addHeader(HttpHeaders.ACCEPT, CompactRepresentationConfig.COMPACT_JSON_VALUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        var slice = new SliceImpl<>(List.of(3, 4), PageRequest.of(0, 2), false);
+        var result = pageAssembler.toDtoSlice(slice, value -> new RepresentationModel<>(), (value, dto) -> dto.add(Link.of("/" + value)));
+
+        assertTrue(pageAssembler.isCompactRequest());
+        assertTrue(result.getContent().stream().noneMatch(RepresentationModel::hasLinks));
+    }
+
+    @Test
+    @DisplayName("Should add element links when the compact representation is not requested")
+    void Should_AddElementLinks_When_CompactRepresentationIsNotRequested() {
+
+        var slice = new SliceImpl<>(List.of(3, 4), PageRequest.of(0, 2), false);
+        var result = pageAssembler.toDtoSlice(slice, value -> new RepresentationModel<>(), (value, dto) -> dto.add(Link.of("/" + value)));
+
+        assertFalse(pageAssembler.isCompactRequest());
+        assertTrue(result.getContent().stream().allMatch(RepresentationModel::hasLinks));
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.bristotartur.gerenciadordepartidas.controllers;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.repositories.EditionRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
+import com.bristotartur.gerenciadordepartidas.services.ResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil.createNewEdition;
+import static com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil.createNewSportEvent;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ScoreboardTest {
+
+    private static final String SCOREBOARD_PATH = "/gerenciador-de-partidas/api/scoreboard";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private EditionRepository editionRepository;
+    @Autowired
+    private SportEventRepository sportEventRepository;
+    @Autowired
+    private ResponseCache responseCache;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private Edition edition;
+    private SportEvent sportEvent;
+
+    @BeforeEach
+    void setUp() {
+        sportEvent = sportEventRepository.save(createNewSportEvent(Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, 10, createNewEdition(Status.SCHEDULED)));
+        edition = sportEvent.getEdition();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sportEventRepository.delete(sportEvent);
+        editionRepository.deleteById(edition.getId());
+    }
+
+    @Test
+    @DisplayName("Should return the standings of the Edition when the Edition exists")
+    void Should_ReturnEditionStandings_When_EditionExists() throws Exception {
+
+        var response = this.get("/editions/" + edition.getId() + "/standings");
+
+        assertEquals(response.statusCode(), 200);
+        assertTrue(response.body().contains("\"editionId\":" + edition.getId()));
+        assertTrue(response.body().contains("\"atomica\":0"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated SportEvent reads from the response cache when the SportEvent is unchanged")
+    void Should_ServeRepeatedSportEventReadsFromCache_When_SportEventIsUnchanged() throws Exception {
+
+        var path = "/events/" + sportEvent.getId();
+        var hitsBefore = this.eventHits();
+
+        var response = this.get(path);
+        var repeatedResponse = this.get(path);
+
+        assertEquals(response.statusCode(), 200);
+        assertEquals(repeatedResponse.body(), response.body());
+        assertTrue(response.body().contains("\"sportEventId\":" + sportEvent.getId()));
+        assertEquals(this.eventHits(), hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should return Not Found when the Match does not exist")
+    void Should_ReturnNotFound_When_MatchDoesNotExist() throws Exception {
+
+        var response = this.get("/matches/" + Long.MAX_VALUE);
+
+        assertEquals(response.statusCode(), 404);
+    }
+
+    private long eventHits() {
+
+        var stats = responseCache.stats().get("scoreboard/events/{id}");
+        return (stats != null) ? stats.hits() : 0;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + SCOREBOARD_PATH + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.bristotartur.gerenciadordepartidas.repositories;
+
+import com.bristotartur.gerenciadordepartidas.enums.JobStatus;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.enums.TaskType;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.utils.SqlCaptureInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.bristotartur.gerenciadordepartidas.utils.SqlCaptureInspector")
+@Transactional
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    /**
+     * Consultas que percorrem intencionalmente todas as linhas de uma tabela, como listagens completas,
+     * agregações globais e a reconstrução de índices em memória.
+     */
+    private static final Set<String> FULL_SCANS = Set.of(
+            "findAllBy",
+            "findFirstMatchesByKeyset",
+            "findFirstParticipantsByKeyset",
+            "findMatchPlayerSchedules",
+            "countMatchesByEvent",
+            "findParticipantNames",
+            "countGoals",
+            "countPenaltyCards",
+            "countPlayedMatches",
+            "sumEndedMatchesForTeamA",
+            "sumEndedMatchesForTeamB",
+            "findEventPartitions"
+    );
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should not scan whole tables when repository queries filter by indexed columns")
+    void Should_NotScanWholeTables_When_RepositoryQueriesFilterByIndexedColumns() {
+
+        var scans = new TreeMap<String, Set<String>>();
+        var inspected = 0;
+
+        for (var repository : applicationContext.getBeansOfType(Repository.class).values()) {
+            for (var repositoryInterface : this.findRepositoryInterfaces(repository)) {
+                for (var method : repositoryInterface.getDeclaredMethods()) {
+                    SqlCaptureInspector.drain();
+                    this.invoke(repository, repositoryInterface, method);
+
+                    for (var sql : SqlCaptureInspector.drain()) {
+                        if (!sql.stripLeading().toLowerCase().startsWith("select")) continue;
+
+                        var tables = this.findScannedTables(sql);
+                        inspected++;
+
+                        if (!tables.isEmpty() && !FULL_SCANS.contains(method.getName())) {
+                            scans.computeIfAbsent(repositoryInterface.getSimpleName() + "." + method.getName(), key -> new TreeSet<>())
+                                    .addAll(tables);
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(inspected > 0);
+        assertEquals(scans, Map.of());
+    }
+
+    private List<Class<?>> findRepositoryInterfaces(Object repository) {
+
+        var interfaces = new ArrayList<Class<?>>();
+        var pending = new ArrayDeque<Class<?>>(List.of(AopProxyUtils.proxiedUserInterfaces(repository)));
+
+        while (!pending.isEmpty()) {
+            var type = pending.pop();
+
+            if (!type.getPackage().equals(QueryPlanTest.class.getPackage()) || interfaces.contains(type)) continue;
+
+            interfaces.add(type);
+            pending.addAll(List.of(type.getInterfaces()));
+        }
+        return interfaces;
+    }
+
+    private void invoke(Object repository, Class<?> repositoryInterface, Method method) {
+
+        var arguments = Arrays.stream(method.getParameterTypes())
+                .map(type -> this.createArgument(type, repositoryInterface))
+                .toArray();
+        try {
+            if (method.invoke(repository, arguments) instanceof Stream<?> stream) stream.close();
+        } catch (InvocationTargetException e) {
+            // Nenhum registro é necessário: apenas a consulta gerada é analisada
+        } catch (IllegalAccessException e) {
+            fail(e);
+        }
+    }
+
+    private Object createArgument(Class<?> type, Class<?> repositoryInterface) {
+
+        if (type.equals(Long.class)) return 1L;
+        if (type.equals(Integer.class)) return 1;
+        if (type.equals(String.class)) return "a";
+        if (type.equals(Pageable.class)) return PageRequest.of(0, 10);
+        if (type.equals(Team.class)) return Team.ATOMICA;
+        if (type.equals(Sports.class)) return Sports.FUTSAL;
+        if (type.equals(Modality.class)) return Modality.MASCULINE;
+        if (type.equals(JobStatus.class)) return JobStatus.RUNNING;
+        if (type.equals(Status.class)) return Status.IN_PROGRESS;
+        if (type.equals(LocalDateTime.class)) return LocalDateTime.now();
+        if (type.equals(EntityManager.class)) return entityManager;
+        if (type.isInterface() && type.getSimpleName().equals("EventType")) {
+            return repositoryInterface.equals(TaskEventRepository.class) ? TaskType.NORMAL : Sports.FUTSAL;
+        }
+        throw new IllegalArgumentException("Unsupported parameter type: " + type);
+    }
+
+    private Set<String> findScannedTables(String sql) {
+
+        var plan = jdbcTemplate.query(
+                connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : ""
+        );
+        var tables = new TreeSet<String>();
+        var matcher = TABLE_SCAN.matcher(Objects.requireNonNull(plan));
+
+        while (matcher.find()) tables.add(matcher.group(1));
+
+        return tables;
+    }
+
+}
@@ -2,6 +2,8 @@ package com.bristotartur.gerenciadordepartidas.services;
 
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
 import com.bristotartur.gerenciadordepartidas.exceptions.ForbiddenException;
@@ -16,7 +18,9 @@ import org.junit.jupiter.api.Test;
 import java.util.LinkedList;
 import java.util.List;
 
+import static com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil.createNewEdition;
 import static com.bristotartur.gerenciadordepartidas.utils.RandomIdUtil.getRandomLongId;
+import static com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil.createNewSportEvent;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 
@@ -33,6 +37,7 @@ class ActionValidatorTest {
         );
         players.forEach(player -> player.setId(getRandomLongId()));
         match = MatchTestUtil.createNewMatch(any(), any(), players, any());
+        match.setEvent(createNewSportEvent(Sports.FUTSAL, Modality.MASCULINE, createNewEdition(Status.IN_PROGRESS)));
     }
 
     @Test
@@ -56,6 +61,16 @@ class ActionValidatorTest {
         assertThrows(ConflictException.class, () -> ActionValidator.checkMatchForAction(match));
     }
 
+    @Test
+    @DisplayName("Should throw UnprocessableEntityException when Edition of Match is ended")
+    void Should_ThrowUnprocessableEntityException_When_EditionOfMatchIsEnded() {
+
+        match.setMatchStatus(Status.IN_PROGRESS);
+        match.getEvent().getEdition().setEditionStatus(Status.ENDED);
+
+        assertThrows(UnprocessableEntityException.class, () -> ActionValidator.checkMatchForAction(match));
+    }
+
     @Test
     @DisplayName("Should not throw anything when player is included in Match")
     void Should_NotThrowAnyting_When_PlayerIsIncludedInMatch() {
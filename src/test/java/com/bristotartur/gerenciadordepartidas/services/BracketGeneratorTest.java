@@ -0,0 +1,93 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.enums.Importance;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.services.matches.BracketGenerator;
+import com.bristotartur.gerenciadordepartidas.services.matches.BracketGenerator.Pairing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketGeneratorTest {
+
+    private final List<Team> teams = List.of(Team.ATOMICA, Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS, Team.TWISTER);
+
+    @Test
+    @DisplayName("Should return the importance of the next phase when the SportEvent still accepts matches")
+    void Should_ReturnImportanceOfTheNextPhase_When_SportEventStillAcceptsMatches() {
+
+        assertEquals(BracketGenerator.findNextImportance(0, 10), Importance.NORMAL);
+        assertEquals(BracketGenerator.findNextImportance(6, 10), Importance.SEMIFINAL);
+        assertEquals(BracketGenerator.findNextImportance(8, 10), Importance.THIRD_PLACE_PLAYOFF);
+        assertEquals(BracketGenerator.findNextImportance(9, 10), Importance.FINAL);
+        assertThrows(UnprocessableEntityException.class, () -> BracketGenerator.findNextImportance(10, 10));
+    }
+
+    @Test
+    @DisplayName("Should not repeat a Team inside a round when the round robin is generated")
+    void Should_NotRepeatTeamInsideRound_When_RoundRobinIsGenerated() {
+
+        var pairings = BracketGenerator.generateRoundRobin(teams, 0, 12);
+
+        for (int round = 0; round < 6; round++) {
+            var first = pairings.get(round * 2);
+            var second = pairings.get(round * 2 + 1);
+            var roundTeams = EnumSet.of(first.teamA(), first.teamB(), second.teamA(), second.teamB());
+
+            assertEquals(roundTeams.size(), 4);
+        }
+        assertEquals(pairings.get(6), new Pairing(pairings.get(0).teamB(), pairings.get(0).teamA()));
+        assertEquals(BracketGenerator.generateRoundRobin(teams, 3, 2), pairings.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("Should rank Teams by points and score balance when the standings are calculated")
+    void Should_RankTeamsByPointsAndScoreBalance_When_StandingsAreCalculated() {
+
+        var matches = List.of(
+                createEndedMatch(Team.TWISTER, Team.ATOMICA, 3, 0),
+                createEndedMatch(Team.PAPA_LEGUAS, Team.MESTRES_DE_OBRAS, 1, 0),
+                createEndedMatch(Team.TWISTER, Team.PAPA_LEGUAS, 1, 1),
+                createEndedMatch(Team.ATOMICA, Team.MESTRES_DE_OBRAS, 2, 2)
+        );
+        var result = BracketGenerator.calculateStandings(teams, matches);
+
+        assertEquals(result, List.of(Team.TWISTER, Team.PAPA_LEGUAS, Team.MESTRES_DE_OBRAS, Team.ATOMICA));
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when a semifinal ended in a draw")
+    void Should_ThrowBadRequestException_When_SemifinalEndedInDraw() {
+
+        var first = createEndedMatch(Team.ATOMICA, Team.TWISTER, 2, 1);
+        var second = createEndedMatch(Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS, 1, 1);
+
+        first.setMatchImportance(Importance.SEMIFINAL);
+        second.setMatchImportance(Importance.SEMIFINAL);
+
+        assertThrows(BadRequestException.class, () -> BracketGenerator.generateFinal(List.of(first, second)));
+    }
+
+    private static Match createEndedMatch(Team teamA, Team teamB, int scoreA, int scoreB) {
+
+        return Match.builder()
+                .teamA(teamA)
+                .teamB(teamB)
+                .teamScoreA(scoreA)
+                .teamScoreB(scoreB)
+                .matchImportance(Importance.NORMAL)
+                .matchStatus(Status.ENDED)
+                .matchStart(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestBracketDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.TimeSlot;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.services.matches.BracketService;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class BracketServiceTest {
+
+    @Autowired
+    private BracketService bracketService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Edition edition;
+
+    @BeforeEach
+    void setUp() {
+        edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should generate every NORMAL match as a round robin when the SportEvent has no matches")
+    void Should_GenerateEveryNormalMatchAsRoundRobin_When_SportEventHasNoMatches() {
+
+        var event = this.createSportEvent(14, Team.ATOMICA, Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS, Team.TWISTER, Team.UNICONTTI);
+        var slots = createSlots(12);
+
+        var result = bracketService.generateBracket(event.getId(), new RequestBracketDto(slots));
+
+        var pairings = new HashSet<Set<Team>>();
+        result.forEach(match -> pairings.add(Set.of(match.getTeamA(), match.getTeamB())));
+
+        assertEquals(result.size(), 10);
+        assertEquals(pairings.size(), 10);
+        assertTrue(result.stream().allMatch(match -> match.getMatchImportance().equals(Importance.NORMAL)));
+        assertTrue(result.stream().allMatch(match -> match.getPlayers().size() == 2));
+        assertEquals(result.get(0).getMatchStart(), slots.get(0).matchStart());
+        assertEquals(result.get(9).getMatchEnd(), slots.get(9).matchEnd());
+    }
+
+    @Test
+    @DisplayName("Should generate the semifinals from the standings when every NORMAL match is ENDED")
+    void Should_GenerateSemifinalsFromStandings_When_EveryNormalMatchIsEnded() {
+
+        var event = this.createSportEvent(14, Team.ATOMICA, Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS, Team.TWISTER, Team.UNICONTTI);
+        var normalMatches = bracketService.generateBracket(event.getId(), new RequestBracketDto(createSlots(10)));
+
+        normalMatches.forEach(this::endWithLowestTeamWinning);
+        entityManager.flush();
+        entityManager.clear();
+
+        var result = bracketService.generateBracket(event.getId(), new RequestBracketDto(createSlots(12).subList(10, 12)));
+
+        assertEquals(result.size(), 2);
+        assertTrue(result.stream().allMatch(match -> match.getMatchImportance().equals(Importance.SEMIFINAL)));
+        assertEquals(Set.of(result.get(0).getTeamA(), result.get(0).getTeamB()), Set.of(Team.ATOMICA, Team.TWISTER));
+        assertEquals(Set.of(result.get(1).getTeamA(), result.get(1).getTeamB()), Set.of(Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS));
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when the time slots overlap")
+    void Should_ThrowBadRequestException_When_TimeSlotsOverlap() {
+
+        var event = this.createSportEvent(6, Team.ATOMICA, Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS, Team.TWISTER);
+        var start = LocalDateTime.of(2024, 5, 20, 8, 0);
+        var slots = List.of(
+                new TimeSlot(start, start.plusMinutes(40)),
+                new TimeSlot(start.plusMinutes(30), start.plusMinutes(70))
+        );
+
+        assertThrows(BadRequestException.class, () -> bracketService.generateBracket(event.getId(), new RequestBracketDto(slots)));
+    }
+
+    @Test
+    @DisplayName("Should throw UnprocessableEntityException when the SportEvent has less than four teams")
+    void Should_ThrowUnprocessableEntityException_When_SportEventHasLessThanFourTeams() {
+
+        var event = this.createSportEvent(7, Team.ATOMICA, Team.MESTRES_DE_OBRAS, Team.PAPA_LEGUAS);
+        var slots = createSlots(3);
+
+        assertThrows(UnprocessableEntityException.class, () -> bracketService.generateBracket(event.getId(), new RequestBracketDto(slots)));
+    }
+
+    private SportEvent createSportEvent(Integer totalMatches, Team... teams) {
+
+        var participants = new ArrayList<Participant>();
+
+        for (var team : teams) {
+            var participant = ParticipantTestUtil.createNewParticipant("1-11", team, edition, entityManager);
+            participants.add(entityManager.find(Participant.class, participant.getId()));
+        }
+        var event = SportEventTestUtil.createNewSportEvent(Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, totalMatches, edition);
+        event.setParticipants(participants);
+
+        return entityManager.merge(event);
+    }
+
+    private void endWithLowestTeamWinning(Match match) {
+
+        var teamAWins = match.getTeamA().ordinal() < match.getTeamB().ordinal();
+        var counters = match.getEvent().getMatchCounters();
+
+        match.setTeamScoreA(teamAWins ? 1 : 0);
+        match.setTeamScoreB(teamAWins ? 0 : 1);
+        counters.remove(match);
+        match.setMatchStatus(Status.ENDED);
+        counters.add(match);
+    }
+
+    private static List<TimeSlot> createSlots(int amount) {
+
+        var start = LocalDateTime.of(2024, 5, 20, 8, 0);
+
+        return IntStream.range(0, amount)
+                .mapToObj(i -> new TimeSlot(start.plusMinutes(50L * i), start.plusMinutes(50L * i + 40)))
+                .toList();
+    }
+
+}
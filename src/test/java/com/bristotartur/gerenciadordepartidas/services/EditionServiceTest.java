@@ -56,6 +56,25 @@ class EditionServiceTest {
         assertEquals(result.getTotalPages(), editionPage.getTotalPages());
     }
 
+    @Test
+    @DisplayName("Should fill the in progress lock of Editions that were saved without it")
+    void Should_FillInProgressLock_When_EditionsWereSavedWithoutIt() {
+
+        var edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+        var scheduledEdition = EditionTestUtil.createNewEdition(Status.SCHEDULED, entityManager);
+
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE EDITION SET in_progress_lock = NULL WHERE id = :id")
+                .setParameter("id", edition.getId())
+                .executeUpdate();
+
+        editionService.fillInProgressLocks();
+        entityManager.clear();
+
+        assertEquals(editionRepository.findById(edition.getId()).orElseThrow().getInProgressLock(), Boolean.TRUE);
+        assertNull(editionRepository.findById(scheduledEdition.getId()).orElseThrow().getInProgressLock());
+    }
+
     @Test
     @DisplayName("Should find Edition when valid edition ID is passed")
     void Should_FindEdition_When_ValidEditionIdIsPassed() {
@@ -0,0 +1,258 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshot.Section;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshotService;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionStatusUpdatedEvent;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.utils.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class EditionSnapshotServiceTest {
+
+    @Autowired
+    private EditionSnapshotService editionSnapshotService;
+    @Autowired
+    private EditionService editionService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Value("${gerenciador.archive.directory}")
+    private Path snapshotDirectory;
+
+    private Edition edition;
+    private SportEvent sportEvent;
+    private Participant playerA;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+
+        edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+        var teamA = Team.TWISTER;
+        var teamB = Team.UNICONTTI;
+
+        sportEvent = SportEventTestUtil.createNewSportEvent(
+                Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, edition, entityManager
+        );
+        playerA = ParticipantTestUtil.createNewParticipant("1-42", teamA, edition, entityManager);
+        var playerB = ParticipantTestUtil.createNewParticipant("1-51", teamB, edition, entityManager);
+        sportEvent.setMatches(new ArrayList<>());
+        entityManager.merge(sportEvent);
+
+        match = matchService.saveMatch(MatchTestUtil.createNewMatchDto(
+                Sports.FUTSAL, teamA, teamB, List.of(playerA.getId(), playerB.getId()), sportEvent.getId()
+        ));
+        GoalTestUtil.createNewGoal(playerA, match, entityManager);
+
+        edition.setEditionStatus(Status.ENDED);
+        edition = entityManager.merge(edition);
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        editionSnapshotService.evictSnapshot(edition.getId());
+    }
+
+    @Test
+    @DisplayName("Should write every record of the Edition when the Edition is ENDED")
+    void Should_WriteEveryRecordOfTheEdition_When_EditionIsEnded() {
+
+        var snapshot = editionSnapshotService.writeSnapshot(edition.getId());
+
+        assertEquals(snapshot.getEditionId(), edition.getId());
+        assertEquals(snapshot.count(Section.SPORT_EVENTS), 1);
+        assertEquals(snapshot.count(Section.MATCHES), 1);
+        assertEquals(snapshot.count(Section.PARTICIPANTS), 2);
+        assertEquals(snapshot.count(Section.GOALS), 1);
+        assertEquals(snapshot.count(Section.PENALTY_CARDS), 0);
+        assertEquals(snapshot.count(Section.EDITIONS), 1);
+        assertEquals(snapshot.count(Section.ARCHIVE), 1);
+    }
+
+    @Test
+    @DisplayName("Should serve the Edition document with all its data when the Edition is ENDED")
+    void Should_ServeEditionDocumentWithAllItsData_When_EditionIsEnded() throws Exception {
+
+        var archive = editionSnapshotService.findOrCreateArchive(edition.getId());
+        var content = objectMapper.readTree(new ByteBufferBackedInputStream(archive.content()));
+
+        var sportEvents = content.get("sportEvents");
+        var matches = sportEvents.get(0).get("matches");
+
+        assertEquals(content.get("edition").get("editionId").asLong(), edition.getId());
+        assertEquals(sportEvents.size(), 1);
+        assertEquals(matches.size(), 1);
+        assertEquals(matches.get(0).get("goals").size(), 1);
+        assertEquals(matches.get(0).get("penaltyCards").size(), 0);
+        assertFalse(content.toString().contains("\"links\""));
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should find the Edition, its SportEvents and their Matches in the snapshot when the Edition was written")
+    void Should_FindEditionSportEventsAndMatchesInTheSnapshot_When_EditionWasWritten() {
+
+        editionSnapshotService.writeSnapshot(edition.getId());
+
+        var pageable = PageRequest.of(0, 10);
+        var archivedEdition = editionSnapshotService.findEdition(edition.getId()).orElseThrow();
+        var archivedEvent = editionSnapshotService.findSportEvent(sportEvent.getId()).orElseThrow();
+        var archivedEvents = editionSnapshotService.findEditionSportEvents(edition.getId(), pageable).orElseThrow();
+        var archivedMatches = editionSnapshotService.findSportEventMatches(sportEvent.getId(), pageable).orElseThrow();
+
+        assertEquals(archivedEdition.getEditionStatus(), Status.ENDED);
+        assertEquals(archivedEvent.getSportEventId(), sportEvent.getId());
+        assertEquals(editionSnapshotService.findSportEventEdition(sportEvent.getId()).orElseThrow(), edition.getId());
+        assertEquals(archivedEvents.getTotalElements(), 1);
+        assertEquals(archivedEvents.getContent().get(0).getSportEventId(), sportEvent.getId());
+        assertEquals(archivedMatches.getTotalElements(), 1);
+        assertEquals(archivedMatches.getContent().get(0).getMatchId(), match.getId());
+        assertTrue(editionSnapshotService.findSportEventMatches(sportEvent.getId(), PageRequest.of(1, 10)).orElseThrow().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find Match and Participant in the snapshot when the Edition was written")
+    void Should_FindMatchAndParticipantInTheSnapshot_When_EditionWasWritten() {
+
+        editionSnapshotService.writeSnapshot(edition.getId());
+
+        var expectedMatch = matchService.createExposingMatchDto(match);
+        var archivedMatch = editionSnapshotService.findMatch(match.getId()).orElseThrow();
+        var archivedPlayer = editionSnapshotService.findParticipant(playerA.getId()).orElseThrow();
+
+        assertEquals(archivedMatch.getMatchId(), expectedMatch.getMatchId());
+        assertEquals(archivedMatch.getSport(), expectedMatch.getSport());
+        assertEquals(archivedMatch.getTeamA(), expectedMatch.getTeamA());
+        assertEquals(archivedMatch.getMatchStatus(), expectedMatch.getMatchStatus());
+        assertFalse(archivedMatch.hasLinks());
+        assertEquals(archivedPlayer.getName(), playerA.getName());
+        assertEquals(archivedPlayer.getTeam(), playerA.getTeam());
+    }
+
+    @Test
+    @DisplayName("Should find records through the new snapshot when the Edition is written again")
+    void Should_FindRecordsThroughTheNewSnapshot_When_EditionIsWrittenAgain() {
+
+        var firstSnapshot = editionSnapshotService.writeSnapshot(edition.getId());
+        var secondSnapshot = editionSnapshotService.writeSnapshot(edition.getId());
+
+        assertNotSame(secondSnapshot, firstSnapshot);
+        assertSame(editionSnapshotService.findSnapshot(edition.getId()).orElseThrow(), secondSnapshot);
+        assertTrue(editionSnapshotService.findMatch(match.getId()).isPresent());
+        assertTrue(editionSnapshotService.findParticipant(playerA.getId()).isPresent());
+        assertTrue(editionSnapshotService.findMatch(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not find records when the Edition has no snapshot")
+    void Should_NotFindRecords_When_EditionHasNoSnapshot() {
+
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isEmpty());
+        assertTrue(editionSnapshotService.findMatch(match.getId()).isEmpty());
+        assertTrue(editionSnapshotService.findParticipant(playerA.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw UnprocessableEntityException when writing snapshot of an Edition that is not ENDED")
+    void Should_ThrowUnprocessableEntityException_When_WritingSnapshotOfEditionThatIsNotEnded() {
+
+        var scheduledEdition = EditionTestUtil.createNewEdition(Status.SCHEDULED, entityManager);
+
+        assertThrows(UnprocessableEntityException.class, () -> editionSnapshotService.writeSnapshot(scheduledEdition.getId()));
+        assertThrows(UnprocessableEntityException.class, () -> editionSnapshotService.findOrCreateArchive(scheduledEdition.getId()));
+    }
+
+    @Test
+    @DisplayName("Should discard the snapshot on startup when the Edition is no longer ENDED")
+    void Should_DiscardSnapshotOnStartup_When_EditionIsNoLongerEnded() {
+
+        editionSnapshotService.writeSnapshot(edition.getId());
+
+        edition.setEditionStatus(Status.IN_PROGRESS);
+        entityManager.merge(edition);
+        entityManager.flush();
+
+        editionSnapshotService.loadSnapshots();
+
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isEmpty());
+        assertTrue(editionSnapshotService.findMatch(match.getId()).isEmpty());
+        assertFalse(Files.exists(snapshotDirectory.resolve("edition-" + edition.getId() + ".snap")));
+    }
+
+    @Test
+    @DisplayName("Should write the snapshot again on startup when the snapshot file is corrupted")
+    void Should_WriteSnapshotAgainOnStartup_When_SnapshotFileIsCorrupted() throws Exception {
+
+        Files.createDirectories(snapshotDirectory);
+        Files.writeString(snapshotDirectory.resolve("edition-" + edition.getId() + ".snap"), "not a snapshot file");
+
+        editionSnapshotService.loadSnapshots();
+
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isPresent());
+        assertTrue(editionSnapshotService.findMatch(match.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should discard the written snapshot when the Edition is reopened while it is written")
+    void Should_DiscardWrittenSnapshot_When_EditionIsReopenedWhileItIsWritten() {
+
+        entityManager.createQuery("UPDATE Edition e SET e.editionStatus = :status WHERE e.id = :id")
+                .setParameter("status", Status.OPEN_FOR_EDITS)
+                .setParameter("id", edition.getId())
+                .executeUpdate();
+
+        assertThrows(UnprocessableEntityException.class, () -> editionSnapshotService.findOrCreateArchive(edition.getId()));
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isEmpty());
+        assertFalse(Files.exists(snapshotDirectory.resolve("edition-" + edition.getId() + ".snap")));
+    }
+
+    @Test
+    @DisplayName("Should evict the snapshot after commit when the Edition is opened for edits")
+    void Should_EvictSnapshotAfterCommit_When_EditionIsOpenedForEdits() {
+
+        editionSnapshotService.writeSnapshot(edition.getId());
+        editionService.updateEditionStatus(edition.getId(), Status.OPEN_FOR_EDITS);
+
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isPresent());
+
+        editionSnapshotService.onEditionReopened(new EditionStatusUpdatedEvent(edition.getId(), Status.OPEN_FOR_EDITS));
+
+        assertTrue(editionSnapshotService.findSnapshot(edition.getId()).isEmpty());
+        assertTrue(editionSnapshotService.findMatch(match.getId()).isEmpty());
+        assertTrue(editionSnapshotService.findSportEventMatches(sportEvent.getId(), PageRequest.of(0, 10)).isEmpty());
+    }
+
+}
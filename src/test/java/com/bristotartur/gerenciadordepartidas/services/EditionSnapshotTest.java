@@ -0,0 +1,127 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshot;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionSnapshot.Section;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EditionSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should find every record when the snapshot is mapped")
+    void Should_FindEveryRecord_When_SnapshotIsMapped() throws IOException {
+
+        var path = directory.resolve("edition-7.snap");
+        var records = new EnumMap<Section, SortedMap<Long, byte[]>>(Section.class);
+        var matches = new TreeMap<Long, byte[]>();
+        var participants = new TreeMap<Long, byte[]>();
+
+        for (long id = 1; id <= 500; id++) {
+            matches.put(id * 3, ("match-" + id * 3).getBytes(StandardCharsets.UTF_8));
+            participants.put(id * 2, ("participant-" + id * 2).getBytes(StandardCharsets.UTF_8));
+        }
+        records.put(Section.MATCHES, matches);
+        records.put(Section.PARTICIPANTS, participants);
+
+        EditionSnapshot.write(path, 7L, records);
+        var snapshot = EditionSnapshot.open(path);
+
+        assertEquals(snapshot.getEditionId(), 7L);
+        assertEquals(snapshot.count(Section.MATCHES), 500);
+        assertEquals(snapshot.count(Section.GOALS), 0);
+
+        for (var id : matches.keySet()) {
+            var record = snapshot.findRecord(Section.MATCHES, id).orElseThrow();
+            assertEquals(StandardCharsets.UTF_8.decode(record).toString(), "match-" + id);
+        }
+        for (var id : participants.keySet()) {
+            var record = snapshot.findRecord(Section.PARTICIPANTS, id).orElseThrow();
+            assertEquals(StandardCharsets.UTF_8.decode(record).toString(), "participant-" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return empty Optional when the record is not in the snapshot")
+    void Should_ReturnEmptyOptional_When_RecordIsNotInTheSnapshot() throws IOException {
+
+        var path = directory.resolve("edition-1.snap");
+        var records = new EnumMap<Section, SortedMap<Long, byte[]>>(Section.class);
+        records.put(Section.MATCHES, new TreeMap<>(Map.of(2L, new byte[]{1}, 4L, new byte[]{2})));
+
+        EditionSnapshot.write(path, 1L, records);
+        var snapshot = EditionSnapshot.open(path);
+
+        assertTrue(snapshot.findRecord(Section.MATCHES, 3L).isEmpty());
+        assertTrue(snapshot.findRecord(Section.MATCHES, 5L).isEmpty());
+        assertTrue(snapshot.findRecord(Section.PARTICIPANTS, 2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should throw IOException when the file is not a snapshot")
+    void Should_ThrowIOException_When_FileIsNotSnapshot() throws IOException {
+
+        var path = Files.writeString(directory.resolve("edition-1.snap"), "not a snapshot file");
+
+        assertThrows(IOException.class, () -> EditionSnapshot.open(path));
+    }
+
+    @Test
+    @DisplayName("Should throw IOException when the snapshot was written with another version")
+    void Should_ThrowIOException_When_SnapshotWasWrittenWithAnotherVersion() throws IOException {
+
+        var path = this.writeSnapshot();
+        this.overwriteInt(path, Integer.BYTES, 1);
+
+        assertThrows(IOException.class, () -> EditionSnapshot.open(path));
+    }
+
+    @Test
+    @DisplayName("Should throw IOException when a section entry of the snapshot is corrupted")
+    void Should_ThrowIOException_When_SectionEntryIsCorrupted() throws IOException {
+
+        var sectionEntryPosition = Integer.BYTES * 3 + Long.BYTES;
+
+        var unknownSection = this.writeSnapshot();
+        this.overwriteInt(unknownSection, sectionEntryPosition, Section.values().length);
+
+        var oversizedSection = this.writeSnapshot();
+        this.overwriteInt(oversizedSection, sectionEntryPosition + Integer.BYTES, Integer.MAX_VALUE);
+
+        assertThrows(IOException.class, () -> EditionSnapshot.open(unknownSection));
+        assertThrows(IOException.class, () -> EditionSnapshot.open(oversizedSection));
+    }
+
+    private Path writeSnapshot() throws IOException {
+
+        var path = Files.createTempFile(directory, "edition-1", ".snap");
+        var records = new EnumMap<Section, SortedMap<Long, byte[]>>(Section.class);
+        records.put(Section.MATCHES, new TreeMap<>(Map.of(2L, new byte[]{1}, 4L, new byte[]{2})));
+
+        EditionSnapshot.write(path, 1L, records);
+        return path;
+    }
+
+    private void overwriteInt(Path path, int position, int value) throws IOException {
+
+        var bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(position, value);
+        Files.write(path, bytes);
+    }
+
+}
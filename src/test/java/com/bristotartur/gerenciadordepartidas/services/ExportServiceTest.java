@@ -0,0 +1,108 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.services.actions.GoalService;
+import com.bristotartur.gerenciadordepartidas.services.events.ExportService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.utils.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private GoalService goalService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Edition edition;
+    private SportEvent sportEvent;
+    private Participant playerA;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+
+        edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+
+        var event = SportEventTestUtil.createNewSportEvent(
+                Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, edition, entityManager
+        );
+        playerA = ParticipantTestUtil.createNewParticipant("Silva, \"Ana\"", "1-12", Team.TWISTER, edition, entityManager);
+        var playerB = ParticipantTestUtil.createNewParticipant("Bruno", "1-32", Team.UNICONTTI, edition, entityManager);
+
+        sportEvent = entityManager.find(SportEvent.class, event.getId());
+
+        var playerIds = List.of(playerA.getId(), playerB.getId());
+        match = matchService.saveMatch(MatchTestUtil.createNewMatchDto(Sports.FUTSAL, Team.TWISTER, Team.UNICONTTI, playerIds, sportEvent.getId()));
+
+        sportEvent.setEventStatus(Status.IN_PROGRESS);
+        matchService.updateMatchStatus(match.getId(), Status.IN_PROGRESS);
+
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerB.getId(), match.getId(), Sports.FUTSAL));
+    }
+
+    @Test
+    @DisplayName("Should write header and escaped rows when data is exported as CSV")
+    void Should_WriteHeaderAndEscapedRows_When_DataIsExportedAsCsv() {
+
+        var matches = this.export(outputStream -> exportService.exportEditionData(edition.getId(), ExportDataset.MATCHES, ExportFormat.CSV, outputStream));
+        var goals = this.export(outputStream -> exportService.exportEventData(sportEvent.getId(), ExportDataset.GOALS, ExportFormat.CSV, outputStream));
+
+        assertEquals(matches.size(), 2);
+        assertTrue(matches.get(0).startsWith("matchId,editionId,sportEventId,sport,modality,matchImportance,teamA,teamB"));
+        assertTrue(matches.get(1).startsWith("%d,%d,%d,FUTSAL,MASCULINE,".formatted(match.getId(), edition.getId(), sportEvent.getId())));
+        assertEquals(goals.size(), 3);
+        assertTrue(goals.get(1).endsWith(",%d,\"Silva, \"\"Ana\"\"\",TWISTER".formatted(playerA.getId())));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line when data is exported as NDJSON")
+    void Should_WriteOneJsonObjectPerLine_When_DataIsExportedAsNdjson() throws Exception {
+
+        var goals = this.export(outputStream -> exportService.exportSportData(Sports.FUTSAL, ExportDataset.GOALS, ExportFormat.NDJSON, outputStream));
+        var penaltyCards = this.export(outputStream -> exportService.exportSportData(Sports.FUTSAL, ExportDataset.PENALTY_CARDS, ExportFormat.NDJSON, outputStream));
+
+        assertEquals(goals.size(), 2);
+        assertEquals(objectMapper.readTree(goals.get(0)).get("player").asText(), "Silva, \"Ana\"");
+        assertEquals(objectMapper.readTree(goals.get(1)).get("team").asText(), "UNICONTTI");
+        assertTrue(penaltyCards.isEmpty());
+    }
+
+    private List<String> export(Consumer<ByteArrayOutputStream> export) {
+
+        var outputStream = new ByteArrayOutputStream();
+        export.accept(outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+}
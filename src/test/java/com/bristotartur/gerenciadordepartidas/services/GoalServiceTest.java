@@ -74,8 +74,8 @@ class GoalServiceTest {
                 Sports.HANDBALL, teamA, teamB, List.of(playerA.getId(), playerB.getId()), sportEventB.getId()
         );
 
-        sportEventA.setMatches(List.of(MatchTestUtil.createNewMatch(teamA, teamB, List.of(playerA, playerB), sportEventA)));
-        sportEventB.setMatches(List.of(MatchTestUtil.createNewMatch(teamA, teamB, List.of(playerA, playerB), sportEventB)));
+        sportEventA.setMatches(List.of(MatchTestUtil.createNewMatch(teamA, teamB, List.of(playerA, playerB), sportEventA, Status.ENDED)));
+        sportEventB.setMatches(List.of(MatchTestUtil.createNewMatch(teamA, teamB, List.of(playerA, playerB), sportEventB, Status.ENDED)));
         entityManager.merge(sportEventA);
         entityManager.merge(sportEventB);
     }
@@ -98,6 +98,24 @@ class GoalServiceTest {
         assertEquals(result.getTotalPages(), goalPage.getTotalPages());
     }
 
+    @Test
+    @DisplayName("Should retrieve Goals through cursor pages when scrolling Goals")
+    void Should_RetrieveGoalsThroughCursorPages_When_ScrollingGoals() {
+
+        var futsalMatch = matchService.saveMatch(futsalDto);
+        var goals = List.of(
+                GoalTestUtil.createNewGoal(playerA, futsalMatch, entityManager),
+                GoalTestUtil.createNewGoal(playerB, futsalMatch, entityManager));
+
+        var firstPage = goalService.scrollGoals(null, 1, false);
+        var secondPage = goalService.scrollGoals(firstPage.nextCursor(), 1, false);
+
+        assertEquals(firstPage.content(), goals.subList(0, 1));
+        assertEquals(secondPage.content(), goals.subList(1, 2));
+        assertFalse(secondPage.hasNext());
+        assertNull(secondPage.nextCursor());
+    }
+
     @Test
     @DisplayName("Should retrieve Goals from a Match in paged form when searching for Goals from a Match")
     void Should_RetrieveGoalsFromMatchInPagedForm_When_SearchingForGoalFromMatch() {
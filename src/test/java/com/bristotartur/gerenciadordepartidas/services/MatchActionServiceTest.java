@@ -0,0 +1,141 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchActionsDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchActionsDto.MatchAction;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.repositories.GoalRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.PenaltyCardRepository;
+import com.bristotartur.gerenciadordepartidas.services.actions.MatchActionService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.MatchTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class MatchActionServiceTest {
+
+    @Autowired
+    private MatchActionService matchActionService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private GoalRepository goalRepository;
+    @Autowired
+    private PenaltyCardRepository penaltyCardRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Participant playerA;
+    private Participant playerB;
+    private Participant outsider;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+
+        var edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+        var event = SportEventTestUtil.createNewSportEvent(
+                Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, edition, entityManager
+        );
+        playerA = ParticipantTestUtil.createNewParticipant("1-42", Team.TWISTER, edition, entityManager);
+        playerB = ParticipantTestUtil.createNewParticipant("1-51", Team.UNICONTTI, edition, entityManager);
+        outsider = ParticipantTestUtil.createNewParticipant("2-13", Team.UNICONTTI, edition, entityManager);
+
+        var matchDto = MatchTestUtil.createNewMatchDto(
+                Sports.FUTSAL, Team.TWISTER, Team.UNICONTTI, List.of(playerA.getId(), playerB.getId()), event.getId()
+        );
+        match = matchService.saveMatch(matchDto);
+        match.setMatchStatus(Status.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Should register all actions and update score when new actions are passed")
+    void Should_RegisterAllActionsAndUpdateScore_When_NewActionsArePassed() {
+
+        var dto = this.createActionsDto(List.of(
+                this.createGoalAction("g-1", playerA),
+                this.createGoalAction("g-2", playerB),
+                this.createGoalAction("g-3", playerA),
+                new MatchAction("c-1", ActionType.PENALTY_CARD, LocalTime.of(14, 20), playerB.getId(), PenaltyCardColor.YELLOW)
+        ));
+
+        var result = matchActionService.saveMatchActions(match.getId(), dto);
+
+        assertEquals(result.getTeamScoreA(), 2);
+        assertEquals(result.getTeamScoreB(), 1);
+        assertEquals(goalRepository.count(), 3);
+        assertEquals(penaltyCardRepository.count(), 1);
+    }
+
+    @Test
+    @DisplayName("Should ignore registered actions when same action keys are passed again")
+    void Should_IgnoreRegisteredActions_When_SameActionKeysArePassedAgain() {
+
+        var firstDto = this.createActionsDto(List.of(this.createGoalAction("g-1", playerA)));
+        var secondDto = this.createActionsDto(List.of(
+                this.createGoalAction("g-1", playerA),
+                this.createGoalAction("g-2", playerB),
+                this.createGoalAction("g-2", playerB)
+        ));
+
+        matchActionService.saveMatchActions(match.getId(), firstDto);
+        var result = matchActionService.saveMatchActions(match.getId(), secondDto);
+
+        assertEquals(result.getTeamScoreA(), 1);
+        assertEquals(result.getTeamScoreB(), 1);
+        assertEquals(goalRepository.count(), 2);
+    }
+
+    @Test
+    @DisplayName("Should throw UnprocessableEntityException when action player is not in Match")
+    void Should_ThrowUnprocessableEntityException_When_ActionPlayerIsNotInMatch() {
+
+        var dto = this.createActionsDto(List.of(
+                this.createGoalAction("g-1", playerA),
+                this.createGoalAction("g-2", outsider)
+        ));
+
+        assertThrows(UnprocessableEntityException.class, () -> matchActionService.saveMatchActions(match.getId(), dto));
+        assertEquals(goalRepository.count(), 0);
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when penalty card action has no color")
+    void Should_ThrowBadRequestException_When_PenaltyCardActionHasNoColor() {
+
+        var dto = this.createActionsDto(List.of(
+                new MatchAction("c-1", ActionType.PENALTY_CARD, LocalTime.of(14, 20), playerB.getId(), null)
+        ));
+
+        assertThrows(BadRequestException.class, () -> matchActionService.saveMatchActions(match.getId(), dto));
+    }
+
+    private RequestMatchActionsDto createActionsDto(List<MatchAction> actions) {
+        return new RequestMatchActionsDto(Sports.FUTSAL, actions);
+    }
+
+    private MatchAction createGoalAction(String actionKey, Participant player) {
+        return new MatchAction(actionKey, ActionType.GOAL, LocalTime.of(14, 5), player.getId(), null);
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchResultDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchResultDto.ResultGoal;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchResultDto.ResultPenaltyCard;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestResultSheetDto;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.repositories.GoalRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.PenaltyCardRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.PlayerStatisticsRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchResultService;
+import com.bristotartur.gerenciadordepartidas.services.matches.PlayerScheduleIndex;
+import com.bristotartur.gerenciadordepartidas.services.people.ParticipantSearchIndex;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.MatchTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Os resultados de cada evento são registrados em uma transação própria, portanto os dados desta classe
+ * são confirmados no banco de dados e removidos ao fim de cada teste.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MatchResultServiceTest {
+
+    @Autowired
+    private MatchResultService matchResultService;
+    @Autowired
+    private SportEventRepository sportEventRepository;
+    @Autowired
+    private GoalRepository goalRepository;
+    @Autowired
+    private PenaltyCardRepository penaltyCardRepository;
+    @Autowired
+    private PlayerStatisticsRepository playerStatisticsRepository;
+    @Autowired
+    private ParticipantSearchIndex participantSearchIndex;
+    @Autowired
+    private PlayerScheduleIndex playerScheduleIndex;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long eventId;
+    private Long playerAId;
+    private Long playerBId;
+
+    @BeforeEach
+    void setUp() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+            var event = SportEventTestUtil.createNewSportEvent(
+                    Sports.FUTSAL, Modality.MASCULINE, Status.IN_PROGRESS, edition, entityManager
+            );
+            var playerA = ParticipantTestUtil.createNewParticipant("Ana", "1-12", Team.TWISTER, edition, entityManager);
+            var playerB = ParticipantTestUtil.createNewParticipant("Bruno", "1-32", Team.UNICONTTI, edition, entityManager);
+
+            eventId = event.getId();
+            playerAId = playerA.getId();
+            playerBId = playerB.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        var tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class
+        );
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        tables.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        ReflectionTestUtils.invokeMethod(participantSearchIndex, "rebuild");
+        ReflectionTestUtils.invokeMethod(playerScheduleIndex, "rebuild");
+    }
+
+    @Test
+    @DisplayName("Should register ended Matches with their actions when valid result sheet is passed")
+    void Should_RegisterEndedMatchesWithTheirActions_When_ValidResultSheetIsPassed() {
+
+        var result = this.createResult(2, 1, List.of(
+                new ResultGoal(LocalTime.of(14, 5), playerAId),
+                new ResultGoal(LocalTime.of(14, 12), playerBId),
+                new ResultGoal(LocalTime.of(14, 30), playerAId)
+        ));
+        var sheet = new RequestResultSheetDto(List.of(result, this.createResult(0, 0, List.of())));
+
+        var matches = matchResultService.saveResultSheet(sheet);
+
+        var counters = sportEventRepository.findById(eventId).orElseThrow().getMatchCounters();
+        var statistics = transactionTemplate.execute(status -> playerStatisticsRepository.findPlayerStatistics(playerAId, eventId).orElseThrow());
+
+        assertEquals(matches.size(), 2);
+        assertEquals(matches.get(0).getMatchStatus(), Status.ENDED);
+        assertEquals(matches.get(0).getTeamScoreA(), 2);
+        assertEquals(matches.get(0).getTeamScoreB(), 1);
+        assertEquals(goalRepository.count(), 3);
+        assertEquals(penaltyCardRepository.count(), 2);
+        assertEquals(counters.getEndedMatches(), 2);
+        assertEquals(statistics.getGoals(), 2);
+        assertEquals(statistics.getYellowCards(), 2);
+        assertEquals(statistics.getMatchesPlayed(), 2);
+    }
+
+    @Test
+    @DisplayName("Should register no result from SportEvent when any result is invalid")
+    void Should_RegisterNoResultFromSportEvent_When_AnyResultIsInvalid() {
+
+        var validResult = this.createResult(1, 0, List.of(new ResultGoal(LocalTime.of(14, 5), playerAId)));
+        var invalidResult = this.createResult(1, 1, List.of(new ResultGoal(LocalTime.of(14, 5), playerAId)));
+        var sheet = new RequestResultSheetDto(List.of(validResult, invalidResult));
+
+        assertThrows(BadRequestException.class, () -> matchResultService.saveResultSheet(sheet));
+
+        var event = transactionTemplate.execute(status -> {
+            var sportEvent = entityManager.find(SportEvent.class, eventId);
+            sportEvent.getMatches().size();
+            return sportEvent;
+        });
+        assertTrue(event.getMatches().isEmpty());
+        assertEquals(event.getMatchCounters().getRegisteredMatches(), 0);
+        assertEquals(goalRepository.count(), 0);
+        assertEquals(playerStatisticsRepository.count(), 0);
+    }
+
+    private RequestMatchResultDto createResult(int teamScoreA, int teamScoreB, List<ResultGoal> goals) {
+
+        var match = MatchTestUtil.createNewMatchDto(Sports.FUTSAL, Team.TWISTER, Team.UNICONTTI, List.of(playerAId, playerBId), eventId);
+
+        return RequestMatchResultDto.builder()
+                .match(match)
+                .teamScoreA(teamScoreA)
+                .teamScoreB(teamScoreB)
+                .goals(goals)
+                .penaltyCards(List.of(new ResultPenaltyCard(PenaltyCardColor.YELLOW, LocalTime.of(14, 20), playerAId)))
+                .build();
+    }
+
+}
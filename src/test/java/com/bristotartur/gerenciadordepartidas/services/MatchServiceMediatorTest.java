@@ -97,8 +97,8 @@ class MatchServiceMediatorTest {
 
         var matches = List.of(
                 matchService.saveMatch(futsalDto),
-                matchService.saveMatch(futsalDto),
-                matchService.saveMatch(handballDto));
+                matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 1)),
+                matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(handballDto, 2)));
 
         var matchPage = new PageImpl<>(matches, pageable, matches.size());
         var result = matchServiceMediator.findMatchesBySport(Sports.FUTSAL, pageable);
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -101,6 +102,30 @@ class MatchServiceTest {
         assertEquals(result.getTotalPages(), matchPage.getTotalPages());
     }
 
+    @Test
+    @DisplayName("Should retrieve Matches through cursor pages when scrolling Matches")
+    void Should_RetrieveMatchesThroughCursorPages_When_ScrollingMatches() {
+
+        entityManager.flush();
+        entityManager.clear();
+
+        var firstPage = matchService.scrollMatches(null, 1, true);
+        var secondPage = matchService.scrollMatches(firstPage.nextCursor(), 1, false);
+
+        assertEquals(firstPage.content().size(), 1);
+        assertTrue(firstPage.hasNext());
+        assertEquals(firstPage.totalElements(), matchRepository.count());
+        assertNull(secondPage.totalElements());
+        assertNotEquals(firstPage.content(), secondPage.content());
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when invalid cursor is passed to scroll Matches")
+    void Should_ThrowBadRequestException_When_InvalidCursorIsPassedToScrollMatches() {
+
+        assertThrows(BadRequestException.class, () -> matchService.scrollMatches("invalid-cursor", 1, false));
+    }
+
     @Test
     @DisplayName("Should retrieve all Matches of a specific sport in paged form when specific sport is passed to search")
     void Should_RetrieveMatchesOfSpecificSportInPagedForm_When_SpecificSportIsPassedToSearch() {
@@ -115,9 +140,9 @@ class MatchServiceTest {
         );
         var futsalMatches = List.of(
                 matchService.saveMatch(futsalDto),
-                matchService.saveMatch(futsalDto));
+                matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 1)));
 
-        var genericMatchList = new LinkedList<>(List.of(matchService.saveMatch(handballDto)));
+        var genericMatchList = new LinkedList<>(List.of(matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(handballDto, 2))));
         genericMatchList.addAll(futsalMatches);
 
         var genericMatchPage = new PageImpl<>(genericMatchList, pageable, genericMatchList.size());
@@ -128,6 +153,31 @@ class MatchServiceTest {
         assertNotEquals(result.getContent(), genericMatchList);
     }
 
+    @Test
+    @DisplayName("Should retrieve Matches of a specific sport in sliced form when the total count is not requested")
+    void Should_RetrieveMatchesOfSpecificSportInSlicedForm_When_TheTotalCountIsNotRequested() {
+
+        var pageable = PageRequest.of(0, 1);
+
+        var futsalDto = MatchTestUtil.createNewMatchDto(
+                Sports.FUTSAL, teamA, teamB, playersIds, futsalEvent.getId(), futsalEvent.getModality()
+        );
+        var handballDto = MatchTestUtil.createNewMatchDto(
+                Sports.HANDBALL, teamA, teamB, playersIds, handballEvent.getId(), handballEvent.getModality()
+        );
+        matchService.saveMatch(handballDto);
+
+        var futsalMatches = List.of(
+                matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 1)),
+                matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 2)));
+
+        var result = matchService.findMatchesBySport(Sports.FUTSAL, pageable, false);
+
+        assertFalse(result instanceof Page);
+        assertEquals(result.getContent(), futsalMatches.subList(0, 1));
+        assertTrue(result.hasNext());
+    }
+
     @Test
     @DisplayName("Should retrieve all Matches from a specific SportEvent when existing SportEvent ID is passed")
     void Should_RetrieveAllMatchesFromSportEvent_When_ExistingSportEventIdIsPassed() {
@@ -136,8 +186,8 @@ class MatchServiceTest {
                 Sports.FUTSAL, teamA, teamB, playersIds, futsalEvent.getId(), futsalEvent.getModality()
         );
         matchService.saveMatch(futsalDto);
-        matchService.saveMatch(futsalDto);
-        matchService.saveMatch(futsalDto);
+        matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 1));
+        matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 2));
 
         var sportEventMatches = futsalEvent.getMatches();
         var pageable = PageRequest.of(0, sportEventMatches.size());
@@ -147,6 +197,26 @@ class MatchServiceTest {
         assertEquals(result.getPageable(), pageable);
     }
 
+    @Test
+    @DisplayName("Should retrieve only the requested page of Matches from a SportEvent when a later page is requested")
+    void Should_RetrieveOnlyRequestedPageOfMatchesFromSportEvent_When_LaterPageIsRequested() {
+
+        var futsalDto = MatchTestUtil.createNewMatchDto(
+                Sports.FUTSAL, teamA, teamB, playersIds, futsalEvent.getId(), futsalEvent.getModality()
+        );
+        matchService.saveMatch(futsalDto);
+        matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 1));
+        var lastMatch = matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(futsalDto, 2));
+
+        var total = (int) matchService.findMatchesBySportEvent(futsalEvent.getId(), PageRequest.of(0, 1)).getTotalElements();
+        var result = matchService.findMatchesBySportEvent(futsalEvent.getId(), PageRequest.of(total - 1, 1));
+
+        assertEquals(result.getContent(), List.of(lastMatch));
+        assertEquals(result.getTotalElements(), total);
+        assertEquals(result.getTotalPages(), total);
+        assertTrue(total >= 3);
+    }
+
     @Test
     @DisplayName("Should find Match when existing Match ID is passed to search")
     void Should_FindMatch_When_ExistingMatchIdIsPassedToSearch() {
@@ -354,6 +424,53 @@ class MatchServiceTest {
         assertEquals(result.getMatchStatus(), Status.OPEN_FOR_EDITS);
     }
 
+    @Test
+    @DisplayName("Should fill the in progress event of Matches that were saved without it")
+    void Should_FillInProgressEvent_When_MatchesWereSavedWithoutIt() {
+
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE MATCH SET in_progress_event_id = NULL WHERE event_id = :eventId")
+                .setParameter("eventId", futsalEvent.getId())
+                .executeUpdate();
+
+        matchService.fillInProgressEventIds();
+
+        var inProgressEventIds = entityManager.createNativeQuery("SELECT in_progress_event_id FROM MATCH WHERE event_id = :eventId")
+                .setParameter("eventId", futsalEvent.getId())
+                .getResultList();
+
+        assertEquals(inProgressEventIds.size(), 1);
+        assertEquals(((Number) inProgressEventIds.get(0)).longValue(), futsalEvent.getId());
+    }
+
+    @Test
+    @DisplayName("Should update SportEvent Match counters when Matches are saved, updated and deleted")
+    void Should_UpdateSportEventMatchCounters_When_MatchesAreSavedUpdatedAndDeleted() {
+
+        var sportEvent = SportEventTestUtil.createNewSportEvent(
+                Sports.CHESS, Modality.MIXED, Status.SCHEDULED, edition, entityManager
+        );
+        var event = entityManager.find(SportEvent.class, sportEvent.getId());
+
+        var dto = MatchTestUtil.createNewMatchDto(Sports.CHESS, teamA, teamB, playersIds, event.getId(), event.getModality());
+        var matchA = matchService.saveMatch(dto);
+        var matchB = matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(dto, 2));
+
+        event.setEventStatus(Status.IN_PROGRESS);
+        matchService.updateMatchStatus(matchA.getId(), Status.IN_PROGRESS);
+
+        assertEquals(event.getMatchCounters().getRegisteredMatches(), 2);
+        assertTrue(event.getMatchCounters().hasMatchInProgress());
+        assertThrows(BadRequestException.class, () -> matchService.updateMatchStatus(matchB.getId(), Status.IN_PROGRESS));
+
+        matchService.updateMatchStatus(matchA.getId(), Status.ENDED);
+        matchService.deleteMatchById(matchB.getId());
+
+        assertFalse(event.getMatchCounters().hasMatchInProgress());
+        assertEquals(event.getMatchCounters().getRegisteredMatches(), 1);
+        assertEquals(event.getMatchCounters().getEndedMatches(), 1);
+    }
+
     @Test
     @DisplayName("Should throw UnprocessableEntityException when invalid Match Status is passed")
     void Should_ThrowUnprocessableEntityException_When_InvalidMatchStatusIsPassed() {
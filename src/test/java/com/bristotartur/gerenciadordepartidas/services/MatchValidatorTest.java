@@ -1,5 +1,6 @@
 package com.bristotartur.gerenciadordepartidas.services;
 
+import com.bristotartur.gerenciadordepartidas.domain.events.MatchCounters;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchDto;
 import com.bristotartur.gerenciadordepartidas.enums.*;
@@ -84,10 +85,10 @@ class MatchValidatorTest {
         );
         matches.forEach(match -> match.setMatchStatus(Status.ENDED));
 
-        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(matches, Importance.NORMAL));
-        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(matches, Importance.SEMIFINAL));
-        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(matches, Importance.THIRD_PLACE_PLAYOFF));
-        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(matches, Importance.FINAL));
+        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.NORMAL));
+        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.SEMIFINAL));
+        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.THIRD_PLACE_PLAYOFF));
+        assertDoesNotThrow(() -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.FINAL));
     }
 
     @Test
@@ -100,10 +101,10 @@ class MatchValidatorTest {
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Importance.THIRD_PLACE_PLAYOFF)
         );
 
-        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(matches, Importance.NORMAL));
-        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(matches, Importance.SEMIFINAL));
-        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(matches, Importance.THIRD_PLACE_PLAYOFF));
-        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(matches, Importance.FINAL));
+        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.NORMAL));
+        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.SEMIFINAL));
+        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.THIRD_PLACE_PLAYOFF));
+        assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchesForImportance(MatchCounters.of(matches), Importance.FINAL));
     }
 
     @Test
@@ -115,7 +116,7 @@ class MatchValidatorTest {
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Importance.NORMAL)
         );
         matches.forEach(match -> match.setMatchStatus(Status.ENDED));
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         var importance = Importance.NORMAL;
         var dto = RequestMatchDto.builder().matchImportance(importance).build();
@@ -142,8 +143,8 @@ class MatchValidatorTest {
         matchesA.forEach(match -> match.setMatchStatus(Status.ENDED));
         matchesB.forEach(match -> match.setMatchStatus(Status.ENDED));
 
-        event.setMatches(matchesA);
-        event2.setMatches(matchesB);
+        event.setMatchCounters(MatchCounters.of(matchesA));
+        event2.setMatchCounters(MatchCounters.of(matchesB));
         var importance = Importance.SEMIFINAL;
         var dto = RequestMatchDto.builder().matchImportance(importance).build();
 
@@ -168,7 +169,7 @@ class MatchValidatorTest {
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Importance.THIRD_PLACE_PLAYOFF)
         );
         matches.forEach(match -> match.setMatchStatus(Status.ENDED));
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         var importance = Importance.THIRD_PLACE_PLAYOFF;
         var dto = RequestMatchDto.builder().matchImportance(importance).build();
@@ -191,7 +192,7 @@ class MatchValidatorTest {
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Importance.FINAL)
         );
         matches.forEach(match -> match.setMatchStatus(Status.ENDED));
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         var importance = Importance.FINAL;
         var dto = RequestMatchDto.builder().matchImportance(importance).build();
@@ -209,7 +210,7 @@ class MatchValidatorTest {
         var matches = List.of(
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Status.ENDED)
         );
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         assertDoesNotThrow(() -> MatchValidator.checkMatchStatus(event, Status.IN_PROGRESS));
     }
@@ -230,7 +231,7 @@ class MatchValidatorTest {
         var matches = List.of(
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Status.ENDED)
         );
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         assertDoesNotThrow(() -> MatchValidator.checkMatchStatus(event, Status.IN_PROGRESS));
     }
@@ -243,7 +244,7 @@ class MatchValidatorTest {
         var matches = List.of(
                 MatchTestUtil.createNewMatch(any(), any(), any(), any(), Status.IN_PROGRESS)
         );
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         assertThrows(BadRequestException.class, () -> MatchValidator.checkMatchStatus(event, Status.IN_PROGRESS));
     }
@@ -1,14 +1,17 @@
 package com.bristotartur.gerenciadordepartidas.services;
 
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.enums.Modality;
 import com.bristotartur.gerenciadordepartidas.enums.Sports;
 import com.bristotartur.gerenciadordepartidas.enums.Status;
 import com.bristotartur.gerenciadordepartidas.enums.Team;
 import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
 import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.repositories.ParticipantRepository;
 import com.bristotartur.gerenciadordepartidas.services.people.ParticipantService;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
 import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
 import com.bristotartur.gerenciadordepartidas.utils.MatchTestUtil;
 import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -68,6 +72,66 @@ class ParticipantServiceTest {
         assertEquals(result.getTotalPages(), participantPage.getTotalPages());
     }
 
+    @Test
+    @DisplayName("Should retrieve Participants in sliced form when the total count is not requested")
+    void Should_RetrieveParticipantsInSlicedForm_When_TheTotalCountIsNotRequested() {
+
+        var pageable = PageRequest.of(0, 2);
+        var team = Team.PAPA_LEGUAS;
+
+        var participants = List.of(
+                ParticipantTestUtil.createNewParticipant("1-53", team, edition, entityManager),
+                ParticipantTestUtil.createNewParticipant("2-53", team, edition, entityManager),
+                ParticipantTestUtil.createNewParticipant("3-53", team, edition, entityManager));
+
+        var result = participantService.findAllParticipants(pageable, false);
+
+        assertFalse(result instanceof Page);
+        assertEquals(result.getContent(), participants.subList(0, 2));
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should retrieve Participants in paged form when the total count is requested")
+    void Should_RetrieveParticipantsInPagedForm_When_TheTotalCountIsRequested() {
+
+        var pageable = PageRequest.of(0, 2);
+        var team = Team.PAPA_LEGUAS;
+
+        ParticipantTestUtil.createNewParticipant("1-53", team, edition, entityManager);
+        ParticipantTestUtil.createNewParticipant("2-53", team, edition, entityManager);
+        ParticipantTestUtil.createNewParticipant("3-53", team, edition, entityManager);
+
+        var result = participantService.findAllParticipants(pageable, true);
+
+        assertInstanceOf(Page.class, result);
+        assertEquals(((Page<?>) result).getTotalElements(), 3);
+    }
+
+    @Test
+    @DisplayName("Should retrieve Participants through cursor pages when scrolling Participants with the cursor separator in their names")
+    void Should_RetrieveParticipantsThroughCursorPages_When_ScrollingParticipantsWithTheCursorSeparatorInTheirNames() {
+
+        var team = Team.PAPA_LEGUAS;
+
+        ParticipantTestUtil.createNewParticipant("Bruno", "1-53", team, edition, entityManager);
+        ParticipantTestUtil.createNewParticipant("Ana | Carla", "2-53", team, edition, entityManager);
+        ParticipantTestUtil.createNewParticipant("Ana | Beatriz", "3-53", team, edition, entityManager);
+
+        var firstPage = participantService.scrollParticipants(null, 1, true);
+        var secondPage = participantService.scrollParticipants(firstPage.nextCursor(), 1, false);
+        var thirdPage = participantService.scrollParticipants(secondPage.nextCursor(), 1, false);
+        var cursorKeys = CursorUtil.decode(firstPage.nextCursor(), 2);
+
+        assertEquals(cursorKeys[0], firstPage.content().get(0).getId().toString());
+        assertEquals(cursorKeys[1], "Ana | Beatriz");
+        assertEquals(firstPage.totalElements(), 3);
+        assertEquals(secondPage.content().get(0).getName(), "Ana | Carla");
+        assertEquals(thirdPage.content().get(0).getName(), "Bruno");
+        assertFalse(thirdPage.hasNext());
+        assertNull(thirdPage.nextCursor());
+    }
+
     @Test
     @DisplayName("Should retrieve Participants in paged form when their names are similar to the given name")
     void Should_RetrieveParticipantsInPagedForm_When_TheirNamesAreSimilarToTheGivenName() {
@@ -87,6 +151,25 @@ class ParticipantServiceTest {
         assertNotEquals(result.getContent(), participantPage.getContent());
     }
 
+    @Test
+    @DisplayName("Should retrieve Participants by relevance when their names differ from the given name only in accents and case")
+    void Should_RetrieveParticipantsByRelevance_When_TheirNamesDifferFromTheGivenNameOnlyInAccentsAndCase() {
+
+        var pageable = PageRequest.of(0, 2);
+        var team = Team.PAPA_LEGUAS;
+
+        var participants = List.of(
+                ParticipantTestUtil.createNewParticipant("Maria Conceição","1-53", team, edition, entityManager),
+                ParticipantTestUtil.createNewParticipant("Conceição Alves","2-53", team, edition, entityManager),
+                ParticipantTestUtil.createNewParticipant("Bruno Souza","3-53", team, edition, entityManager));
+
+        var result = participantService.findParticipantsByNameLike("CONCEICAO", pageable);
+
+        assertEquals(result.getContent().stream().map(Participant::getName).toList(),
+                List.of(participants.get(1).getName(), participants.get(0).getName()));
+        assertEquals(result.getTotalElements(), 2);
+    }
+
     @Test
     @DisplayName("Should find Participant when existing Participant ID is passed to search")
     void Should_FindParticipant_When_ExistingParticipantIdIsPassedToSearch() {
@@ -115,7 +198,7 @@ class ParticipantServiceTest {
         );
         var matches = List.of(
                 MatchTestUtil.createNewMatch(teamA, teamB, List.of(participantA, participantB), sportEvent),
-                MatchTestUtil.createNewMatch(teamA, teamB, List.of(participantA, participantB), sportEvent)
+                MatchTestUtil.createNewMatch(teamA, teamB, List.of(participantA, participantB), sportEvent, Status.ENDED)
         );
         sportEvent.setMatches(matches);
         entityManager.merge(sportEvent);
@@ -193,6 +276,23 @@ class ParticipantServiceTest {
         assertNotEquals(result, participant);
     }
 
+    @Test
+    @DisplayName("Should throw UnprocessableEntityException when changing a Participant of an ended Edition")
+    void Should_ThrowUnprocessableEntityException_When_ChangingParticipantOfEndedEdition() {
+
+        var team = Team.PAPA_LEGUAS;
+        var participant = ParticipantTestUtil.createNewParticipant("3-54", team, edition, entityManager);
+        var participantDto = ParticipantTestUtil.createNewParticipantDto("2-31", team, edition.getId());
+
+        edition.setEditionStatus(Status.ENDED);
+        entityManager.merge(edition);
+
+        assertThrows(UnprocessableEntityException.class, () -> participantService.saveParticipant(participantDto));
+        assertThrows(UnprocessableEntityException.class, () -> participantService.replaceParticipant(participant.getId(), participantDto));
+        assertThrows(UnprocessableEntityException.class, () -> participantService.deleteParticipantById(participant.getId()));
+        assertEquals(participantRepository.findById(participant.getId()).get().getClassNumber(), "3-54");
+    }
+
     @Test
     @DisplayName("Should reformat class number when valid class number is passed")
     void Should_ReformatClassNumber_When_ValidClassNumberIsPassed() {
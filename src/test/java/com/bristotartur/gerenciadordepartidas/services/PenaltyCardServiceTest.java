@@ -92,6 +92,26 @@ class PenaltyCardServiceTest {
         assertEquals(result.getTotalPages(), penaltyCardPage.getTotalPages());
     }
 
+    @Test
+    @DisplayName("Should retrieve PenaltyCards through cursor pages when scrolling PenaltyCards")
+    void Should_RetrievePenaltyCardsThroughCursorPages_When_ScrollingPenaltyCards() {
+
+        var futsalMatch = matchService.saveMatch(futsalDto);
+        var penaltyCards = List.of(
+                PenaltyCardTestUtil.createNewPenaltyCard(PenaltyCardColor.RED, playerA, futsalMatch, entityManager),
+                PenaltyCardTestUtil.createNewPenaltyCard(PenaltyCardColor.YELLOW, playerB, futsalMatch, entityManager));
+
+        var firstPage = penaltyCardService.scrollPenaltyCards(null, 1, true);
+        var secondPage = penaltyCardService.scrollPenaltyCards(firstPage.nextCursor(), 1, false);
+
+        assertEquals(CursorUtil.decodeId(firstPage.nextCursor()), penaltyCards.get(0).getId());
+        assertEquals(firstPage.content(), penaltyCards.subList(0, 1));
+        assertEquals(firstPage.totalElements(), 2);
+        assertEquals(secondPage.content(), penaltyCards.subList(1, 2));
+        assertFalse(secondPage.hasNext());
+        assertNull(secondPage.nextCursor());
+    }
+
     @Test
     @DisplayName("Should find PenaltyCard when existing PenaltyCard ID is passed to search")
     void Should_FindPenaltyCard_When_ExistingPenaltyCardIdIsPassedToSearch() {
@@ -0,0 +1,180 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchDto;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.services.matches.PlayerScheduleIndex;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class PlayerScheduleIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 20, 8, 0);
+
+    @Autowired
+    private PlayerScheduleIndex playerScheduleIndex;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long futsalEventId;
+    private Long handballEventId;
+    private List<Participant> players;
+
+    @BeforeEach
+    void setUp() {
+
+        var edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+        var futsalEvent = SportEventTestUtil.createNewSportEvent(Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, 12, edition);
+        var handballEvent = SportEventTestUtil.createNewSportEvent(Sports.HANDBALL, Modality.MASCULINE, Status.SCHEDULED, 12, edition);
+
+        futsalEvent.setMatches(new ArrayList<>());
+        handballEvent.setMatches(new ArrayList<>());
+        futsalEventId = entityManager.merge(futsalEvent).getId();
+        handballEventId = entityManager.merge(handballEvent).getId();
+
+        players = List.of(
+                this.createParticipant(Team.TWISTER, edition),
+                this.createParticipant(Team.UNICONTTI, edition)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when a player is already in another Match with an overlapping time")
+    void Should_ThrowBadRequestException_When_PlayerIsAlreadyInAnotherMatchWithOverlappingTime() {
+
+        matchService.saveMatch(this.createMatchDto(Sports.FUTSAL, futsalEventId, START));
+
+        var overlappingDto = this.createMatchDto(Sports.HANDBALL, handballEventId, START.plusMinutes(30));
+        var followingDto = this.createMatchDto(Sports.HANDBALL, handballEventId, START.plusMinutes(60));
+
+        assertThrows(BadRequestException.class, () -> matchService.saveMatch(overlappingDto));
+        assertDoesNotThrow(() -> matchService.saveMatch(followingDto));
+    }
+
+    @Test
+    @DisplayName("Should ignore the Match itself when a Match is replaced with an overlapping time")
+    void Should_IgnoreTheMatchItself_When_MatchIsReplacedWithOverlappingTime() {
+
+        var match = matchService.saveMatch(this.createMatchDto(Sports.FUTSAL, futsalEventId, START));
+        var replacementDto = this.createMatchDto(Sports.FUTSAL, futsalEventId, START.plusMinutes(15));
+
+        assertDoesNotThrow(() -> matchService.replaceMatch(match.getId(), replacementDto));
+        assertThrows(BadRequestException.class, () -> playerScheduleIndex.reserve(
+                Long.MAX_VALUE, players, START.plusMinutes(50), START.plusMinutes(70)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should discard the registered schedule when the transaction is rolled back")
+    void Should_DiscardRegisteredSchedule_When_TransactionIsRolledBack() {
+
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var match = Match.builder()
+                .id(Long.MAX_VALUE)
+                .players(players)
+                .matchStart(START)
+                .matchEnd(START.plusMinutes(40))
+                .build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            playerScheduleIndex.register(match);
+            status.setRollbackOnly();
+        });
+
+        assertDoesNotThrow(() -> playerScheduleIndex.reserve(Long.MAX_VALUE - 1, players, START, START.plusMinutes(40)));
+    }
+
+    @Test
+    @DisplayName("Should reserve the schedule for a single Match when Matches with overlapping times are reserved concurrently")
+    void Should_ReserveScheduleForSingleMatch_When_MatchesWithOverlappingTimesAreReservedConcurrently() throws Exception {
+
+        var matchIds = List.of(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+        var barrier = new CyclicBarrier(matchIds.size());
+        var executor = Executors.newFixedThreadPool(matchIds.size());
+
+        try {
+            var reservations = matchIds.stream()
+                    .map(matchId -> executor.submit(() -> {
+                        barrier.await();
+                        playerScheduleIndex.reserve(matchId, players, START, START.plusMinutes(40));
+                        return matchId;
+                    }))
+                    .toList();
+
+            var reservedMatchIds = new ArrayList<Long>();
+            var conflicts = 0;
+
+            for (var reservation : reservations) {
+                try {
+                    reservedMatchIds.add(reservation.get());
+                } catch (ExecutionException e) {
+                    assertInstanceOf(BadRequestException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+            assertEquals(reservedMatchIds.size(), 1);
+            assertEquals(conflicts, 1);
+
+            // A remoção é feita fora da transação do teste, que desfaria a remoção ao ser revertida
+            executor.submit(() -> playerScheduleIndex.unregister(reservedMatchIds.get(0))).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Participant createParticipant(Team team, Edition edition) {
+
+        var participant = ParticipantTestUtil.createNewParticipant("1-11", team, edition, entityManager);
+        return entityManager.find(Participant.class, participant.getId());
+    }
+
+    private RequestMatchDto createMatchDto(Sports sport, Long eventId, LocalDateTime matchStart) {
+
+        return RequestMatchDto.builder()
+                .sport(sport)
+                .matchImportance(Importance.NORMAL)
+                .teamA(Team.TWISTER)
+                .teamB(Team.UNICONTTI)
+                .playerIds(players.stream().map(Participant::getId).toList())
+                .eventId(eventId)
+                .modality(Modality.MASCULINE)
+                .matchStart(matchStart)
+                .matchEnd(matchStart.plusMinutes(40))
+                .build();
+    }
+
+}
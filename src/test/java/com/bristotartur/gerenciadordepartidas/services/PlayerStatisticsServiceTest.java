@@ -0,0 +1,123 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponsePlayerStatisticsDto;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.repositories.PlayerStatisticsRepository;
+import com.bristotartur.gerenciadordepartidas.services.actions.GoalService;
+import com.bristotartur.gerenciadordepartidas.services.actions.PenaltyCardService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.services.people.PlayerStatisticsService;
+import com.bristotartur.gerenciadordepartidas.utils.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class PlayerStatisticsServiceTest {
+
+    @Autowired
+    private PlayerStatisticsService playerStatisticsService;
+    @Autowired
+    private PlayerStatisticsRepository playerStatisticsRepository;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private GoalService goalService;
+    @Autowired
+    private PenaltyCardService penaltyCardService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Edition edition;
+    private SportEvent sportEvent;
+    private Participant playerA;
+    private Participant playerB;
+    private Participant playerC;
+
+    @BeforeEach
+    void setUp() {
+
+        edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+        var teamA = Team.TWISTER;
+        var teamB = Team.UNICONTTI;
+
+        var event = SportEventTestUtil.createNewSportEvent(
+                Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, edition, entityManager
+        );
+        playerA = ParticipantTestUtil.createNewParticipant("Ana", "1-12", teamA, edition, entityManager);
+        playerB = ParticipantTestUtil.createNewParticipant("Bruno", "1-32", teamB, edition, entityManager);
+        playerC = ParticipantTestUtil.createNewParticipant("Caio", "2-12", teamA, edition, entityManager);
+
+        sportEvent = entityManager.find(SportEvent.class, event.getId());
+
+        var playerIds = List.of(playerA.getId(), playerB.getId(), playerC.getId());
+        var match = matchService.saveMatch(MatchTestUtil.createNewMatchDto(Sports.FUTSAL, teamA, teamB, playerIds, sportEvent.getId()));
+
+        sportEvent.setEventStatus(Status.IN_PROGRESS);
+        matchService.updateMatchStatus(match.getId(), Status.IN_PROGRESS);
+
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+        var goal = goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerC.getId(), match.getId(), Sports.FUTSAL));
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerB.getId(), match.getId(), Sports.FUTSAL));
+        goalService.deleteGoalById(goal.getId());
+
+        penaltyCardService.savePenaltyCard(
+                PenaltyCardTestUtil.createNewPenaltyCardDto(Sports.FUTSAL, PenaltyCardColor.YELLOW, playerB.getId(), match.getId())
+        );
+        penaltyCardService.savePenaltyCard(
+                PenaltyCardTestUtil.createNewPenaltyCardDto(Sports.FUTSAL, PenaltyCardColor.RED, playerC.getId(), match.getId())
+        );
+        matchService.updateMatchStatus(match.getId(), Status.ENDED);
+    }
+
+    @Test
+    @DisplayName("Should rank players by goals and cards when Goals, Penalty Cards and Matches are registered")
+    void Should_RankPlayersByGoalsAndCards_When_GoalsPenaltyCardsAndMatchesAreRegistered() {
+
+        var topScorers = playerStatisticsService.findEventLeaderboard(sportEvent.getId(), Leaderboard.TOP_SCORERS, 10);
+        var discipline = playerStatisticsService.findEventLeaderboard(sportEvent.getId(), Leaderboard.DISCIPLINE, 10);
+        var editionTopScorers = playerStatisticsService.findEditionLeaderboard(edition.getId(), Leaderboard.TOP_SCORERS, 1);
+
+        assertEquals(topScorers.stream().map(ResponsePlayerStatisticsDto::participantId).toList(), List.of(playerA.getId(), playerB.getId()));
+        assertEquals(topScorers.stream().map(ResponsePlayerStatisticsDto::goals).toList(), List.of(2L, 1L));
+        assertEquals(discipline.stream().map(ResponsePlayerStatisticsDto::participantId).toList(), List.of(playerC.getId(), playerB.getId()));
+        assertEquals(editionTopScorers, topScorers.subList(0, 1));
+        assertEquals(topScorers.get(0).matchesPlayed(), 1L);
+    }
+
+    @Test
+    @DisplayName("Should keep the same counters when statistics are recounted from existing data")
+    void Should_KeepTheSameCounters_When_StatisticsAreRecountedFromExistingData() {
+
+        var players = List.of(playerA, playerB, playerC);
+        var counters = players.stream().map(this::findCounters).toList();
+
+        playerStatisticsService.recountStatistics();
+
+        assertEquals(players.stream().map(this::findCounters).toList(), counters);
+        assertEquals(counters.get(0), List.of(2, 0, 0, 1));
+        assertEquals(counters.get(2), List.of(0, 0, 1, 1));
+    }
+
+    private List<Integer> findCounters(Participant player) {
+
+        var statistics = playerStatisticsRepository.findPlayerStatistics(player.getId(), sportEvent.getId()).orElseThrow();
+        return List.of(statistics.getGoals(), statistics.getYellowCards(), statistics.getRedCards(), statistics.getMatchesPlayed());
+    }
+
+}
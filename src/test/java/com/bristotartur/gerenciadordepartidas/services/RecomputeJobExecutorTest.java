@@ -0,0 +1,158 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseTeamRecordDto;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.repositories.PlayerStatisticsRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.RecomputePartitionRepository;
+import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
+import com.bristotartur.gerenciadordepartidas.services.actions.GoalService;
+import com.bristotartur.gerenciadordepartidas.services.events.RecomputeJobExecutor;
+import com.bristotartur.gerenciadordepartidas.services.events.RecomputeService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.services.matches.PlayerScheduleIndex;
+import com.bristotartur.gerenciadordepartidas.services.matches.TeamRecordService;
+import com.bristotartur.gerenciadordepartidas.services.people.ParticipantSearchIndex;
+import com.bristotartur.gerenciadordepartidas.utils.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * As partições de um recálculo são processadas em outras threads e transações, portanto os dados desta classe
+ * são confirmados no banco de dados e removidos ao fim de cada teste.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RecomputeJobExecutorTest {
+
+    @Autowired
+    private RecomputeJobExecutor recomputeJobExecutor;
+    @Autowired
+    private RecomputeService recomputeService;
+    @Autowired
+    private RecomputePartitionRepository recomputePartitionRepository;
+    @Autowired
+    private SportEventRepository sportEventRepository;
+    @Autowired
+    private PlayerStatisticsRepository playerStatisticsRepository;
+    @Autowired
+    private TeamRecordService teamRecordService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private GoalService goalService;
+    @Autowired
+    private ParticipantSearchIndex participantSearchIndex;
+    @Autowired
+    private PlayerScheduleIndex playerScheduleIndex;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long editionId;
+    private Long eventId;
+    private Long playerId;
+
+    @BeforeEach
+    void setUp() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+            var event = SportEventTestUtil.createNewSportEvent(
+                    Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, edition, entityManager
+            );
+            var playerA = ParticipantTestUtil.createNewParticipant("Ana", "1-12", Team.TWISTER, edition, entityManager);
+            var playerB = ParticipantTestUtil.createNewParticipant("Bruno", "1-32", Team.UNICONTTI, edition, entityManager);
+
+            var sportEvent = entityManager.find(SportEvent.class, event.getId());
+            var playerIds = List.of(playerA.getId(), playerB.getId());
+            var match = matchService.saveMatch(MatchTestUtil.createNewMatchDto(Sports.FUTSAL, Team.TWISTER, Team.UNICONTTI, playerIds, sportEvent.getId()));
+
+            sportEvent.setEventStatus(Status.IN_PROGRESS);
+            matchService.updateMatchStatus(match.getId(), Status.IN_PROGRESS);
+
+            goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+            goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+            goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerB.getId(), match.getId(), Sports.FUTSAL));
+
+            matchService.updateMatchStatus(match.getId(), Status.ENDED);
+
+            editionId = edition.getId();
+            eventId = sportEvent.getId();
+            playerId = playerA.getId();
+        });
+        // Simula dados derivados desatualizados, como após uma mudança nas regras de pontuação
+        jdbcTemplate.update("DELETE FROM PLAYER_STATISTICS");
+        jdbcTemplate.update("DELETE FROM TEAM_RECORD");
+        jdbcTemplate.update("UPDATE SPORT_EVENT SET registered_matches = 0, ended_matches = 0, ended_normal_matches = 0");
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        var tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class
+        );
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        tables.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        ReflectionTestUtils.invokeMethod(participantSearchIndex, "rebuild");
+        ReflectionTestUtils.invokeMethod(playerScheduleIndex, "rebuild");
+    }
+
+    @Test
+    @DisplayName("Should restore every derived value when RecomputeJob is run")
+    void Should_RestoreEveryDerivedValue_When_RecomputeJobIsRun() {
+
+        var job = recomputeJobExecutor.runJob(recomputeService.createJob().getId());
+
+        var counters = sportEventRepository.findById(eventId).orElseThrow().getMatchCounters();
+        var statistics = transactionTemplate.execute(status -> playerStatisticsRepository.findPlayerStatistics(playerId, eventId).orElseThrow());
+        var records = transactionTemplate.execute(status -> teamRecordService.findTeamRecords(Team.TWISTER, editionId));
+
+        assertEquals(job.getJobStatus(), JobStatus.COMPLETED);
+        assertEquals(job.getCompletedPartitions(), job.getTotalPartitions());
+        assertEquals(counters.getEndedMatches(), 1);
+        assertEquals(statistics.getGoals(), 2);
+        assertEquals(statistics.getMatchesPlayed(), 1);
+        assertEquals(records, List.of(new ResponseTeamRecordDto(
+                editionId, Team.TWISTER, null, Sports.FUTSAL, Modality.MASCULINE, 1, 1, 0, 0, 2, 1, 1
+        )));
+    }
+
+    @Test
+    @DisplayName("Should process only pending partitions when RecomputeJob is resumed")
+    void Should_ProcessOnlyPendingPartitions_When_RecomputeJobIsResumed() {
+
+        var jobId = recomputeService.createJob().getId();
+
+        transactionTemplate.executeWithoutResult(status -> recomputePartitionRepository.findPendingPartitionIds(jobId)
+                .forEach(id -> recomputePartitionRepository.findById(id).orElseThrow().setCompleted(true)));
+
+        var job = recomputeJobExecutor.runJob(jobId);
+
+        assertEquals(job.getJobStatus(), JobStatus.COMPLETED);
+        assertEquals(job.getCompletedPartitions(), 0);
+        assertTrue(transactionTemplate.execute(status -> playerStatisticsRepository.findPlayerStatistics(playerId, eventId)).isEmpty());
+        assertThrows(UnprocessableEntityException.class, () -> recomputeJobExecutor.runJob(jobId));
+    }
+
+}
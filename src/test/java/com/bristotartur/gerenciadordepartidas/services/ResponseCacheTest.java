@@ -0,0 +1,88 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.configs.CompactRepresentationConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    @Test
+    @DisplayName("Should reuse the response and count hits when the same endpoint and parameters are requested")
+    void Should_ReuseTheResponseAndCountHits_When_SameEndpointAndParametersAreRequested() {
+
+        var responseCache = new ResponseCache(10);
+        var loads = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            responseCache.get("matches/{id}", List.of(1L), Set.of(ResponseCache.match(1L)), loads::incrementAndGet);
+        }
+        responseCache.get("matches/{id}", List.of(2L), Set.of(ResponseCache.match(2L)), loads::incrementAndGet);
+
+        var stats = responseCache.stats().get("matches/{id}");
+
+        assertEquals(loads.get(), 2);
+        assertEquals(stats.hits(), 3);
+        assertEquals(stats.misses(), 2);
+        assertEquals(stats.hitRate(), 0.6);
+    }
+
+    @Test
+    @DisplayName("Should produce separate responses when requests differ in representation or host")
+    void Should_ProduceSeparateResponses_When_RequestsDifferInRepresentationOrHost() {
+
+        var responseCache = new ResponseCache(10);
+        var loads = new AtomicInteger();
+
+        try {
+            for (var host : List.of("localhost", "localhost", "scores.example.com")) {
+                for (var accept : List.of(MediaTypes.HAL_JSON_VALUE, CompactRepresentationConfig.COMPACT_JSON_VALUE)) {
+                    var request = new MockHttpServletRequest();
+                    request.setServerName(host);
+                    request.addHeader(HttpHeaders.ACCEPT, accept);
+                    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+                    responseCache.get("matches/{id}", List.of(1L), Set.of(ResponseCache.match(1L)), loads::incrementAndGet);
+                }
+            }
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        assertEquals(loads.get(), 4);
+        assertEquals(responseCache.stats().get("matches/{id}").hits(), 2);
+    }
+
+    @Test
+    @DisplayName("Should evict the response when a tag registered while producing it is invalidated")
+    void Should_EvictTheResponse_When_TagRegisteredWhileProducingItIsInvalidated() {
+
+        var responseCache = new ResponseCache(10);
+        var loads = new AtomicInteger();
+
+        responseCache.get("goals/{id}", List.of(1L), Set.of(ResponseCache.goal(1L)), () -> {
+            ResponseCache.dependsOn(ResponseCache.participant(7L));
+            return loads.incrementAndGet();
+        });
+        responseCache.invalidate(ResponseCache.participant(8L));
+        responseCache.get("goals/{id}", List.of(1L), Set.of(ResponseCache.goal(1L)), loads::incrementAndGet);
+
+        assertEquals(loads.get(), 1);
+
+        responseCache.invalidate(ResponseCache.participant(7L));
+        responseCache.get("goals/{id}", List.of(1L), Set.of(ResponseCache.goal(1L)), loads::incrementAndGet);
+
+        assertEquals(loads.get(), 2);
+        assertEquals(responseCache.size(), 1);
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestScheduleDto;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestScheduleDto.Venue;
+import com.bristotartur.gerenciadordepartidas.dtos.request.TimeSlot;
+import com.bristotartur.gerenciadordepartidas.enums.*;
+import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
+import com.bristotartur.gerenciadordepartidas.services.matches.ScheduleService;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.MatchTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ScheduleServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 20, 8, 0);
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ResponseCache responseCache;
+
+    private Edition edition;
+    private SportEvent futsalEvent;
+    private SportEvent handballEvent;
+
+    @BeforeEach
+    void setUp() {
+
+        edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+        futsalEvent = entityManager.merge(SportEventTestUtil.createNewSportEvent(
+                Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, 12, edition
+        ));
+        handballEvent = entityManager.merge(SportEventTestUtil.createNewSportEvent(
+                Sports.HANDBALL, Modality.MASCULINE, Status.SCHEDULED, 12, edition
+        ));
+    }
+
+    @Test
+    @DisplayName("Should not place a player in overlapping Matches when Matches of different sports share the player")
+    void Should_NotPlacePlayerInOverlappingMatches_When_MatchesOfDifferentSportsShareThePlayer() {
+
+        var player = this.createParticipant(Team.TWISTER);
+        var opponent = this.createParticipant(Team.UNICONTTI);
+
+        this.createMatch(futsalEvent, Status.SCHEDULED, player, opponent);
+        this.createMatch(handballEvent, Status.SCHEDULED, player, opponent);
+
+        var venues = List.of(
+                new Venue("Ginásio", Set.of(Sports.FUTSAL, Sports.HANDBALL)),
+                new Venue("Quadra", Set.of(Sports.FUTSAL, Sports.HANDBALL))
+        );
+        var result = scheduleService.scheduleEdition(edition.getId(), new RequestScheduleDto(venues, createSlots(2)));
+
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).getMatchStart(), START);
+        assertEquals(result.get(1).getMatchStart(), START.plusMinutes(50));
+        assertTrue(result.stream().allMatch(match -> match.getVenue() != null));
+    }
+
+    @Test
+    @DisplayName("Should use different venues in the same slot when Matches do not share players")
+    void Should_UseDifferentVenuesInTheSameSlot_When_MatchesDoNotSharePlayers() {
+
+        this.createMatch(futsalEvent, Status.SCHEDULED, this.createParticipant(Team.TWISTER), this.createParticipant(Team.UNICONTTI));
+        this.createMatch(handballEvent, Status.SCHEDULED, this.createParticipant(Team.ATOMICA), this.createParticipant(Team.PAPA_LEGUAS));
+
+        var venues = List.of(
+                new Venue("Ginásio", Set.of(Sports.FUTSAL, Sports.HANDBALL)),
+                new Venue("Quadra", Set.of(Sports.HANDBALL))
+        );
+        var result = scheduleService.scheduleEdition(edition.getId(), new RequestScheduleDto(venues, createSlots(1)));
+
+        assertEquals(result.size(), 2);
+        assertTrue(result.stream().allMatch(match -> match.getMatchStart().equals(START)));
+        assertEquals(result.stream().map(Match::getVenue).collect(Collectors.toSet()), Set.of("Ginásio", "Quadra"));
+    }
+
+    @Test
+    @DisplayName("Should keep Matches in progress as reservations when the Edition is scheduled")
+    void Should_KeepMatchesInProgressAsReservations_When_EditionIsScheduled() {
+
+        var player = this.createParticipant(Team.TWISTER);
+        var opponent = this.createParticipant(Team.UNICONTTI);
+
+        var inProgress = this.createMatch(handballEvent, Status.IN_PROGRESS, player, opponent);
+        inProgress.setMatchStart(START);
+        inProgress.setMatchEnd(START.plusMinutes(40));
+
+        this.createMatch(futsalEvent, Status.SCHEDULED, player, opponent);
+
+        var venues = List.of(new Venue("Ginásio", Set.of(Sports.FUTSAL)));
+        var result = scheduleService.scheduleEdition(edition.getId(), new RequestScheduleDto(venues, createSlots(2)));
+
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getMatchStart(), START.plusMinutes(50));
+        assertEquals(inProgress.getMatchStart(), START);
+    }
+
+    @Test
+    @DisplayName("Should evict cached Match responses when the Matches are rescheduled")
+    void Should_EvictCachedMatchResponses_When_MatchesAreRescheduled() {
+
+        var match = this.createMatch(futsalEvent, Status.SCHEDULED, this.createParticipant(Team.TWISTER), this.createParticipant(Team.UNICONTTI));
+        var id = match.getId();
+
+        responseCache.get("matches/{id}", List.of(id), Set.of(ResponseCache.match(id)), () -> "old schedule");
+
+        var venues = List.of(new Venue("Ginásio", Set.of(Sports.FUTSAL)));
+        scheduleService.scheduleEdition(edition.getId(), new RequestScheduleDto(venues, createSlots(1)));
+        TestTransaction.end();
+
+        var response = responseCache.get("matches/{id}", List.of(id), Set.of(ResponseCache.match(id)), () -> "new schedule");
+
+        assertEquals(response, "new schedule");
+    }
+
+    @Test
+    @DisplayName("Should throw UnprocessableEntityException when there are not enough slots for the Matches")
+    void Should_ThrowUnprocessableEntityException_When_ThereAreNotEnoughSlotsForTheMatches() {
+
+        var player = this.createParticipant(Team.TWISTER);
+        var opponent = this.createParticipant(Team.UNICONTTI);
+
+        this.createMatch(futsalEvent, Status.SCHEDULED, player, opponent);
+        this.createMatch(handballEvent, Status.SCHEDULED, player, opponent);
+
+        var venues = List.of(new Venue("Ginásio", Set.of(Sports.FUTSAL, Sports.HANDBALL)));
+        var dto = new RequestScheduleDto(venues, createSlots(1));
+
+        assertThrows(UnprocessableEntityException.class, () -> scheduleService.scheduleEdition(edition.getId(), dto));
+    }
+
+    private Participant createParticipant(Team team) {
+
+        var participant = ParticipantTestUtil.createNewParticipant("1-11", team, edition, entityManager);
+        return entityManager.find(Participant.class, participant.getId());
+    }
+
+    private Match createMatch(SportEvent event, Status status, Participant playerA, Participant playerB) {
+
+        var match = MatchTestUtil.createNewMatch(playerA.getTeam(), playerB.getTeam(), List.of(playerA, playerB), event, status);
+        match.setMatchImportance(Importance.NORMAL);
+
+        entityManager.persist(match);
+        return match;
+    }
+
+    private static List<TimeSlot> createSlots(int amount) {
+
+        return IntStream.range(0, amount)
+                .mapToObj(i -> new TimeSlot(START.plusMinutes(50L * i), START.plusMinutes(50L * i + 40)))
+                .toList();
+    }
+
+}
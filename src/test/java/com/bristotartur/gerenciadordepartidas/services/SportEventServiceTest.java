@@ -1,6 +1,7 @@
 package com.bristotartur.gerenciadordepartidas.services;
 
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.MatchCounters;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
 import com.bristotartur.gerenciadordepartidas.enums.*;
@@ -9,6 +10,7 @@ import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
 import com.bristotartur.gerenciadordepartidas.exceptions.UnprocessableEntityException;
 import com.bristotartur.gerenciadordepartidas.repositories.SportEventRepository;
 import com.bristotartur.gerenciadordepartidas.services.events.SportEventService;
+import com.bristotartur.gerenciadordepartidas.utils.CursorUtil;
 import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
 import com.bristotartur.gerenciadordepartidas.utils.MatchTestUtil;
 import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
@@ -79,6 +81,24 @@ class SportEventServiceTest {
         assertEquals(result.getSize(), eventPage.getSize());
     }
 
+    @Test
+    @DisplayName("Should retrieve SportEvents through cursor pages when scrolling SportEvents")
+    void Should_RetrieveSportEventsThroughCursorPages_When_ScrollingSportEvents() {
+
+        var events = List.of(entityManager.merge(sportEventA), entityManager.merge(sportEventB));
+        entityManager.flush();
+
+        var firstPage = sportEventService.scrollEvents(null, 1, true);
+        var secondPage = sportEventService.scrollEvents(firstPage.nextCursor(), 1, false);
+
+        assertEquals(CursorUtil.decodeId(firstPage.nextCursor()), events.get(0).getId());
+        assertEquals(firstPage.content(), events.subList(0, 1));
+        assertEquals(firstPage.totalElements(), sportEventRepository.count());
+        assertEquals(secondPage.content(), events.subList(1, 2));
+        assertFalse(secondPage.hasNext());
+        assertNull(secondPage.nextCursor());
+    }
+
     @Test
     @DisplayName("Should retrieve all SportEvents of Edition in paged form when searching for SportEvents of specific Edition")
     void Should_RetrieveAllEventsOfSpecificEditionInPagedForm_When_SearchingSportEventsOfSpecifEdition() {
@@ -263,6 +283,8 @@ class SportEventServiceTest {
                 MatchTestUtil.createNewMatch(Team.PAPA_LEGUAS, Team.TWISTER, participants, sportEventA, Status.SCHEDULED));
 
         sportEventA.setMatches(matches);
+
+        sportEventA.setMatchCounters(MatchCounters.of(matches));
         entityManager.merge(sportEventA);
 
         var id = sportEventA.getId();
@@ -291,6 +313,7 @@ class SportEventServiceTest {
 
         matches.forEach(entityManager::merge);
         sportEventC.setMatches(matches);
+        sportEventC.setMatchCounters(MatchCounters.of(matches));
         sportEventC.setTotalMatches(6);
         entityManager.merge(sportEventC);
 
@@ -324,6 +347,8 @@ class SportEventServiceTest {
                 MatchTestUtil.createNewMatch(Team.PAPA_LEGUAS, Team.TWISTER, participants, sportEventA, Status.SCHEDULED));
 
         sportEventA.setMatches(matches);
+
+        sportEventA.setMatchCounters(MatchCounters.of(matches));
         entityManager.merge(sportEventA);
 
         var id = sportEventA.getId();
@@ -342,6 +367,8 @@ class SportEventServiceTest {
                 MatchTestUtil.createNewMatch(Team.PAPA_LEGUAS, Team.TWISTER, participants, sportEventA, Status.ENDED));
 
         sportEventA.setMatches(matches);
+
+        sportEventA.setMatchCounters(MatchCounters.of(matches));
         sportEventA.setEventStatus(Status.IN_PROGRESS);
         entityManager.merge(sportEventA);
 
@@ -362,6 +389,8 @@ class SportEventServiceTest {
                 MatchTestUtil.createNewMatch(Team.PAPA_LEGUAS, Team.TWISTER, participants, sportEventA, Status.ENDED));
 
         sportEventA.setMatches(matches);
+
+        sportEventA.setMatchCounters(MatchCounters.of(matches));
         sportEventA.setEventStatus(Status.IN_PROGRESS);
         entityManager.merge(sportEventA);
 
@@ -1,6 +1,7 @@
 package com.bristotartur.gerenciadordepartidas.services;
 
 import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.MatchCounters;
 import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
 import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
 import com.bristotartur.gerenciadordepartidas.enums.Modality;
@@ -44,7 +45,7 @@ class SportEventValidatorTest {
 
         event = SportEventTestUtil.createNewSportEvent(Sports.HANDBALL, Modality.MASCULINE, Status.SCHEDULED, 6);
         event.setEdition(edition);
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
     }
 
     @Test
@@ -126,7 +127,7 @@ class SportEventValidatorTest {
                 MatchTestUtil.createNewMatch(any(), any(), any(), event, Status.ENDED),
                 MatchTestUtil.createNewMatch(any(), any(), any(), event, Status.ENDED)));
 
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
         event.setTotalMatches(6);
         event.setEventStatus(Status.IN_PROGRESS);
 
@@ -138,7 +139,7 @@ class SportEventValidatorTest {
     void Should_ThrowUnprocessableEntityException_When_TryingToFinishSportEventWithNoSufficientMatches() {
 
         matches.remove(0);
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         assertThrows(UnprocessableEntityException.class, () -> SportEventValidator.checkSportEventToUpdateStatus(event, Status.ENDED, Status.IN_PROGRESS));
     }
@@ -149,7 +150,7 @@ class SportEventValidatorTest {
 
         matches.add(MatchTestUtil.createNewMatch(any(), any(), any(), event,Status.IN_PROGRESS));
         matches.forEach(match -> match.setMatchStatus(Status.IN_PROGRESS));
-        event.setMatches(matches);
+        event.setMatchCounters(MatchCounters.of(matches));
 
         assertThrows(UnprocessableEntityException.class, () -> SportEventValidator.checkSportEventToUpdateStatus(event, Status.ENDED, Status.IN_PROGRESS));
     }
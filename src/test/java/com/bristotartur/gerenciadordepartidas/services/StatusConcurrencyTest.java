@@ -0,0 +1,221 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.domain.people.Participant;
+import com.bristotartur.gerenciadordepartidas.dtos.request.RequestMatchDto;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.exceptions.BadRequestException;
+import com.bristotartur.gerenciadordepartidas.exceptions.ConflictException;
+import com.bristotartur.gerenciadordepartidas.services.events.EditionService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.services.matches.PlayerScheduleIndex;
+import com.bristotartur.gerenciadordepartidas.utils.EditionTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.MatchTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.ParticipantTestUtil;
+import com.bristotartur.gerenciadordepartidas.utils.SportEventTestUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes que executam atualizações de status concorrentes em transações reais, confirmadas no banco de dados,
+ * para garantir que as restrições únicas de partidas e edições em andamento sejam respeitadas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StatusConcurrencyTest {
+
+    @Autowired
+    private EditionService editionService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private PlayerScheduleIndex playerScheduleIndex;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private final List<Long> editionIds = new ArrayList<>();
+    private final List<Long> matchIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            matchIds.forEach(id -> {
+                playerScheduleIndex.unregister(id);
+                entityManager.remove(entityManager.find(Match.class, id));
+            });
+            entityManager.flush();
+
+            editionIds.forEach(id -> {
+                var edition = entityManager.find(Edition.class, id);
+
+                edition.getSportEvents().forEach(entityManager::remove);
+                edition.getParticipants().forEach(entityManager::remove);
+                entityManager.remove(edition);
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Should allow only one Edition in progress when Editions are started concurrently")
+    void Should_AllowOnlyOneEditionInProgress_When_EditionsAreStartedConcurrently() throws Exception {
+
+        var ids = transactionTemplate.execute(status -> List.of(
+                entityManager.merge(EditionTestUtil.createNewEdition(Status.SCHEDULED)).getId(),
+                entityManager.merge(EditionTestUtil.createNewEdition(Status.SCHEDULED)).getId()
+        ));
+        editionIds.addAll(ids);
+
+        var failures = this.runConcurrently(ids, id -> editionService.updateEditionStatus(id, Status.IN_PROGRESS));
+
+        assertEquals(failures.size(), 1);
+        assertInstanceOf(ConflictException.class, failures.get(0));
+        assertEquals(this.countEditionsInProgress(), 1L);
+    }
+
+    @Test
+    @DisplayName("Should allow only one Match in progress per SportEvent when Matches are started concurrently")
+    void Should_AllowOnlyOneMatchInProgressPerSportEvent_When_MatchesAreStartedConcurrently() throws Exception {
+
+        var eventId = this.createChessEvent();
+        var dto = this.createMatchDto(eventId);
+
+        var ids = transactionTemplate.execute(status -> List.of(
+                matchService.saveMatch(dto).getId(),
+                matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(dto, 2)).getId()
+        ));
+        matchIds.addAll(ids);
+
+        var failures = this.runConcurrently(ids, id -> matchService.updateMatchStatus(id, Status.IN_PROGRESS));
+
+        assertEquals(failures.size(), 1);
+        assertInstanceOf(BadRequestException.class, failures.get(0));
+        assertEquals(this.countMatchesInProgress(eventId), 1L);
+    }
+
+    @Test
+    @DisplayName("Should count every Match of a SportEvent when Matches are created concurrently")
+    void Should_CountEveryMatchOfSportEvent_When_MatchesAreCreatedConcurrently() throws Exception {
+
+        var eventId = this.createChessEvent();
+        var dto = this.createMatchDto(eventId);
+
+        var failures = this.runConcurrently(List.of(0L, 2L, 4L, 6L), hours -> {
+            var match = matchService.saveMatch(MatchTestUtil.createRescheduledMatchDto(dto, hours));
+            synchronized (matchIds) {
+                matchIds.add(match.getId());
+            }
+        });
+        var registeredMatches = transactionTemplate.execute(status ->
+                entityManager.find(SportEvent.class, eventId).getMatchCounters().getRegisteredMatches());
+
+        assertTrue(failures.isEmpty());
+        assertEquals(registeredMatches, 4);
+    }
+
+    private Long createChessEvent() {
+
+        return transactionTemplate.execute(status -> {
+            var edition = entityManager.merge(EditionTestUtil.createNewEdition(Status.SCHEDULED));
+            var event = SportEventTestUtil.createNewSportEvent(Sports.CHESS, Modality.MIXED, Status.IN_PROGRESS, 12, edition);
+
+            editionIds.add(edition.getId());
+            event.setMatches(new ArrayList<>());
+            return entityManager.merge(event).getId();
+        });
+    }
+
+    private RequestMatchDto createMatchDto(Long eventId) {
+
+        return transactionTemplate.execute(status -> {
+            var event = entityManager.find(SportEvent.class, eventId);
+            var playerIds = List.of(
+                    entityManager.merge(ParticipantTestUtil.createNewParticipant("3-53", Team.ATOMICA, event.getEdition())),
+                    entityManager.merge(ParticipantTestUtil.createNewParticipant("3-13", Team.TWISTER, event.getEdition()))
+            ).stream().map(Participant::getId).toList();
+
+            return MatchTestUtil.createNewMatchDto(Sports.CHESS, Team.ATOMICA, Team.TWISTER, playerIds, eventId, Modality.MIXED);
+        });
+    }
+
+    /**
+     * Executa a ação para cada ID em uma thread separada, liberando todas as threads ao mesmo tempo.
+     *
+     * @return As exceções lançadas pelas execuções que falharam.
+     */
+    private List<Throwable> runConcurrently(List<Long> ids, Consumer<Long> action) throws Exception {
+
+        var barrier = new CyclicBarrier(ids.size());
+        var executor = Executors.newFixedThreadPool(ids.size());
+        var futures = new ArrayList<Future<?>>();
+
+        try {
+            ids.forEach(id -> futures.add(executor.submit(() -> {
+                barrier.await();
+                action.accept(id);
+                return null;
+            })));
+            var failures = new ArrayList<Throwable>();
+
+            for (var future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Long countEditionsInProgress() {
+
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT COUNT(e) FROM Edition e WHERE e.editionStatus = :status", Long.class)
+                .setParameter("status", Status.IN_PROGRESS)
+                .getSingleResult());
+    }
+
+    private Long countMatchesInProgress(Long eventId) {
+
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT COUNT(m) FROM Match m WHERE m.event.id = :id AND m.matchStatus = :status", Long.class)
+                .setParameter("id", eventId)
+                .setParameter("status", Status.IN_PROGRESS)
+                .getSingleResult());
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.bristotartur.gerenciadordepartidas.services;
+
+import com.bristotartur.gerenciadordepartidas.domain.events.Edition;
+import com.bristotartur.gerenciadordepartidas.domain.events.SportEvent;
+import com.bristotartur.gerenciadordepartidas.domain.matches.Match;
+import com.bristotartur.gerenciadordepartidas.dtos.response.ResponseTeamRecordDto;
+import com.bristotartur.gerenciadordepartidas.enums.Modality;
+import com.bristotartur.gerenciadordepartidas.enums.Sports;
+import com.bristotartur.gerenciadordepartidas.enums.Status;
+import com.bristotartur.gerenciadordepartidas.enums.Team;
+import com.bristotartur.gerenciadordepartidas.services.actions.GoalService;
+import com.bristotartur.gerenciadordepartidas.services.matches.MatchService;
+import com.bristotartur.gerenciadordepartidas.services.matches.TeamRecordService;
+import com.bristotartur.gerenciadordepartidas.utils.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class TeamRecordServiceTest {
+
+    @Autowired
+    private TeamRecordService teamRecordService;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private GoalService goalService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Team teamA = Team.TWISTER;
+    private final Team teamB = Team.UNICONTTI;
+
+    private Edition edition;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+
+        edition = EditionTestUtil.createNewEdition(Status.IN_PROGRESS, entityManager);
+
+        var event = SportEventTestUtil.createNewSportEvent(
+                Sports.FUTSAL, Modality.MASCULINE, Status.SCHEDULED, edition, entityManager
+        );
+        var playerA = ParticipantTestUtil.createNewParticipant("Ana", "1-12", teamA, edition, entityManager);
+        var playerB = ParticipantTestUtil.createNewParticipant("Bruno", "1-32", teamB, edition, entityManager);
+
+        var sportEvent = entityManager.find(SportEvent.class, event.getId());
+        var playerIds = List.of(playerA.getId(), playerB.getId());
+
+        match = matchService.saveMatch(MatchTestUtil.createNewMatchDto(Sports.FUTSAL, teamA, teamB, playerIds, sportEvent.getId()));
+
+        sportEvent.setEventStatus(Status.IN_PROGRESS);
+        matchService.updateMatchStatus(match.getId(), Status.IN_PROGRESS);
+
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerA.getId(), match.getId(), Sports.FUTSAL));
+        goalService.saveGoal(GoalTestUtil.createNewGoalDto(playerB.getId(), match.getId(), Sports.FUTSAL));
+
+        matchService.updateMatchStatus(match.getId(), Status.ENDED);
+    }
+
+    @Test
+    @DisplayName("Should summarize team records when Matches are ended")
+    void Should_SummarizeTeamRecords_When_MatchesAreEnded() {
+
+        var records = teamRecordService.findTeamRecords(teamA, edition.getId());
+        var headToHead = teamRecordService.findHeadToHead(teamB, teamA);
+
+        assertEquals(records, List.of(new ResponseTeamRecordDto(
+                edition.getId(), teamA, null, Sports.FUTSAL, Modality.MASCULINE, 1, 1, 0, 0, 2, 1, 1
+        )));
+        assertEquals(headToHead, List.of(new ResponseTeamRecordDto(
+                edition.getId(), teamB, teamA, Sports.FUTSAL, Modality.MASCULINE, 1, 0, 0, 1, 1, 2, -1
+        )));
+    }
+
+    @Test
+    @DisplayName("Should discount Match from team records when Match is opened for edits")
+    void Should_DiscountMatchFromTeamRecords_When_MatchIsOpenedForEdits() {
+
+        matchService.updateMatchStatus(match.getId(), Status.OPEN_FOR_EDITS);
+
+        assertTrue(teamRecordService.findTeamRecords(teamA, edition.getId()).isEmpty());
+        assertTrue(teamRecordService.findHeadToHead(teamB, teamA).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the same records when team records are rebuilt from ended Matches")
+    void Should_KeepTheSameRecords_When_TeamRecordsAreRebuiltFromEndedMatches() {
+
+        var records = teamRecordService.findTeamRecords(teamA, edition.getId());
+        var headToHead = teamRecordService.findHeadToHead(teamB, teamA);
+
+        teamRecordService.rebuildTeamRecords();
+
+        assertEquals(teamRecordService.findTeamRecords(teamA, edition.getId()), records);
+        assertEquals(teamRecordService.findHeadToHead(teamB, teamA), headToHead);
+    }
+
+}
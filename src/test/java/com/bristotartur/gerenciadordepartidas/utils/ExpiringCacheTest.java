@@ -0,0 +1,99 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringCacheTest {
+
+    @Test
+    @DisplayName("Should discard the oldest entries when the entry limit is reached")
+    void Should_DiscardTheOldestEntries_When_EntryLimitIsReached() {
+
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertNull(cache.get("a"));
+        assertEquals(cache.get("b"), 2);
+        assertEquals(cache.get("c"), 3);
+        assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    @DisplayName("Should discard entries when their time to live has passed")
+    void Should_DiscardEntries_When_TheirTimeToLiveHasPassed() {
+
+        var clock = new MutableClock(Instant.parse("2024-04-01T10:00:00Z"));
+        var cache = new ExpiringCache<String, Integer>(10, Duration.ofMinutes(1), clock);
+        cache.put("a", 1);
+
+        clock.advance(Duration.ofSeconds(30));
+        cache.put("b", 2);
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertNull(cache.get("a"));
+        assertEquals(cache.get("b"), 2);
+        assertEquals(cache.putIfAbsent("a", 3), null);
+        assertEquals(cache.putIfAbsent("a", 4), 3);
+    }
+
+    @Test
+    @DisplayName("Should keep entries that are not evictable when the entry limit is reached or their time to live has passed")
+    void Should_KeepEntriesThatAreNotEvictable_When_EntryLimitIsReachedOrTheirTimeToLiveHasPassed() {
+
+        var clock = new MutableClock(Instant.parse("2024-04-01T10:00:00Z"));
+        var cache = new ExpiringCache<String, Integer>(2, Duration.ofMinutes(1), clock, value -> value > 0);
+        cache.put("pending", 0);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(cache.get("pending"), 0);
+        assertNull(cache.get("a"));
+        assertEquals(cache.get("b"), 2);
+
+        clock.advance(Duration.ofMinutes(1));
+
+        assertEquals(cache.get("pending"), 0);
+        assertNull(cache.get("b"));
+        assertEquals(cache.size(), 1);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
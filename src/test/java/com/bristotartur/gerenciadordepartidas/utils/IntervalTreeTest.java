@@ -0,0 +1,70 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("Should not consider intervals overlapping when they only touch each other")
+    void Should_NotConsiderIntervalsOverlapping_When_TheyOnlyTouchEachOther() {
+
+        var tree = new IntervalTree<Integer, String>();
+        tree.insert(8, 9, "first");
+
+        assertFalse(tree.overlaps(9, 10));
+        assertFalse(tree.overlaps(7, 8));
+        assertTrue(tree.overlaps(7, 10));
+        assertTrue(tree.overlaps(8, 9));
+    }
+
+    @Test
+    @DisplayName("Should find the same overlaps as a linear scan when random intervals are inserted and removed")
+    void Should_FindTheSameOverlapsAsLinearScan_When_RandomIntervalsAreInsertedAndRemoved() {
+
+        var random = new Random(42);
+        var tree = new IntervalTree<Integer, Integer>();
+        var intervals = new ArrayList<int[]>();
+
+        for (int i = 0; i < 2000; i++) {
+            var start = random.nextInt(10_000);
+            var interval = new int[]{start, start + 1 + random.nextInt(50), i};
+
+            tree.insert(interval[0], interval[1], interval[2]);
+            intervals.add(interval);
+        }
+        for (int i = 0; i < 500; i++) {
+            var interval = intervals.remove(random.nextInt(intervals.size()));
+            assertTrue(tree.remove(interval[0], interval[1], interval[2]));
+        }
+        for (int i = 0; i < 500; i++) {
+            var start = random.nextInt(10_000);
+            var end = start + 1 + random.nextInt(20);
+
+            var expected = intervals.stream()
+                    .filter(interval -> interval[0] < end && start < interval[1])
+                    .count();
+
+            assertEquals(tree.findOverlapping(start, end).size(), (int) expected);
+            assertEquals(tree.overlaps(start, end), expected > 0);
+        }
+        assertEquals(tree.size(), 1500);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the interval end is not after its start")
+    void Should_ThrowIllegalArgumentException_When_IntervalEndIsNotAfterItsStart() {
+
+        var tree = new IntervalTree<Integer, String>();
+
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(9, 9, "empty"));
+        assertFalse(tree.remove(1, 2, "missing"));
+        assertTrue(tree.isEmpty());
+    }
+
+}
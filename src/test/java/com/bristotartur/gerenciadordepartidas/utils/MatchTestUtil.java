@@ -170,4 +170,27 @@ public final class MatchTestUtil {
                 .build();
     }
 
+    /**
+     * Cria uma cópia de um {@link RequestMatchDto} com o horário deslocado, permitindo registrar os mesmos
+     * jogadores em mais de uma partida sem que seus horários se sobreponham.
+     *
+     * @param dto DTO original da partida.
+     * @param hours Quantidade de horas em que o horário da partida será deslocado.
+     * @return Uma nova instância de {@link RequestMatchDto} com o horário deslocado.
+     */
+    public static RequestMatchDto createRescheduledMatchDto(RequestMatchDto dto, long hours) {
+
+        return RequestMatchDto.builder()
+                .matchImportance(dto.matchImportance())
+                .sport(dto.sport())
+                .teamA(dto.teamA())
+                .teamB(dto.teamB())
+                .eventId(dto.eventId())
+                .playerIds(dto.playerIds())
+                .modality(dto.modality())
+                .matchStart(dto.matchStart().plusHours(hours))
+                .matchEnd(dto.matchEnd().plusHours(hours))
+                .build();
+    }
+
 }
@@ -0,0 +1,142 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import com.bristotartur.gerenciadordepartidas.exceptions.NotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Should execute the operation once when concurrent calls are made for the same key")
+    void Should_ExecuteTheOperationOnce_When_ConcurrentCallsAreMadeForTheSameKey() throws Exception {
+
+        var singleFlight = new SingleFlight<Long, String>();
+        var executions = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var executor = Executors.newFixedThreadPool(5);
+
+        try {
+            var leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                this.await(release);
+                return "match";
+            }));
+            started.await();
+
+            var followers = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> singleFlight.execute(1L, () -> "other")))
+                    .toList();
+
+            while (singleFlight.stats(1L).requests() < 5) Thread.onSpinWait();
+            release.countDown();
+
+            assertEquals(leader.get(), "match");
+            for (Future<String> follower : followers) assertEquals(follower.get(), "match");
+        } finally {
+            executor.shutdownNow();
+        }
+        var stats = singleFlight.stats(1L);
+
+        assertEquals(executions.get(), 1);
+        assertEquals(stats.executions(), 1);
+        assertEquals(stats.mergeRatio(), 0.8);
+        assertEquals(singleFlight.execute(1L, () -> "next"), "next");
+    }
+
+    @Test
+    @DisplayName("Should throw the same exception to every caller when the operation fails")
+    void Should_ThrowTheSameExceptionToEveryCaller_When_TheOperationFails() throws Exception {
+
+        var singleFlight = new SingleFlight<Long, String>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                started.countDown();
+                this.await(release);
+                throw new NotFoundException("Partida não encontrada.");
+            }));
+            started.await();
+
+            var follower = executor.submit(() -> singleFlight.execute(1L, () -> "other"));
+
+            while (singleFlight.stats(1L).requests() < 2) Thread.onSpinWait();
+            release.countDown();
+
+            var leaderException = assertThrows(ExecutionException.class, leader::get);
+            var followerException = assertThrows(ExecutionException.class, follower::get);
+
+            assertInstanceOf(NotFoundException.class, leaderException.getCause());
+            assertInstanceOf(NotFoundException.class, followerException.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(singleFlight.stats(1L).executions(), 1);
+        assertEquals(singleFlight.stats(2L).requests(), 0);
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent keys when more keys than the limit are requested")
+    void Should_KeepOnlyTheMostRecentKeys_When_MoreKeysThanTheLimitAreRequested() {
+
+        var singleFlight = new SingleFlight<Long, String>(2);
+
+        singleFlight.execute(1L, () -> "first");
+        singleFlight.execute(2L, () -> "second");
+        singleFlight.execute(1L, () -> "first");
+        singleFlight.execute(3L, () -> "third");
+
+        var stats = singleFlight.stats();
+        var totalStats = singleFlight.totalStats();
+
+        assertEquals(stats.keySet(), Set.of(1L, 3L));
+        assertEquals(stats.get(1L).requests(), 2);
+        assertEquals(singleFlight.stats(2L).requests(), 0);
+        assertEquals(totalStats.requests(), 4);
+        assertEquals(totalStats.executions(), 4);
+    }
+
+    @Test
+    @DisplayName("Should return the keys with most requests in descending order when most requested keys are searched")
+    void Should_ReturnTheKeysWithMostRequestsInDescendingOrder_When_MostRequestedKeysAreSearched() {
+
+        var singleFlight = new SingleFlight<Long, String>();
+
+        IntStream.range(0, 3).forEach(i -> singleFlight.execute(2L, () -> "second"));
+        singleFlight.execute(1L, () -> "first");
+        IntStream.range(0, 2).forEach(i -> singleFlight.execute(3L, () -> "third"));
+
+        var mostRequested = singleFlight.mostRequested(2);
+
+        assertEquals(List.copyOf(mostRequested.keySet()), List.of(2L, 3L));
+        assertEquals(mostRequested.get(2L).requests(), 3);
+        assertEquals(mostRequested.get(3L).requests(), 2);
+    }
+
+    private void await(CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
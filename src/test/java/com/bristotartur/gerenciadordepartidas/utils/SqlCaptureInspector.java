@@ -0,0 +1,30 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Captura as instruções SQL geradas pelo Hibernate na thread atual, permitindo que os testes inspecionem
+ * as consultas realizadas pelos repositórios.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static List<String> drain() {
+
+        var statements = List.copyOf(STATEMENTS.get());
+        STATEMENTS.get().clear();
+
+        return statements;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import com.bristotartur.gerenciadordepartidas.utils.TaggedCache.Loaded;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaggedCacheTest {
+
+    @Test
+    @DisplayName("Should discard only the entries associated with the invalidated tags")
+    void Should_DiscardOnlyTheEntriesAssociatedWithTheInvalidatedTags() {
+
+        var cache = new TaggedCache<String, Integer>(10);
+        cache.get("match-1", () -> new Loaded<>(1, Set.of("match:1", "matches")));
+        cache.get("match-2", () -> new Loaded<>(2, Set.of("match:2", "matches")));
+        cache.get("goal-1", () -> new Loaded<>(3, Set.of("goal:1")));
+
+        cache.invalidate(List.of("match:1"));
+
+        assertNull(cache.get("match-1"));
+        assertEquals(cache.get("match-2"), 2);
+        assertEquals(cache.get("goal-1"), 3);
+
+        cache.invalidate(List.of("matches"));
+
+        assertNull(cache.get("match-2"));
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    @DisplayName("Should discard the least recently accessed entry when the entry limit is reached")
+    void Should_DiscardTheLeastRecentlyAccessedEntry_When_EntryLimitIsReached() {
+
+        var cache = new TaggedCache<String, Integer>(2);
+        cache.get("a", () -> new Loaded<>(1, Set.of("a")));
+        cache.get("b", () -> new Loaded<>(2, Set.of("b")));
+        cache.get("a");
+        cache.get("c", () -> new Loaded<>(3, Set.of("c")));
+
+        assertEquals(cache.get("a"), 1);
+        assertNull(cache.get("b"));
+        assertEquals(cache.get("c"), 3);
+        assertEquals(cache.evictions(), 1);
+    }
+
+    @Test
+    @DisplayName("Should not store the value when an invalidation happens while it is being loaded")
+    void Should_NotStoreTheValue_When_InvalidationHappensWhileItIsBeingLoaded() {
+
+        var cache = new TaggedCache<String, Integer>(10);
+
+        var result = cache.get("match-1", () -> {
+            cache.invalidate(List.of("match:1"));
+            return new Loaded<>(1, Set.of("match:1"));
+        });
+
+        assertEquals(result, 1);
+        assertNull(cache.get("match-1"));
+    }
+
+}
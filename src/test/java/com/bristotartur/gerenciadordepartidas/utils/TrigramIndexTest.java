@@ -0,0 +1,59 @@
+package com.bristotartur.gerenciadordepartidas.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    @DisplayName("Should ignore accents and case when searching for texts")
+    void Should_IgnoreAccentsAndCase_When_SearchingForTexts() {
+
+        var index = new TrigramIndex<Long>();
+        index.put(1L, "João Conceição");
+        index.put(2L, "Júlia Antônia");
+
+        assertEquals(index.search("JOAO"), List.of(1L));
+        assertEquals(index.search("conceicao"), List.of(1L));
+        assertEquals(index.search("julia antonia"), List.of(2L));
+        assertEquals(TrigramIndex.normalize("  Ana-Clara  D'Ávila "), "ana clara d avila");
+    }
+
+    @Test
+    @DisplayName("Should rank prefix matches before word and fuzzy matches when the query is incomplete")
+    void Should_RankPrefixMatchesBeforeWordAndFuzzyMatches_When_TheQueryIsIncomplete() {
+
+        var index = new TrigramIndex<Long>();
+        index.put(1L, "Maria Carla");
+        index.put(2L, "Carlos Eduardo");
+        index.put(3L, "Carol");
+        index.put(4L, "Pedro");
+
+        assertEquals(index.search("car"), List.of(2L, 3L, 1L));
+        assertEquals(index.search("c"), List.of(2L, 3L, 1L));
+        assertEquals(index.search("carols"), List.of(3L, 2L, 1L));
+        assertEquals(index.search("xyz"), List.of());
+    }
+
+    @Test
+    @DisplayName("Should stop finding texts when they are replaced or removed")
+    void Should_StopFindingTexts_When_TheyAreReplacedOrRemoved() {
+
+        var index = new TrigramIndex<Long>();
+        index.put(1L, "Carlos");
+        index.put(1L, "Pedro");
+
+        assertEquals(index.search("carlos"), List.of());
+        assertEquals(index.search("ped"), List.of(1L));
+
+        assertTrue(index.remove(1L));
+        assertFalse(index.remove(1L));
+        assertEquals(index.search("ped"), List.of());
+        assertEquals(index.size(), 0);
+    }
+
+}